@@ -42,6 +42,8 @@ public final class HintManager implements AutoCloseable {
     
     private boolean masterRouteOnly;
     
+    private boolean approximateDistinctCount;
+    
     /**
      * Get a new instance for {@code HintManager}.
      *
@@ -154,6 +156,31 @@ public final class HintManager implements AutoCloseable {
         return null != HINT_MANAGER_HOLDER.get() && HINT_MANAGER_HOLDER.get().masterRouteOnly;
     }
     
+    /**
+     * Set count distinct to be approximated by HyperLogLog when merging results of shards.
+     */
+    public void setApproximateDistinctCount() {
+        approximateDistinctCount = true;
+    }
+    
+    /**
+     * Judge whether count distinct is approximated or not.
+     *
+     * @return count distinct is approximated or not
+     */
+    public static boolean isApproximateDistinctCount() {
+        return null != HINT_MANAGER_HOLDER.get() && HINT_MANAGER_HOLDER.get().approximateDistinctCount;
+    }
+    
+    /**
+     * Judge whether hint manager is instantiated in current thread or not.
+     *
+     * @return hint manager is instantiated in current thread or not
+     */
+    public static boolean isInstantiated() {
+        return null != HINT_MANAGER_HOLDER.get();
+    }
+    
     /**
      * Clear threadlocal for hint manager.
      */
@@ -134,6 +134,23 @@ public final class HintManagerTest {
         assertFalse(HintManager.isMasterRouteOnly());
     }
     
+    @Test
+    public void assertSetApproximateDistinctCount() {
+        try (HintManager hintManager = HintManager.getInstance()) {
+            hintManager.setApproximateDistinctCount();
+            assertTrue(HintManager.isApproximateDistinctCount());
+        }
+        assertFalse(HintManager.isApproximateDistinctCount());
+    }
+    
+    @Test
+    public void assertIsInstantiated() {
+        try (HintManager ignored = HintManager.getInstance()) {
+            assertTrue(HintManager.isInstantiated());
+        }
+        assertFalse(HintManager.isInstantiated());
+    }
+    
     @Test
     public void assertClose() {
         HintManager hintManager = HintManager.getInstance();
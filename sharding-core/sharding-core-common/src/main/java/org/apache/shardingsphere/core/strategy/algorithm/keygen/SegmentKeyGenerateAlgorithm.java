@@ -0,0 +1,306 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.algorithm.keygen;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.metrics.api.HistogramMetricsTrackerDelegate;
+import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
+import org.apache.shardingsphere.metrics.facade.MetricsTrackerFacade;
+import org.apache.shardingsphere.spi.keygen.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Segment distributed primary key generate algorithm.
+ * 
+ * <p>
+ * Ranges of keys are reserved from a segment table by JDBC, so no worker id need to be assigned to each instance.
+ * Keys are generated from the current segment without lock,
+ * and the next segment is allocated asynchronously once 10% of the current segment has been consumed.
+ * Segments are reserved through one reused connection, and the reservation is retried by update
+ * if another instance inserts the same segment key concurrently.
+ * Each instance owns one allocating thread which exits when idle, and {@link #close()} releases the thread and the connection.
+ * Allocation latency is reported by metrics label {@code key_segment_allocate_latency}.
+ * </p>
+ * 
+ * <pre>
+ * CREATE TABLE key_generate_segment (segment_key VARCHAR(128) PRIMARY KEY, max_id BIGINT NOT NULL)
+ * </pre>
+ * 
+ * <p>
+ * Properties: {@code jdbc.url}, {@code jdbc.username}, {@code jdbc.password} of the database which stores segment table,
+ * {@code table.name} of segment table, default value is key_generate_segment,
+ * {@code segment.key} to distinguish sequences in segment table, default value is default,
+ * {@code step} size of each segment, default value is 1000.
+ * </p>
+ */
+public final class SegmentKeyGenerateAlgorithm implements KeyGenerateAlgorithm, AutoCloseable {
+    
+    private static final String DEFAULT_TABLE_NAME = "key_generate_segment";
+    
+    private static final String DEFAULT_SEGMENT_KEY = "default";
+    
+    private static final int DEFAULT_STEP = 1000;
+    
+    private static final int NEXT_SEGMENT_ALLOCATE_PERCENT = 10;
+    
+    private static final int MAX_RESERVE_RETRY_TIMES = 3;
+    
+    private static final String INTEGRITY_CONSTRAINT_VIOLATION_SQL_STATE_CLASS = "23";
+    
+    private static final long ALLOCATE_THREAD_KEEP_ALIVE_SECONDS = 60L;
+    
+    @Getter
+    @Setter
+    private Properties properties = new Properties();
+    
+    private volatile Segment currentSegment = new Segment(1L, 0L);
+    
+    private Future<Segment> nextSegment;
+    
+    private final Object connectionLock = new Object();
+    
+    private Connection connection;
+    
+    private final ThreadPoolExecutor segmentAllocateExecutor = createSegmentAllocateExecutor();
+    
+    @Override
+    public String getType() {
+        return "SEGMENT";
+    }
+    
+    @Override
+    public Comparable<?> generateKey() {
+        while (true) {
+            Segment segment = currentSegment;
+            long result = segment.getCursor().getAndIncrement();
+            if (result <= segment.getMaxId()) {
+                if (result == segment.getNextSegmentAllocateId()) {
+                    allocateNextSegmentAsync();
+                }
+                return result;
+            }
+            switchToNextSegment(segment);
+        }
+    }
+    
+    @Override
+    public Collection<Comparable<?>> generateKeys(final int count) {
+        Collection<Comparable<?>> result = new ArrayList<>(count);
+        while (result.size() < count) {
+            Segment segment = currentSegment;
+            long firstId = segment.getCursor().getAndAdd(count - result.size());
+            if (firstId <= segment.getMaxId()) {
+                long lastId = Math.min(firstId + count - result.size() - 1, segment.getMaxId());
+                for (long each = firstId; each <= lastId; each++) {
+                    result.add(each);
+                }
+                if (firstId <= segment.getNextSegmentAllocateId() && segment.getNextSegmentAllocateId() <= lastId) {
+                    allocateNextSegmentAsync();
+                }
+            }
+            if (result.size() < count) {
+                switchToNextSegment(segment);
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public synchronized void close() {
+        segmentAllocateExecutor.shutdownNow();
+        if (null != nextSegment) {
+            nextSegment.cancel(true);
+            nextSegment = null;
+        }
+        synchronized (connectionLock) {
+            closeConnection();
+        }
+    }
+    
+    private ThreadPoolExecutor createSegmentAllocateExecutor() {
+        ThreadPoolExecutor result = new ThreadPoolExecutor(1, 1, ALLOCATE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-KeySegmentAllocate-%d").build());
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+    
+    private synchronized void allocateNextSegmentAsync() {
+        if (null == nextSegment && !segmentAllocateExecutor.isShutdown()) {
+            nextSegment = segmentAllocateExecutor.submit(this::allocateSegment);
+        }
+    }
+    
+    private synchronized void switchToNextSegment(final Segment exhaustedSegment) {
+        if (exhaustedSegment != currentSegment) {
+            return;
+        }
+        Future<Segment> next = nextSegment;
+        nextSegment = null;
+        currentSegment = null == next ? allocateSegment() : getSegment(next);
+    }
+    
+    private Segment getSegment(final Future<Segment> segment) {
+        try {
+            return segment.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ShardingSphereException("Interrupted while allocating key segment.", ex);
+        } catch (final ExecutionException ex) {
+            return allocateSegment();
+        }
+    }
+    
+    private Segment allocateSegment() {
+        String segmentKey = properties.getProperty("segment.key", DEFAULT_SEGMENT_KEY);
+        HistogramMetricsTrackerDelegate delegate = MetricsTrackerFacade.getInstance().histogramStartTimer(MetricsLabelEnum.KEY_SEGMENT_ALLOCATE_LATENCY.getName(), segmentKey);
+        try {
+            return reserveSegment(segmentKey, getStep());
+        } catch (final SQLException ex) {
+            throw new ShardingSphereException(ex);
+        } finally {
+            MetricsTrackerFacade.getInstance().histogramObserveDuration(delegate);
+        }
+    }
+    
+    private Segment reserveSegment(final String segmentKey, final int step) throws SQLException {
+        String tableName = properties.getProperty("table.name", DEFAULT_TABLE_NAME);
+        synchronized (connectionLock) {
+            try {
+                return reserveSegment(getConnection(), tableName, segmentKey, step);
+            } catch (final SQLException ex) {
+                closeConnection();
+                throw ex;
+            }
+        }
+    }
+    
+    private Segment reserveSegment(final Connection connection, final String tableName, final String segmentKey, final int step) throws SQLException {
+        int retryTimes = 0;
+        while (true) {
+            try {
+                if (0 == increaseMaxId(connection, tableName, segmentKey, step)) {
+                    insertSegment(connection, tableName, segmentKey, step);
+                }
+                long maxId = queryMaxId(connection, tableName, segmentKey);
+                connection.commit();
+                return new Segment(maxId - step + 1, maxId);
+            } catch (final SQLException ex) {
+                connection.rollback();
+                if (!isDuplicateKey(ex) || retryTimes >= MAX_RESERVE_RETRY_TIMES) {
+                    throw ex;
+                }
+                retryTimes++;
+            }
+        }
+    }
+    
+    private boolean isDuplicateKey(final SQLException ex) {
+        return ex instanceof SQLIntegrityConstraintViolationException || null != ex.getSQLState() && ex.getSQLState().startsWith(INTEGRITY_CONSTRAINT_VIOLATION_SQL_STATE_CLASS);
+    }
+    
+    private Connection getConnection() throws SQLException {
+        if (null == connection || connection.isClosed()) {
+            String url = properties.getProperty("jdbc.url");
+            Preconditions.checkArgument(!Strings.isNullOrEmpty(url), "Property `jdbc.url` of segment key generate algorithm is required.");
+            connection = DriverManager.getConnection(url, properties.getProperty("jdbc.username"), properties.getProperty("jdbc.password"));
+            connection.setAutoCommit(false);
+        }
+        return connection;
+    }
+    
+    private void closeConnection() {
+        if (null == connection) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (final SQLException ignore) {
+        }
+        connection = null;
+    }
+    
+    private int increaseMaxId(final Connection connection, final String tableName, final String segmentKey, final int step) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("UPDATE %s SET max_id = max_id + ? WHERE segment_key = ?", tableName))) {
+            preparedStatement.setLong(1, step);
+            preparedStatement.setString(2, segmentKey);
+            return preparedStatement.executeUpdate();
+        }
+    }
+    
+    private void insertSegment(final Connection connection, final String tableName, final String segmentKey, final int step) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("INSERT INTO %s (segment_key, max_id) VALUES (?, ?)", tableName))) {
+            preparedStatement.setString(1, segmentKey);
+            preparedStatement.setLong(2, step);
+            preparedStatement.executeUpdate();
+        }
+    }
+    
+    private long queryMaxId(final Connection connection, final String tableName, final String segmentKey) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("SELECT max_id FROM %s WHERE segment_key = ?", tableName))) {
+            preparedStatement.setString(1, segmentKey);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next()) {
+                    throw new SQLException(String.format("Cannot find key segment `%s` in table `%s`.", segmentKey, tableName));
+                }
+                return resultSet.getLong(1);
+            }
+        }
+    }
+    
+    private int getStep() {
+        int result = Integer.parseInt(properties.getProperty("step", String.valueOf(DEFAULT_STEP)));
+        Preconditions.checkArgument(result > 0, "Illegal step of segment key generate algorithm.");
+        return result;
+    }
+    
+    @Getter
+    private static final class Segment {
+        
+        private final AtomicLong cursor;
+        
+        private final long maxId;
+        
+        private final long nextSegmentAllocateId;
+        
+        Segment(final long minId, final long maxId) {
+            cursor = new AtomicLong(minId);
+            this.maxId = maxId;
+            nextSegmentAllocateId = minId + (maxId - minId) * NEXT_SEGMENT_ALLOCATE_PERCENT / 100;
+        }
+    }
+}
@@ -19,12 +19,19 @@ package org.apache.shardingsphere.core.strategy.algorithm.keygen;
 
 import com.google.common.base.Preconditions;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.spi.keygen.KeyGenerateAlgorithm;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Snowflake distributed primary key generate algorithm.
@@ -47,6 +54,12 @@ import java.util.Properties;
  * <p>
  * Call @{@code SnowflakeKeyGenerateAlgorithm.setMaxTolerateTimeDifferenceMilliseconds} to set max tolerate time difference milliseconds, default value is 0.
  * </p>
+ * 
+ * <p>
+ * Last milliseconds and sequence are packed into one long and updated by CAS without lock,
+ * a range of sequences is reserved by one CAS when generating keys in batch.
+ * Properties are parsed again only when their values are changed.
+ * </p>
  */
 public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm {
     
@@ -66,22 +79,29 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private static final long WORKER_ID = 0;
     
+    private static final String WORKER_ID_KEY = "worker.id";
+    
+    private static final String MAX_VIBRATION_OFFSET_KEY = "max.vibration.offset";
+    
+    private static final String MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS_KEY = "max.tolerate.time.difference.milliseconds";
+    
     private static final int DEFAULT_VIBRATION_VALUE = 1;
     
     private static final int MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS = 10;
     
+    private static final long WAIT_UNTIL_NEXT_TIME_NANOS = TimeUnit.MICROSECONDS.toNanos(100L);
+    
     @Setter
     private static TimeService timeService = new TimeService();
     
     @Getter
-    @Setter
     private Properties properties = new Properties();
     
-    private int sequenceOffset = -1;
+    private volatile ParsedProperties parsedProperties;
     
-    private long sequence;
+    private volatile int sequenceOffset = -1;
     
-    private long lastMilliseconds;
+    private final AtomicLong lastMillisecondsAndSequence = new AtomicLong();
     
     static {
         Calendar calendar = Calendar.getInstance();
@@ -99,60 +119,142 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     }
     
     @Override
-    public synchronized Comparable<?> generateKey() {
-        long currentMilliseconds = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMilliseconds)) {
-            currentMilliseconds = timeService.getCurrentMillis();
+    public void setProperties(final Properties properties) {
+        this.properties = properties;
+        parsedProperties = null;
+    }
+    
+    @Override
+    public Comparable<?> generateKey() {
+        ParsedProperties parsedProperties = getParsedProperties();
+        SequenceRange sequenceRange = reserveSequenceRange(1, parsedProperties);
+        return createKey(sequenceRange.getMilliseconds(), parsedProperties.getWorkerId(), sequenceRange.getFirstSequence());
+    }
+    
+    @Override
+    public Collection<Comparable<?>> generateKeys(final int count) {
+        ParsedProperties parsedProperties = getParsedProperties();
+        Collection<Comparable<?>> result = new ArrayList<>(count);
+        while (result.size() < count) {
+            SequenceRange sequenceRange = reserveSequenceRange(count - result.size(), parsedProperties);
+            for (long each = sequenceRange.getFirstSequence(); each <= sequenceRange.getLastSequence(); each++) {
+                result.add(createKey(sequenceRange.getMilliseconds(), parsedProperties.getWorkerId(), each));
+            }
         }
-        if (lastMilliseconds == currentMilliseconds) {
-            if (0L == (sequence = (sequence + 1) & SEQUENCE_MASK)) {
-                currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+        return result;
+    }
+    
+    private long createKey(final long milliseconds, final long workerId, final long sequence) {
+        return ((milliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
+    }
+    
+    private ParsedProperties getParsedProperties() {
+        ParsedProperties result = parsedProperties;
+        String workerId = properties.getProperty(WORKER_ID_KEY);
+        String maxVibrationOffset = properties.getProperty(MAX_VIBRATION_OFFSET_KEY);
+        String maxTolerateTimeDifferenceMilliseconds = properties.getProperty(MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS_KEY);
+        if (null == result || !result.isParsedFrom(workerId, maxVibrationOffset, maxTolerateTimeDifferenceMilliseconds)) {
+            result = new ParsedProperties(workerId, maxVibrationOffset, maxTolerateTimeDifferenceMilliseconds,
+                    getWorkerId(workerId), getMaxVibrationOffset(maxVibrationOffset), getMaxTolerateTimeDifferenceMilliseconds(maxTolerateTimeDifferenceMilliseconds));
+            parsedProperties = result;
+        }
+        return result;
+    }
+    
+    private SequenceRange reserveSequenceRange(final int count, final ParsedProperties parsedProperties) {
+        while (true) {
+            long current = lastMillisecondsAndSequence.get();
+            long lastMilliseconds = current >>> SEQUENCE_BITS;
+            long currentMilliseconds = timeService.getCurrentMillis();
+            if (waitTolerateTimeDifferenceIfNeed(lastMilliseconds, currentMilliseconds, parsedProperties)) {
+                currentMilliseconds = timeService.getCurrentMillis();
+            }
+            long firstSequence;
+            int nextSequenceOffset = sequenceOffset;
+            if (lastMilliseconds == currentMilliseconds) {
+                firstSequence = ((current & SEQUENCE_MASK) + 1) & SEQUENCE_MASK;
+                if (0L == firstSequence) {
+                    currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+                }
+            } else {
+                nextSequenceOffset = nextSequenceOffset >= parsedProperties.getMaxVibrationOffset() ? 0 : nextSequenceOffset + 1;
+                firstSequence = nextSequenceOffset;
+            }
+            long lastSequence = Math.min(firstSequence + count - 1, SEQUENCE_MASK);
+            if (lastMillisecondsAndSequence.compareAndSet(current, (currentMilliseconds << SEQUENCE_BITS) | lastSequence)) {
+                sequenceOffset = nextSequenceOffset;
+                return new SequenceRange(currentMilliseconds, firstSequence, lastSequence);
             }
-        } else {
-            vibrateSequenceOffset();
-            sequence = sequenceOffset;
         }
-        lastMilliseconds = currentMilliseconds;
-        return ((currentMilliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
     }
     
     @SneakyThrows
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMilliseconds) {
+    private boolean waitTolerateTimeDifferenceIfNeed(final long lastMilliseconds, final long currentMilliseconds, final ParsedProperties parsedProperties) {
         if (lastMilliseconds <= currentMilliseconds) {
             return false;
         }
         long timeDifferenceMilliseconds = lastMilliseconds - currentMilliseconds;
-        Preconditions.checkState(timeDifferenceMilliseconds < getMaxTolerateTimeDifferenceMilliseconds(), 
+        Preconditions.checkState(timeDifferenceMilliseconds < parsedProperties.getMaxTolerateTimeDifferenceMilliseconds(), 
                 "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds", lastMilliseconds, currentMilliseconds);
         Thread.sleep(timeDifferenceMilliseconds);
         return true;
     }
     
-    private long getWorkerId() {
-        long result = Long.valueOf(properties.getProperty("worker.id", String.valueOf(WORKER_ID)));
+    private long getWorkerId(final String workerId) {
+        long result = null == workerId ? WORKER_ID : Long.valueOf(workerId);
         Preconditions.checkArgument(result >= 0L && result < WORKER_ID_MAX_VALUE);
         return result;
     }
     
-    private int getMaxVibrationOffset() {
-        int result = Integer.parseInt(properties.getProperty("max.vibration.offset", String.valueOf(DEFAULT_VIBRATION_VALUE)));
+    private int getMaxVibrationOffset(final String maxVibrationOffset) {
+        int result = null == maxVibrationOffset ? DEFAULT_VIBRATION_VALUE : Integer.parseInt(maxVibrationOffset);
         Preconditions.checkArgument(result >= 0 && result <= SEQUENCE_MASK, "Illegal max vibration offset");
         return result;
     }
     
-    private int getMaxTolerateTimeDifferenceMilliseconds() {
-        return Integer.valueOf(properties.getProperty("max.tolerate.time.difference.milliseconds", String.valueOf(MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS)));
+    private int getMaxTolerateTimeDifferenceMilliseconds(final String maxTolerateTimeDifferenceMilliseconds) {
+        return null == maxTolerateTimeDifferenceMilliseconds ? MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS : Integer.valueOf(maxTolerateTimeDifferenceMilliseconds);
     }
     
     private long waitUntilNextTime(final long lastTime) {
         long result = timeService.getCurrentMillis();
         while (result <= lastTime) {
+            LockSupport.parkNanos(WAIT_UNTIL_NEXT_TIME_NANOS);
             result = timeService.getCurrentMillis();
         }
         return result;
     }
     
-    private void vibrateSequenceOffset() {
-        sequenceOffset = sequenceOffset >= getMaxVibrationOffset() ? 0 : sequenceOffset + 1;
+    @RequiredArgsConstructor
+    @Getter
+    private static final class ParsedProperties {
+        
+        private final String workerIdValue;
+        
+        private final String maxVibrationOffsetValue;
+        
+        private final String maxTolerateTimeDifferenceMillisecondsValue;
+        
+        private final long workerId;
+        
+        private final int maxVibrationOffset;
+        
+        private final int maxTolerateTimeDifferenceMilliseconds;
+        
+        boolean isParsedFrom(final String workerIdValue, final String maxVibrationOffsetValue, final String maxTolerateTimeDifferenceMillisecondsValue) {
+            return Objects.equals(this.workerIdValue, workerIdValue) && Objects.equals(this.maxVibrationOffsetValue, maxVibrationOffsetValue)
+                    && Objects.equals(this.maxTolerateTimeDifferenceMillisecondsValue, maxTolerateTimeDifferenceMillisecondsValue);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class SequenceRange {
+        
+        private final long milliseconds;
+        
+        private final long firstSequence;
+        
+        private final long lastSequence;
     }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.strategy.algorithm.sharding;
 import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.api.sharding.CacheableShardingAlgorithm;
 import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.api.sharding.standard.StandardShardingAlgorithm;
@@ -34,7 +35,7 @@ import java.util.Properties;
  * v is `MODULO_VALUE`.
  * All available targets will be returned if sharding value is `RangeShardingValue`</p>
  */
-public final class HashShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>> {
+public final class HashShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>>, CacheableShardingAlgorithm {
     
     private static final String MODULO_VALUE = "mod.value";
     
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.strategy.algorithm.sharding;
 import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.api.sharding.CacheableShardingAlgorithm;
 import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.api.sharding.standard.StandardShardingAlgorithm;
@@ -34,7 +35,7 @@ import java.util.Properties;
  * <p>Shard by `y = x mod v` algorithm. 
  * v is `MODULO_VALUE`. </p>
  */
-public final class ModuloShardingAlgorithm implements StandardShardingAlgorithm<Long> {
+public final class ModuloShardingAlgorithm implements StandardShardingAlgorithm<Long>, CacheableShardingAlgorithm {
     
     private static final String MODULO_VALUE = "mod.value";
     
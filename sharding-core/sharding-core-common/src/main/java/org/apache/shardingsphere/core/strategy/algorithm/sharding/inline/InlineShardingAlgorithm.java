@@ -18,8 +18,7 @@
 package org.apache.shardingsphere.core.strategy.algorithm.sharding.inline;
 
 import com.google.common.base.Preconditions;
-import groovy.lang.Closure;
-import groovy.util.Expando;
+import org.apache.shardingsphere.api.sharding.CacheableShardingAlgorithm;
 import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.api.sharding.standard.StandardShardingAlgorithm;
@@ -30,7 +29,7 @@ import java.util.Properties;
 /**
  * Inline sharding algorithm.
  */
-public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>> {
+public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>>, CacheableShardingAlgorithm {
     
     private static final String ALLOW_RANGE_QUERY = "allow.range.query.with.inline.sharding";
     
@@ -38,15 +37,12 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private Properties properties = new Properties();
     
+    private volatile InlineShardingExpression compiledExpression;
+    
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
         Preconditions.checkNotNull(properties.get(ALGORITHM_EXPRESSION), "Inline sharding algorithm expression cannot be null.");
-        String algorithmExpression = InlineExpressionParser.handlePlaceHolder(properties.get(ALGORITHM_EXPRESSION).toString().trim());
-        Closure<?> closure = new InlineExpressionParser(algorithmExpression).evaluateClosure();
-        Closure<?> result = closure.rehydrate(new Expando(), null, null);
-        result.setResolveStrategy(Closure.DELEGATE_ONLY);
-        result.setProperty(shardingValue.getColumnName(), shardingValue.getValue());
-        return result.call().toString();
+        return getCompiledExpression(properties.get(ALGORITHM_EXPRESSION).toString()).evaluate(shardingValue.getColumnName(), shardingValue.getValue());
     }
     
     @Override
@@ -57,6 +53,15 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
         throw new UnsupportedOperationException("Since the property of `allow.range.query.with.inline.sharding` is false, inline sharding algorithm can not tackle with range query.");
     }
     
+    private InlineShardingExpression getCompiledExpression(final String algorithmExpression) {
+        InlineShardingExpression result = compiledExpression;
+        if (null == result || !result.getInlineExpression().equals(algorithmExpression)) {
+            result = InlineShardingExpression.compile(algorithmExpression);
+            compiledExpression = result;
+        }
+        return result;
+    }
+    
     private boolean isAllowRangeQuery() {
         return null != properties.get(ALLOW_RANGE_QUERY) && Boolean.parseBoolean(properties.get(ALLOW_RANGE_QUERY).toString());
     }
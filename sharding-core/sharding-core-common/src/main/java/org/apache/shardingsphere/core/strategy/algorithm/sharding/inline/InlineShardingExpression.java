@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.algorithm.sharding.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Inline sharding expression, which is compiled once and evaluated for each sharding value.
+ * 
+ * <p>
+ * Common forms such as {@code ds_${user_id % 8}}, {@code t_order_${order_id.hashCode() % 16}} and {@code t_${Math.abs(id.hashCode()) % 4}}
+ * are evaluated by plain Java code, other expressions and value types which Java code cannot evaluate as Groovy does are evaluated by Groovy closure.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class InlineShardingExpression {
+    
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile(
+            "\\s*(Math\\.abs\\(\\s*)?([A-Za-z_][A-Za-z0-9_]*)(\\.hashCode\\(\\))?\\s*(\\)\\s*)?(?:%\\s*([1-9][0-9]{0,17})\\s*)?");
+    
+    @Getter
+    private final String inlineExpression;
+    
+    private final String expression;
+    
+    private final String columnName;
+    
+    private final List<Object> segments;
+    
+    private volatile Closure<?> closure;
+    
+    /**
+     * Compile inline sharding expression.
+     * 
+     * @param inlineExpression inline expression
+     * @return compiled inline sharding expression
+     */
+    public static InlineShardingExpression compile(final String inlineExpression) {
+        String expression = InlineExpressionParser.handlePlaceHolder(inlineExpression.trim());
+        List<Object> segments = new ArrayList<>();
+        String columnName = parseSegments(expression, segments);
+        return null == columnName
+                ? new InlineShardingExpression(inlineExpression, expression, null, Collections.emptyList()) : new InlineShardingExpression(inlineExpression, expression, columnName, segments);
+    }
+    
+    private static String parseSegments(final String expression, final List<Object> segments) {
+        String result = null;
+        int position = 0;
+        while (position < expression.length()) {
+            int start = expression.indexOf("${", position);
+            String literal = expression.substring(position, -1 == start ? expression.length() : start);
+            if (literal.contains("$") || literal.contains("\"") || literal.contains("\\")) {
+                return null;
+            }
+            if (!literal.isEmpty()) {
+                segments.add(literal);
+            }
+            if (-1 == start) {
+                break;
+            }
+            int end = expression.indexOf('}', start);
+            if (-1 == end) {
+                return null;
+            }
+            Placeholder placeholder = parsePlaceholder(expression.substring(start + 2, end));
+            if (null == placeholder || null != result && !result.equals(placeholder.columnName)) {
+                return null;
+            }
+            result = placeholder.columnName;
+            segments.add(placeholder);
+            position = end + 1;
+        }
+        return result;
+    }
+    
+    private static Placeholder parsePlaceholder(final String placeholder) {
+        Matcher matcher = PLACEHOLDER_PATTERN.matcher(placeholder);
+        if (!matcher.matches() || (null == matcher.group(1)) != (null == matcher.group(4))) {
+            return null;
+        }
+        return new Placeholder(matcher.group(2), null != matcher.group(3), null != matcher.group(1), null == matcher.group(5) ? 0L : Long.parseLong(matcher.group(5)));
+    }
+    
+    /**
+     * Evaluate expression with sharding value.
+     * 
+     * @param columnName sharding column name
+     * @param value sharding value
+     * @return evaluated result
+     */
+    public String evaluate(final String columnName, final Comparable<?> value) {
+        if (!columnName.equals(this.columnName) || !isEvaluable(value)) {
+            return evaluateByClosure(columnName, value);
+        }
+        StringBuilder result = new StringBuilder();
+        for (Object each : segments) {
+            if (each instanceof Placeholder) {
+                result.append(((Placeholder) each).evaluate(value));
+            } else {
+                result.append((String) each);
+            }
+        }
+        return result.toString();
+    }
+    
+    private boolean isEvaluable(final Comparable<?> value) {
+        if (null == value) {
+            return false;
+        }
+        for (Object each : segments) {
+            if (each instanceof Placeholder && !((Placeholder) each).isEvaluable(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private String evaluateByClosure(final String columnName, final Comparable<?> value) {
+        Closure<?> result = getClosure().rehydrate(new Expando(), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        result.setProperty(columnName, value);
+        return result.call().toString();
+    }
+    
+    private Closure<?> getClosure() {
+        if (null == closure) {
+            closure = new InlineExpressionParser(expression).evaluateClosure();
+        }
+        return closure;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Placeholder {
+        
+        private final String columnName;
+        
+        private final boolean hashCode;
+        
+        private final boolean absolute;
+        
+        private final long modulus;
+        
+        boolean isEvaluable(final Comparable<?> value) {
+            if (hashCode) {
+                return true;
+            }
+            if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+                return true;
+            }
+            return !absolute && 0L == modulus && value instanceof String;
+        }
+        
+        String evaluate(final Comparable<?> value) {
+            if (!hashCode && value instanceof String) {
+                return (String) value;
+            }
+            if (!hashCode && value instanceof Long) {
+                long operand = absolute ? Math.abs((Long) value) : (Long) value;
+                return String.valueOf(0L == modulus ? operand : operand % modulus);
+            }
+            int operand = hashCode ? value.hashCode() : ((Number) value).intValue();
+            if (absolute) {
+                operand = Math.abs(operand);
+            }
+            return String.valueOf(0L == modulus ? operand : operand % modulus);
+        }
+    }
+}
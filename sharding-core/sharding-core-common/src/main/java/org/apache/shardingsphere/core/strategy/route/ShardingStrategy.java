@@ -43,4 +43,11 @@ public interface ShardingStrategy {
      * @return sharding results for data sources or tables's names
      */
     Collection<String> doSharding(Collection<String> availableTargetNames, Collection<RouteValue> shardingValues, ConfigurationProperties properties);
+    
+    /**
+     * Judge whether sharding results of precise sharding values are cacheable.
+     * 
+     * @return sharding results are cacheable or not
+     */
+    boolean isCacheable();
 }
@@ -23,6 +23,7 @@ import com.google.common.collect.Range;
 
 import lombok.Getter;
 import org.apache.shardingsphere.api.config.sharding.strategy.ComplexShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.sharding.CacheableShardingAlgorithm;
 import org.apache.shardingsphere.api.sharding.complex.ComplexKeysShardingAlgorithm;
 import org.apache.shardingsphere.api.sharding.complex.ComplexKeysShardingValue;
 import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
@@ -73,4 +74,9 @@ public final class ComplexShardingStrategy implements ShardingStrategy {
         result.addAll(shardingResult);
         return result;
     }
+    
+    @Override
+    public boolean isCacheable() {
+        return shardingAlgorithm instanceof CacheableShardingAlgorithm;
+    }
 }
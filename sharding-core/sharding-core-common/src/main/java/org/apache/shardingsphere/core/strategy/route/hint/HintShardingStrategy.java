@@ -56,4 +56,9 @@ public final class HintShardingStrategy implements ShardingStrategy {
         result.addAll(shardingResult);
         return result;
     }
+    
+    @Override
+    public boolean isCacheable() {
+        return false;
+    }
 }
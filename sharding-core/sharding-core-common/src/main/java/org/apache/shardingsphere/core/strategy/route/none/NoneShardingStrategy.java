@@ -37,4 +37,9 @@ public final class NoneShardingStrategy implements ShardingStrategy {
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final Collection<RouteValue> shardingValues, final ConfigurationProperties properties) {
         return availableTargetNames;
     }
+    
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
 }
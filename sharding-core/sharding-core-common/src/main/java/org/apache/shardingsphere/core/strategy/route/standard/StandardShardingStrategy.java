@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.strategy.route.standard;
 
 import com.google.common.base.Preconditions;
 import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.sharding.CacheableShardingAlgorithm;
 import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.api.sharding.standard.StandardShardingAlgorithm;
@@ -77,6 +78,11 @@ public final class StandardShardingStrategy implements ShardingStrategy {
         return result;
     }
     
+    @Override
+    public boolean isCacheable() {
+        return shardingAlgorithm instanceof CacheableShardingAlgorithm;
+    }
+    
     @Override
     public Collection<String> getShardingColumns() {
         Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
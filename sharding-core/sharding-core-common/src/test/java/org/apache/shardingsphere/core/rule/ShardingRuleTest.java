@@ -120,6 +120,17 @@ public final class ShardingRuleTest {
         assertThat(actual.getLogicTable(), is("broadcast_table"));
     }
     
+    @Test
+    public void assertGetTableRuleWithBroadcastTableReused() {
+        ShardingRule actual = createMaximumShardingRule();
+        assertThat(actual.getTableRule("Broadcast_Table"), is(actual.getTableRule("BROADCAST_TABLE")));
+    }
+    
+    @Test
+    public void assertFindTableRuleWithNullLogicTable() {
+        assertFalse(createMaximumShardingRule().findTableRule(null).isPresent());
+    }
+    
     @Test(expected = ShardingSphereConfigurationException.class)
     public void assertGetTableRuleFailure() {
         createMinimumShardingRule().getTableRule("New_Table");
@@ -194,6 +205,12 @@ public final class ShardingRuleTest {
         assertThat(actual.findBindingTableRule("logic_Table").get().getTableRules().size(), is(2));
     }
     
+    @Test
+    public void assertGetBindingTableRuleForFoundWithOtherTableOfGroup() {
+        ShardingRule actual = createMaximumShardingRule();
+        assertThat(actual.findBindingTableRule("SUB_LOGIC_TABLE").get(), is(actual.findBindingTableRule("logic_table").get()));
+    }
+    
     @Test
     public void assertIsAllBroadcastTableWhenLogicTablesIsEmpty() {
         assertFalse(createMaximumShardingRule().isAllBroadcastTables(Collections.emptyList()));
@@ -249,6 +266,13 @@ public final class ShardingRuleTest {
         assertTrue(new ShardingRule(shardingRuleConfig, createDataSourceNames()).isShardingColumn("column", "logic_Table"));
     }
     
+    @Test
+    public void assertIsShardingColumnIgnoreCase() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfigWithAllStrategies());
+        assertTrue(new ShardingRule(shardingRuleConfig, createDataSourceNames()).isShardingColumn("COLUMN", "LOGIC_TABLE"));
+    }
+    
     @Test
     public void assertIsNotShardingColumn() {
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
@@ -281,6 +305,13 @@ public final class ShardingRuleTest {
         assertThat(createMaximumShardingRule().generateKey("logic_table"), instanceOf(Integer.class));
     }
     
+    @Test
+    public void assertGenerateKeysWithDefaultKeyGenerator() {
+        Collection<Comparable<?>> actual = createMinimumShardingRule().generateKeys("logic_table", 3);
+        assertThat(actual.size(), is(3));
+        assertThat(actual.iterator().next(), instanceOf(Long.class));
+    }
+    
     @Test
     public void assertGetDataNodeByLogicTable() {
         assertThat(createMaximumShardingRule().getDataNode("logic_table"), is(new DataNode("ds_0.table_0")));
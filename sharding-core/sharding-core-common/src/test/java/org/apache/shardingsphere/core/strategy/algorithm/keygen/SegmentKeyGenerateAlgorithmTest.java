@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.algorithm.keygen;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.strategy.algorithm.keygen.fixture.ConcurrentInsertSegmentTrigger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SegmentKeyGenerateAlgorithmTest {
+    
+    private static final String JDBC_URL = "jdbc:h2:mem:key_segment;DB_CLOSE_DELAY=-1;MODE=MYSQL";
+    
+    @Before
+    @SneakyThrows
+    public void setUp() {
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE key_generate_segment (segment_key VARCHAR(128) PRIMARY KEY, max_id BIGINT NOT NULL)");
+        }
+    }
+    
+    @After
+    @SneakyThrows
+    public void tearDown() {
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE key_generate_segment");
+        }
+    }
+    
+    @Test
+    public void assertGetType() {
+        assertThat(new SegmentKeyGenerateAlgorithm().getType(), is("SEGMENT"));
+    }
+    
+    @Test
+    public void assertGenerateKeyAcrossSegments() {
+        SegmentKeyGenerateAlgorithm keyGenerateAlgorithm = createKeyGenerateAlgorithm("order", 3);
+        List<Comparable<?>> actual = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            actual.add(keyGenerateAlgorithm.generateKey());
+        }
+        assertThat(actual, is(Arrays.<Comparable<?>>asList(1L, 2L, 3L, 4L, 5L, 6L, 7L)));
+        assertTrue(queryMaxId("order") >= 9L);
+    }
+    
+    @Test
+    public void assertGenerateKeysAcrossSegments() {
+        SegmentKeyGenerateAlgorithm keyGenerateAlgorithm = createKeyGenerateAlgorithm("order", 3);
+        assertThat(new ArrayList<>(keyGenerateAlgorithm.generateKeys(2)), is(Arrays.<Comparable<?>>asList(1L, 2L)));
+        assertThat(new ArrayList<>(keyGenerateAlgorithm.generateKeys(5)), is(Arrays.<Comparable<?>>asList(3L, 4L, 5L, 6L, 7L)));
+    }
+    
+    @Test
+    public void assertGenerateKeyAfterClose() {
+        SegmentKeyGenerateAlgorithm keyGenerateAlgorithm = createKeyGenerateAlgorithm("order", 3);
+        assertThat(keyGenerateAlgorithm.generateKey(), is((Comparable) 1L));
+        keyGenerateAlgorithm.close();
+        List<Comparable<?>> actual = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            actual.add(keyGenerateAlgorithm.generateKey());
+        }
+        assertThat(actual.subList(0, 2), is(Arrays.<Comparable<?>>asList(2L, 3L)));
+        assertTrue((Long) actual.get(2) > 3L);
+    }
+    
+    @Test
+    public void assertGenerateKeyWithDifferentSegmentKeys() {
+        SegmentKeyGenerateAlgorithm orderKeyGenerateAlgorithm = createKeyGenerateAlgorithm("order", 10);
+        SegmentKeyGenerateAlgorithm userKeyGenerateAlgorithm = createKeyGenerateAlgorithm("user", 10);
+        assertThat(orderKeyGenerateAlgorithm.generateKey(), is((Comparable) 1L));
+        assertThat(userKeyGenerateAlgorithm.generateKey(), is((Comparable) 1L));
+    }
+    
+    @Test
+    public void assertGenerateKeyWithMultipleInstances() {
+        SegmentKeyGenerateAlgorithm keyGenerateAlgorithm0 = createKeyGenerateAlgorithm("order", 10);
+        SegmentKeyGenerateAlgorithm keyGenerateAlgorithm1 = createKeyGenerateAlgorithm("order", 10);
+        Set<Comparable<?>> actual = new HashSet<>();
+        for (int i = 0; i < 25; i++) {
+            actual.add(keyGenerateAlgorithm0.generateKey());
+            actual.add(keyGenerateAlgorithm1.generateKey());
+        }
+        assertThat(actual.size(), is(50));
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertGenerateKeysWithMultipleThreads() {
+        int threadNumber = Runtime.getRuntime().availableProcessors() << 1;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        int taskNumber = threadNumber << 2;
+        SegmentKeyGenerateAlgorithm keyGenerateAlgorithm = createKeyGenerateAlgorithm("order", 100);
+        List<Future<Collection<Comparable<?>>>> futures = new ArrayList<>(taskNumber);
+        for (int i = 0; i < taskNumber; i++) {
+            futures.add(executor.submit(() -> {
+                Collection<Comparable<?>> result = new ArrayList<>(keyGenerateAlgorithm.generateKeys(50));
+                for (int j = 0; j < 50; j++) {
+                    result.add(keyGenerateAlgorithm.generateKey());
+                }
+                return result;
+            }));
+        }
+        Set<Comparable<?>> actual = new HashSet<>();
+        for (Future<Collection<Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(taskNumber * 100));
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertGenerateKeyWhenSegmentInsertedConcurrently() {
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute(String.format("CREATE TRIGGER concurrent_insert_segment AFTER UPDATE ON key_generate_segment CALL \"%s\"", ConcurrentInsertSegmentTrigger.class.getName()));
+        }
+        SegmentKeyGenerateAlgorithm keyGenerateAlgorithm = createKeyGenerateAlgorithm(ConcurrentInsertSegmentTrigger.SEGMENT_KEY, 10);
+        assertThat(keyGenerateAlgorithm.generateKey(), is((Comparable) (ConcurrentInsertSegmentTrigger.CONCURRENT_MAX_ID + 1)));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertGenerateKeyWithoutJdbcUrl() {
+        new SegmentKeyGenerateAlgorithm().generateKey();
+    }
+    
+    private SegmentKeyGenerateAlgorithm createKeyGenerateAlgorithm(final String segmentKey, final int step) {
+        Properties properties = new Properties();
+        properties.setProperty("jdbc.url", JDBC_URL);
+        properties.setProperty("jdbc.username", "sa");
+        properties.setProperty("jdbc.password", "");
+        properties.setProperty("segment.key", segmentKey);
+        properties.setProperty("step", String.valueOf(step));
+        SegmentKeyGenerateAlgorithm result = new SegmentKeyGenerateAlgorithm();
+        result.setProperties(properties);
+        return result;
+    }
+    
+    @SneakyThrows
+    private long queryMaxId(final String segmentKey) {
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(String.format("SELECT max_id FROM key_generate_segment WHERE segment_key = '%s'", segmentKey))) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -24,6 +24,7 @@ import static org.junit.Assert.assertThat;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Properties;
@@ -31,6 +32,8 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.core.strategy.algorithm.keygen.fixture.FixedTimeService;
 import org.junit.Test;
@@ -39,6 +42,8 @@ public final class SnowflakeKeyGenerateAlgorithmTest {
     
     private static final long DEFAULT_SEQUENCE_BITS = 12L;
     
+    private static final long DEFAULT_WORKER_ID_BITS = 10L;
+    
     private static final int DEFAULT_KEY_AMOUNT = 10;
     
     @Test
@@ -112,7 +117,7 @@ public final class SnowflakeKeyGenerateAlgorithmTest {
         TimeService timeService = new FixedTimeService(1);
         SnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
         keyGenerateAlgorithm.setProperties(new Properties());
-        setLastMilliseconds(keyGenerateAlgorithm, timeService.getCurrentMillis() + 2);
+        setLastMillisecondsAndSequence(keyGenerateAlgorithm, timeService.getCurrentMillis() + 2, 0L);
         List<Comparable<?>> expected = Arrays.asList(4194304L, 8388609L, 8388610L, 12582912L, 12582913L, 16777217L, 16777218L, 20971520L, 20971521L, 25165825L);
         List<Comparable<?>> actual = new ArrayList<>();
         for (int i = 0; i < DEFAULT_KEY_AMOUNT; i++) {
@@ -131,7 +136,7 @@ public final class SnowflakeKeyGenerateAlgorithmTest {
         Properties properties = new Properties();
         properties.setProperty("max.tolerate.time.difference.milliseconds", String.valueOf(0));
         keyGenerateAlgorithm.setProperties(properties);
-        setLastMilliseconds(keyGenerateAlgorithm, timeService.getCurrentMillis() + 2);
+        setLastMillisecondsAndSequence(keyGenerateAlgorithm, timeService.getCurrentMillis() + 2, 0L);
         List<Comparable<?>> actual = new ArrayList<>();
         for (int i = 0; i < DEFAULT_KEY_AMOUNT; i++) {
             actual.add(keyGenerateAlgorithm.generateKey());
@@ -145,8 +150,7 @@ public final class SnowflakeKeyGenerateAlgorithmTest {
         TimeService timeService = new FixedTimeService(2);
         SnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
         keyGenerateAlgorithm.setProperties(new Properties());
-        setLastMilliseconds(keyGenerateAlgorithm, timeService.getCurrentMillis());
-        setSequence(keyGenerateAlgorithm, (1 << DEFAULT_SEQUENCE_BITS) - 1);
+        setLastMillisecondsAndSequence(keyGenerateAlgorithm, timeService.getCurrentMillis(), (1 << DEFAULT_SEQUENCE_BITS) - 1);
         List<Comparable<?>> expected = Arrays.asList(4194304L, 4194305L, 4194306L, 8388608L, 8388609L, 8388610L, 12582913L, 12582914L, 12582915L, 16777216L);
         List<Comparable<?>> actual = new ArrayList<>();
         for (int i = 0; i < DEFAULT_KEY_AMOUNT; i++) {
@@ -155,18 +159,55 @@ public final class SnowflakeKeyGenerateAlgorithmTest {
         assertThat(actual, is(expected));
     }
     
+    @Test
+    public void assertGenerateKeysWithSingleThread() {
+        SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = new SnowflakeKeyGenerateAlgorithm();
+        keyGenerateAlgorithm.setProperties(new Properties());
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        List<Comparable<?>> expected = Arrays.asList(0L, 1L, 2L, 3L, 4L, 4194305L, 4194306L, 4194307L, 4194308L, 4194309L);
+        List<Comparable<?>> actual = new ArrayList<>(keyGenerateAlgorithm.generateKeys(5));
+        actual.addAll(keyGenerateAlgorithm.generateKeys(5));
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    public void assertGenerateKeysBeyondMaxSequencePerMilliSecond() {
+        SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = new SnowflakeKeyGenerateAlgorithm();
+        TimeService timeService = new FixedTimeService(2);
+        SnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
+        keyGenerateAlgorithm.setProperties(new Properties());
+        setLastMillisecondsAndSequence(keyGenerateAlgorithm, timeService.getCurrentMillis(), (1 << DEFAULT_SEQUENCE_BITS) - 3);
+        List<Comparable<?>> expected = Arrays.asList(4094L, 4095L, 4194304L, 4194305L, 4194306L);
+        assertThat(new ArrayList<>(keyGenerateAlgorithm.generateKeys(5)), is(expected));
+    }
+    
+    @Test
     @SneakyThrows
-    private void setSequence(final SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm, final Number value) {
-        Field sequence = SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("sequence");
-        sequence.setAccessible(true);
-        sequence.set(keyGenerateAlgorithm, value);
+    public void assertGenerateKeysWithMultipleThreads() {
+        int threadNumber = Runtime.getRuntime().availableProcessors() << 1;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        int taskNumber = threadNumber << 2;
+        int keyAmountPerTask = 1000;
+        SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = new SnowflakeKeyGenerateAlgorithm();
+        keyGenerateAlgorithm.setProperties(new Properties());
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+        List<Future<Collection<Comparable<?>>>> futures = new ArrayList<>(taskNumber);
+        for (int i = 0; i < taskNumber; i++) {
+            futures.add(executor.submit(() -> keyGenerateAlgorithm.generateKeys(keyAmountPerTask)));
+        }
+        Set<Comparable<?>> actual = new HashSet<>();
+        for (Future<Collection<Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(taskNumber * keyAmountPerTask));
     }
     
     @SneakyThrows
-    private void setLastMilliseconds(final SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm, final Number value) {
-        Field lastMilliseconds = SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMilliseconds");
-        lastMilliseconds.setAccessible(true);
-        lastMilliseconds.set(keyGenerateAlgorithm, value);
+    private void setLastMillisecondsAndSequence(final SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm, final long lastMilliseconds, final long sequence) {
+        Field lastMillisecondsAndSequence = SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMillisecondsAndSequence");
+        lastMillisecondsAndSequence.setAccessible(true);
+        ((AtomicLong) lastMillisecondsAndSequence.get(keyGenerateAlgorithm)).set((lastMilliseconds << DEFAULT_SEQUENCE_BITS) | sequence);
     }
     
     @Test(expected = IllegalArgumentException.class)
@@ -217,6 +258,16 @@ public final class SnowflakeKeyGenerateAlgorithmTest {
         assertThat(((Properties) props.get(keyGenerateAlgorithm)).get("worker.id"), is("1"));
     }
     
+    @Test
+    public void assertGenerateKeyAfterPropertiesChanged() {
+        SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = new SnowflakeKeyGenerateAlgorithm();
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        keyGenerateAlgorithm.setProperties(new Properties());
+        assertThat(getWorkerId((Long) keyGenerateAlgorithm.generateKey()), is(0L));
+        keyGenerateAlgorithm.getProperties().setProperty("worker.id", String.valueOf(1L));
+        assertThat(getWorkerId((Long) keyGenerateAlgorithm.generateKey()), is(1L));
+    }
+    
     @Test
     @SneakyThrows
     public void assertSetMaxTolerateTimeDifferenceMilliseconds() {
@@ -228,4 +279,8 @@ public final class SnowflakeKeyGenerateAlgorithmTest {
         props.setAccessible(true);
         assertThat(((Properties) props.get(keyGenerateAlgorithm)).get("max.tolerate.time.difference.milliseconds"), is("1"));
     }
+    
+    private long getWorkerId(final long key) {
+        return (key >> DEFAULT_SEQUENCE_BITS) & ((1 << DEFAULT_WORKER_ID_BITS) - 1);
+    }
 }
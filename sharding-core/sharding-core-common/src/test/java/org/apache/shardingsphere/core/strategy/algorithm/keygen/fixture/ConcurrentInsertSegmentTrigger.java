@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.algorithm.keygen.fixture;
+
+import org.h2.api.Trigger;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public final class ConcurrentInsertSegmentTrigger implements Trigger {
+    
+    public static final String SEGMENT_KEY = "concurrent_order";
+    
+    public static final long CONCURRENT_MAX_ID = 10L;
+    
+    private static final String JDBC_URL = "jdbc:h2:mem:key_segment";
+    
+    private static final AtomicBoolean FIRED = new AtomicBoolean();
+    
+    @Override
+    public void init(final Connection connection, final String schemaName, final String triggerName, final String tableName, final boolean before, final int type) {
+        FIRED.set(false);
+    }
+    
+    @Override
+    public void fire(final Connection connection, final Object[] oldRow, final Object[] newRow) throws SQLException {
+        if (FIRED.getAndSet(true)) {
+            return;
+        }
+        try (Connection concurrentConnection = DriverManager.getConnection(JDBC_URL, "sa", "");
+             PreparedStatement preparedStatement = concurrentConnection.prepareStatement("INSERT INTO key_generate_segment (segment_key, max_id) VALUES (?, ?)")) {
+            preparedStatement.setString(1, SEGMENT_KEY);
+            preparedStatement.setLong(2, CONCURRENT_MAX_ID);
+            preparedStatement.executeUpdate();
+        }
+    }
+    
+    @Override
+    public void close() {
+    }
+    
+    @Override
+    public void remove() {
+    }
+}
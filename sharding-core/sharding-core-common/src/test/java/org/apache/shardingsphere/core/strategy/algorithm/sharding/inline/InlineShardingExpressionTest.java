@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.algorithm.sharding.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import lombok.SneakyThrows;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class InlineShardingExpressionTest {
+    
+    private static final Collection<Comparable<?>> VALUES = Arrays.asList(0, 7, -7, Integer.MAX_VALUE, Integer.MIN_VALUE, 7L, -7L, Long.MAX_VALUE, Long.MIN_VALUE, (short) -3, (byte) 5, "foo", "");
+    
+    @Test
+    public void assertEvaluateModulo() {
+        assertEvaluate("ds_${user_id % 8}", "user_id", 0, 7, -7, Integer.MAX_VALUE, Integer.MIN_VALUE, 7L, -7L, Long.MAX_VALUE, Long.MIN_VALUE, (short) -3, (byte) 5);
+    }
+    
+    @Test
+    public void assertEvaluateModuloWithNewPlaceHolder() {
+        assertEvaluate("ds_$->{user_id % 8}", "user_id", 0, 7, -7, 7L, -7L);
+    }
+    
+    @Test
+    public void assertEvaluateHashCodeModulo() {
+        assertEvaluate("t_order_${order_id.hashCode() % 16}", "order_id", VALUES.toArray(new Comparable<?>[0]));
+    }
+    
+    @Test
+    public void assertEvaluateAbsoluteHashCodeModulo() {
+        assertEvaluate("t_order_${Math.abs(order_id.hashCode()) % 16}", "order_id", VALUES.toArray(new Comparable<?>[0]));
+    }
+    
+    @Test
+    public void assertEvaluateAbsoluteModulo() {
+        assertEvaluate("t_order_${Math.abs(order_id) % 16}", "order_id", 0, 7, -7, Integer.MIN_VALUE, 7L, -7L, Long.MIN_VALUE);
+    }
+    
+    @Test
+    public void assertEvaluateColumnOnly() {
+        assertEvaluate("t_order_${order_id}_${order_id % 2}", "order_id", 0, 7, -7, 7L);
+        assertEvaluate("t_order_${order_id}", "order_id", 0, -7L, "foo");
+    }
+    
+    @Test
+    public void assertEvaluateByClosureForOtherExpressions() {
+        assertEvaluate("t_order_${(order_id % 4).intdiv(2)}", "order_id", 0, 7, 5L);
+        assertEvaluate("t_order_${order_id % 4 + 1}", "order_id", 0, 7, 5L);
+    }
+    
+    @Test
+    public void assertEvaluateByClosureForOtherValueTypes() {
+        assertEvaluate("t_order_${order_id}", "order_id", new BigDecimal("1.50"));
+    }
+    
+    @Test
+    public void assertCompile() {
+        assertTrue(isCompiledToJava("ds_${user_id % 8}"));
+        assertTrue(isCompiledToJava("t_order_${Math.abs(order_id.hashCode()) % 16}"));
+        assertFalse(isCompiledToJava("t_order_${order_id % 4 + 1}"));
+        assertFalse(isCompiledToJava("t_${order_id % 2}_${user_id % 2}"));
+        assertFalse(isCompiledToJava("t_\\${order_id % 2}"));
+    }
+    
+    @Test
+    public void assertGetInlineExpression() {
+        assertThat(InlineShardingExpression.compile(" ds_${user_id % 8} ").getInlineExpression(), is(" ds_${user_id % 8} "));
+    }
+    
+    private void assertEvaluate(final String inlineExpression, final String columnName, final Comparable<?>... values) {
+        InlineShardingExpression actual = InlineShardingExpression.compile(inlineExpression);
+        for (Comparable<?> each : values) {
+            assertThat(inlineExpression + " with " + each, actual.evaluate(columnName, each), is(evaluateByGroovy(inlineExpression, columnName, each)));
+        }
+    }
+    
+    private String evaluateByGroovy(final String inlineExpression, final String columnName, final Comparable<?> value) {
+        Closure<?> result = new InlineExpressionParser(InlineExpressionParser.handlePlaceHolder(inlineExpression.trim())).evaluateClosure().rehydrate(new Expando(), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        result.setProperty(columnName, value);
+        return result.call().toString();
+    }
+    
+    @SneakyThrows
+    private boolean isCompiledToJava(final String inlineExpression) {
+        Field field = InlineShardingExpression.class.getDeclaredField("columnName");
+        field.setAccessible(true);
+        return null != field.get(InlineShardingExpression.compile(inlineExpression));
+    }
+}
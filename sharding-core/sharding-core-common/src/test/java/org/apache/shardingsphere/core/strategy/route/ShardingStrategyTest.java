@@ -22,6 +22,7 @@ import com.google.common.collect.Range;
 import com.google.common.collect.Sets;
 import org.apache.shardingsphere.api.config.sharding.strategy.ComplexShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.strategy.algorithm.sharding.ModuloShardingAlgorithm;
 import org.apache.shardingsphere.core.strategy.route.complex.ComplexShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.fixture.ComplexKeysShardingAlgorithmFixture;
 import org.apache.shardingsphere.core.strategy.route.fixture.StandardShardingAlgorithmFixture;
@@ -39,7 +40,9 @@ import java.util.List;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class ShardingStrategyTest {
     
@@ -66,4 +69,16 @@ public final class ShardingStrategyTest {
                 new ListRouteValue<>("column1", "logicTable", Collections.singletonList(1)), new RangeRouteValue<>("column2", "logicTable", Range.open(1, 3)));
         assertThat(strategy.doSharding(targets, routeValues, new ConfigurationProperties(new Properties())), is(Sets.newHashSet("1", "2", "3")));
     }
+    
+    @Test
+    public void assertIsCacheable() {
+        assertTrue(new NoneShardingStrategy().isCacheable());
+        assertTrue(new StandardShardingStrategy(new StandardShardingStrategyConfiguration("column", new ModuloShardingAlgorithm())).isCacheable());
+    }
+    
+    @Test
+    public void assertIsNotCacheable() {
+        assertFalse(new StandardShardingStrategy(new StandardShardingStrategyConfiguration("column", new StandardShardingAlgorithmFixture())).isCacheable());
+        assertFalse(new ComplexShardingStrategy(new ComplexShardingStrategyConfiguration("column1, column2", new ComplexKeysShardingAlgorithmFixture())).isCacheable());
+    }
 }
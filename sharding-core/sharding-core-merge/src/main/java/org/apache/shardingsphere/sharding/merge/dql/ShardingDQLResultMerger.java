@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.merge.dql;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.iterator.IteratorStreamMergedResult;
@@ -52,6 +53,20 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private final DatabaseType databaseType;
     
+    private final int groupByMaxMemoryGroups;
+    
+    private final boolean approximateDistinctCountEnabled;
+    
+    private final boolean paginationEarlyTerminationEnabled;
+    
+    public ShardingDQLResultMerger(final DatabaseType databaseType) {
+        this(databaseType, 0, false);
+    }
+    
+    public ShardingDQLResultMerger(final DatabaseType databaseType, final int groupByMaxMemoryGroups, final boolean approximateDistinctCountEnabled) {
+        this(databaseType, groupByMaxMemoryGroups, approximateDistinctCountEnabled, false);
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext, final SchemaMetaData schemaMetaData) throws SQLException {
         if (1 == queryResults.size()) {
@@ -105,9 +120,10 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
                                                 final Map<String, Integer> columnLabelIndexMap, final SchemaMetaData schemaMetaData) throws SQLException {
+        boolean approximateDistinctCount = approximateDistinctCountEnabled || HintManager.isApproximateDistinctCount();
         return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schemaMetaData)
-                : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schemaMetaData);
+                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schemaMetaData, approximateDistinctCount)
+                : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schemaMetaData, groupByMaxMemoryGroups, approximateDistinctCount);
     }
     
     private boolean isNeedProcessOrderBy(final SelectStatementContext selectStatementContext) {
@@ -121,13 +137,13 @@ public final class ShardingDQLResultMerger implements ResultMerger {
         }
         String trunkDatabaseName = DatabaseTypes.getTrunkDatabaseType(databaseType.getName()).getName();
         if ("MySQL".equals(trunkDatabaseName) || "PostgreSQL".equals(trunkDatabaseName)) {
-            return new LimitDecoratorMergedResult(mergedResult, paginationContext);
+            return new LimitDecoratorMergedResult(mergedResult, paginationContext, paginationEarlyTerminationEnabled);
         }
         if ("Oracle".equals(trunkDatabaseName)) {
-            return new RowNumberDecoratorMergedResult(mergedResult, paginationContext);
+            return new RowNumberDecoratorMergedResult(mergedResult, paginationContext, paginationEarlyTerminationEnabled);
         }
         if ("SQLServer".equals(trunkDatabaseName)) {
-            return new TopAndRowNumberDecoratorMergedResult(mergedResult, paginationContext);
+            return new TopAndRowNumberDecoratorMergedResult(mergedResult, paginationContext, paginationEarlyTerminationEnabled);
         }
         return mergedResult;
     }
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
+import org.apache.shardingsphere.underlying.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.Serializable;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Partial aggregation of one group.
+ */
+public final class GroupByAggregation implements Serializable {
+    
+    private static final long serialVersionUID = -8016815417063617474L;
+    
+    @Getter
+    private final MemoryQueryResultRow row;
+    
+    private final List<AggregationUnit> aggregationUnits;
+    
+    public GroupByAggregation(final QueryResult queryResult, final List<AggregationProjection> aggregationProjections, final boolean approximateDistinctCount) throws SQLException {
+        row = new MemoryQueryResultRow(queryResult);
+        aggregationUnits = new ArrayList<>(aggregationProjections.size());
+        for (AggregationProjection each : aggregationProjections) {
+            aggregationUnits.add(AggregationUnitFactory.create(each.getType(), each instanceof AggregationDistinctProjection, approximateDistinctCount));
+        }
+    }
+    
+    /**
+     * Aggregate current row of query result.
+     * 
+     * @param queryResult query result
+     * @param aggregationProjections aggregation projections
+     * @throws SQLException SQL exception
+     */
+    public void aggregate(final QueryResult queryResult, final List<AggregationProjection> aggregationProjections) throws SQLException {
+        int index = 0;
+        for (AggregationProjection each : aggregationProjections) {
+            List<Comparable<?>> values = new ArrayList<>(2);
+            if (each.getDerivedAggregationProjections().isEmpty()) {
+                values.add(getAggregationValue(queryResult, each));
+            } else {
+                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
+                    values.add(getAggregationValue(queryResult, derived));
+                }
+            }
+            aggregationUnits.get(index++).merge(values);
+        }
+    }
+    
+    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
+        Object result = queryResult.getValue(aggregationProjection.getIndex(), Object.class);
+        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
+        return (Comparable<?>) result;
+    }
+    
+    /**
+     * Combine partial aggregation of the same group.
+     * 
+     * @param groupByAggregation partial aggregation to be combined
+     */
+    public void combine(final GroupByAggregation groupByAggregation) {
+        for (int i = 0; i < aggregationUnits.size(); i++) {
+            aggregationUnits.get(i).combine(groupByAggregation.aggregationUnits.get(i));
+        }
+    }
+    
+    /**
+     * Set aggregation results to row and get it.
+     * 
+     * @param aggregationProjections aggregation projections
+     * @return row with aggregation results
+     */
+    public MemoryQueryResultRow getResultRow(final List<AggregationProjection> aggregationProjections) {
+        int index = 0;
+        for (AggregationProjection each : aggregationProjections) {
+            row.setCell(each.getIndex(), aggregationUnits.get(index++).getResult());
+        }
+        return row;
+    }
+}
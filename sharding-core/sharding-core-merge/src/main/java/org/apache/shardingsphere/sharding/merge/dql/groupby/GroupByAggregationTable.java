@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hash table of group by aggregations.
+ * 
+ * <p>Group by values are normalized by {@code GroupByValue}, which is same as {@code GroupByValueComparator} used to merge spilled groups.
+ * Groups of single integral group by value are held in open addressing arrays keyed by primitive long, other groups are held in hash map keyed by {@code GroupByValue}.
+ * Table is serializable only if all values of groups are serializable, which is required to spill groups.</p>
+ */
+public final class GroupByAggregationTable {
+    
+    private static final int INITIAL_CAPACITY = 1024;
+    
+    private final List<OrderByItem> groupByItems;
+    
+    private final List<AggregationProjection> aggregationProjections;
+    
+    private final boolean approximateDistinctCount;
+    
+    private final Map<GroupByValue, GroupByAggregation> aggregations = new HashMap<>(INITIAL_CAPACITY);
+    
+    private long[] longKeys = new long[INITIAL_CAPACITY];
+    
+    private GroupByAggregation[] longKeyAggregations = new GroupByAggregation[INITIAL_CAPACITY];
+    
+    private int longKeySize;
+    
+    @Getter
+    private boolean serializable = true;
+    
+    public GroupByAggregationTable(final Collection<OrderByItem> groupByItems, final List<AggregationProjection> aggregationProjections, final boolean approximateDistinctCount) {
+        this.groupByItems = new ArrayList<>(groupByItems);
+        this.aggregationProjections = aggregationProjections;
+        this.approximateDistinctCount = approximateDistinctCount;
+    }
+    
+    /**
+     * Aggregate current row of query result into its group.
+     * 
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     */
+    public void aggregate(final QueryResult queryResult) throws SQLException {
+        List<Object> groupValues = new ArrayList<>(groupByItems.size());
+        for (OrderByItem each : groupByItems) {
+            groupValues.add(GroupByValue.normalize(queryResult.getValue(each.getIndex(), Object.class)));
+        }
+        GroupByAggregation groupByAggregation = find(groupValues);
+        if (null == groupByAggregation) {
+            groupByAggregation = new GroupByAggregation(queryResult, aggregationProjections, approximateDistinctCount);
+            put(groupValues, groupByAggregation);
+        }
+        groupByAggregation.aggregate(queryResult, aggregationProjections);
+    }
+    
+    /**
+     * Combine partial aggregation into its group.
+     * 
+     * @param groupByAggregation partial aggregation to be combined
+     */
+    public void combine(final GroupByAggregation groupByAggregation) {
+        List<Object> groupValues = new ArrayList<>(groupByItems.size());
+        for (OrderByItem each : groupByItems) {
+            groupValues.add(GroupByValue.normalize(groupByAggregation.getRow().getCell(each.getIndex())));
+        }
+        GroupByAggregation existedGroupByAggregation = find(groupValues);
+        if (null == existedGroupByAggregation) {
+            put(groupValues, groupByAggregation);
+        } else {
+            existedGroupByAggregation.combine(groupByAggregation);
+        }
+    }
+    
+    private GroupByAggregation find(final List<Object> groupValues) {
+        return isLongKey(groupValues) ? findByLongKey((Long) groupValues.get(0)) : aggregations.get(new GroupByValue(groupValues));
+    }
+    
+    private void put(final List<Object> groupValues, final GroupByAggregation groupByAggregation) {
+        serializable = serializable && groupByAggregation.getRow().isSerializable();
+        if (isLongKey(groupValues)) {
+            putByLongKey((Long) groupValues.get(0), groupByAggregation);
+        } else {
+            aggregations.put(new GroupByValue(groupValues), groupByAggregation);
+        }
+    }
+    
+    private boolean isLongKey(final List<Object> groupValues) {
+        return 1 == groupValues.size() && groupValues.get(0) instanceof Long;
+    }
+    
+    private GroupByAggregation findByLongKey(final long key) {
+        int mask = longKeys.length - 1;
+        int index = hash(key) & mask;
+        while (null != longKeyAggregations[index]) {
+            if (longKeys[index] == key) {
+                return longKeyAggregations[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+    
+    private void putByLongKey(final long key, final GroupByAggregation groupByAggregation) {
+        int mask = longKeys.length - 1;
+        int index = hash(key) & mask;
+        while (null != longKeyAggregations[index]) {
+            index = (index + 1) & mask;
+        }
+        longKeys[index] = key;
+        longKeyAggregations[index] = groupByAggregation;
+        if (++longKeySize * 4 > longKeys.length * 3) {
+            resize();
+        }
+    }
+    
+    private int hash(final long key) {
+        return (int) (key * 0x9E3779B97F4A7C15L >>> 32);
+    }
+    
+    private void resize() {
+        long[] oldKeys = longKeys;
+        GroupByAggregation[] oldAggregations = longKeyAggregations;
+        longKeys = new long[oldKeys.length << 1];
+        longKeyAggregations = new GroupByAggregation[oldKeys.length << 1];
+        int mask = longKeys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (null == oldAggregations[i]) {
+                continue;
+            }
+            int index = hash(oldKeys[i]) & mask;
+            while (null != longKeyAggregations[index]) {
+                index = (index + 1) & mask;
+            }
+            longKeys[index] = oldKeys[i];
+            longKeyAggregations[index] = oldAggregations[i];
+        }
+    }
+    
+    /**
+     * Get size of groups.
+     * 
+     * @return size of groups
+     */
+    public int size() {
+        return longKeySize + aggregations.size();
+    }
+    
+    /**
+     * Judge whether table is empty.
+     * 
+     * @return table is empty or not
+     */
+    public boolean isEmpty() {
+        return 0 == size();
+    }
+    
+    /**
+     * Get all group by aggregations.
+     * 
+     * @return group by aggregations
+     */
+    public List<GroupByAggregation> getAggregations() {
+        List<GroupByAggregation> result = new ArrayList<>(size());
+        for (GroupByAggregation each : longKeyAggregations) {
+            if (null != each) {
+                result.add(each);
+            }
+        }
+        result.addAll(aggregations.values());
+        return result;
+    }
+    
+    /**
+     * Clear all groups.
+     */
+    public void clear() {
+        aggregations.clear();
+        longKeys = new long[INITIAL_CAPACITY];
+        longKeyAggregations = new GroupByAggregation[INITIAL_CAPACITY];
+        longKeySize = 0;
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import com.google.common.collect.PeekingIterator;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.SpilledRun;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.SpilledRunsMergeIterator;
+import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
+import org.apache.shardingsphere.underlying.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Group by aggregator.
+ * 
+ * <p>Groups are aggregated in memory, if size of groups in memory exceeds max memory groups, 
+ * partial aggregations are spilled to local temporary files as sorted runs and combined by external merging.
+ * If any value of groups is not serializable, groups are aggregated in memory only.
+ * Temporary files are deleted after all rows are iterated, or once aggregator is closed.</p>
+ */
+@RequiredArgsConstructor
+public final class GroupByAggregator {
+    
+    private static final int MAX_MERGE_RUNS = 64;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final SchemaMetaData schemaMetaData;
+    
+    private final int maxMemoryGroups;
+    
+    private final boolean approximateDistinctCount;
+    
+    private final Collection<SpilledRun<?>> spilledRuns = new LinkedList<>();
+    
+    /**
+     * Aggregate query results.
+     * 
+     * @param queryResults query results
+     * @return aggregated rows in order
+     * @throws SQLException SQL exception
+     */
+    public Iterator<MemoryQueryResultRow> aggregate(final List<QueryResult> queryResults) throws SQLException {
+        boolean succeeded = false;
+        try {
+            Iterator<MemoryQueryResultRow> result = queryResults.isEmpty() ? Collections.emptyIterator() : aggregateNonEmpty(queryResults);
+            succeeded = true;
+            return result;
+        } finally {
+            if (!succeeded) {
+                close();
+            }
+        }
+    }
+    
+    private Iterator<MemoryQueryResultRow> aggregateNonEmpty(final List<QueryResult> queryResults) throws SQLException {
+        List<AggregationProjection> aggregationProjections = new ArrayList<>(selectStatementContext.getProjectionsContext().getAggregationProjections());
+        GroupByAggregationTable groupByAggregationTable = new GroupByAggregationTable(selectStatementContext.getGroupByContext().getItems(), aggregationProjections, approximateDistinctCount);
+        Collection<SpilledRun<GroupByAggregation>> groupByAggregationRuns = new LinkedList<>();
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                groupByAggregationTable.aggregate(each);
+                if (isMemoryExceeded(groupByAggregationTable.size()) && groupByAggregationTable.isSerializable()) {
+                    groupByAggregationRuns.add(spill(groupByAggregationTable));
+                }
+            }
+        }
+        if (!groupByAggregationTable.isSerializable()) {
+            load(groupByAggregationRuns, groupByAggregationTable);
+            groupByAggregationRuns.clear();
+        }
+        GroupByRowComparator groupByRowComparator = new GroupByRowComparator(selectStatementContext, getValueCaseSensitive(queryResults.get(0)));
+        if (groupByAggregationRuns.isEmpty()) {
+            return sort(Iterators.transform(groupByAggregationTable.getAggregations().iterator(), each -> each.getResultRow(aggregationProjections)), groupByRowComparator,
+                    groupByAggregationTable.isSerializable());
+        }
+        if (!groupByAggregationTable.isEmpty()) {
+            groupByAggregationRuns.add(spill(groupByAggregationTable));
+        }
+        Iterator<GroupByAggregation> groupByAggregations = merge(groupByAggregationRuns, new GroupByValueComparator(selectStatementContext.getGroupByContext().getItems()), this::combine);
+        return sort(Iterators.transform(groupByAggregations, each -> each.getResultRow(aggregationProjections)), groupByRowComparator, true);
+    }
+    
+    private boolean isMemoryExceeded(final int memoryGroups) {
+        return maxMemoryGroups > 0 && memoryGroups >= maxMemoryGroups;
+    }
+    
+    private SpilledRun<GroupByAggregation> spill(final GroupByAggregationTable groupByAggregationTable) {
+        List<GroupByAggregation> groupByAggregations = groupByAggregationTable.getAggregations();
+        groupByAggregationTable.clear();
+        groupByAggregations.sort(new GroupByValueComparator(selectStatementContext.getGroupByContext().getItems()));
+        return write(groupByAggregations.iterator());
+    }
+    
+    private void load(final Collection<SpilledRun<GroupByAggregation>> groupByAggregationRuns, final GroupByAggregationTable groupByAggregationTable) {
+        for (SpilledRun<GroupByAggregation> each : groupByAggregationRuns) {
+            try (SpilledRun.Cursor<GroupByAggregation> cursor = each.openCursor()) {
+                while (cursor.next()) {
+                    groupByAggregationTable.combine(cursor.getCurrent());
+                }
+            }
+            each.delete();
+        }
+    }
+    
+    private <T> SpilledRun<T> write(final Iterator<T> sortedRecords) {
+        SpilledRun<T> result = SpilledRun.write(sortedRecords);
+        spilledRuns.add(result);
+        return result;
+    }
+    
+    private Iterator<GroupByAggregation> combine(final Iterator<GroupByAggregation> sortedGroupByAggregations) {
+        Comparator<GroupByAggregation> comparator = new GroupByValueComparator(selectStatementContext.getGroupByContext().getItems());
+        PeekingIterator<GroupByAggregation> iterator = Iterators.peekingIterator(sortedGroupByAggregations);
+        return new AbstractIterator<GroupByAggregation>() {
+            
+            @Override
+            protected GroupByAggregation computeNext() {
+                if (!iterator.hasNext()) {
+                    return endOfData();
+                }
+                GroupByAggregation result = iterator.next();
+                while (iterator.hasNext() && 0 == comparator.compare(result, iterator.peek())) {
+                    result.combine(iterator.next());
+                }
+                return result;
+            }
+        };
+    }
+    
+    private Iterator<MemoryQueryResultRow> sort(final Iterator<MemoryQueryResultRow> rows, final Comparator<MemoryQueryResultRow> comparator, final boolean spillable) {
+        List<MemoryQueryResultRow> sortedRows = new ArrayList<>();
+        Collection<SpilledRun<MemoryQueryResultRow>> rowRuns = new LinkedList<>();
+        while (rows.hasNext()) {
+            sortedRows.add(rows.next());
+            if (spillable && isMemoryExceeded(sortedRows.size())) {
+                sortedRows.sort(comparator);
+                rowRuns.add(write(sortedRows.iterator()));
+                sortedRows = new ArrayList<>();
+            }
+        }
+        sortedRows.sort(comparator);
+        if (rowRuns.isEmpty()) {
+            return sortedRows.iterator();
+        }
+        if (!sortedRows.isEmpty()) {
+            rowRuns.add(write(sortedRows.iterator()));
+        }
+        return merge(rowRuns, comparator, Function.identity());
+    }
+    
+    private <T> Iterator<T> merge(final Collection<SpilledRun<T>> runs, final Comparator<T> comparator, final Function<Iterator<T>, Iterator<T>> reducer) {
+        Deque<SpilledRun<T>> pendingRuns = new LinkedList<>(runs);
+        while (pendingRuns.size() > MAX_MERGE_RUNS) {
+            Collection<SpilledRun<T>> mergingRuns = new ArrayList<>(MAX_MERGE_RUNS);
+            for (int i = 0; i < MAX_MERGE_RUNS; i++) {
+                mergingRuns.add(pendingRuns.poll());
+            }
+            pendingRuns.offer(write(reducer.apply(new SpilledRunsMergeIterator<>(mergingRuns, comparator))));
+        }
+        return reducer.apply(new SpilledRunsMergeIterator<>(pendingRuns, comparator));
+    }
+    
+    /**
+     * Close opened cursors and delete temporary files of all spilled runs.
+     */
+    public void close() {
+        spilledRuns.forEach(SpilledRun::delete);
+        spilledRuns.clear();
+    }
+    
+    private List<Boolean> getValueCaseSensitive(final QueryResult queryResult) throws SQLException {
+        List<Boolean> result = Lists.newArrayList(false);
+        for (int columnIndex = 1; columnIndex <= queryResult.getColumnCount(); columnIndex++) {
+            result.add(getValueCaseSensitiveFromTables(queryResult, columnIndex));
+        }
+        return result;
+    }
+    
+    private boolean getValueCaseSensitiveFromTables(final QueryResult queryResult, final int columnIndex) throws SQLException {
+        for (SimpleTableSegment each : selectStatementContext.getAllTables()) {
+            String tableName = each.getTableName().getIdentifier().getValue();
+            TableMetaData tableMetaData = schemaMetaData.get(tableName);
+            Map<String, ColumnMetaData> columns = tableMetaData.getColumns();
+            String columnName = queryResult.getColumnName(columnIndex);
+            if (columns.containsKey(columnName)) {
+                return columns.get(columnName).isCaseSensitive();
+            }
+        }
+        return false;
+    }
+}
@@ -22,6 +22,7 @@ import lombok.Getter;
 import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
 import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderByItem;
 
+import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -29,6 +30,9 @@ import java.util.List;
 
 /**
  * Group by value.
+ * 
+ * <p>Integral values are normalized to {@code Long} and decimal values are normalized without trailing zeros,
+ * so that same values of different types or scales from different shards are in same group.</p>
  */
 @Getter
 @EqualsAndHashCode
@@ -40,11 +44,35 @@ public final class GroupByValue {
         groupValues = getGroupByValues(queryResult, groupByItems);
     }
     
+    public GroupByValue(final List<?> groupValues) {
+        List<Object> result = new ArrayList<>(groupValues.size());
+        for (Object each : groupValues) {
+            result.add(normalize(each));
+        }
+        this.groupValues = result;
+    }
+    
     private List<?> getGroupByValues(final QueryResult queryResult, final Collection<OrderByItem> groupByItems) throws SQLException {
         List<Object> result = new ArrayList<>(groupByItems.size());
         for (OrderByItem each : groupByItems) {
-            result.add(queryResult.getValue(each.getIndex(), Object.class));
+            result.add(normalize(queryResult.getValue(each.getIndex(), Object.class)));
         }
         return result;
     }
+    
+    /**
+     * Normalize group by value.
+     * 
+     * @param value group by value
+     * @return normalized group by value
+     */
+    public static Object normalize(final Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).stripTrailingZeros();
+        }
+        return value;
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.base.Preconditions;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderByItem;
+
+import java.util.Collection;
+import java.util.Comparator;
+
+/**
+ * Group by value comparator, which puts partial aggregations of same group together.
+ */
+@RequiredArgsConstructor
+public final class GroupByValueComparator implements Comparator<GroupByAggregation> {
+    
+    private final Collection<OrderByItem> groupByItems;
+    
+    @Override
+    public int compare(final GroupByAggregation o1, final GroupByAggregation o2) {
+        for (OrderByItem each : groupByItems) {
+            int result = compareValue(o1.getRow().getCell(each.getIndex()), o2.getRow().getCell(each.getIndex()));
+            if (0 != result) {
+                return result;
+            }
+        }
+        return 0;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private int compareValue(final Object cell1, final Object cell2) {
+        Object value1 = GroupByValue.normalize(cell1);
+        Object value2 = GroupByValue.normalize(cell2);
+        if (null == value1 && null == value2) {
+            return 0;
+        }
+        if (null == value1) {
+            return -1;
+        }
+        if (null == value2) {
+            return 1;
+        }
+        if (value1.getClass() != value2.getClass()) {
+            return value1.getClass().getName().compareTo(value2.getClass().getName());
+        }
+        Preconditions.checkState(value1 instanceof Comparable, "Group by value must implements Comparable");
+        return ((Comparable) value1).compareTo(value2);
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -28,6 +29,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class AccumulationAggregationUnit implements AggregationUnit {
     
+    private static final long serialVersionUID = -3765093422386383530L;
+    
     private BigDecimal result;
     
     @Override
@@ -41,6 +44,11 @@ public final class AccumulationAggregationUnit implements AggregationUnit {
         result = result.add(new BigDecimal(values.get(0).toString()));
     }
     
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        merge(Collections.singletonList(((AccumulationAggregationUnit) aggregationUnit).result));
+    }
+    
     @Override
     public Comparable<?> getResult() {
         return result;
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Approximate distinct count aggregation unit.
+ * 
+ * <p>Values are counted exactly until distinct values reach {@code EXACT_THRESHOLD}, then they are counted by HyperLogLog sketch.</p>
+ */
+@RequiredArgsConstructor
+public final class ApproximateDistinctCountAggregationUnit implements AggregationUnit {
+    
+    private static final long serialVersionUID = -1407318652342315574L;
+    
+    private static final int EXACT_THRESHOLD = 2048;
+    
+    private DistinctValueSet values = new DistinctValueSet();
+    
+    private HyperLogLog sketch;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        offer(values.get(0));
+    }
+    
+    private void offer(final Comparable<?> value) {
+        if (null != sketch) {
+            sketch.offer(value);
+            return;
+        }
+        values.add(value);
+        if (values.size() >= EXACT_THRESHOLD) {
+            promote();
+        }
+    }
+    
+    private void promote() {
+        sketch = new HyperLogLog();
+        for (Comparable<?> each : values.getValues()) {
+            sketch.offer(each);
+        }
+        values = null;
+    }
+    
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        ApproximateDistinctCountAggregationUnit other = (ApproximateDistinctCountAggregationUnit) aggregationUnit;
+        if (null == other.sketch) {
+            for (Comparable<?> each : other.values.getValues()) {
+                offer(each);
+            }
+            return;
+        }
+        if (null == sketch) {
+            promote();
+        }
+        sketch.merge(other.sketch);
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        return null == sketch ? (long) values.size() : sketch.cardinality();
+    }
+}
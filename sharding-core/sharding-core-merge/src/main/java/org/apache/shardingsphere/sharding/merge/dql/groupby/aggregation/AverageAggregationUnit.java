@@ -28,6 +28,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class AverageAggregationUnit implements AggregationUnit {
     
+    private static final long serialVersionUID = -2310618306431208164L;
+    
     private BigDecimal count;
     
     private BigDecimal sum;
@@ -47,6 +49,16 @@ public final class AverageAggregationUnit implements AggregationUnit {
         sum = sum.add(new BigDecimal(values.get(1).toString()));
     }
     
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        AverageAggregationUnit averageAggregationUnit = (AverageAggregationUnit) aggregationUnit;
+        if (null == averageAggregationUnit.count || null == averageAggregationUnit.sum) {
+            return;
+        }
+        count = null == count ? averageAggregationUnit.count : count.add(averageAggregationUnit.count);
+        sum = null == sum ? averageAggregationUnit.sum : sum.add(averageAggregationUnit.sum);
+    }
+    
     @Override
     public Comparable<?> getResult() {
         if (null == count || BigDecimal.ZERO.equals(count)) {
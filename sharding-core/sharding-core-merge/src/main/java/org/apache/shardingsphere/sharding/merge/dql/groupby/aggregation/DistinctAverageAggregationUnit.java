@@ -20,9 +20,11 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
-import java.util.Collection;
-import java.util.LinkedHashSet;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Distinct average aggregation unit.
@@ -30,20 +32,20 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class DistinctAverageAggregationUnit implements AggregationUnit {
     
+    private static final long serialVersionUID = -5495268640264946455L;
+    
     private BigDecimal count;
     
     private BigDecimal sum;
     
-    private Collection<Comparable<?>> countValues = new LinkedHashSet<>();
-    
-    private Collection<Comparable<?>> sumValues = new LinkedHashSet<>();
+    private Map<Comparable<?>, Comparable<?>> values = new LinkedHashMap<>();
     
     @Override
     public void merge(final List<Comparable<?>> values) {
         if (null == values || null == values.get(0) || null == values.get(1)) {
             return;
         }
-        if (this.countValues.add(values.get(0)) && this.sumValues.add(values.get(0))) {
+        if (null == this.values.putIfAbsent(values.get(0), values.get(1))) {
             if (null == count) {
                 count = new BigDecimal("0");
             }
@@ -55,6 +57,13 @@ public final class DistinctAverageAggregationUnit implements AggregationUnit {
         }
     }
     
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        for (Entry<Comparable<?>, Comparable<?>> entry : ((DistinctAverageAggregationUnit) aggregationUnit).values.entrySet()) {
+            merge(Arrays.asList(entry.getKey(), entry.getValue()));
+        }
+    }
+    
     @Override
     public Comparable<?> getResult() {
         if (null == count || BigDecimal.ZERO.equals(count)) {
@@ -19,8 +19,6 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import lombok.RequiredArgsConstructor;
 
-import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 
 /**
@@ -29,7 +27,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class DistinctCountAggregationUnit implements AggregationUnit {
     
-    private Collection<Comparable<?>> values = new HashSet<>();
+    private static final long serialVersionUID = 6806150766330329376L;
+    
+    private DistinctValueSet values = new DistinctValueSet();
     
     @Override
     public void merge(final List<Comparable<?>> values) {
@@ -39,6 +39,13 @@ public final class DistinctCountAggregationUnit implements AggregationUnit {
         this.values.add(values.get(0));
     }
     
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        for (Comparable<?> each : ((DistinctCountAggregationUnit) aggregationUnit).values.getValues()) {
+            values.add(each);
+        }
+    }
+    
     @Override
     public Comparable<?> getResult() {
         return values.size();
@@ -20,8 +20,7 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
-import java.util.Collection;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -30,9 +29,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class DistinctSumAggregationUnit implements AggregationUnit {
     
+    private static final long serialVersionUID = 2187316305316346446L;
+    
     private BigDecimal result;
     
-    private Collection<Comparable<?>> values = new HashSet<>();
+    private DistinctValueSet values = new DistinctValueSet();
     
     @Override
     public void merge(final List<Comparable<?>> values) {
@@ -47,6 +48,13 @@ public final class DistinctSumAggregationUnit implements AggregationUnit {
         }
     }
     
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        for (Comparable<?> each : ((DistinctSumAggregationUnit) aggregationUnit).values.getValues()) {
+            merge(Collections.singletonList(each));
+        }
+    }
+    
     @Override
     public Comparable<?> getResult() {
         return result;
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Set of distinct aggregation values.
+ * 
+ * <p>Integral values are kept in a primitive long hash set without boxing, other values are kept in a hash set.</p>
+ */
+public final class DistinctValueSet implements Serializable {
+    
+    private static final long serialVersionUID = 4411390658262718932L;
+    
+    private final LongHashSet integralValues = new LongHashSet();
+    
+    private final Collection<Comparable<?>> otherValues = new HashSet<>();
+    
+    /**
+     * Add value.
+     * 
+     * @param value value to be added
+     * @return true if value is absent before adding
+     */
+    public boolean add(final Comparable<?> value) {
+        return isIntegral(value) ? integralValues.add(((Number) value).longValue()) : otherValues.add(value);
+    }
+    
+    /**
+     * Get size.
+     * 
+     * @return size
+     */
+    public int size() {
+        return integralValues.size() + otherValues.size();
+    }
+    
+    /**
+     * Get values.
+     * 
+     * <p>Integral values are returned as {@code Long}.</p>
+     * 
+     * @return values
+     */
+    public List<Comparable<?>> getValues() {
+        List<Comparable<?>> result = new ArrayList<>(size());
+        for (long each : integralValues.toArray()) {
+            result.add(each);
+        }
+        result.addAll(otherValues);
+        return result;
+    }
+    
+    /**
+     * Judge whether value is integral.
+     * 
+     * @param value value
+     * @return is integral or not
+     */
+    public static boolean isIntegral(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.io.Serializable;
+
+/**
+ * Hash set of primitive long values with open addressing.
+ */
+public final class LongHashSet implements Serializable {
+    
+    private static final long serialVersionUID = -3157393226437858711L;
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private static final long EMPTY = 0L;
+    
+    private long[] table = new long[INITIAL_CAPACITY];
+    
+    private boolean containsEmpty;
+    
+    private int size;
+    
+    /**
+     * Add value.
+     * 
+     * @param value value to be added
+     * @return true if value is absent before adding
+     */
+    public boolean add(final long value) {
+        if (EMPTY == value) {
+            if (containsEmpty) {
+                return false;
+            }
+            containsEmpty = true;
+            size++;
+            return true;
+        }
+        if ((size + 1) << 2 > table.length * 3) {
+            resize();
+        }
+        if (insert(table, value)) {
+            size++;
+            return true;
+        }
+        return false;
+    }
+    
+    private boolean insert(final long[] table, final long value) {
+        int mask = table.length - 1;
+        int index = hash(value) & mask;
+        while (EMPTY != table[index]) {
+            if (value == table[index]) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        table[index] = value;
+        return true;
+    }
+    
+    private int hash(final long value) {
+        return (int) (value * 0x9E3779B97F4A7C15L >>> 32);
+    }
+    
+    private void resize() {
+        long[] oldTable = table;
+        table = new long[oldTable.length << 1];
+        for (long each : oldTable) {
+            if (EMPTY != each) {
+                insert(table, each);
+            }
+        }
+    }
+    
+    /**
+     * Get size.
+     * 
+     * @return size
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Get values as array.
+     * 
+     * @return values
+     */
+    public long[] toArray() {
+        long[] result = new long[size];
+        int index = 0;
+        if (containsEmpty) {
+            result[index++] = EMPTY;
+        }
+        for (long each : table) {
+            if (EMPTY != each) {
+                result[index++] = each;
+            }
+        }
+        return result;
+    }
+}
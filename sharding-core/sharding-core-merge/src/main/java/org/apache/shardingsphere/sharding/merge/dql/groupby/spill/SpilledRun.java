@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+
+/**
+ * Sorted run of records spilled to local temporary file.
+ *
+ * @param <T> type of record
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SpilledRun<T> {
+    
+    private static final String FILE_PREFIX = "shardingsphere-spilled-run-";
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final File file;
+    
+    @Getter
+    private final int size;
+    
+    private final Collection<Cursor<T>> cursors = new LinkedList<>();
+    
+    /**
+     * Write sorted records to local temporary file.
+     *
+     * @param sortedRecords sorted records
+     * @param <T> type of record
+     * @return spilled run
+     */
+    public static <T> SpilledRun<T> write(final Iterator<T> sortedRecords) {
+        File file = createTempFile();
+        int size = 0;
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE))) {
+            while (sortedRecords.hasNext()) {
+                outputStream.writeObject(sortedRecords.next());
+                outputStream.reset();
+                size++;
+            }
+        } catch (final IOException ex) {
+            deleteFile(file);
+            throw new ShardingSphereException("Can not spill records to temporary file.", ex);
+        }
+        return new SpilledRun<>(file, size);
+    }
+    
+    private static File createTempFile() {
+        try {
+            return File.createTempFile(FILE_PREFIX, null);
+        } catch (final IOException ex) {
+            throw new ShardingSphereException("Can not create temporary file for spilling.", ex);
+        }
+    }
+    
+    private static void deleteFile(final File file) {
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (final IOException ignore) {
+        }
+    }
+    
+    /**
+     * Open cursor to read records in order.
+     *
+     * @return cursor of spilled run
+     */
+    public Cursor<T> openCursor() {
+        try {
+            Cursor<T> result = new Cursor<>(new ObjectInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE)), size);
+            cursors.add(result);
+            return result;
+        } catch (final IOException ex) {
+            throw new ShardingSphereException("Can not read spilled records from temporary file.", ex);
+        }
+    }
+    
+    /**
+     * Close opened cursors and delete temporary file of spilled run.
+     */
+    public void delete() {
+        cursors.forEach(Cursor::close);
+        cursors.clear();
+        deleteFile(file);
+    }
+    
+    /**
+     * Cursor of spilled run.
+     *
+     * @param <T> type of record
+     */
+    public static final class Cursor<T> implements Closeable {
+        
+        private final ObjectInputStream inputStream;
+        
+        private int remaining;
+        
+        @Getter
+        private T current;
+        
+        private Cursor(final ObjectInputStream inputStream, final int size) {
+            this.inputStream = inputStream;
+            remaining = size;
+        }
+        
+        /**
+         * Move to next record.
+         *
+         * @return has next record or not
+         */
+        @SuppressWarnings("unchecked")
+        public boolean next() {
+            if (0 == remaining) {
+                current = null;
+                return false;
+            }
+            try {
+                current = (T) inputStream.readObject();
+            } catch (final IOException | ClassNotFoundException ex) {
+                throw new ShardingSphereException("Can not read spilled records from temporary file.", ex);
+            }
+            remaining--;
+            return true;
+        }
+        
+        @Override
+        public void close() {
+            try {
+                inputStream.close();
+            } catch (final IOException ignore) {
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Iterator which merges sorted spilled runs, temporary files of runs will be deleted after all records are iterated.
+ *
+ * @param <T> type of record
+ */
+public final class SpilledRunsMergeIterator<T> implements Iterator<T> {
+    
+    private final Collection<SpilledRun<T>> spilledRuns;
+    
+    private final Queue<SpilledRun.Cursor<T>> cursors;
+    
+    public SpilledRunsMergeIterator(final Collection<SpilledRun<T>> spilledRuns, final Comparator<T> comparator) {
+        this.spilledRuns = spilledRuns;
+        cursors = new PriorityQueue<>(Math.max(1, spilledRuns.size()), (o1, o2) -> comparator.compare(o1.getCurrent(), o2.getCurrent()));
+        for (SpilledRun<T> each : spilledRuns) {
+            offer(each.openCursor());
+        }
+        releaseIfExhausted();
+    }
+    
+    private void offer(final SpilledRun.Cursor<T> cursor) {
+        if (cursor.next()) {
+            cursors.offer(cursor);
+        } else {
+            cursor.close();
+        }
+    }
+    
+    private void releaseIfExhausted() {
+        if (cursors.isEmpty()) {
+            spilledRuns.forEach(SpilledRun::delete);
+        }
+    }
+    
+    @Override
+    public boolean hasNext() {
+        return !cursors.isEmpty();
+    }
+    
+    @Override
+    public T next() {
+        SpilledRun.Cursor<T> cursor = cursors.poll();
+        if (null == cursor) {
+            throw new NoSuchElementException();
+        }
+        T result = cursor.getCurrent();
+        offer(cursor);
+        releaseIfExhausted();
+        return result;
+    }
+}
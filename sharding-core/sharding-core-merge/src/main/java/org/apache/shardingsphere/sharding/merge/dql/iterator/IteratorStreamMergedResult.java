@@ -17,11 +17,11 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.iterator;
 
+import org.apache.shardingsphere.underlying.executor.kernel.TerminableResults;
 import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
 import org.apache.shardingsphere.underlying.merge.result.impl.stream.StreamMergedResult;
 
 import java.sql.SQLException;
-import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -29,11 +29,15 @@ import java.util.List;
  */
 public final class IteratorStreamMergedResult extends StreamMergedResult {
     
-    private final Iterator<QueryResult> queryResults;
+    private final List<QueryResult> queryResults;
+    
+    private int currentIndex;
+    
+    private boolean remainingTerminated;
     
     public IteratorStreamMergedResult(final List<QueryResult> queryResults) {
-        this.queryResults = queryResults.iterator();
-        setCurrentQueryResult(this.queryResults.next());
+        this.queryResults = queryResults;
+        setCurrentQueryResult(queryResults.get(0));
     }
     
     @Override
@@ -41,18 +45,41 @@ public final class IteratorStreamMergedResult extends StreamMergedResult {
         if (getCurrentQueryResult().next()) {
             return true;
         }
-        if (!queryResults.hasNext()) {
-            return false;
+        while (currentIndex + 1 < queryResults.size()) {
+            setCurrentQueryResult(queryResults.get(++currentIndex));
+            if (getCurrentQueryResult().next()) {
+                return true;
+            }
         }
-        setCurrentQueryResult(queryResults.next());
-        boolean hasNext = getCurrentQueryResult().next();
-        if (hasNext) {
-            return true;
+        return false;
+    }
+    
+    @Override
+    public void terminate() throws SQLException {
+        getCurrentQueryResult().terminate();
+        terminateRemaining();
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public void terminateRemaining() throws SQLException {
+        if (remainingTerminated) {
+            return;
+        }
+        remainingTerminated = true;
+        if (queryResults instanceof TerminableResults) {
+            ((TerminableResults<QueryResult>) queryResults).terminate(currentIndex + 1, this::terminateQuietly);
+            return;
         }
-        while (!hasNext && queryResults.hasNext()) {
-            setCurrentQueryResult(queryResults.next());
-            hasNext = getCurrentQueryResult().next();
+        for (int i = currentIndex + 1; i < queryResults.size(); i++) {
+            queryResults.get(i).terminate();
+        }
+    }
+    
+    private void terminateQuietly(final QueryResult queryResult) {
+        try {
+            queryResult.terminate();
+        } catch (final SQLException ignore) {
         }
-        return hasNext;
     }
 }
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.util.List;
+
+/**
+ * Loser tree for k-way merging.
+ * 
+ * <p>Each internal node keeps the loser of its sub tree and the root keeps the winner, 
+ * so replaying the winner after it is advanced needs only one comparison per level.</p>
+ *
+ * @param <T> type of merged value
+ */
+public final class LoserTree<T extends Comparable<? super T>> {
+    
+    private static final int NONE = -1;
+    
+    private final List<T> values;
+    
+    private final int[] tree;
+    
+    private final boolean[] exhausted;
+    
+    private int remaining;
+    
+    public LoserTree(final List<T> values) {
+        this.values = values;
+        tree = new int[values.size()];
+        exhausted = new boolean[values.size()];
+        remaining = values.size();
+        for (int i = 0; i < tree.length; i++) {
+            tree[i] = NONE;
+        }
+        for (int i = tree.length - 1; i >= 0; i--) {
+            adjust(i);
+        }
+    }
+    
+    /**
+     * Judge whether all values are exhausted.
+     * 
+     * @return all values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == remaining;
+    }
+    
+    /**
+     * Get current winner.
+     * 
+     * @return current winner
+     */
+    public T peek() {
+        return values.get(tree[0]);
+    }
+    
+    /**
+     * Replay the winner after it is advanced to next value.
+     */
+    public void adjustWinner() {
+        adjust(tree[0]);
+    }
+    
+    /**
+     * Remove the winner whose values are exhausted.
+     */
+    public void removeWinner() {
+        exhausted[tree[0]] = true;
+        remaining--;
+        adjust(tree[0]);
+    }
+    
+    private void adjust(final int leaf) {
+        int winner = leaf;
+        for (int node = (leaf + tree.length) >> 1; node > 0; node >>= 1) {
+            if (isBefore(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    private boolean isBefore(final int leaf, final int otherLeaf) {
+        if (NONE == leaf || NONE == otherLeaf) {
+            return NONE == leaf;
+        }
+        if (exhausted[leaf] || exhausted[otherLeaf]) {
+            return !exhausted[leaf];
+        }
+        return values.get(leaf).compareTo(values.get(otherLeaf)) < 0;
+    }
+}
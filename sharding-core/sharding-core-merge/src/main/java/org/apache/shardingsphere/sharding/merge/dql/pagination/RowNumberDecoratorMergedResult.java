@@ -30,13 +30,18 @@ public final class RowNumberDecoratorMergedResult extends DecoratorMergedResult
     
     private final PaginationContext pagination;
     
+    private final boolean earlyTerminationEnabled;
+    
     private final boolean skipAll;
     
     private long rowNumber;
     
-    public RowNumberDecoratorMergedResult(final MergedResult mergedResult, final PaginationContext pagination) throws SQLException {
+    private boolean terminated;
+    
+    public RowNumberDecoratorMergedResult(final MergedResult mergedResult, final PaginationContext pagination, final boolean earlyTerminationEnabled) throws SQLException {
         super(mergedResult);
         this.pagination = pagination;
+        this.earlyTerminationEnabled = earlyTerminationEnabled;
         skipAll = skipOffset();
     }
     
@@ -59,6 +64,25 @@ public final class RowNumberDecoratorMergedResult extends DecoratorMergedResult
         if (!pagination.getActualRowCount().isPresent()) {
             return getMergedResult().next();
         }
-        return rowNumber++ < pagination.getActualRowCount().get() && getMergedResult().next();
+        if (rowNumber++ < pagination.getActualRowCount().get()) {
+            return nextWithinRowCount(rowNumber == pagination.getActualRowCount().get());
+        }
+        terminateAll();
+        return false;
+    }
+    
+    private boolean nextWithinRowCount(final boolean isLastRow) throws SQLException {
+        boolean result = getMergedResult().next();
+        if (result && isLastRow && earlyTerminationEnabled) {
+            getMergedResult().terminateRemaining();
+        }
+        return result;
+    }
+    
+    private void terminateAll() throws SQLException {
+        if (earlyTerminationEnabled && !terminated) {
+            terminated = true;
+            getMergedResult().terminate();
+        }
     }
 }
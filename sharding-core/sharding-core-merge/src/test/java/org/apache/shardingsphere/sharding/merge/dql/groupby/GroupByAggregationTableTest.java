@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.sql.parser.sql.constant.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupByAggregationTableTest {
+    
+    @Test
+    public void assertAggregateWithIntegralGroupByValues() throws SQLException {
+        GroupByAggregationTable actual = new GroupByAggregationTable(Collections.singletonList(createOrderByItem(1)), createAggregationProjections(), false);
+        for (int i = 0; i < 1000; i++) {
+            actual.aggregate(createQueryResult(i));
+            actual.aggregate(createQueryResult((long) i));
+        }
+        assertThat(actual.size(), is(1000));
+        for (GroupByAggregation each : actual.getAggregations()) {
+            assertThat(each.getResultRow(createAggregationProjections()).getCell(2), is(new BigDecimal(2)));
+        }
+    }
+    
+    @Test
+    public void assertAggregateWithNotIntegralGroupByValues() throws SQLException {
+        GroupByAggregationTable actual = new GroupByAggregationTable(Collections.singletonList(createOrderByItem(1)), createAggregationProjections(), false);
+        actual.aggregate(createQueryResult("foo"));
+        actual.aggregate(createQueryResult("foo"));
+        actual.aggregate(createQueryResult("bar"));
+        actual.aggregate(createQueryResult(null));
+        actual.aggregate(createQueryResult(1));
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test
+    public void assertAggregateWithMultipleGroupByItems() throws SQLException {
+        GroupByAggregationTable actual = new GroupByAggregationTable(Arrays.asList(createOrderByItem(1), createOrderByItem(1)), createAggregationProjections(), false);
+        actual.aggregate(createQueryResult(1));
+        actual.aggregate(createQueryResult(1));
+        actual.aggregate(createQueryResult(2));
+        assertThat(actual.size(), is(2));
+    }
+    
+    @Test
+    public void assertAggregateWithSameValuesOfDifferentTypesOrScales() throws SQLException {
+        GroupByAggregationTable actual = new GroupByAggregationTable(Arrays.asList(createOrderByItem(1), createOrderByItem(1)), createAggregationProjections(), false);
+        actual.aggregate(createQueryResult(1));
+        actual.aggregate(createQueryResult(1L));
+        actual.aggregate(createQueryResult(new BigDecimal("1.5")));
+        actual.aggregate(createQueryResult(new BigDecimal("1.50")));
+        assertThat(actual.size(), is(2));
+        for (GroupByAggregation each : actual.getAggregations()) {
+            assertThat(each.getResultRow(createAggregationProjections()).getCell(2), is(new BigDecimal(2)));
+        }
+    }
+    
+    @Test
+    public void assertClear() throws SQLException {
+        GroupByAggregationTable actual = new GroupByAggregationTable(Collections.singletonList(createOrderByItem(1)), createAggregationProjections(), false);
+        actual.aggregate(createQueryResult(1));
+        actual.aggregate(createQueryResult("foo"));
+        assertFalse(actual.isEmpty());
+        actual.clear();
+        assertTrue(actual.isEmpty());
+        assertTrue(actual.getAggregations().isEmpty());
+    }
+    
+    private OrderByItem createOrderByItem(final int index) {
+        OrderByItem result = new OrderByItem(new IndexOrderByItemSegment(0, 0, index, OrderDirection.ASC, OrderDirection.ASC));
+        result.setIndex(index);
+        return result;
+    }
+    
+    private List<AggregationProjection> createAggregationProjections() {
+        AggregationProjection result = new AggregationProjection(AggregationType.COUNT, "(*)", null);
+        result.setIndex(2);
+        return Collections.singletonList(result);
+    }
+    
+    private QueryResult createQueryResult(final Object groupByValue) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        when(result.getColumnCount()).thenReturn(2);
+        when(result.getValue(1, Object.class)).thenReturn(groupByValue);
+        when(result.getValue(2, Object.class)).thenReturn(1);
+        return result;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.sql.parser.sql.constant.AggregationType;
+import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupByAggregationTest {
+    
+    @Test
+    public void assertAggregateAndCombine() throws SQLException {
+        List<AggregationProjection> aggregationProjections = createAggregationProjections();
+        GroupByAggregation actual = new GroupByAggregation(createQueryResult(10), aggregationProjections, false);
+        actual.aggregate(createQueryResult(10), aggregationProjections);
+        GroupByAggregation other = new GroupByAggregation(createQueryResult(20), aggregationProjections, false);
+        other.aggregate(createQueryResult(20), aggregationProjections);
+        actual.combine(other);
+        assertThat(actual.getResultRow(aggregationProjections).getCell(1), is("foo"));
+        assertThat(actual.getResultRow(aggregationProjections).getCell(2), is(new BigDecimal(30)));
+        assertThat(actual.getResultRow(aggregationProjections).getCell(3), is(20));
+    }
+    
+    private List<AggregationProjection> createAggregationProjections() {
+        AggregationProjection sumProjection = new AggregationProjection(AggregationType.SUM, "(num)", null);
+        sumProjection.setIndex(2);
+        AggregationProjection maxProjection = new AggregationProjection(AggregationType.MAX, "(num)", null);
+        maxProjection.setIndex(3);
+        return Arrays.asList(sumProjection, maxProjection);
+    }
+    
+    private QueryResult createQueryResult(final int value) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        when(result.getColumnCount()).thenReturn(3);
+        when(result.getValue(1, Object.class)).thenReturn("foo");
+        when(result.getValue(2, Object.class)).thenReturn(value);
+        when(result.getValue(3, Object.class)).thenReturn(value);
+        return result;
+    }
+}
@@ -35,15 +35,22 @@ import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
 import org.apache.shardingsphere.underlying.merge.result.MergedResult;
 import org.junit.Test;
 
+import java.io.File;
 import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -90,6 +97,69 @@ public final class GroupByMemoryMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertNextWithSpilledGroups() throws SQLException {
+        MergedResult expected = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL")).merge(
+                Arrays.asList(createQueryResult(10), createQueryResult(10), createQueryResult(10)), createSelectStatementContext(), null);
+        MergedResult actual = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), 4, false).merge(
+                Arrays.asList(createQueryResult(10), createQueryResult(10), createQueryResult(10)), createSelectStatementContext(), null);
+        while (expected.next()) {
+            assertTrue(actual.next());
+            for (int i = 1; i <= 5; i++) {
+                assertThat(actual.getValue(i, Object.class), is(expected.getValue(i, Object.class)));
+            }
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithSpilledRunsMoreThanMergeFanIn() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), 1, false);
+        MergedResult actual = resultMerger.merge(Arrays.asList(createQueryResult(100), createQueryResult(100), createQueryResult(100)), createSelectStatementContext(), null);
+        for (int i = 99; i >= 0; i--) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal(3)));
+            assertThat(actual.getValue(2, Object.class), is(new BigDecimal(i).setScale(4)));
+            assertThat(actual.getValue(3, Object.class), is(i));
+            assertThat(actual.getValue(4, Object.class), is(new BigDecimal(3)));
+            assertThat(actual.getValue(5, Object.class), is(new BigDecimal(i * 3)));
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertCloseWithSpilledGroups() throws SQLException {
+        long spilledRunFiles = countSpilledRunFiles();
+        MergedResult actual = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), 1, false).merge(
+                Arrays.asList(createQueryResult(100), createQueryResult(100), createQueryResult(100)), createSelectStatementContext(), null);
+        assertTrue(actual.next());
+        assertTrue(countSpilledRunFiles() > spilledRunFiles);
+        actual.close();
+        assertThat(countSpilledRunFiles(), is(spilledRunFiles));
+    }
+    
+    @Test
+    public void assertNextWithNonSerializableValues() throws SQLException {
+        long spilledRunFiles = countSpilledRunFiles();
+        MergedResult expected = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL")).merge(
+                Arrays.asList(createQueryResult(100, false), createQueryResult(100, false), createQueryResult(100, false)), createSelectStatementContext(), null);
+        MergedResult actual = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), 4, false).merge(
+                Arrays.asList(createQueryResult(100, false), createQueryResult(100, false), createQueryResult(100, false)), createSelectStatementContext(), null);
+        assertThat(countSpilledRunFiles(), is(spilledRunFiles));
+        while (expected.next()) {
+            assertTrue(actual.next());
+            for (int i = 1; i <= 5; i++) {
+                assertThat(actual.getValue(i, Object.class), is(expected.getValue(i, Object.class)));
+            }
+        }
+        assertFalse(actual.next());
+    }
+    
+    private long countSpilledRunFiles() {
+        File[] result = new File(System.getProperty("java.io.tmpdir")).listFiles((dir, name) -> name.startsWith("shardingsphere-spilled-run-"));
+        return null == result ? 0 : result.length;
+    }
+    
     private SelectStatementContext createSelectStatementContext() {
         AggregationProjection aggregationProjection1 = new AggregationProjection(AggregationType.COUNT, "(*)", null);
         aggregationProjection1.setIndex(1);
@@ -117,6 +187,40 @@ public final class GroupByMemoryMergedResultTest {
         return result;
     }
     
+    private QueryResult createQueryResult(final int groupSize) throws SQLException {
+        return createQueryResult(groupSize, true);
+    }
+    
+    private QueryResult createQueryResult(final int groupSize, final boolean serializable) throws SQLException {
+        QueryResult result = createQueryResult();
+        List<Integer> groupIds = new LinkedList<>();
+        for (int i = 0; i < groupSize; i++) {
+            groupIds.add(i);
+        }
+        Collections.shuffle(groupIds);
+        Iterator<Integer> groupIdIterator = groupIds.iterator();
+        int[] currentGroupId = new int[1];
+        when(result.next()).thenAnswer(invocation -> {
+            if (!groupIdIterator.hasNext()) {
+                return false;
+            }
+            currentGroupId[0] = groupIdIterator.next();
+            return true;
+        });
+        when(result.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> {
+            switch (invocation.<Integer>getArgument(0)) {
+                case 3:
+                case 5:
+                    return currentGroupId[0];
+                case 2:
+                    return serializable || 0 == currentGroupId[0] % 2 ? null : Optional.of(currentGroupId[0]);
+                default:
+                    return 1;
+            }
+        });
+        return result;
+    }
+    
     private QueryResult createQueryResult() throws SQLException {
         QueryResult result = mock(QueryResult.class);
         when(result.getColumnCount()).thenReturn(5);
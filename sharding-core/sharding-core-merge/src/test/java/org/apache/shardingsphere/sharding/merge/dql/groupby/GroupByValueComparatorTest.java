@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.sql.parser.sql.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupByValueComparatorTest {
+    
+    private final GroupByValueComparator comparator = new GroupByValueComparator(Arrays.asList(createOrderByItem(1), createOrderByItem(2)));
+    
+    @Test
+    public void assertCompareWithSameValues() throws SQLException {
+        assertThat(comparator.compare(createGroupByAggregation("foo", 1), createGroupByAggregation("foo", 1L)), is(0));
+        assertThat(comparator.compare(createGroupByAggregation(null, 1), createGroupByAggregation(null, 1)), is(0));
+        assertThat(comparator.compare(createGroupByAggregation(new BigDecimal("1.5"), (short) 1), createGroupByAggregation(new BigDecimal("1.50"), (byte) 1)), is(0));
+    }
+    
+    @Test
+    public void assertCompareWithDifferentValues() throws SQLException {
+        assertTrue(comparator.compare(createGroupByAggregation("foo", 1), createGroupByAggregation("foo", 2L)) < 0);
+        assertTrue(comparator.compare(createGroupByAggregation("foo", 1), createGroupByAggregation("bar", 1)) > 0);
+        assertTrue(comparator.compare(createGroupByAggregation(null, 1), createGroupByAggregation("bar", 1)) < 0);
+        assertTrue(comparator.compare(createGroupByAggregation("bar", 1), createGroupByAggregation(null, 1)) > 0);
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertCompareWithNotComparableValues() throws SQLException {
+        comparator.compare(createGroupByAggregation(new Object(), 1), createGroupByAggregation(new Object(), 1));
+    }
+    
+    private OrderByItem createOrderByItem(final int index) {
+        OrderByItem result = new OrderByItem(new IndexOrderByItemSegment(0, 0, index, OrderDirection.ASC, OrderDirection.ASC));
+        result.setIndex(index);
+        return result;
+    }
+    
+    private GroupByAggregation createGroupByAggregation(final Object value1, final Object value2) throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getColumnCount()).thenReturn(2);
+        when(queryResult.getValue(1, Object.class)).thenReturn(value1);
+        when(queryResult.getValue(2, Object.class)).thenReturn(value2);
+        return new GroupByAggregation(queryResult, Collections.emptyList(), false);
+    }
+}
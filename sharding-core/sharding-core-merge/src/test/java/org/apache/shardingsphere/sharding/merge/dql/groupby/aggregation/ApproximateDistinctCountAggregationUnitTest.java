@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ApproximateDistinctCountAggregationUnitTest {
+    
+    @Test
+    public void assertExactResultOfSmallSet() {
+        ApproximateDistinctCountAggregationUnit actual = new ApproximateDistinctCountAggregationUnit();
+        actual.merge(null);
+        actual.merge(Arrays.asList(null, null));
+        actual.merge(Collections.singletonList(1));
+        actual.merge(Collections.singletonList(1L));
+        actual.merge(Collections.singletonList("foo"));
+        assertThat(actual.getResult(), is((Comparable) 2L));
+    }
+    
+    @Test
+    public void assertApproximateResultOfLargeSet() {
+        ApproximateDistinctCountAggregationUnit actual = new ApproximateDistinctCountAggregationUnit();
+        for (int i = 0; i < 100000; i++) {
+            actual.merge(Collections.singletonList(i % 50000));
+        }
+        assertError((Long) actual.getResult(), 50000);
+    }
+    
+    @Test
+    public void assertCombineExactUnits() {
+        ApproximateDistinctCountAggregationUnit actual = createUnit(0, 100);
+        actual.combine(createUnit(50, 150));
+        assertThat(actual.getResult(), is((Comparable) 150L));
+    }
+    
+    @Test
+    public void assertCombineApproximateUnitIntoExactUnit() {
+        ApproximateDistinctCountAggregationUnit actual = createUnit(0, 100);
+        actual.combine(createUnit(0, 100000));
+        assertError((Long) actual.getResult(), 100000);
+    }
+    
+    @Test
+    public void assertCombineExactUnitIntoApproximateUnit() {
+        ApproximateDistinctCountAggregationUnit actual = createUnit(0, 100000);
+        actual.combine(createUnit(100000, 100100));
+        assertError((Long) actual.getResult(), 100100);
+    }
+    
+    private ApproximateDistinctCountAggregationUnit createUnit(final int start, final int end) {
+        ApproximateDistinctCountAggregationUnit result = new ApproximateDistinctCountAggregationUnit();
+        for (int i = start; i < end; i++) {
+            result.merge(Collections.singletonList(i));
+        }
+        return result;
+    }
+    
+    private void assertError(final long actual, final long expected) {
+        assertTrue(String.format("Estimated %d, expected %d", actual, expected), Math.abs(actual - expected) <= expected * 0.03);
+    }
+}
@@ -47,4 +47,16 @@ public final class AverageAggregationUnitTest {
         avgAggregationUnit.merge(Arrays.asList(0, 40));
         assertThat(avgAggregationUnit.getResult(), is(new BigDecimal(0)));
     }
+    
+    @Test
+    public void assertCombine() {
+        AverageAggregationUnit avgAggregationUnit = new AverageAggregationUnit();
+        avgAggregationUnit.merge(Arrays.asList(10, 50));
+        AverageAggregationUnit otherAvgAggregationUnit = new AverageAggregationUnit();
+        otherAvgAggregationUnit.merge(Arrays.asList(10, 20));
+        otherAvgAggregationUnit.merge(Arrays.asList(5, 40));
+        avgAggregationUnit.combine(otherAvgAggregationUnit);
+        avgAggregationUnit.combine(new AverageAggregationUnit());
+        assertThat(avgAggregationUnit.getResult(), is(new BigDecimal("4.4000")));
+    }
 }
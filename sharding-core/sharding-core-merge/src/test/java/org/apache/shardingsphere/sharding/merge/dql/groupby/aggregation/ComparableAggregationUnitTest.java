@@ -47,4 +47,15 @@ public final class ComparableAggregationUnitTest {
         comparableAggregation.merge(Collections.singletonList(5));
         assertThat(comparableAggregation.getResult(), is(10));
     }
+    
+    @Test
+    public void assertCombine() {
+        ComparableAggregationUnit comparableAggregation = new ComparableAggregationUnit(false);
+        comparableAggregation.merge(Collections.singletonList(5));
+        ComparableAggregationUnit otherComparableAggregation = new ComparableAggregationUnit(false);
+        otherComparableAggregation.merge(Collections.singletonList(10));
+        comparableAggregation.combine(otherComparableAggregation);
+        comparableAggregation.combine(new ComparableAggregationUnit(false));
+        assertThat(comparableAggregation.getResult(), is(10));
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DistinctValueSetTest {
+    
+    @Test
+    public void assertAddIntegralValues() {
+        DistinctValueSet actual = new DistinctValueSet();
+        assertTrue(actual.add(1));
+        assertFalse(actual.add(1L));
+        assertFalse(actual.add((short) 1));
+        assertTrue(actual.add(2L));
+        assertThat(actual.size(), is(2));
+    }
+    
+    @Test
+    public void assertAddOtherValues() {
+        DistinctValueSet actual = new DistinctValueSet();
+        assertTrue(actual.add("foo"));
+        assertFalse(actual.add("foo"));
+        assertTrue(actual.add(new BigDecimal("1.5")));
+        assertTrue(actual.add(1));
+        assertThat(actual.size(), is(3));
+    }
+    
+    @Test
+    public void assertGetValues() {
+        DistinctValueSet actual = new DistinctValueSet();
+        actual.add(1);
+        actual.add("foo");
+        assertThat(actual.getValues().size(), is(2));
+        assertThat(actual.getValues(), hasItems(1L, "foo"));
+    }
+}
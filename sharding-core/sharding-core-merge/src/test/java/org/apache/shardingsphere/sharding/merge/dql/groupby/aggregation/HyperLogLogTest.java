@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+
+public final class HyperLogLogTest {
+    
+    @Test
+    public void assertCardinalityOfSmallSet() {
+        HyperLogLog actual = new HyperLogLog();
+        for (int i = 0; i < 1000; i++) {
+            actual.offer(i);
+            actual.offer((long) i);
+        }
+        assertError(actual.cardinality(), 1000, 0.01);
+    }
+    
+    @Test
+    public void assertCardinalityOfLargeSet() {
+        HyperLogLog actual = new HyperLogLog();
+        for (long i = 0; i < 1000000; i++) {
+            actual.offer(i);
+        }
+        assertError(actual.cardinality(), 1000000, 0.03);
+    }
+    
+    @Test
+    public void assertCardinalityOfStrings() {
+        HyperLogLog actual = new HyperLogLog();
+        for (int i = 0; i < 100000; i++) {
+            actual.offer("user_" + i);
+        }
+        assertError(actual.cardinality(), 100000, 0.03);
+    }
+    
+    @Test
+    public void assertMerge() {
+        HyperLogLog actual = new HyperLogLog();
+        HyperLogLog other = new HyperLogLog();
+        for (long i = 0; i < 200000; i++) {
+            actual.offer(i);
+            other.offer(i + 100000);
+        }
+        actual.merge(other);
+        assertError(actual.cardinality(), 300000, 0.03);
+    }
+    
+    private void assertError(final long actual, final long expected, final double maxError) {
+        assertTrue(String.format("Estimated %d, expected %d", actual, expected), Math.abs(actual - expected) <= expected * maxError);
+    }
+}
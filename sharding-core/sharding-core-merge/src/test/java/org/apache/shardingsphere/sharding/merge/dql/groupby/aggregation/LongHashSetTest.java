@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LongHashSetTest {
+    
+    @Test
+    public void assertAdd() {
+        LongHashSet actual = new LongHashSet();
+        assertTrue(actual.add(0L));
+        assertFalse(actual.add(0L));
+        assertTrue(actual.add(-1L));
+        assertFalse(actual.add(-1L));
+        assertThat(actual.size(), is(2));
+    }
+    
+    @Test
+    public void assertAddBeyondInitialCapacity() {
+        LongHashSet actual = new LongHashSet();
+        for (long i = 0; i < 10000; i++) {
+            assertTrue(actual.add(i * 1024));
+        }
+        for (long i = 0; i < 10000; i++) {
+            assertFalse(actual.add(i * 1024));
+        }
+        assertThat(actual.size(), is(10000));
+    }
+    
+    @Test
+    public void assertToArray() {
+        LongHashSet actual = new LongHashSet();
+        actual.add(3L);
+        actual.add(0L);
+        actual.add(1L);
+        long[] values = actual.toArray();
+        Arrays.sort(values);
+        assertThat(values, is(new long[]{0L, 1L, 3L}));
+    }
+}
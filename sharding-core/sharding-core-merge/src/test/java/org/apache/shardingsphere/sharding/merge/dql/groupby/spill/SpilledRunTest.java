@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SpilledRunTest {
+    
+    @Test
+    public void assertWriteAndRead() {
+        SpilledRun<String> actual = SpilledRun.write(Arrays.asList("bar", "foo").iterator());
+        assertThat(actual.getSize(), is(2));
+        try (SpilledRun.Cursor<String> cursor = actual.openCursor()) {
+            assertTrue(cursor.next());
+            assertThat(cursor.getCurrent(), is("bar"));
+            assertTrue(cursor.next());
+            assertThat(cursor.getCurrent(), is("foo"));
+            assertFalse(cursor.next());
+            assertNull(cursor.getCurrent());
+        }
+        actual.delete();
+    }
+}
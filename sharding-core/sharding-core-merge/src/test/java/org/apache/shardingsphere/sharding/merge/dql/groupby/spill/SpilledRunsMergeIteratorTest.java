@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class SpilledRunsMergeIteratorTest {
+    
+    @Test
+    public void assertMerge() {
+        Iterator<Integer> actual = new SpilledRunsMergeIterator<>(Arrays.asList(
+                SpilledRun.write(Arrays.asList(1, 4, 7).iterator()), SpilledRun.write(Arrays.asList(2, 5).iterator()), SpilledRun.write(Collections.<Integer>emptyIterator()),
+                SpilledRun.write(Arrays.asList(3, 6, 8).iterator())), Comparator.naturalOrder());
+        assertThat(Lists.newArrayList(actual), is(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8)));
+    }
+    
+    @Test(expected = NoSuchElementException.class)
+    public void assertNextWithoutRuns() {
+        Iterator<Integer> actual = new SpilledRunsMergeIterator<>(Collections.<SpilledRun<Integer>>emptyList(), Comparator.<Integer>naturalOrder());
+        assertFalse(actual.hasNext());
+        actual.next();
+    }
+}
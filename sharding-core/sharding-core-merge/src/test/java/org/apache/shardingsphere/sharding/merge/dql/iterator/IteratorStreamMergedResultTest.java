@@ -38,6 +38,8 @@ import java.util.List;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class IteratorStreamMergedResultTest {
@@ -117,4 +119,17 @@ public final class IteratorStreamMergedResultTest {
         assertTrue(actual.next());
         assertFalse(actual.next());
     }
+    
+    @Test
+    public void assertTerminate() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(mock(QueryResult.class), mock(QueryResult.class), mock(QueryResult.class));
+        when(queryResults.get(1).next()).thenReturn(true, false);
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"));
+        MergedResult actual = resultMerger.merge(queryResults, selectStatementContext, null);
+        assertTrue(actual.next());
+        actual.terminate();
+        verify(queryResults.get(0), never()).terminate();
+        verify(queryResults.get(1)).terminate();
+        verify(queryResults.get(2)).terminate();
+    }
 }
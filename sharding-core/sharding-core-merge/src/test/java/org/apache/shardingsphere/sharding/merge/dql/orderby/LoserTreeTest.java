@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import lombok.Getter;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LoserTreeTest {
+    
+    @Test
+    public void assertEmpty() {
+        assertTrue(new LoserTree<SortedSource>(Collections.emptyList()).isEmpty());
+    }
+    
+    @Test
+    public void assertMerge() {
+        Random random = new Random(0L);
+        for (int sourceSize = 1; sourceSize <= 33; sourceSize++) {
+            List<Integer> expected = new ArrayList<>();
+            List<SortedSource> sources = new ArrayList<>(sourceSize);
+            for (int i = 0; i < sourceSize; i++) {
+                List<Integer> values = new ArrayList<>();
+                for (int j = random.nextInt(10) + 1; j > 0; j--) {
+                    values.add(random.nextInt(20));
+                }
+                Collections.sort(values);
+                expected.addAll(values);
+                SortedSource source = new SortedSource(values.iterator());
+                source.next();
+                sources.add(source);
+            }
+            Collections.sort(expected);
+            assertThat(merge(new LoserTree<>(sources)), is(expected));
+        }
+    }
+    
+    private List<Integer> merge(final LoserTree<SortedSource> loserTree) {
+        List<Integer> result = new ArrayList<>();
+        while (!loserTree.isEmpty()) {
+            result.add(loserTree.peek().getCurrent());
+            if (loserTree.peek().next()) {
+                loserTree.adjustWinner();
+            } else {
+                loserTree.removeWinner();
+            }
+        }
+        return result;
+    }
+    
+    private static final class SortedSource implements Comparable<SortedSource> {
+        
+        private final Iterator<Integer> values;
+        
+        @Getter
+        private Integer current;
+        
+        SortedSource(final Iterator<Integer> values) {
+            this.values = values;
+        }
+        
+        boolean next() {
+            current = values.hasNext() ? values.next() : null;
+            return null != current;
+        }
+        
+        @Override
+        public int compareTo(final SortedSource o) {
+            return current.compareTo(o.current);
+        }
+    }
+}
@@ -33,10 +33,14 @@ import org.junit.Test;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class LimitDecoratorMergedResultTest {
@@ -79,6 +83,26 @@ public final class LimitDecoratorMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertNextWithRowCountAndEarlyTermination() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), 0, false, true);
+        SelectStatementContext selectStatementContext = new SelectStatementContext(new SelectStatement(), 
+                new GroupByContext(Collections.emptyList(), 0), new OrderByContext(Collections.emptyList(), false), 
+                new ProjectionsContext(0, 0, false, Collections.emptyList()),
+                new PaginationContext(new NumberLiteralLimitValueSegment(0, 0, 2), new NumberLiteralLimitValueSegment(0, 0, 2), Collections.emptyList()));
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult(), createQueryResult(), createQueryResult(), createQueryResult());
+        MergedResult actual = resultMerger.merge(queryResults, selectStatementContext, null);
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        verify(queryResults.get(1), never()).terminate();
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+        verify(queryResults.get(0), never()).terminate();
+        verify(queryResults.get(1), times(1)).terminate();
+        verify(queryResults.get(2), times(1)).terminate();
+        verify(queryResults.get(3), times(1)).terminate();
+    }
+    
     private QueryResult createQueryResult() throws SQLException {
         QueryResult result = mock(QueryResult.class);
         when(result.next()).thenReturn(true, true, false);
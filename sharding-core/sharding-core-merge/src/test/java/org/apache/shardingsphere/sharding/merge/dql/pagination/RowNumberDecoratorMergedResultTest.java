@@ -33,10 +33,14 @@ import org.junit.Test;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class RowNumberDecoratorMergedResultTest {
@@ -92,6 +96,24 @@ public final class RowNumberDecoratorMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertNextForRowCountWithEarlyTermination() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("Oracle"), 0, false, true);
+        SelectStatementContext selectStatementContext = new SelectStatementContext(new SelectStatement(), 
+                new GroupByContext(Collections.emptyList(), 0), new OrderByContext(Collections.emptyList(), false), 
+                new ProjectionsContext(0, 0, false, Collections.emptyList()),
+                new PaginationContext(new NumberLiteralRowNumberValueSegment(0, 0, 2, true), new NumberLiteralRowNumberValueSegment(0, 0, 4, false), Collections.emptyList()));
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult(), createQueryResult(), createQueryResult(), createQueryResult());
+        MergedResult actual = resultMerger.merge(queryResults, selectStatementContext, null);
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        verify(queryResults.get(3), times(1)).terminate();
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+        verify(queryResults.get(0), never()).terminate();
+        verify(queryResults.get(3), times(1)).terminate();
+    }
+    
     private QueryResult createQueryResult() throws SQLException {
         QueryResult result = mock(QueryResult.class);
         when(result.next()).thenReturn(true, true, false);
@@ -34,10 +34,14 @@ import org.junit.Test;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class TopAndRowNumberDecoratorMergedResultTest {
@@ -108,6 +112,25 @@ public final class TopAndRowNumberDecoratorMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertNextWithoutOffsetWithRowCountAndEarlyTermination() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("SQLServer"), 0, false, true);
+        SelectStatementContext selectStatementContext = new SelectStatementContext(new SelectStatement(), 
+                new GroupByContext(Collections.emptyList(), 0), new OrderByContext(Collections.emptyList(), false),
+                new ProjectionsContext(0, 0, false, Collections.emptyList()), 
+                new PaginationContext(null, new NumberLiteralLimitValueSegment(0, 0, 5), Collections.emptyList()));
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult(), createQueryResult(), createQueryResult(), createQueryResult());
+        MergedResult actual = resultMerger.merge(queryResults, selectStatementContext, null);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(actual.next());
+        }
+        verify(queryResults.get(3), times(1)).terminate();
+        assertFalse(actual.next());
+        verify(queryResults.get(0), never()).terminate();
+        verify(queryResults.get(2), times(1)).terminate();
+        verify(queryResults.get(3), times(1)).terminate();
+    }
+    
     private QueryResult createQueryResult() throws SQLException {
         QueryResult result = mock(QueryResult.class);
         when(result.next()).thenReturn(true, true, false);
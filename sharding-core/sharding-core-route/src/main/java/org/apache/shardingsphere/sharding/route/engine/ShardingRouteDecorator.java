@@ -33,6 +33,7 @@ import org.apache.shardingsphere.sharding.route.engine.type.ShardingRouteEngine;
 import org.apache.shardingsphere.sharding.route.engine.type.ShardingRouteEngineFactory;
 import org.apache.shardingsphere.sharding.route.engine.validator.ShardingStatementValidatorFactory;
 import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.subquery.SubqueryContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
@@ -43,6 +44,7 @@ import org.apache.shardingsphere.underlying.route.context.RouteContext;
 import org.apache.shardingsphere.underlying.route.context.RouteResult;
 import org.apache.shardingsphere.underlying.route.decorator.RouteDecorator;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -60,7 +62,7 @@ public final class ShardingRouteDecorator implements RouteDecorator<ShardingRule
         ShardingStatementValidatorFactory.newInstance(
                 sqlStatementContext.getSqlStatement()).ifPresent(validator -> validator.validate(shardingRule, sqlStatementContext.getSqlStatement(), parameters));
         ShardingConditions shardingConditions = getShardingConditions(parameters, sqlStatementContext, metaData.getSchema().getConfiguredSchemaMetaData(), shardingRule);
-        boolean needMergeShardingValues = isNeedMergeShardingValues(sqlStatementContext, shardingRule);
+        boolean needMergeShardingValues = isNeedMergeShardingValues(sqlStatementContext, shardingRule, shardingConditions);
         if (sqlStatementContext.getSqlStatement() instanceof DMLStatement && needMergeShardingValues) {
             checkSubqueryShardingValues(sqlStatementContext, shardingRule, shardingConditions);
             mergeShardingConditions(shardingConditions);
@@ -84,20 +86,28 @@ public final class ShardingRouteDecorator implements RouteDecorator<ShardingRule
         return new ShardingConditions(Collections.emptyList());
     }
     
-    private boolean isNeedMergeShardingValues(final SQLStatementContext sqlStatementContext, final ShardingRule shardingRule) {
-        return sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).isContainsSubquery() 
-                && !shardingRule.getShardingLogicTableNames(sqlStatementContext.getTablesContext().getTableNames()).isEmpty();
+    private boolean isNeedMergeShardingValues(final SQLStatementContext sqlStatementContext, final ShardingRule shardingRule, final ShardingConditions shardingConditions) {
+        return !shardingConditions.getConditions().isEmpty() && sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).isContainsSubquery() 
+                && containsShardingTable(shardingRule, ((SelectStatementContext) sqlStatementContext).getSubqueryContexts());
+    }
+    
+    private boolean containsShardingTable(final ShardingRule shardingRule, final Collection<SubqueryContext> subqueryContexts) {
+        for (SubqueryContext each : subqueryContexts) {
+            if (!shardingRule.getShardingLogicTableNames(each.getTablesContext().getTableNames()).isEmpty() || containsShardingTable(shardingRule, each.getSubqueryContexts())) {
+                return true;
+            }
+        }
+        return false;
     }
     
     private void checkSubqueryShardingValues(final SQLStatementContext sqlStatementContext, final ShardingRule shardingRule, final ShardingConditions shardingConditions) {
-        for (String each : sqlStatementContext.getTablesContext().getTableNames()) {
+        for (String each : sqlStatementContext.getTablesContext().getAllTableNames()) {
             Optional<TableRule> tableRule = shardingRule.findTableRule(each);
             if (tableRule.isPresent() && isRoutingByHint(shardingRule, tableRule.get())
                     && !HintManager.getDatabaseShardingValues(each).isEmpty() && !HintManager.getTableShardingValues(each).isEmpty()) {
                 return;
             }
         }
-        Preconditions.checkState(!shardingConditions.getConditions().isEmpty(), "Must have sharding column with subquery.");
         if (shardingConditions.getConditions().size() > 1) {
             Preconditions.checkState(isSameShardingCondition(shardingRule, shardingConditions), "Sharding value must same with subquery.");
         }
@@ -108,7 +118,7 @@ public final class ShardingRouteDecorator implements RouteDecorator<ShardingRule
     }
     
     private boolean isSameShardingCondition(final ShardingRule shardingRule, final ShardingConditions shardingConditions) {
-        ShardingCondition example = shardingConditions.getConditions().remove(shardingConditions.getConditions().size() - 1);
+        ShardingCondition example = shardingConditions.getConditions().get(shardingConditions.getConditions().size() - 1);
         for (ShardingCondition each : shardingConditions.getConditions()) {
             if (!isSameShardingCondition(shardingRule, example, each)) {
                 return false;
@@ -124,7 +134,8 @@ public final class ShardingRouteDecorator implements RouteDecorator<ShardingRule
         for (int i = 0; i < shardingCondition1.getRouteValues().size(); i++) {
             RouteValue shardingValue1 = shardingCondition1.getRouteValues().get(i);
             RouteValue shardingValue2 = shardingCondition2.getRouteValues().get(i);
-            if (!isSameRouteValue(shardingRule, (ListRouteValue) shardingValue1, (ListRouteValue) shardingValue2)) {
+            if (!(shardingValue1 instanceof ListRouteValue) || !(shardingValue2 instanceof ListRouteValue) 
+                    || !isSameRouteValue(shardingRule, (ListRouteValue) shardingValue1, (ListRouteValue) shardingValue2)) {
                 return false;
             }
         }
@@ -147,11 +158,27 @@ public final class ShardingRouteDecorator implements RouteDecorator<ShardingRule
     private void mergeShardingConditions(final ShardingConditions shardingConditions) {
         if (shardingConditions.getConditions().size() > 1) {
             ShardingCondition shardingCondition = shardingConditions.getConditions().remove(shardingConditions.getConditions().size() - 1);
+            for (ShardingCondition each : shardingConditions.getConditions()) {
+                for (RouteValue routeValue : each.getRouteValues()) {
+                    if (!containsRouteValue(shardingCondition, routeValue)) {
+                        shardingCondition.getRouteValues().add(routeValue);
+                    }
+                }
+            }
             shardingConditions.getConditions().clear();
             shardingConditions.getConditions().add(shardingCondition);
         }
     }
     
+    private boolean containsRouteValue(final ShardingCondition shardingCondition, final RouteValue routeValue) {
+        for (RouteValue each : shardingCondition.getRouteValues()) {
+            if (each.getTableName().equalsIgnoreCase(routeValue.getTableName()) && each.getColumnName().equalsIgnoreCase(routeValue.getColumnName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     @Override
     public int getOrder() {
         return 0;
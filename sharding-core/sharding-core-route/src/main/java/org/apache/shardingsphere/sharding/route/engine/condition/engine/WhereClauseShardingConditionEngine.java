@@ -29,17 +29,29 @@ import org.apache.shardingsphere.sharding.route.engine.condition.Column;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.generator.ConditionValueGeneratorFactory;
 import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.subquery.SubqueryContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.subquery.engine.SubqueryContextEngine;
+import org.apache.shardingsphere.sql.parser.binder.segment.table.TablesContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.sql.parser.binder.type.WhereAvailable;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.subquery.SubquerySegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ProjectionSegment;
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.AndPredicate;
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.PredicateSegment;
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateCompareRightValue;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateInRightValue;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateRightValue;
 import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -67,26 +79,32 @@ public final class WhereClauseShardingConditionEngine {
         if (!(sqlStatementContext instanceof WhereAvailable)) {
             return Collections.emptyList();
         }
+        Collection<SubqueryContext> subqueryContexts = sqlStatementContext instanceof SelectStatementContext 
+                ? ((SelectStatementContext) sqlStatementContext).getSubqueryContexts() : Collections.emptyList();
         List<ShardingCondition> result = new ArrayList<>();
         Optional<WhereSegment> whereSegment = ((WhereAvailable) sqlStatementContext).getWhere();
         if (whereSegment.isPresent()) {
-            result.addAll(createShardingConditions(sqlStatementContext, whereSegment.get().getAndPredicates(), parameters));
-        }
-        // FIXME process subquery
-//        Collection<SubqueryPredicateSegment> subqueryPredicateSegments = sqlStatementContext.findSQLSegments(SubqueryPredicateSegment.class);
-//        for (SubqueryPredicateSegment each : subqueryPredicateSegments) {
-//            Collection<ShardingCondition> subqueryShardingConditions = createShardingConditions((WhereSegmentAvailable) sqlStatementContext, each.getAndPredicates(), parameters);
-//            if (!result.containsAll(subqueryShardingConditions)) {
-//                result.addAll(subqueryShardingConditions);
-//            }
-//        }
+            result.addAll(createShardingConditions(sqlStatementContext.getTablesContext(), subqueryContexts, whereSegment.get().getAndPredicates(), parameters));
+        }
+        if (subqueryContexts.isEmpty()) {
+            return result;
+        }
+        if (result.isEmpty() && containsShardingTable(sqlStatementContext.getTablesContext())) {
+            return Collections.emptyList();
+        }
+        Optional<Collection<ShardingCondition>> subqueryShardingConditions = createSubqueryShardingConditions(subqueryContexts, parameters);
+        if (!subqueryShardingConditions.isPresent()) {
+            return Collections.emptyList();
+        }
+        result.addAll(subqueryShardingConditions.get());
         return result;
     }
     
-    private Collection<ShardingCondition> createShardingConditions(final SQLStatementContext sqlStatementContext, final Collection<AndPredicate> andPredicates, final List<Object> parameters) {
+    private Collection<ShardingCondition> createShardingConditions(final TablesContext tablesContext, 
+                                                                   final Collection<SubqueryContext> subqueryContexts, final Collection<AndPredicate> andPredicates, final List<Object> parameters) {
         Collection<ShardingCondition> result = new LinkedList<>();
         for (AndPredicate each : andPredicates) {
-            Map<Column, Collection<RouteValue>> routeValueMap = createRouteValueMap(sqlStatementContext, each, parameters);
+            Map<Column, Collection<RouteValue>> routeValueMap = createRouteValueMap(tablesContext, subqueryContexts, each, parameters);
             if (routeValueMap.isEmpty()) {
                 return Collections.emptyList();
             }
@@ -95,15 +113,40 @@ public final class WhereClauseShardingConditionEngine {
         return result;
     }
     
-    private Map<Column, Collection<RouteValue>> createRouteValueMap(final SQLStatementContext sqlStatementContext, final AndPredicate andPredicate, final List<Object> parameters) {
+    private Optional<Collection<ShardingCondition>> createSubqueryShardingConditions(final Collection<SubqueryContext> subqueryContexts, final List<Object> parameters) {
+        Collection<ShardingCondition> result = new LinkedList<>();
+        for (SubqueryContext each : subqueryContexts) {
+            Collection<ShardingCondition> shardingConditions = each.getWhere().isPresent()
+                    ? createShardingConditions(each.getTablesContext(), each.getSubqueryContexts(), each.getWhere().get().getAndPredicates(), parameters) : Collections.emptyList();
+            if (shardingConditions.isEmpty() && containsShardingTable(each.getTablesContext())) {
+                return Optional.empty();
+            }
+            result.addAll(shardingConditions);
+            Optional<Collection<ShardingCondition>> nestedShardingConditions = createSubqueryShardingConditions(each.getSubqueryContexts(), parameters);
+            if (!nestedShardingConditions.isPresent()) {
+                return Optional.empty();
+            }
+            result.addAll(nestedShardingConditions.get());
+        }
+        return Optional.of(result);
+    }
+    
+    private boolean containsShardingTable(final TablesContext tablesContext) {
+        return !shardingRule.getShardingLogicTableNames(tablesContext.getTableNames()).isEmpty();
+    }
+    
+    private Map<Column, Collection<RouteValue>> createRouteValueMap(final TablesContext tablesContext, 
+                                                                    final Collection<SubqueryContext> subqueryContexts, final AndPredicate andPredicate, final List<Object> parameters) {
         Map<Column, Collection<RouteValue>> result = new HashMap<>();
         for (PredicateSegment each : andPredicate.getPredicates()) {
-            Optional<String> tableName = sqlStatementContext.getTablesContext().findTableName(each.getColumn(), schemaMetaData);
+            Optional<String> tableName = tablesContext.findTableName(each.getColumn(), schemaMetaData);
             if (!tableName.isPresent() || !shardingRule.isShardingColumn(each.getColumn().getIdentifier().getValue(), tableName.get())) {
                 continue;
             }
             Column column = new Column(each.getColumn().getIdentifier().getValue(), tableName.get());
-            Optional<RouteValue> routeValue = ConditionValueGeneratorFactory.generate(each.getRightValue(), column, parameters);
+            Optional<SubquerySegment> subquery = SubqueryContextEngine.findSubquery(each.getRightValue());
+            Optional<RouteValue> routeValue = subquery.isPresent() ? createSubqueryRouteValue(column, each.getRightValue(), subquery.get(), subqueryContexts, parameters)
+                    : ConditionValueGeneratorFactory.generate(each.getRightValue(), column, parameters);
             if (!routeValue.isPresent()) {
                 continue;
             }
@@ -115,6 +158,68 @@ public final class WhereClauseShardingConditionEngine {
         return result;
     }
     
+    @SuppressWarnings("unchecked")
+    private Optional<RouteValue> createSubqueryRouteValue(final Column column, final PredicateRightValue predicateRightValue, 
+                                                          final SubquerySegment subquery, final Collection<SubqueryContext> subqueryContexts, final List<Object> parameters) {
+        Optional<SubqueryContext> subqueryContext = findSubqueryContext(subquery, subqueryContexts);
+        if (!isEqualOrIn(predicateRightValue) || !subqueryContext.isPresent() || !subqueryContext.get().getWhere().isPresent()) {
+            return Optional.empty();
+        }
+        Optional<Column> projectionColumn = findShardingProjectionColumn(subqueryContext.get());
+        if (!projectionColumn.isPresent()) {
+            return Optional.empty();
+        }
+        Collection<ShardingCondition> shardingConditions = createShardingConditions(
+                subqueryContext.get().getTablesContext(), subqueryContext.get().getSubqueryContexts(), subqueryContext.get().getWhere().get().getAndPredicates(), parameters);
+        if (shardingConditions.isEmpty()) {
+            return Optional.empty();
+        }
+        Collection<Comparable<?>> values = new LinkedHashSet<>();
+        for (ShardingCondition each : shardingConditions) {
+            Optional<ListRouteValue> routeValue = findListRouteValue(projectionColumn.get(), each);
+            if (!routeValue.isPresent()) {
+                return Optional.empty();
+            }
+            values.addAll(routeValue.get().getValues());
+        }
+        return Optional.of(new ListRouteValue<>(column.getName(), column.getTableName(), new LinkedList<>(values)));
+    }
+    
+    private Optional<SubqueryContext> findSubqueryContext(final SubquerySegment subquery, final Collection<SubqueryContext> subqueryContexts) {
+        for (SubqueryContext each : subqueryContexts) {
+            if (each.getSelectStatement() == subquery.getSelect()) {
+                return Optional.of(each);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private boolean isEqualOrIn(final PredicateRightValue predicateRightValue) {
+        return predicateRightValue instanceof PredicateInRightValue
+                || predicateRightValue instanceof PredicateCompareRightValue && "=".equals(((PredicateCompareRightValue) predicateRightValue).getOperator());
+    }
+    
+    private Optional<Column> findShardingProjectionColumn(final SubqueryContext subqueryContext) {
+        Collection<ProjectionSegment> projections = subqueryContext.getSelectStatement().getProjections().getProjections();
+        if (1 != projections.size() || !(projections.iterator().next() instanceof ColumnProjectionSegment)) {
+            return Optional.empty();
+        }
+        ColumnSegment columnSegment = ((ColumnProjectionSegment) projections.iterator().next()).getColumn();
+        Optional<String> tableName = subqueryContext.getTablesContext().findTableName(columnSegment, schemaMetaData);
+        return tableName.isPresent() && shardingRule.isShardingColumn(columnSegment.getIdentifier().getValue(), tableName.get())
+                ? Optional.of(new Column(columnSegment.getIdentifier().getValue(), tableName.get())) : Optional.empty();
+    }
+    
+    private Optional<ListRouteValue> findListRouteValue(final Column column, final ShardingCondition shardingCondition) {
+        for (RouteValue each : shardingCondition.getRouteValues()) {
+            if (each instanceof ListRouteValue 
+                    && column.getName().equalsIgnoreCase(each.getColumnName()) && column.getTableName().equalsIgnoreCase(each.getTableName())) {
+                return Optional.of((ListRouteValue) each);
+            }
+        }
+        return Optional.empty();
+    }
+    
     private ShardingCondition createShardingCondition(final Map<Column, Collection<RouteValue>> routeValueMap) {
         ShardingCondition result = new ShardingCondition();
         for (Entry<Column, Collection<RouteValue>> entry : routeValueMap.entrySet()) {
@@ -21,6 +21,7 @@ import com.google.common.collect.Sets;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.route.engine.type.ShardingRouteEngine;
+import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
 import org.apache.shardingsphere.underlying.route.context.RouteResult;
 import org.apache.shardingsphere.underlying.route.context.RouteUnit;
 import org.apache.shardingsphere.underlying.route.context.RouteMapper;
@@ -29,6 +30,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -39,19 +41,63 @@ import java.util.stream.Collectors;
 
 /**
  * Sharding cartesian routing engine.
+ * 
+ * <p>
+ * Count of route units is estimated before cartesian product materialized,
+ * routing is rejected if it exceeds max cartesian route units.
+ * </p>
  */
 @RequiredArgsConstructor
 public final class ShardingCartesianRoutingEngine implements ShardingRouteEngine {
     
     private final Collection<RouteResult> routeResults;
     
+    private final int maxRouteUnits;
+    
     @Override
     public RouteResult route(final ShardingRule shardingRule) {
-        RouteResult result = new RouteResult();
+        Map<String, List<Set<RouteMapper>>> dataSourceRoutingTableGroups = new LinkedHashMap<>();
         for (Entry<String, Set<String>> entry : getDataSourceLogicTablesMap().entrySet()) {
             List<Set<String>> actualTableGroups = getActualTableGroups(entry.getKey(), entry.getValue());
-            List<Set<RouteMapper>> routingTableGroups = toRoutingTableGroups(entry.getKey(), actualTableGroups);
-            result.getRouteUnits().addAll(getRouteUnits(entry.getKey(), Sets.cartesianProduct(routingTableGroups)));
+            dataSourceRoutingTableGroups.put(entry.getKey(), toRoutingTableGroups(entry.getKey(), actualTableGroups));
+        }
+        checkRouteUnitsCount(dataSourceRoutingTableGroups);
+        RouteResult result = new RouteResult();
+        for (Entry<String, List<Set<RouteMapper>>> entry : dataSourceRoutingTableGroups.entrySet()) {
+            result.getRouteUnits().addAll(getRouteUnits(entry.getKey(), Sets.cartesianProduct(entry.getValue())));
+        }
+        return result;
+    }
+    
+    private void checkRouteUnitsCount(final Map<String, List<Set<RouteMapper>>> dataSourceRoutingTableGroups) {
+        if (maxRouteUnits <= 0) {
+            return;
+        }
+        long routeUnitsCount = 0;
+        for (List<Set<RouteMapper>> each : dataSourceRoutingTableGroups.values()) {
+            routeUnitsCount += estimateRouteUnitsCount(each);
+            if (routeUnitsCount > maxRouteUnits) {
+                throw new ShardingSphereException("Cartesian route units of logic tables '%s' exceed max cartesian route units '%s', please add sharding conditions or binding tables.",
+                        getLogicTableNames(dataSourceRoutingTableGroups), maxRouteUnits);
+            }
+        }
+    }
+    
+    private long estimateRouteUnitsCount(final List<Set<RouteMapper>> routingTableGroups) {
+        long result = 1;
+        for (Set<RouteMapper> each : routingTableGroups) {
+            result *= each.size();
+            if (result > maxRouteUnits) {
+                return result;
+            }
+        }
+        return result;
+    }
+    
+    private Collection<String> getLogicTableNames(final Map<String, List<Set<RouteMapper>>> dataSourceRoutingTableGroups) {
+        Collection<String> result = new LinkedHashSet<>();
+        for (List<Set<RouteMapper>> each : dataSourceRoutingTableGroups.values()) {
+            each.forEach(routingTableGroup -> routingTableGroup.forEach(routeMapper -> result.add(routeMapper.getLogicName())));
         }
         return result;
     }
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.sharding.route.engine.type.ShardingRouteEngine;
 import org.apache.shardingsphere.sharding.route.engine.type.standard.ShardingStandardRoutingEngine;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
 import org.apache.shardingsphere.underlying.route.context.RouteResult;
 
@@ -68,6 +69,6 @@ public final class ShardingComplexRoutingEngine implements ShardingRouteEngine {
         if (1 == result.size()) {
             return result.iterator().next();
         }
-        return new ShardingCartesianRoutingEngine(result).route(shardingRule);
+        return new ShardingCartesianRoutingEngine(result, properties.<Integer>getValue(ConfigurationPropertyKey.MAX_CARTESIAN_ROUTE_UNITS)).route(shardingRule);
     }
 }
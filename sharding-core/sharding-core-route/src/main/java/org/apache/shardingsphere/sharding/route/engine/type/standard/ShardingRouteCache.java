@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.type.standard;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.rule.TableRule;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+import org.apache.shardingsphere.underlying.common.datanode.DataNode;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Sharding route cache.
+ * 
+ * <p>
+ * Routed data nodes of precise sharding values are cached per sharding rule.
+ * The sharding rule is weakly referenced, so the cached data nodes are discarded with the sharding rule when rules changed.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingRouteCache {
+    
+    private static final Cache<ShardingRule, RouteCache> ROUTE_CACHES = CacheBuilder.newBuilder().weakKeys().build();
+    
+    /**
+     * Get routed data nodes from cache, or route and cache them if absent.
+     * 
+     * @param shardingRule sharding rule
+     * @param maximumSize maximum size of cached route results for the sharding rule
+     * @param tableRule table rule
+     * @param databaseShardingValues database sharding values
+     * @param tableShardingValues table sharding values
+     * @param router router to route data nodes if absent in cache
+     * @return routed data nodes
+     */
+    public static Collection<DataNode> getDataNodes(final ShardingRule shardingRule, final int maximumSize, final TableRule tableRule,
+                                                    final List<RouteValue> databaseShardingValues, final List<RouteValue> tableShardingValues, final Supplier<Collection<DataNode>> router) {
+        Optional<RouteCacheKey> key = createKey(tableRule, databaseShardingValues, tableShardingValues);
+        if (!key.isPresent()) {
+            return router.get();
+        }
+        Cache<RouteCacheKey, Collection<DataNode>> cache = getCache(shardingRule, maximumSize);
+        Collection<DataNode> result = cache.getIfPresent(key.get());
+        if (null == result) {
+            result = Collections.unmodifiableList(new ArrayList<>(router.get()));
+            cache.put(key.get(), result);
+        }
+        return result;
+    }
+    
+    private static Optional<RouteCacheKey> createKey(final TableRule tableRule, final List<RouteValue> databaseShardingValues, final List<RouteValue> tableShardingValues) {
+        Optional<List<List<Object>>> databaseValues = getValues(databaseShardingValues);
+        Optional<List<List<Object>>> tableValues = getValues(tableShardingValues);
+        return databaseValues.isPresent() && tableValues.isPresent() ? Optional.of(new RouteCacheKey(tableRule, databaseValues.get(), tableValues.get())) : Optional.empty();
+    }
+    
+    private static Optional<List<List<Object>>> getValues(final List<RouteValue> shardingValues) {
+        List<List<Object>> result = new ArrayList<>(shardingValues.size());
+        for (RouteValue each : shardingValues) {
+            if (!(each instanceof ListRouteValue)) {
+                return Optional.empty();
+            }
+            List<Object> values = new ArrayList<>(((ListRouteValue<?>) each).getValues().size() + 2);
+            values.add(each.getTableName());
+            values.add(each.getColumnName());
+            values.addAll(((ListRouteValue<?>) each).getValues());
+            result.add(values);
+        }
+        return Optional.of(result);
+    }
+    
+    private static Cache<RouteCacheKey, Collection<DataNode>> getCache(final ShardingRule shardingRule, final int maximumSize) {
+        RouteCache result = ROUTE_CACHES.getIfPresent(shardingRule);
+        if (null == result || result.maximumSize != maximumSize) {
+            result = ROUTE_CACHES.asMap().compute(shardingRule, (key, value) -> null == value || value.maximumSize != maximumSize ? new RouteCache(maximumSize) : value);
+        }
+        return result.cache;
+    }
+    
+    private static final class RouteCache {
+        
+        private final int maximumSize;
+        
+        private final Cache<RouteCacheKey, Collection<DataNode>> cache;
+        
+        RouteCache(final int maximumSize) {
+            this.maximumSize = maximumSize;
+            cache = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class RouteCacheKey {
+        
+        private final TableRule tableRule;
+        
+        private final List<List<Object>> databaseShardingValues;
+        
+        private final List<List<Object>> tableShardingValues;
+    }
+}
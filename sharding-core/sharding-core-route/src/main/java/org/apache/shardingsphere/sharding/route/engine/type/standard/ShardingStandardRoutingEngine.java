@@ -37,6 +37,7 @@ import org.apache.shardingsphere.sql.parser.binder.statement.dml.DeleteStatement
 import org.apache.shardingsphere.sql.parser.binder.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.dml.UpdateStatementContext;
 import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
 import org.apache.shardingsphere.underlying.route.context.RouteResult;
 import org.apache.shardingsphere.underlying.route.context.RouteUnit;
@@ -117,16 +118,27 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
     
     private Collection<DataNode> routeByShardingConditionsWithCondition(final ShardingRule shardingRule, final TableRule tableRule) {
         Collection<DataNode> result = new LinkedList<>();
+        int routeCacheSize = getRouteCacheSize(shardingRule, tableRule);
         for (ShardingCondition each : shardingConditions.getConditions()) {
-            Collection<DataNode> dataNodes = route0(shardingRule, tableRule, 
-                    getShardingValuesFromShardingConditions(shardingRule, shardingRule.getDatabaseShardingStrategy(tableRule).getShardingColumns(), each),
-                    getShardingValuesFromShardingConditions(shardingRule, shardingRule.getTableShardingStrategy(tableRule).getShardingColumns(), each));
+            List<RouteValue> databaseShardingValues = getShardingValuesFromShardingConditions(shardingRule, shardingRule.getDatabaseShardingStrategy(tableRule).getShardingColumns(), each);
+            List<RouteValue> tableShardingValues = getShardingValuesFromShardingConditions(shardingRule, shardingRule.getTableShardingStrategy(tableRule).getShardingColumns(), each);
+            Collection<DataNode> dataNodes = routeCacheSize > 0
+                    ? ShardingRouteCache.getDataNodes(shardingRule, routeCacheSize, tableRule, databaseShardingValues, tableShardingValues,
+                        () -> route0(shardingRule, tableRule, databaseShardingValues, tableShardingValues))
+                    : route0(shardingRule, tableRule, databaseShardingValues, tableShardingValues);
             result.addAll(dataNodes);
             originalDataNodes.add(dataNodes);
         }
         return result;
     }
     
+    private int getRouteCacheSize(final ShardingRule shardingRule, final TableRule tableRule) {
+        if (null == properties || !shardingRule.getDatabaseShardingStrategy(tableRule).isCacheable() || !shardingRule.getTableShardingStrategy(tableRule).isCacheable()) {
+            return 0;
+        }
+        return properties.<Integer>getValue(ConfigurationPropertyKey.ROUTE_CACHE_SIZE);
+    }
+    
     private Collection<DataNode> routeByMixedConditions(final ShardingRule shardingRule, final TableRule tableRule) {
         return shardingConditions.getConditions().isEmpty() ? routeByMixedConditionsWithHint(shardingRule, tableRule) : routeByMixedConditionsWithCondition(shardingRule, tableRule);
     }
@@ -89,7 +89,7 @@ public final class ShardingRouteEngineFactoryTest {
         when(sqlStatementContext.getTablesContext()).thenReturn(tablesContext);
         when(shardingSphereMetaData.getSchema()).thenReturn(mock(RuleSchemaMetaData.class));
         tableNames = new ArrayList<>();
-        when(tablesContext.getTableNames()).thenReturn(tableNames);
+        when(tablesContext.getAllTableNames()).thenReturn(tableNames);
     }
     
     @Test
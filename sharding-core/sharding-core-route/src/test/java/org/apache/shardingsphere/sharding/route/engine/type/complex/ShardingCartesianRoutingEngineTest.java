@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.type.complex;
+
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+import org.apache.shardingsphere.underlying.route.context.RouteMapper;
+import org.apache.shardingsphere.underlying.route.context.RouteResult;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class ShardingCartesianRoutingEngineTest {
+    
+    @Test
+    public void assertRouteWithoutLimit() {
+        RouteResult actual = new ShardingCartesianRoutingEngine(createRouteResults(), 0).route(mock(ShardingRule.class));
+        assertThat(actual.getRouteUnits().size(), is(8));
+        for (RouteUnit each : actual.getRouteUnits()) {
+            assertThat(each.getTableMappers().size(), is(2));
+        }
+    }
+    
+    @Test
+    public void assertRouteWithinLimit() {
+        RouteResult actual = new ShardingCartesianRoutingEngine(createRouteResults(), 8).route(mock(ShardingRule.class));
+        assertThat(actual.getRouteUnits().size(), is(8));
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertRouteExceedLimit() {
+        new ShardingCartesianRoutingEngine(createRouteResults(), 7).route(mock(ShardingRule.class));
+    }
+    
+    @Test
+    public void assertRouteWithIntersectionDataSourcesOnly() {
+        RouteResult orderRouteResult = createRouteResult("t_order", "ds_0", "ds_1");
+        RouteResult userRouteResult = createRouteResult("t_user", "ds_1");
+        RouteResult actual = new ShardingCartesianRoutingEngine(Arrays.asList(orderRouteResult, userRouteResult), 4).route(mock(ShardingRule.class));
+        assertThat(actual.getRouteUnits().size(), is(4));
+        for (RouteUnit each : actual.getRouteUnits()) {
+            assertThat(each.getDataSourceMapper().getActualName(), is("ds_1"));
+        }
+    }
+    
+    private Collection<RouteResult> createRouteResults() {
+        return Arrays.asList(createRouteResult("t_order", "ds_0", "ds_1"), createRouteResult("t_user", "ds_0", "ds_1"));
+    }
+    
+    private RouteResult createRouteResult(final String logicTable, final String... dataSources) {
+        RouteResult result = new RouteResult();
+        for (String each : dataSources) {
+            for (int i = 0; i < 2; i++) {
+                result.getRouteUnits().add(new RouteUnit(new RouteMapper(each, each), Collections.singletonList(new RouteMapper(logicTable, logicTable + "_" + i))));
+            }
+        }
+        return result;
+    }
+}
@@ -48,15 +48,19 @@ import static org.junit.Assert.assertThat;
 public abstract class AbstractSQLRouteTest extends AbstractRoutingEngineTest {
     
     protected final RouteContext assertRoute(final String sql, final List<Object> parameters) {
+        RouteContext result = route(sql, parameters);
+        assertThat(result.getRouteResult().getRouteUnits().size(), is(1));
+        return result;
+    }
+    
+    protected final RouteContext route(final String sql, final List<Object> parameters) {
         ShardingRule shardingRule = createAllShardingRule();
         ShardingSphereMetaData metaData = new ShardingSphereMetaData(buildDataSourceMetas(), buildRuleSchemaMetaData());
         ConfigurationProperties properties = new ConfigurationProperties(new Properties());
         SQLParserEngine sqlParserEngine = SQLParserEngineFactory.getSQLParserEngine("MySQL");
         RouteContext routeContext = new DataNodeRouter(metaData, properties, Collections.singletonList(shardingRule)).route(sqlParserEngine.parse(sql, false), sql, parameters);
         ShardingRouteDecorator shardingRouteDecorator = new ShardingRouteDecorator();
-        RouteContext result = shardingRouteDecorator.decorate(routeContext, metaData, shardingRule, properties);
-        assertThat(result.getRouteResult().getRouteUnits().size(), is(1));
-        return result;
+        return shardingRouteDecorator.decorate(routeContext, metaData, shardingRule, properties);
     }
     
     private DataSourceMetas buildDataSourceMetas() {
@@ -81,7 +85,8 @@ public abstract class AbstractSQLRouteTest extends AbstractRoutingEngineTest {
                 new ColumnMetaData("status", Types.VARCHAR, "varchar", false, false, false),
                 new ColumnMetaData("c_date", Types.TIMESTAMP, "timestamp", false, false, false)), Collections.emptySet()));
         tableMetaDataMap.put("t_other", new TableMetaData(Collections.singletonList(new ColumnMetaData("order_id", Types.INTEGER, "int", true, false, false)), Collections.emptySet()));
-        tableMetaDataMap.put("t_category", new TableMetaData(Collections.singletonList(new ColumnMetaData("order_id", Types.INTEGER, "int", true, false, false)), Collections.emptySet()));
-        return new RuleSchemaMetaData(new SchemaMetaData(tableMetaDataMap), Collections.emptyMap());
+        Map<String, TableMetaData> unconfiguredTableMetaDataMap = new HashMap<>(1, 1);
+        unconfiguredTableMetaDataMap.put("t_category", new TableMetaData(Collections.singletonList(new ColumnMetaData("id", Types.INTEGER, "int", true, false, false)), Collections.emptySet()));
+        return new RuleSchemaMetaData(new SchemaMetaData(tableMetaDataMap), Collections.singletonMap("main", new SchemaMetaData(unconfiguredTableMetaDataMap)));
     }
 }
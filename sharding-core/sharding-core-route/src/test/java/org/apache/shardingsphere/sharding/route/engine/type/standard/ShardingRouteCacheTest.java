@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.type.standard;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.rule.TableRule;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+import org.apache.shardingsphere.underlying.common.datanode.DataNode;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ShardingRouteCacheTest {
+    
+    private final ShardingRule shardingRule = new ShardingRule(new ShardingRuleConfiguration(), Collections.singletonList("ds_0"));
+    
+    private final TableRule tableRule = new TableRule(Collections.singletonList("ds_0"), "t_order");
+    
+    private final AtomicInteger routeTimes = new AtomicInteger();
+    
+    @Test
+    public void assertGetDataNodesWithSameListRouteValues() {
+        Collection<DataNode> expected = ShardingRouteCache.getDataNodes(shardingRule, 10, tableRule, createListRouteValues(1), createListRouteValues(1), createRouter("t_order_1"));
+        Collection<DataNode> actual = ShardingRouteCache.getDataNodes(shardingRule, 10, tableRule, createListRouteValues(1), createListRouteValues(1), createRouter("t_order_1"));
+        assertThat(actual, is(expected));
+        assertThat(actual.iterator().next().getTableName(), is("t_order_1"));
+        assertThat(routeTimes.get(), is(1));
+    }
+    
+    @Test
+    public void assertGetDataNodesWithDifferentListRouteValues() {
+        ShardingRouteCache.getDataNodes(shardingRule, 10, tableRule, createListRouteValues(1), createListRouteValues(1), createRouter("t_order_1"));
+        Collection<DataNode> actual = ShardingRouteCache.getDataNodes(shardingRule, 10, tableRule, createListRouteValues(1), createListRouteValues(2), createRouter("t_order_0"));
+        assertThat(actual.iterator().next().getTableName(), is("t_order_0"));
+        assertThat(routeTimes.get(), is(2));
+    }
+    
+    @Test
+    public void assertGetDataNodesWithRangeRouteValues() {
+        List<RouteValue> tableShardingValues = Collections.singletonList(new RangeRouteValue<>("order_id", "t_order", Range.closed(1, 2)));
+        ShardingRouteCache.getDataNodes(shardingRule, 10, tableRule, createListRouteValues(1), tableShardingValues, createRouter("t_order_1"));
+        ShardingRouteCache.getDataNodes(shardingRule, 10, tableRule, createListRouteValues(1), tableShardingValues, createRouter("t_order_1"));
+        assertThat(routeTimes.get(), is(2));
+    }
+    
+    @Test
+    public void assertGetDataNodesWithAnotherShardingRule() {
+        ShardingRule anotherShardingRule = new ShardingRule(new ShardingRuleConfiguration(), Collections.singletonList("ds_0"));
+        ShardingRouteCache.getDataNodes(shardingRule, 10, tableRule, createListRouteValues(1), createListRouteValues(1), createRouter("t_order_1"));
+        ShardingRouteCache.getDataNodes(anotherShardingRule, 10, tableRule, createListRouteValues(1), createListRouteValues(1), createRouter("t_order_1"));
+        assertThat(routeTimes.get(), is(2));
+    }
+    
+    @Test(expected = UnsupportedOperationException.class)
+    public void assertCachedDataNodesAreUnmodifiable() {
+        ShardingRouteCache.getDataNodes(shardingRule, 10, tableRule, createListRouteValues(1), createListRouteValues(1), createRouter("t_order_1")).clear();
+    }
+    
+    private List<RouteValue> createListRouteValues(final int value) {
+        return Collections.singletonList(new ListRouteValue<>("order_id", "t_order", Collections.singletonList(value)));
+    }
+    
+    private Supplier<Collection<DataNode>> createRouter(final String tableName) {
+        return () -> {
+            routeTimes.incrementAndGet();
+            return Collections.singletonList(new DataNode("ds_0", tableName));
+        };
+    }
+}
@@ -32,6 +32,7 @@ import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatement
 import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
 import org.apache.shardingsphere.underlying.route.context.RouteResult;
 import org.apache.shardingsphere.underlying.route.context.RouteUnit;
@@ -104,6 +105,23 @@ public final class ShardingStandardRoutingEngineTest extends AbstractRoutingEngi
         assertThat(routeUnits.get(0).getTableMappers().iterator().next().getLogicName(), is("t_order"));
     }
     
+    @Test
+    public void assertRouteByShardingConditionsWithRouteCache() {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.ROUTE_CACHE_SIZE.getKey(), "10");
+        ConfigurationProperties properties = new ConfigurationProperties(props);
+        ShardingRule shardingRule = createBasedShardingRule();
+        for (int i = 0; i < 2; i++) {
+            ShardingStandardRoutingEngine standardRoutingEngine = new ShardingStandardRoutingEngine("t_order", createSelectStatementContext(), createShardingConditions("t_order"), properties);
+            RouteResult routeResult = standardRoutingEngine.route(shardingRule);
+            List<RouteUnit> routeUnits = new ArrayList<>(routeResult.getRouteUnits());
+            assertThat(routeResult.getRouteUnits().size(), is(1));
+            assertThat(routeUnits.get(0).getDataSourceMapper().getActualName(), is("ds_1"));
+            assertThat(routeUnits.get(0).getTableMappers().iterator().next().getActualName(), is("t_order_1"));
+            assertThat(routeResult.getOriginalDataNodes().size(), is(1));
+        }
+    }
+    
     @Test
     public void assertRouteByHint() {
         ShardingStandardRoutingEngine standardRoutingEngine = createShardingStandardRoutingEngine("t_hint_test", new ShardingConditions(Collections.emptyList()));
@@ -189,9 +207,11 @@ public final class ShardingStandardRoutingEngineTest extends AbstractRoutingEngi
     }
     
     private ShardingStandardRoutingEngine createShardingStandardRoutingEngine(final String logicTableName, final ShardingConditions shardingConditions) {
-        return new ShardingStandardRoutingEngine(logicTableName, new SelectStatementContext(new SelectStatement(),
-                new GroupByContext(Collections.emptyList(), 0), new OrderByContext(Collections.emptyList(), false),
-                new ProjectionsContext(0, 0, false, Collections.emptyList()),
-                new PaginationContext(null, null, Collections.emptyList())), shardingConditions, new ConfigurationProperties(new Properties()));
+        return new ShardingStandardRoutingEngine(logicTableName, createSelectStatementContext(), shardingConditions, new ConfigurationProperties(new Properties()));
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        return new SelectStatementContext(new SelectStatement(), new GroupByContext(Collections.emptyList(), 0), new OrderByContext(Collections.emptyList(), false),
+                new ProjectionsContext(0, 0, false, Collections.emptyList()), new PaginationContext(null, null, Collections.emptyList()));
     }
 }
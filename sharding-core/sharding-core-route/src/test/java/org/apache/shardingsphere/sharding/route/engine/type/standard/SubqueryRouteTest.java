@@ -18,15 +18,19 @@
 package org.apache.shardingsphere.sharding.route.engine.type.standard;
 
 import org.apache.shardingsphere.api.hint.HintManager;
-import org.junit.Ignore;
 import org.junit.Test;
 
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
-@Ignore("Can not support subquery at current")
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
 public final class SubqueryRouteTest extends AbstractSQLRouteTest {
     
+    private static final int FULL_ROUTE_SIZE = 4;
+    
     @Test(expected = IllegalStateException.class)
     public void assertOneTableError() {
         String sql = "select (select max(id) from t_order b where b.user_id =? ) from t_order a where user_id = ? ";
@@ -60,7 +64,7 @@ public final class SubqueryRouteTest extends AbstractSQLRouteTest {
         List<Object> parameters = new LinkedList<>();
         parameters.add(1);
         parameters.add(1);
-        assertRoute(sql, parameters);
+        assertThat(assertRoute(sql, parameters).getRouteResult().getRouteUnits().iterator().next().getDataSourceMapper().getActualName(), is("main"));
     }
     
     @Test(expected = IllegalStateException.class)
@@ -100,8 +104,9 @@ public final class SubqueryRouteTest extends AbstractSQLRouteTest {
         parameters.add(2);
         parameters.add(1);
         parameters.add(1);
+        parameters.add(1);
         String sql = "select (select status from t_order b where b.user_id =? and status = (select status from t_order b where b.user_id =?)) as c from t_order a "
-                + "where status = (select status from t_order b where b.user_id =? and status = (select status from t_order b where b.user_id =?))";
+                + "where a.user_id = ? and status = (select status from t_order b where b.user_id =? and status = (select status from t_order b where b.user_id =?))";
         assertRoute(sql, parameters);
     }
     
@@ -112,8 +117,9 @@ public final class SubqueryRouteTest extends AbstractSQLRouteTest {
         parameters.add(1);
         parameters.add(1);
         parameters.add(1);
+        parameters.add(1);
         String sql = "select (select status from t_order b where b.user_id =? and status = (select status from t_order b where b.user_id =?)) as c from t_order a "
-                + "where status = (select status from t_order b where b.user_id =? and status = (select status from t_order b where b.user_id =?))";
+                + "where a.user_id = ? and status = (select status from t_order b where b.user_id =? and status = (select status from t_order b where b.user_id =?))";
         assertRoute(sql, parameters);
     }
     
@@ -137,7 +143,7 @@ public final class SubqueryRouteTest extends AbstractSQLRouteTest {
     
     @Test
     public void assertSubqueryForAggregation() {
-        String sql = "select count(*) from t_order where c.user_id = (select user_id from t_order where user_id =?) ";
+        String sql = "select count(*) from t_order where user_id = (select user_id from t_order where user_id =?) ";
         List<Object> parameters = new LinkedList<>();
         parameters.add(1);
         assertRoute(sql, parameters);
@@ -151,14 +157,14 @@ public final class SubqueryRouteTest extends AbstractSQLRouteTest {
         assertRoute(sql, parameters);
     }
     
-    @Test(expected = IllegalStateException.class)
+    @Test
     public void assertSubqueryWithoutHint() {
         List<Object> parameters = new LinkedList<>();
         parameters.add(1);
         parameters.add(2);
         parameters.add(5);
         String sql = "select count(*) from t_hint_test where user_id = (select t_hint_test from t_hint_test where user_id in (?,?,?)) ";
-        assertRoute(sql, parameters);
+        assertThat(route(sql, parameters).getRouteResult().getRouteUnits().size(), is(FULL_ROUTE_SIZE));
     }
     
     @Test
@@ -174,4 +180,50 @@ public final class SubqueryRouteTest extends AbstractSQLRouteTest {
         assertRoute(sql, parameters);
         hintManager.close();
     }
+    
+    @Test
+    public void assertInSubqueryForBinding() {
+        String sql = "select * from t_order where user_id in (select user_id from t_order_item where user_id = ?)";
+        List<Object> parameters = new LinkedList<>();
+        parameters.add(1);
+        assertThat(assertRoute(sql, parameters).getRouteResult().getRouteUnits().iterator().next().getActualTableNames("t_order"), is(Collections.singleton("t_order_1")));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertInSubqueryForNotBinding() {
+        String sql = "select * from t_order where user_id in (select user_id from t_user where user_id = ?)";
+        List<Object> parameters = new LinkedList<>();
+        parameters.add(3);
+        assertRoute(sql, parameters);
+    }
+    
+    @Test
+    public void assertInSubqueryWithoutShardingColumnLinked() {
+        String sql = "select * from t_order where status in (select status from t_order_item where user_id = ?)";
+        List<Object> parameters = new LinkedList<>();
+        parameters.add(1);
+        assertThat(route(sql, parameters).getRouteResult().getRouteUnits().size(), is(FULL_ROUTE_SIZE));
+    }
+    
+    @Test
+    public void assertInSubqueryWithoutShardingCondition() {
+        String sql = "select * from t_order where user_id = ? and status in (select status from t_order_item)";
+        List<Object> parameters = new LinkedList<>();
+        parameters.add(1);
+        assertThat(route(sql, parameters).getRouteResult().getRouteUnits().size(), is(FULL_ROUTE_SIZE));
+    }
+    
+    @Test
+    public void assertSubqueryWithoutShardingCondition() {
+        String sql = "select * from t_order where status in (select status from t_order_item)";
+        assertThat(route(sql, new LinkedList<>()).getRouteResult().getRouteUnits().size(), is(FULL_ROUTE_SIZE));
+    }
+    
+    @Test
+    public void assertSubqueryInDerivedTable() {
+        String sql = "select o.order_id from (select order_id from t_order where user_id = ?) o";
+        List<Object> parameters = new LinkedList<>();
+        parameters.add(2);
+        assertThat(assertRoute(sql, parameters).getRouteResult().getRouteUnits().iterator().next().getActualTableNames("t_order"), is(Collections.singleton("t_order_0")));
+    }
 }
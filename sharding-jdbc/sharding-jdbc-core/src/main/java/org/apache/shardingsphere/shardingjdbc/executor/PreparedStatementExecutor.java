@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.shardingjdbc.executor;
 
+import org.apache.shardingsphere.shardingjdbc.executor.callback.ResultSetRecordingExecutorCallback;
 import org.apache.shardingsphere.shardingjdbc.executor.callback.RuleExecuteExecutorCallback;
 import org.apache.shardingsphere.shardingjdbc.executor.callback.RuleExecuteQueryExecutorCallback;
 import org.apache.shardingsphere.shardingjdbc.executor.callback.RuleExecuteUpdateExecutorCallback;
@@ -82,15 +83,37 @@ public final class PreparedStatementExecutor {
      * @throws SQLException SQL exception
      */
     public List<QueryResult> executeQuery(final Collection<InputGroup<StatementExecuteUnit>> inputGroups) throws SQLException {
+        return sqlExecutor.execute(inputGroups, createExecuteQueryExecutorCallback());
+    }
+    
+    /**
+     * Execute query and get query results in the order they arrive.
+     *
+     * @param inputGroups input groups
+     * @return query results in the order they arrive with their result sets
+     * @throws SQLException SQL exception
+     */
+    public FirstArrivedQueryResults executeQueryFirstArrived(final Collection<InputGroup<StatementExecuteUnit>> inputGroups) throws SQLException {
+        ResultSetRecordingExecutorCallback callback = new ResultSetRecordingExecutorCallback(runtimeContext.getDatabaseType(), ExecutorExceptionHandler.isExceptionThrown()) {
+            
+            @Override
+            protected ResultSet executeQuery(final String sql, final Statement statement) throws SQLException {
+                return ((PreparedStatement) statement).executeQuery();
+            }
+        };
+        List<QueryResult> queryResults = sqlExecutor.executeFirstArrived(inputGroups, callback);
+        return new FirstArrivedQueryResults(queryResults, callback.getResultSets(queryResults));
+    }
+    
+    private SQLExecutorCallback<QueryResult> createExecuteQueryExecutorCallback() {
         boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
-        SQLExecutorCallback<QueryResult> sqlExecutorCallback = getExecuteQueryExecutorCallback(new DefaultSQLExecutorCallback<QueryResult>(runtimeContext.getDatabaseType(), isExceptionThrown) {
+        return getExecuteQueryExecutorCallback(new DefaultSQLExecutorCallback<QueryResult>(runtimeContext.getDatabaseType(), isExceptionThrown) {
             
             @Override
             protected QueryResult executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
                 return getQueryResult(statement, connectionMode);
             }
         });
-        return sqlExecutor.execute(inputGroups, sqlExecutorCallback);
     }
     
     private SQLExecutorCallback<QueryResult> getExecuteQueryExecutorCallback(final DefaultSQLExecutorCallback callback) {
@@ -184,6 +207,7 @@ public final class PreparedStatementExecutor {
             RuleSchemaMetaDataLoader metaDataLoader = new RuleSchemaMetaDataLoader(runtimeContext.getRules());
             refreshStrategy.get().refreshMetaData(runtimeContext.getMetaData(), sqlStatementContext,
                 tableName -> metaDataLoader.load(runtimeContext.getDatabaseType(), dataSourceMap, tableName, runtimeContext.getProperties()));
+            runtimeContext.getExecutionPlanCache().clear();
         }
     }
 }
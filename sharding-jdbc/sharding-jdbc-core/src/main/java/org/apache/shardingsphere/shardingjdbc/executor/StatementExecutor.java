@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.shardingjdbc.executor;
 
+import org.apache.shardingsphere.shardingjdbc.executor.callback.ResultSetRecordingExecutorCallback;
 import org.apache.shardingsphere.shardingjdbc.executor.callback.RuleExecuteExecutorCallback;
 import org.apache.shardingsphere.shardingjdbc.executor.callback.RuleExecuteQueryExecutorCallback;
 import org.apache.shardingsphere.shardingjdbc.executor.callback.RuleExecuteUpdateExecutorCallback;
@@ -80,17 +81,39 @@ public final class StatementExecutor {
      * @return result set list
      * @throws SQLException SQL exception
      */
-    @SuppressWarnings("unchecked")
     public List<QueryResult> executeQuery(final Collection<InputGroup<StatementExecuteUnit>> inputGroups) throws SQLException {
+        return sqlExecutor.execute(inputGroups, createExecuteQueryExecutorCallback());
+    }
+    
+    /**
+     * Execute query and get query results in the order they arrive.
+     *
+     * @param inputGroups input groups
+     * @return query results in the order they arrive with their result sets
+     * @throws SQLException SQL exception
+     */
+    public FirstArrivedQueryResults executeQueryFirstArrived(final Collection<InputGroup<StatementExecuteUnit>> inputGroups) throws SQLException {
+        ResultSetRecordingExecutorCallback callback = new ResultSetRecordingExecutorCallback(runtimeContext.getDatabaseType(), ExecutorExceptionHandler.isExceptionThrown()) {
+            
+            @Override
+            protected ResultSet executeQuery(final String sql, final Statement statement) throws SQLException {
+                return statement.executeQuery(sql);
+            }
+        };
+        List<QueryResult> queryResults = sqlExecutor.executeFirstArrived(inputGroups, callback);
+        return new FirstArrivedQueryResults(queryResults, callback.getResultSets(queryResults));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private SQLExecutorCallback<QueryResult> createExecuteQueryExecutorCallback() {
         boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
-        SQLExecutorCallback<QueryResult> sqlExecutorCallback = getExecuteQueryExecutorCallback(new DefaultSQLExecutorCallback<QueryResult>(runtimeContext.getDatabaseType(), isExceptionThrown) {
+        return getExecuteQueryExecutorCallback(new DefaultSQLExecutorCallback<QueryResult>(runtimeContext.getDatabaseType(), isExceptionThrown) {
             
             @Override
             protected QueryResult executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
                 return createQueryResult(sql, statement, connectionMode);
             }
         });
-        return sqlExecutor.execute(inputGroups, sqlExecutorCallback);
     }
     
     private SQLExecutorCallback<QueryResult> getExecuteQueryExecutorCallback(final DefaultSQLExecutorCallback callback) {
@@ -273,6 +296,7 @@ public final class StatementExecutor {
             RuleSchemaMetaDataLoader metaDataLoader = new RuleSchemaMetaDataLoader(runtimeContext.getRules());
             refreshStrategy.get().refreshMetaData(runtimeContext.getMetaData(), sqlStatementContext,
                 tableName -> metaDataLoader.load(runtimeContext.getDatabaseType(), dataSourceMap, tableName, runtimeContext.getProperties()));
+            runtimeContext.getExecutionPlanCache().clear();
         }
     }
     
@@ -25,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionUnit;
 
+import java.sql.Statement;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -42,11 +43,17 @@ public final class BatchExecutionUnit {
     
     private final ExecutionUnit executionUnit;
     
+    private final int coalescedRows;
+    
     private final Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = new LinkedHashMap<>();
     
     @Getter(AccessLevel.NONE)
     private int actualCallAddBatchTimes;
     
+    public BatchExecutionUnit(final ExecutionUnit executionUnit) {
+        this(executionUnit, 1);
+    }
+    
     /**
      * Map times of use JDBC API call addBatch and times of actual call addBatch after route.
      *
@@ -56,6 +63,30 @@ public final class BatchExecutionUnit {
         jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, actualCallAddBatchTimes++);
     }
     
+    /**
+     * Map times of use JDBC API call addBatch and times of actual call addBatch, which coalesces rows of several JDBC API addBatch calls.
+     *
+     * @param jdbcAddBatchTimes times of use JDBC API call addBatch
+     * @param actualAddBatchTimes times of actual call addBatch
+     */
+    public void mapAddBatchCount(final int jdbcAddBatchTimes, final int actualAddBatchTimes) {
+        jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, actualAddBatchTimes);
+        actualCallAddBatchTimes = Math.max(actualCallAddBatchTimes, actualAddBatchTimes + 1);
+    }
+    
+    /**
+     * Get update count of JDBC API addBatch call from update count of actual addBatch call.
+     *
+     * @param actualUpdateCount update count of actual addBatch call
+     * @return update count of JDBC API addBatch call
+     */
+    public int getJdbcUpdateCount(final int actualUpdateCount) {
+        if (1 == coalescedRows || actualUpdateCount < 0) {
+            return actualUpdateCount;
+        }
+        return coalescedRows == actualUpdateCount ? 1 : Statement.SUCCESS_NO_INFO;
+    }
+    
     /**
      * Get parameter sets.
      * 
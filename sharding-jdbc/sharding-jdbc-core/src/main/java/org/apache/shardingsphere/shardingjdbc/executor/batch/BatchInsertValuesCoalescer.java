@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingjdbc.executor.batch;
+
+import com.google.common.base.CharMatcher;
+import com.google.common.base.Joiner;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.underlying.executor.sql.context.SQLUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Batch insert values coalescer.
+ * 
+ * <p>
+ * Rows of batched single row insert statement are coalesced into multiple rows insert statements per data source and actual SQL,
+ * so that each data source executes fewer statements with more rows.
+ * Only the actual SQL ends with a values row which consists of parameter markers only can be coalesced.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class BatchInsertValuesCoalescer {
+    
+    private static final Pattern SINGLE_ROW_INSERT_PATTERN = Pattern.compile("^([^?]*\\bVALUES?\\s*)(\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\))\\s*;?\\s*$", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    
+    private static final int MAX_PARAMETERS_PER_STATEMENT = Short.MAX_VALUE;
+    
+    private final int maxRows;
+    
+    /**
+     * Judge whether SQL statement can be coalesced.
+     * 
+     * @param sqlStatementContext SQL statement context
+     * @return SQL statement can be coalesced or not
+     */
+    public static boolean isCoalescable(final SQLStatementContext sqlStatementContext) {
+        if (!(sqlStatementContext instanceof InsertStatementContext)) {
+            return false;
+        }
+        InsertStatement insertStatement = ((InsertStatementContext) sqlStatementContext).getSqlStatement();
+        return 1 == insertStatement.getValues().size() && !insertStatement.getOnDuplicateKeyColumns().isPresent();
+    }
+    
+    /**
+     * Coalesce batch execution units.
+     * 
+     * @param batchExecutionUnits batch execution units
+     * @return coalesced batch execution units
+     */
+    public Collection<BatchExecutionUnit> coalesce(final Collection<BatchExecutionUnit> batchExecutionUnits) {
+        Collection<BatchExecutionUnit> result = new LinkedList<>();
+        for (BatchExecutionUnit each : batchExecutionUnits) {
+            result.addAll(coalesce(each));
+        }
+        return result;
+    }
+    
+    private Collection<BatchExecutionUnit> coalesce(final BatchExecutionUnit batchExecutionUnit) {
+        int rows = batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().size();
+        List<Object> parameters = batchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters();
+        if (rows < 2 || 1 != batchExecutionUnit.getCoalescedRows() || parameters.isEmpty() || 0 != parameters.size() % rows) {
+            return Collections.singletonList(batchExecutionUnit);
+        }
+        int parameterCount = parameters.size() / rows;
+        Matcher matcher = SINGLE_ROW_INSERT_PATTERN.matcher(batchExecutionUnit.getExecutionUnit().getSqlUnit().getSql());
+        if (!matcher.matches() || parameterCount != CharMatcher.is('?').countIn(matcher.group(2))) {
+            return Collections.singletonList(batchExecutionUnit);
+        }
+        int rowsPerStatement = Math.min(Math.min(maxRows, rows), MAX_PARAMETERS_PER_STATEMENT / parameterCount);
+        if (rowsPerStatement < 2) {
+            return Collections.singletonList(batchExecutionUnit);
+        }
+        int coalescedRows = rows - rows % rowsPerStatement;
+        Collection<BatchExecutionUnit> result = new LinkedList<>();
+        result.add(createBatchExecutionUnit(batchExecutionUnit, matcher, parameterCount, rowsPerStatement, 0, coalescedRows));
+        if (coalescedRows < rows) {
+            result.add(createBatchExecutionUnit(batchExecutionUnit, matcher, parameterCount, rows - coalescedRows, coalescedRows, rows));
+        }
+        return result;
+    }
+    
+    private BatchExecutionUnit createBatchExecutionUnit(final BatchExecutionUnit batchExecutionUnit, final Matcher matcher, 
+                                                        final int parameterCount, final int rowsPerStatement, final int startRow, final int endRow) {
+        ExecutionUnit executionUnit = batchExecutionUnit.getExecutionUnit();
+        String sql = matcher.group(1) + Joiner.on(", ").join(Collections.nCopies(rowsPerStatement, matcher.group(2)));
+        List<Object> parameters = new ArrayList<>(executionUnit.getSqlUnit().getParameters().subList(startRow * parameterCount, endRow * parameterCount));
+        BatchExecutionUnit result = new BatchExecutionUnit(new ExecutionUnit(executionUnit.getDataSourceName(), new SQLUnit(sql, parameters)), rowsPerStatement);
+        for (Entry<Integer, Integer> entry : batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().entrySet()) {
+            if (entry.getValue() >= startRow && entry.getValue() < endRow) {
+                result.mapAddBatchCount(entry.getKey(), (entry.getValue() - startRow) / rowsPerStatement);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingjdbc.executor.callback;
+
+import com.google.common.collect.Lists;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseType;
+import org.apache.shardingsphere.underlying.executor.sql.ConnectionMode;
+import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.executor.impl.DefaultSQLExecutorCallback;
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.queryresult.MemoryQueryResult;
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.queryresult.StreamQueryResult;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL executor callback for execute query, which records result set of each query result.
+ * 
+ * <p>Query results may arrive in any order if executed asynchronously, so each query result is recorded with the result set it is created from.</p>
+ */
+public abstract class ResultSetRecordingExecutorCallback extends DefaultSQLExecutorCallback<QueryResult> {
+    
+    private final Map<QueryResult, ResultSet> resultSets = Collections.synchronizedMap(new IdentityHashMap<>());
+    
+    public ResultSetRecordingExecutorCallback(final DatabaseType databaseType, final boolean isExceptionThrown) {
+        super(databaseType, isExceptionThrown);
+    }
+    
+    @Override
+    protected final QueryResult executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
+        ResultSet resultSet = executeQuery(sql, statement);
+        QueryResult result = ConnectionMode.MEMORY_STRICTLY == connectionMode ? new StreamQueryResult(resultSet) : new MemoryQueryResult(resultSet);
+        resultSets.put(result, resultSet);
+        return result;
+    }
+    
+    protected abstract ResultSet executeQuery(String sql, Statement statement) throws SQLException;
+    
+    /**
+     * Get result sets of query results.
+     * 
+     * @param queryResults query results
+     * @return result sets in the same order of query results
+     */
+    public List<ResultSet> getResultSets(final List<QueryResult> queryResults) {
+        return Lists.transform(queryResults, resultSets::get);
+    }
+}
@@ -19,16 +19,18 @@ package org.apache.shardingsphere.shardingjdbc.jdbc.core.context;
 
 import com.google.common.collect.ImmutableMap;
 import lombok.Getter;
-import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.core.log.ConfigurationLogger;
+import org.apache.shardingsphere.shardingjdbc.jdbc.core.context.plan.ExecutionPlanCache;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.metadata.CachedDatabaseMetaData;
 import org.apache.shardingsphere.sql.parser.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.SQLParserEngineFactory;
+import org.apache.shardingsphere.sql.parser.warmup.WarmUpSQLLoader;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
 import org.apache.shardingsphere.underlying.common.config.DatabaseAccessConfiguration;
 import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.underlying.common.config.properties.SQLParseResultCacheOptionFactory;
 import org.apache.shardingsphere.underlying.common.database.type.DatabaseType;
 import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
 import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
@@ -37,6 +39,7 @@ import org.apache.shardingsphere.underlying.common.metadata.schema.RuleSchemaMet
 import org.apache.shardingsphere.underlying.common.metadata.schema.RuleSchemaMetaDataLoader;
 import org.apache.shardingsphere.underlying.common.rule.ShardingSphereRule;
 import org.apache.shardingsphere.underlying.executor.kernel.ExecutorKernel;
+import org.apache.shardingsphere.underlying.executor.sql.group.ConnectionModePolicy;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
@@ -65,13 +68,16 @@ public final class RuntimeContext implements AutoCloseable {
     
     private final ExecutorKernel executorKernel;
     
+    private final ConnectionModePolicy connectionModePolicy;
+    
     private final SQLParserEngine sqlParserEngine;
     
+    private final ExecutionPlanCache executionPlanCache;
+    
     private final CachedDatabaseMetaData cachedDatabaseMetaData;
     
     private final ShardingTransactionManagerEngine shardingTransactionManagerEngine;
     
-    @Setter
     private ShardingSphereMetaData metaData;
     
     public RuntimeContext(final Map<String, DataSource> dataSourceMap, final DatabaseType databaseType, final Collection<ShardingSphereRule> rules, final Properties props) throws SQLException {
@@ -79,8 +85,11 @@ public final class RuntimeContext implements AutoCloseable {
         this.databaseType = databaseType;
         this.rules = rules;
         properties = new ConfigurationProperties(null == props ? new Properties() : props);
-        executorKernel = new ExecutorKernel(properties.<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_SIZE));
-        sqlParserEngine = SQLParserEngineFactory.getSQLParserEngine(DatabaseTypes.getTrunkDatabaseTypeName(databaseType));
+        executorKernel = new ExecutorKernel(properties);
+        connectionModePolicy = new ConnectionModePolicy(properties);
+        sqlParserEngine = SQLParserEngineFactory.getSQLParserEngine(DatabaseTypes.getTrunkDatabaseTypeName(databaseType), SQLParseResultCacheOptionFactory.newInstance(properties));
+        warmUpSQLParserEngine();
+        executionPlanCache = new ExecutionPlanCache(rules, properties.<Integer>getValue(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_SIZE));
         cachedDatabaseMetaData = createCachedDatabaseMetaData(dataSourceMap);
         shardingTransactionManagerEngine = new ShardingTransactionManagerEngine();
         shardingTransactionManagerEngine.init(databaseType, dataSourceMap);
@@ -96,6 +105,26 @@ public final class RuntimeContext implements AutoCloseable {
         this(ImmutableMap.of("ds", dataSource), databaseType, rules, props);
     }
     
+    /**
+     * Set meta data.
+     * 
+     * @param metaData meta data
+     */
+    public void setMetaData(final ShardingSphereMetaData metaData) {
+        this.metaData = metaData;
+        executionPlanCache.clear();
+    }
+    
+    private void warmUpSQLParserEngine() {
+        String warmUpFile = properties.getValue(ConfigurationPropertyKey.SQL_PARSER_WARM_UP_FILE);
+        if (warmUpFile.isEmpty()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        int warmedCount = sqlParserEngine.warmUp(WarmUpSQLLoader.load(warmUpFile));
+        log.info("SQL parser warm up finished with {} SQL(s), cost {} milliseconds.", warmedCount, System.currentTimeMillis() - start);
+    }
+    
     private CachedDatabaseMetaData createCachedDatabaseMetaData(final Map<String, DataSource> dataSourceMap) throws SQLException {
         try (Connection connection = dataSourceMap.values().iterator().next().getConnection()) {
             return new CachedDatabaseMetaData(connection.getMetaData());
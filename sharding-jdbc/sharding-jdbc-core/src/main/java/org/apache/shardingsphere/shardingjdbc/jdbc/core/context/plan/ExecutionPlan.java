@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingjdbc.jdbc.core.context.plan;
+
+import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.underlying.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.underlying.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.underlying.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.underlying.route.context.RouteContext;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Execution plan, which is the reusable part of execution context for same SQL.
+ * 
+ * <p>
+ * Rewritten SQL of each route unit is reused, only binding and routing are calculated with parameters for every execution.
+ * SQL statement context is not reused, because it is changed by result merging, such as column indexes of order by and aggregation items.
+ * Rewritten SQL of single routing and multiple routing are held apart, because some SQL tokens are ignored for single routing.
+ * </p>
+ */
+public final class ExecutionPlan {
+    
+    private final Map<RouteUnit, String> singleRoutingSQLs = new ConcurrentHashMap<>();
+    
+    private final Map<RouteUnit, String> multipleRoutingSQLs = new ConcurrentHashMap<>();
+    
+    /**
+     * Create execution context with rewritten SQL of route units.
+     * 
+     * @param routeContext route context
+     * @return execution context, absent if any route unit has not been rewritten yet
+     */
+    public Optional<ExecutionContext> createExecutionContext(final RouteContext routeContext) {
+        Map<RouteUnit, String> rewrittenSQLs = getRewrittenSQLs(routeContext);
+        Collection<ExecutionUnit> result = new LinkedHashSet<>(routeContext.getRouteResult().getRouteUnits().size(), 1);
+        for (RouteUnit each : routeContext.getRouteResult().getRouteUnits()) {
+            String sql = rewrittenSQLs.get(each);
+            if (null == sql) {
+                return Optional.empty();
+            }
+            result.add(new ExecutionUnit(each.getDataSourceMapper().getActualName(), new SQLUnit(sql, routeContext.getParameters())));
+        }
+        return result.isEmpty() ? Optional.empty() : Optional.of(new ExecutionContext(routeContext.getSqlStatementContext(), result));
+    }
+    
+    /**
+     * Add rewritten SQL of route units.
+     * 
+     * <p>
+     * Rewritten SQL is not added if its parameters are rewritten, which can not be reused for other parameters.
+     * </p>
+     * 
+     * @param routeContext route context
+     * @param sqlRewriteResult SQL rewrite result
+     */
+    public void addRewrittenSQLs(final RouteContext routeContext, final RouteSQLRewriteResult sqlRewriteResult) {
+        Map<RouteUnit, String> rewrittenSQLs = getRewrittenSQLs(routeContext);
+        for (Entry<RouteUnit, SQLRewriteUnit> entry : sqlRewriteResult.getSqlRewriteUnits().entrySet()) {
+            if (routeContext.getParameters().equals(entry.getValue().getParameters())) {
+                rewrittenSQLs.put(entry.getKey(), entry.getValue().getSql());
+            }
+        }
+    }
+    
+    private Map<RouteUnit, String> getRewrittenSQLs(final RouteContext routeContext) {
+        return routeContext.getRouteResult().isSingleRouting() ? singleRoutingSQLs : multipleRoutingSQLs;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingjdbc.jdbc.core.context.plan;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.shardingsphere.api.hint.HintManager;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.rule.TableRule;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.underlying.common.rule.ShardingSphereRule;
+import org.apache.shardingsphere.underlying.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.underlying.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.underlying.route.context.RouteContext;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Optional;
+
+/**
+ * Execution plan cache.
+ * 
+ * <p>
+ * Execution plan is cached by SQL, so the SQL rewriting can be skipped, and only binding and routing are calculated with parameters.
+ * Only select statement without subquery and pagination, which routed by sharding rules with cacheable sharding strategies only, can be cached.
+ * </p>
+ */
+public final class ExecutionPlanCache {
+    
+    private final Collection<ShardingRule> shardingRules;
+    
+    private final boolean enabled;
+    
+    private final Cache<String, Optional<ExecutionPlan>> executionPlans;
+    
+    public ExecutionPlanCache(final Collection<ShardingSphereRule> rules, final int maximumSize) {
+        shardingRules = getShardingRules(rules);
+        enabled = maximumSize > 0 && !rules.isEmpty() && shardingRules.size() == rules.size();
+        executionPlans = CacheBuilder.newBuilder().maximumSize(Math.max(maximumSize, 0)).build();
+    }
+    
+    private Collection<ShardingRule> getShardingRules(final Collection<ShardingSphereRule> rules) {
+        Collection<ShardingRule> result = new LinkedList<>();
+        for (ShardingSphereRule each : rules) {
+            if (each instanceof ShardingRule) {
+                result.add((ShardingRule) each);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Find cached execution plan.
+     * 
+     * @param sql SQL
+     * @return execution plan
+     */
+    public Optional<ExecutionPlan> findExecutionPlan(final String sql) {
+        if (!enabled || HintManager.isInstantiated()) {
+            return Optional.empty();
+        }
+        Optional<ExecutionPlan> result = executionPlans.getIfPresent(sql);
+        return null == result ? Optional.empty() : result;
+    }
+    
+    /**
+     * Put rewritten SQL into execution plan of SQL if route context is cacheable.
+     * 
+     * @param sql SQL
+     * @param routeContext route context
+     * @param sqlRewriteResult SQL rewrite result
+     */
+    public void put(final String sql, final RouteContext routeContext, final SQLRewriteResult sqlRewriteResult) {
+        if (!enabled || HintManager.isInstantiated()) {
+            return;
+        }
+        Optional<ExecutionPlan> executionPlan = executionPlans.getIfPresent(sql);
+        if (null == executionPlan) {
+            executionPlan = isCacheable(routeContext.getSqlStatementContext()) ? Optional.of(new ExecutionPlan()) : Optional.empty();
+            executionPlans.put(sql, executionPlan);
+        }
+        if (executionPlan.isPresent() && sqlRewriteResult instanceof RouteSQLRewriteResult) {
+            executionPlan.get().addRewrittenSQLs(routeContext, (RouteSQLRewriteResult) sqlRewriteResult);
+        }
+    }
+    
+    private boolean isCacheable(final SQLStatementContext sqlStatementContext) {
+        if (!(sqlStatementContext instanceof SelectStatementContext)) {
+            return false;
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
+        if (selectStatementContext.isContainsSubquery() || selectStatementContext.getPaginationContext().isHasPagination()) {
+            return false;
+        }
+        Collection<String> tableNames = selectStatementContext.getTablesContext().getTableNames();
+        return shardingRules.stream().anyMatch(each -> !each.getShardingLogicTableNames(tableNames).isEmpty()) 
+                && shardingRules.stream().allMatch(each -> isCacheableShardingStrategies(each, each.getShardingLogicTableNames(tableNames)));
+    }
+    
+    private boolean isCacheableShardingStrategies(final ShardingRule shardingRule, final Collection<String> logicTableNames) {
+        for (String each : logicTableNames) {
+            TableRule tableRule = shardingRule.getTableRule(each);
+            if (!shardingRule.getDatabaseShardingStrategy(tableRule).isCacheable() || !shardingRule.getTableShardingStrategy(tableRule).isCacheable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public void clear() {
+        executionPlans.invalidateAll();
+    }
+}
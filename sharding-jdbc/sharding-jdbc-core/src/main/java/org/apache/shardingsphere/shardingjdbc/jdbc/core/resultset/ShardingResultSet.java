@@ -63,6 +63,15 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
         return result;
     }
     
+    @Override
+    public void close() throws SQLException {
+        try {
+            mergeResultSet.close();
+        } finally {
+            super.close();
+        }
+    }
+    
     @Override
     public boolean next() throws SQLException {
         return mergeResultSet.next();
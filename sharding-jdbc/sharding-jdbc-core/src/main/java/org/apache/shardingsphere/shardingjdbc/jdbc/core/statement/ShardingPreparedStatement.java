@@ -19,6 +19,7 @@ package org.apache.shardingsphere.shardingjdbc.jdbc.core.statement;
 
 import com.google.common.base.Strings;
 import lombok.Getter;
+import org.apache.shardingsphere.shardingjdbc.executor.FirstArrivedQueryResults;
 import org.apache.shardingsphere.shardingjdbc.executor.PreparedStatementExecutor;
 import org.apache.shardingsphere.shardingjdbc.executor.batch.BatchExecutionUnit;
 import org.apache.shardingsphere.shardingjdbc.executor.batch.BatchPreparedStatementExecutor;
@@ -26,6 +27,7 @@ import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.AbstractShardingPrepa
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.constant.SQLExceptionConstant;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.context.RuntimeContext;
+import org.apache.shardingsphere.shardingjdbc.jdbc.core.context.plan.ExecutionPlan;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.resultset.GeneratedKeysResultSet;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.resultset.ShardingResultSet;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.statement.metadata.ShardingSphereParameterMetaData;
@@ -138,13 +140,17 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         try {
             clearPrevious();
             executionContext = createExecutionContext();
-            PreparedStatementExecuteGroupEngine executeGroupEngine = new PreparedStatementExecuteGroupEngine(
-                    connection.getRuntimeContext().getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), getConnection().getRuntimeContext().getRules());
-            Collection<InputGroup<StatementExecuteUnit>> inputGroups = executeGroupEngine.generate(executionContext.getExecutionUnits(), connection, statementOption);
+            Collection<InputGroup<StatementExecuteUnit>> inputGroups = createExecuteGroupEngine().generate(
+                    executionContext.getExecutionUnits(), executionContext.getSqlStatementContext().getTablesContext().getTableNames(), connection, statementOption);
             cacheStatements(inputGroups);
             reply();
-            MergedResult mergedResult = mergeQuery(preparedStatementExecutor.executeQuery(inputGroups));
-            result = new ShardingResultSet(statements.stream().map(this::getResultSet).collect(Collectors.toList()), mergedResult, this, executionContext);
+            if (connection.getRuntimeContext().getProperties().<Boolean>getValue(ConfigurationPropertyKey.FIRST_ARRIVED_MERGE_ENABLED)) {
+                FirstArrivedQueryResults queryResults = preparedStatementExecutor.executeQueryFirstArrived(inputGroups);
+                result = new ShardingResultSet(queryResults.getResultSets(), mergeQuery(queryResults.getQueryResults()), this, executionContext);
+            } else {
+                MergedResult mergedResult = mergeQuery(preparedStatementExecutor.executeQuery(inputGroups));
+                result = new ShardingResultSet(statements.stream().map(this::getResultSet).collect(Collectors.toList()), mergedResult, this, executionContext);
+            }
         } finally {
             clearBatch();
         }
@@ -157,9 +163,8 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         try {
             clearPrevious();
             executionContext = createExecutionContext();
-            PreparedStatementExecuteGroupEngine executeGroupEngine = new PreparedStatementExecuteGroupEngine(
-                    connection.getRuntimeContext().getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), getConnection().getRuntimeContext().getRules());
-            Collection<InputGroup<StatementExecuteUnit>> inputGroups = executeGroupEngine.generate(executionContext.getExecutionUnits(), connection, statementOption);
+            Collection<InputGroup<StatementExecuteUnit>> inputGroups = createExecuteGroupEngine().generate(
+                    executionContext.getExecutionUnits(), executionContext.getSqlStatementContext().getTablesContext().getTableNames(), connection, statementOption);
             cacheStatements(inputGroups);
             reply();
             return preparedStatementExecutor.executeUpdate(inputGroups, executionContext.getSqlStatementContext());
@@ -173,9 +178,8 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         try {
             clearPrevious();
             executionContext = createExecutionContext();
-            PreparedStatementExecuteGroupEngine executeGroupEngine = new PreparedStatementExecuteGroupEngine(
-                    connection.getRuntimeContext().getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), getConnection().getRuntimeContext().getRules());
-            Collection<InputGroup<StatementExecuteUnit>> inputGroups = executeGroupEngine.generate(executionContext.getExecutionUnits(), connection, statementOption);
+            Collection<InputGroup<StatementExecuteUnit>> inputGroups = createExecuteGroupEngine().generate(
+                    executionContext.getExecutionUnits(), executionContext.getSqlStatementContext().getTablesContext().getTableNames(), connection, statementOption);
             cacheStatements(inputGroups);
             reply();
             return preparedStatementExecutor.execute(inputGroups, executionContext.getSqlStatementContext());
@@ -225,20 +229,34 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     
     private ExecutionContext createExecutionContext() {
         RuntimeContext runtimeContext = connection.getRuntimeContext();
-        RouteContext routeContext = new DataNodeRouter(runtimeContext.getMetaData(), runtimeContext.getProperties(), runtimeContext.getRules()).route(sqlStatement, sql, getParameters());
-        SQLRewriteResult sqlRewriteResult = new SQLRewriteEntry(runtimeContext.getMetaData().getSchema().getConfiguredSchemaMetaData(), 
-                runtimeContext.getProperties(), runtimeContext.getRules()).rewrite(sql, new ArrayList<>(getParameters()), routeContext);
-        ExecutionContext result = new ExecutionContext(routeContext.getSqlStatementContext(), ExecutionContextBuilder.build(runtimeContext.getMetaData(), sqlRewriteResult));
+        Optional<ExecutionPlan> executionPlan = runtimeContext.getExecutionPlanCache().findExecutionPlan(sql);
+        DataNodeRouter dataNodeRouter = new DataNodeRouter(runtimeContext.getMetaData(), runtimeContext.getProperties(), runtimeContext.getRules());
+        List<Object> parameters = new ArrayList<>(getParameters());
+        RouteContext routeContext = dataNodeRouter.route(sqlStatement, sql, parameters);
+        ExecutionContext result = executionPlan.flatMap(optional -> optional.createExecutionContext(routeContext)).orElseGet(() -> rewrite(runtimeContext, routeContext));
         findGeneratedKey(result).ifPresent(generatedKey -> generatedValues.add(generatedKey.getGeneratedValues().getLast()));
         logSQL(runtimeContext, result);
         return result;
     }
     
+    private ExecutionContext rewrite(final RuntimeContext runtimeContext, final RouteContext routeContext) {
+        SQLRewriteResult sqlRewriteResult = new SQLRewriteEntry(runtimeContext.getMetaData().getSchema().getConfiguredSchemaMetaData(), 
+                runtimeContext.getProperties(), runtimeContext.getRules()).rewrite(sql, new ArrayList<>(getParameters()), routeContext);
+        runtimeContext.getExecutionPlanCache().put(sql, routeContext, sqlRewriteResult);
+        return new ExecutionContext(routeContext.getSqlStatementContext(), ExecutionContextBuilder.build(runtimeContext.getMetaData(), sqlRewriteResult));
+    }
+    
     private MergedResult mergeQuery(final List<QueryResult> queryResults) throws SQLException {
         RuntimeContext runtimeContext = connection.getRuntimeContext();
         MergeEngine mergeEngine = new MergeEngine(runtimeContext.getDatabaseType(), 
                 runtimeContext.getMetaData().getSchema().getConfiguredSchemaMetaData(), runtimeContext.getProperties(), runtimeContext.getRules());
-        return mergeEngine.merge(queryResults, executionContext.getSqlStatementContext());
+        return mergeEngine.merge(runtimeContext.getConnectionModePolicy().track(
+                queryResults, executionContext.getSqlStatementContext().getTablesContext().getTableNames()), executionContext.getSqlStatementContext());
+    }
+    
+    private PreparedStatementExecuteGroupEngine createExecuteGroupEngine() {
+        RuntimeContext runtimeContext = connection.getRuntimeContext();
+        return new PreparedStatementExecuteGroupEngine(runtimeContext.getConnectionModePolicy(), runtimeContext.getDataSourceMap(), runtimeContext.getRules());
     }
     
     private void reply() {
@@ -313,9 +331,8 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     }
     
     private void initBatchPreparedStatementExecutor() throws SQLException {
-        PreparedStatementExecuteGroupEngine executeGroupEngine = new PreparedStatementExecuteGroupEngine(
-                connection.getRuntimeContext().getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), getConnection().getRuntimeContext().getRules());
-        batchPreparedStatementExecutor.init(executeGroupEngine.generate(
+        batchPreparedStatementExecutor.coalesceInsertValues(executionContext.getSqlStatementContext());
+        batchPreparedStatementExecutor.init(createExecuteGroupEngine().generate(
                 new ArrayList<>(batchPreparedStatementExecutor.getBatchExecutionUnits()).stream().map(BatchExecutionUnit::getExecutionUnit).collect(Collectors.toList()), connection, statementOption));
         setBatchParametersForStatements();
     }
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.shardingjdbc.jdbc.core.statement;
 
 import com.google.common.base.Strings;
 import lombok.Getter;
+import org.apache.shardingsphere.shardingjdbc.executor.FirstArrivedQueryResults;
 import org.apache.shardingsphere.shardingjdbc.executor.StatementExecutor;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.AbstractStatementAdapter;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
@@ -29,7 +30,6 @@ import org.apache.shardingsphere.shardingjdbc.jdbc.core.resultset.ShardingResult
 import org.apache.shardingsphere.sql.parser.binder.segment.insert.keygen.GeneratedKeyContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
-import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.dal.DALStatement;
 import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
@@ -38,7 +38,7 @@ import org.apache.shardingsphere.underlying.common.rule.DataNodeRoutedRule;
 import org.apache.shardingsphere.underlying.executor.kernel.InputGroup;
 import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
 import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionContext;
-import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionContextBuilder;
+import org.apache.shardingsphere.underlying.executor.sql.context.StatementExecutionContextEngine;
 import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.StatementExecuteUnit;
 import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.executor.SQLExecutor;
 import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.group.StatementExecuteGroupEngine;
@@ -47,17 +47,12 @@ import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.queryresul
 import org.apache.shardingsphere.underlying.executor.sql.log.SQLLogger;
 import org.apache.shardingsphere.underlying.merge.MergeEngine;
 import org.apache.shardingsphere.underlying.merge.result.MergedResult;
-import org.apache.shardingsphere.underlying.rewrite.SQLRewriteEntry;
-import org.apache.shardingsphere.underlying.rewrite.engine.result.SQLRewriteResult;
-import org.apache.shardingsphere.underlying.route.DataNodeRouter;
-import org.apache.shardingsphere.underlying.route.context.RouteContext;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
@@ -108,12 +103,16 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         ResultSet result;
         try {
             executionContext = createExecutionContext(sql);
-            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups(
-                    connection.getRuntimeContext().getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY));
+            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups();
             cacheStatements(inputGroups);
-            List<QueryResult> queryResults = statementExecutor.executeQuery(inputGroups);
-            MergedResult mergedResult = mergeQuery(queryResults);
-            result = new ShardingResultSet(statements.stream().map(this::getResultSet).collect(Collectors.toList()), mergedResult, this, executionContext);
+            if (connection.getRuntimeContext().getProperties().<Boolean>getValue(ConfigurationPropertyKey.FIRST_ARRIVED_MERGE_ENABLED)) {
+                FirstArrivedQueryResults queryResults = statementExecutor.executeQueryFirstArrived(inputGroups);
+                result = new ShardingResultSet(queryResults.getResultSets(), mergeQuery(queryResults.getQueryResults()), this, executionContext);
+            } else {
+                List<QueryResult> queryResults = statementExecutor.executeQuery(inputGroups);
+                MergedResult mergedResult = mergeQuery(queryResults);
+                result = new ShardingResultSet(statements.stream().map(this::getResultSet).collect(Collectors.toList()), mergedResult, this, executionContext);
+            }
         } finally {
             currentResultSet = null;
         }
@@ -125,8 +124,7 @@ public final class ShardingStatement extends AbstractStatementAdapter {
     public int executeUpdate(final String sql) throws SQLException {
         try {
             executionContext = createExecutionContext(sql);
-            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups(
-                    connection.getRuntimeContext().getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY));
+            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups();
             cacheStatements(inputGroups);
             return statementExecutor.executeUpdate(inputGroups, executionContext.getSqlStatementContext());
         } finally {
@@ -141,8 +139,7 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         }
         try {
             executionContext = createExecutionContext(sql);
-            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups(
-                    connection.getRuntimeContext().getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY));
+            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups();
             cacheStatements(inputGroups);
             return statementExecutor.executeUpdate(inputGroups, executionContext.getSqlStatementContext(), autoGeneratedKeys);
         } finally {
@@ -155,8 +152,7 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         returnGeneratedKeys = true;
         try {
             executionContext = createExecutionContext(sql);
-            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups(
-                    connection.getRuntimeContext().getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY));
+            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups();
             cacheStatements(inputGroups);
             return statementExecutor.executeUpdate(inputGroups, executionContext.getSqlStatementContext(), columnIndexes);
         } finally {
@@ -169,8 +165,7 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         returnGeneratedKeys = true;
         try {
             executionContext = createExecutionContext(sql);
-            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups(
-                    connection.getRuntimeContext().getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY));
+            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups();
             cacheStatements(inputGroups);
             return statementExecutor.executeUpdate(inputGroups, executionContext.getSqlStatementContext(), columnNames);
         } finally {
@@ -182,8 +177,7 @@ public final class ShardingStatement extends AbstractStatementAdapter {
     public boolean execute(final String sql) throws SQLException {
         try {
             executionContext = createExecutionContext(sql);
-            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups(
-                    connection.getRuntimeContext().getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY));
+            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups();
             cacheStatements(inputGroups);
             return statementExecutor.execute(inputGroups, executionContext.getSqlStatementContext());
         } finally {
@@ -198,8 +192,7 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         }
         try {
             executionContext = createExecutionContext(sql);
-            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups(
-                    connection.getRuntimeContext().getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY));
+            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups();
             cacheStatements(inputGroups);
             return statementExecutor.execute(inputGroups, executionContext.getSqlStatementContext(), autoGeneratedKeys);
         } finally {
@@ -212,8 +205,7 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         returnGeneratedKeys = true;
         try {
             executionContext = createExecutionContext(sql);
-            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups(
-                    connection.getRuntimeContext().getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY));
+            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups();
             cacheStatements(inputGroups);
             return statementExecutor.execute(inputGroups, executionContext.getSqlStatementContext(), columnIndexes);
         } finally {
@@ -226,8 +218,7 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         returnGeneratedKeys = true;
         try {
             executionContext = createExecutionContext(sql);
-            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups(
-                    connection.getRuntimeContext().getProperties().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY));
+            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups();
             cacheStatements(inputGroups);
             return statementExecutor.execute(inputGroups, executionContext.getSqlStatementContext(), columnNames);
         } finally {
@@ -238,12 +229,8 @@ public final class ShardingStatement extends AbstractStatementAdapter {
     private ExecutionContext createExecutionContext(final String sql) throws SQLException {
         clearStatements();
         RuntimeContext runtimeContext = connection.getRuntimeContext();
-        SQLStatement sqlStatement = runtimeContext.getSqlParserEngine().parse(sql, false);
-        RouteContext routeContext = new DataNodeRouter(
-                runtimeContext.getMetaData(), runtimeContext.getProperties(), runtimeContext.getRules()).route(sqlStatement, sql, Collections.emptyList());
-        SQLRewriteResult sqlRewriteResult = new SQLRewriteEntry(runtimeContext.getMetaData().getSchema().getConfiguredSchemaMetaData(),
-                runtimeContext.getProperties(), runtimeContext.getRules()).rewrite(sql, Collections.emptyList(), routeContext);
-        ExecutionContext result = new ExecutionContext(routeContext.getSqlStatementContext(), ExecutionContextBuilder.build(runtimeContext.getMetaData(), sqlRewriteResult));
+        ExecutionContext result = new StatementExecutionContextEngine(
+                runtimeContext.getSqlParserEngine(), runtimeContext.getMetaData(), runtimeContext.getProperties(), runtimeContext.getRules()).createExecutionContext(sql);
         logSQL(sql, runtimeContext.getProperties(), result);
         return result;
     }
@@ -261,8 +248,10 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         }
     }
     
-    private Collection<InputGroup<StatementExecuteUnit>> getInputGroups(final int maxConnectionsSizePerQuery) throws SQLException {
-        return new StatementExecuteGroupEngine(maxConnectionsSizePerQuery, getConnection().getRuntimeContext().getRules()).generate(executionContext.getExecutionUnits(), connection, statementOption);
+    private Collection<InputGroup<StatementExecuteUnit>> getInputGroups() throws SQLException {
+        RuntimeContext runtimeContext = connection.getRuntimeContext();
+        return new StatementExecuteGroupEngine(runtimeContext.getConnectionModePolicy(), runtimeContext.getDataSourceMap(), runtimeContext.getRules()).generate(
+                executionContext.getExecutionUnits(), executionContext.getSqlStatementContext().getTablesContext().getTableNames(), connection, statementOption);
     }
     
     private void cacheStatements(final Collection<InputGroup<StatementExecuteUnit>> inputGroups) {
@@ -315,7 +304,8 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         RuntimeContext runtimeContext = connection.getRuntimeContext();
         MergeEngine mergeEngine = new MergeEngine(runtimeContext.getDatabaseType(), 
                 runtimeContext.getMetaData().getSchema().getConfiguredSchemaMetaData(), runtimeContext.getProperties(), runtimeContext.getRules());
-        return mergeEngine.merge(queryResults, executionContext.getSqlStatementContext());
+        return mergeEngine.merge(runtimeContext.getConnectionModePolicy().track(
+                queryResults, executionContext.getSqlStatementContext().getTablesContext().getTableNames()), executionContext.getSqlStatementContext());
     }
     
     @SuppressWarnings("MagicConstant")
@@ -111,6 +111,28 @@ public final class PreparedStatementExecutorTest extends AbstractBaseExecutorTes
         verify(preparedStatement2).executeQuery();
     }
     
+    @Test
+    public void assertExecuteQueryFirstArrivedForMultiplePreparedStatementsSuccess() throws SQLException {
+        PreparedStatement preparedStatement1 = getPreparedStatement();
+        PreparedStatement preparedStatement2 = getPreparedStatement();
+        ResultSet resultSet1 = mock(ResultSet.class);
+        ResultSet resultSet2 = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(resultSet1.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSet2.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSet1.getInt(1)).thenReturn(1);
+        when(resultSet2.getInt(1)).thenReturn(2);
+        when(preparedStatement1.executeQuery()).thenReturn(resultSet1);
+        when(preparedStatement2.executeQuery()).thenReturn(resultSet2);
+        FirstArrivedQueryResults result = actual.executeQueryFirstArrived(getExecuteGroups(Arrays.asList(preparedStatement1, preparedStatement2), true));
+        assertThat(result.getQueryResults().size(), is(2));
+        assertThat(String.valueOf(result.getQueryResults().get(0).getValue(1, int.class)), is("1"));
+        assertThat(String.valueOf(result.getQueryResults().get(1).getValue(1, int.class)), is("2"));
+        assertThat(result.getResultSets(), is(Arrays.asList(resultSet1, resultSet2)));
+    }
+    
     @Test
     public void assertExecuteQueryForSinglePreparedStatementFailure() throws SQLException {
         PreparedStatement preparedStatement = getPreparedStatement();
@@ -114,6 +114,28 @@ public final class StatementExecutorTest extends AbstractBaseExecutorTest {
         verify(statement2).executeQuery(DQL_SQL);
     }
 
+    @Test
+    public void assertExecuteQueryFirstArrivedForMultipleStatementsSuccess() throws SQLException {
+        Statement statement1 = getStatement();
+        Statement statement2 = getStatement();
+        ResultSet resultSet1 = mock(ResultSet.class);
+        ResultSet resultSet2 = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(resultSet1.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSet2.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSet1.getInt(1)).thenReturn(1);
+        when(resultSet2.getInt(1)).thenReturn(2);
+        when(statement1.executeQuery(DQL_SQL)).thenReturn(resultSet1);
+        when(statement2.executeQuery(DQL_SQL)).thenReturn(resultSet2);
+        FirstArrivedQueryResults result = actual.executeQueryFirstArrived(getExecuteGroups(Arrays.asList(statement1, statement2), true));
+        assertThat(result.getQueryResults().size(), is(2));
+        assertThat(String.valueOf(result.getQueryResults().get(0).getValue(1, int.class)), is("1"));
+        assertThat(String.valueOf(result.getQueryResults().get(1).getValue(1, int.class)), is("2"));
+        assertThat(result.getResultSets(), is(Arrays.asList(resultSet1, resultSet2)));
+    }
+    
     @Test
     public void assertExecuteQueryForSingleStatementFailure() throws SQLException {
         Statement statement = getStatement();
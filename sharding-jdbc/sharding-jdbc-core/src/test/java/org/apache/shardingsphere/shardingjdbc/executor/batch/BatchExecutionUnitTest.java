@@ -22,6 +22,7 @@ import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.underlying.executor.sql.context.SQLUnit;
 import org.junit.Test;
 
+import java.sql.Statement;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -47,6 +48,28 @@ public final class BatchExecutionUnitTest {
         assertThat(actual.get(0).get(0), is(1));
     }
     
+    @Test
+    public void assertGetParameterSetsWithCoalescedRows() {
+        BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Lists.newArrayList(1, 2, 3, 4))), 2);
+        batchExecutionUnit.mapAddBatchCount(0, 0);
+        batchExecutionUnit.mapAddBatchCount(2, 0);
+        batchExecutionUnit.mapAddBatchCount(3, 1);
+        batchExecutionUnit.mapAddBatchCount(5, 1);
+        List<List<Object>> actual = batchExecutionUnit.getParameterSets();
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), is(Lists.<Object>newArrayList(1, 2)));
+        assertThat(actual.get(1), is(Lists.<Object>newArrayList(3, 4)));
+    }
+    
+    @Test
+    public void assertGetJdbcUpdateCount() {
+        assertThat(new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Lists.newArrayList(1)))).getJdbcUpdateCount(5), is(5));
+        BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Lists.newArrayList(1, 2))), 2);
+        assertThat(batchExecutionUnit.getJdbcUpdateCount(2), is(1));
+        assertThat(batchExecutionUnit.getJdbcUpdateCount(1), is(Statement.SUCCESS_NO_INFO));
+        assertThat(batchExecutionUnit.getJdbcUpdateCount(Statement.EXECUTE_FAILED), is(Statement.EXECUTE_FAILED));
+    }
+    
     @Test
     public void assertEquals() {
         BatchExecutionUnit actual = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Lists.newArrayList(1))));
@@ -58,6 +81,6 @@ public final class BatchExecutionUnitTest {
     public void assertToString() {
         BatchExecutionUnit actual = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Lists.newArrayList(1))));
         assertThat(actual.toString(), is(String.format("BatchExecutionUnit(executionUnit=ExecutionUnit"
-                + "(dataSourceName=%s, sqlUnit=SQLUnit(sql=%s, parameters=[%d])), jdbcAndActualAddBatchCallTimesMap={}, actualCallAddBatchTimes=0)", DATA_SOURCE_NAME, SQL, 1)));
+                + "(dataSourceName=%s, sqlUnit=SQLUnit(sql=%s, parameters=[%d])), coalescedRows=1, jdbcAndActualAddBatchCallTimesMap={}, actualCallAddBatchTimes=0)", DATA_SOURCE_NAME, SQL, 1)));
     }
 }
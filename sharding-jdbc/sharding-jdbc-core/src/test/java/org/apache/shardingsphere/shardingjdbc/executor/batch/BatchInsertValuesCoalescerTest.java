@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingjdbc.executor.batch;
+
+import com.google.common.collect.Lists;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.OnDuplicateKeyColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.underlying.executor.sql.context.SQLUnit;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class BatchInsertValuesCoalescerTest {
+    
+    private static final String SQL = "INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?)";
+    
+    @Test
+    public void assertIsCoalescable() {
+        assertTrue(BatchInsertValuesCoalescer.isCoalescable(createInsertStatementContext(new InsertStatement())));
+    }
+    
+    @Test
+    public void assertIsNotCoalescableWithOnDuplicateKeyColumns() {
+        InsertStatement insertStatement = new InsertStatement();
+        insertStatement.setOnDuplicateKeyColumns(new OnDuplicateKeyColumnsSegment(0, 0, Collections.emptyList()));
+        assertFalse(BatchInsertValuesCoalescer.isCoalescable(createInsertStatementContext(insertStatement)));
+    }
+    
+    @Test
+    public void assertIsNotCoalescableWithoutInsert() {
+        assertFalse(BatchInsertValuesCoalescer.isCoalescable(mock(SQLStatementContext.class)));
+    }
+    
+    @Test
+    public void assertCoalesceWithRemainderRows() {
+        List<BatchExecutionUnit> actual = new ArrayList<>(new BatchInsertValuesCoalescer(2).coalesce(Collections.singletonList(createBatchExecutionUnit(SQL, 0, 2, 3))));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?), (?, ?)"));
+        assertThat(actual.get(0).getExecutionUnit().getSqlUnit().getParameters(), is(Arrays.<Object>asList(0, 0, 2, 2)));
+        assertThat(actual.get(0).getCoalescedRows(), is(2));
+        assertThat(actual.get(0).getJdbcAndActualAddBatchCallTimesMap().get(0), is(0));
+        assertThat(actual.get(0).getJdbcAndActualAddBatchCallTimesMap().get(2), is(0));
+        assertThat(actual.get(0).getParameterSets().size(), is(1));
+        assertThat(actual.get(1).getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?)"));
+        assertThat(actual.get(1).getExecutionUnit().getSqlUnit().getParameters(), is(Arrays.<Object>asList(3, 3)));
+        assertThat(actual.get(1).getCoalescedRows(), is(1));
+        assertThat(actual.get(1).getJdbcAndActualAddBatchCallTimesMap().get(3), is(0));
+    }
+    
+    @Test
+    public void assertCoalesceWithFullRows() {
+        List<BatchExecutionUnit> actual = new ArrayList<>(new BatchInsertValuesCoalescer(2).coalesce(Collections.singletonList(createBatchExecutionUnit(SQL, 0, 1, 2, 3))));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getJdbcAndActualAddBatchCallTimesMap().get(1), is(0));
+        assertThat(actual.get(0).getJdbcAndActualAddBatchCallTimesMap().get(2), is(1));
+        assertThat(actual.get(0).getParameterSets(), is(Arrays.asList(Arrays.<Object>asList(0, 0, 1, 1), Arrays.<Object>asList(2, 2, 3, 3))));
+    }
+    
+    @Test
+    public void assertCoalesceWithSingleRow() {
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit(SQL, 0);
+        Collection<BatchExecutionUnit> actual = new BatchInsertValuesCoalescer(2).coalesce(Collections.singletonList(batchExecutionUnit));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next(), is(batchExecutionUnit));
+        assertThat(actual.iterator().next().getCoalescedRows(), is(1));
+    }
+    
+    @Test
+    public void assertCoalesceWithLiteralValues() {
+        String sql = "INSERT INTO t_order_0 (order_id, user_id, status) VALUES (?, ?, 'init')";
+        Collection<BatchExecutionUnit> actual = new BatchInsertValuesCoalescer(2).coalesce(Collections.singletonList(createBatchExecutionUnit(sql, 0, 1)));
+        assertThat(actual.iterator().next().getExecutionUnit().getSqlUnit().getSql(), is(sql));
+        assertThat(actual.iterator().next().getCoalescedRows(), is(1));
+    }
+    
+    @Test
+    public void assertCoalesceWithOnDuplicateKeyUpdate() {
+        String sql = "INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?) ON DUPLICATE KEY UPDATE user_id = ?";
+        Collection<BatchExecutionUnit> actual = new BatchInsertValuesCoalescer(2).coalesce(Collections.singletonList(createBatchExecutionUnit(sql, 0, 1)));
+        assertThat(actual.iterator().next().getExecutionUnit().getSqlUnit().getSql(), is(sql));
+    }
+    
+    private InsertStatementContext createInsertStatementContext(final InsertStatement insertStatement) {
+        insertStatement.getValues().add(new InsertValuesSegment(0, 0, Collections.emptyList()));
+        InsertStatementContext result = mock(InsertStatementContext.class);
+        when(result.getSqlStatement()).thenReturn(insertStatement);
+        return result;
+    }
+    
+    private BatchExecutionUnit createBatchExecutionUnit(final String sql, final int... jdbcAddBatchTimes) {
+        List<Object> parameters = new ArrayList<>();
+        for (int each : jdbcAddBatchTimes) {
+            parameters.addAll(Lists.newArrayList(each, each));
+        }
+        BatchExecutionUnit result = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(sql, parameters)));
+        for (int each : jdbcAddBatchTimes) {
+            result.mapAddBatchCount(each);
+        }
+        return result;
+    }
+}
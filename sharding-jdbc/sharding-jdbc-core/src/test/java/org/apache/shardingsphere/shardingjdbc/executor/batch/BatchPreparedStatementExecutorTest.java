@@ -17,11 +17,17 @@
 
 package org.apache.shardingsphere.shardingjdbc.executor.batch;
 
+import com.google.common.collect.Lists;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.executor.SQLExecutor;
 import org.apache.shardingsphere.shardingjdbc.executor.AbstractBaseExecutorTest;
 import org.apache.shardingsphere.sql.parser.binder.segment.table.TablesContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.StatementExecuteUnit;
 import org.apache.shardingsphere.underlying.executor.sql.ConnectionMode;
 import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionUnit;
@@ -35,11 +41,15 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -52,6 +62,8 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
     
     private static final String SQL = "DELETE FROM table_x WHERE id=?";
     
+    private static final String INSERT_SQL = "INSERT INTO table_x (id) VALUES (?)";
+    
     private BatchPreparedStatementExecutor actual;
     
     @Mock
@@ -127,23 +139,65 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         verify(preparedStatement2).executeBatch();
     }
     
+    @Test
+    public void assertAddBatchForExecutionUnits() {
+        actual.addBatchForExecutionUnits(Arrays.asList(createExecutionUnit("ds_0", 1), createExecutionUnit("ds_1", 1)));
+        actual.addBatchForExecutionUnits(Collections.singletonList(createExecutionUnit("ds_1", 2)));
+        actual.addBatchForExecutionUnits(Collections.singletonList(createExecutionUnit("ds_0", 3)));
+        List<BatchExecutionUnit> batchExecutionUnits = new ArrayList<>(actual.getBatchExecutionUnits());
+        assertThat(batchExecutionUnits.size(), is(2));
+        assertThat(batchExecutionUnits.get(0).getExecutionUnit().getDataSourceName(), is("ds_0"));
+        assertThat(batchExecutionUnits.get(0).getParameterSets(), is(Arrays.asList(Collections.<Object>singletonList(1), Collections.<Object>singletonList(3))));
+        assertThat(batchExecutionUnits.get(0).getJdbcAndActualAddBatchCallTimesMap().get(2), is(1));
+        assertThat(batchExecutionUnits.get(1).getExecutionUnit().getDataSourceName(), is("ds_1"));
+        assertThat(batchExecutionUnits.get(1).getParameterSets(), is(Arrays.asList(Collections.<Object>singletonList(1), Collections.<Object>singletonList(2))));
+        assertThat(batchExecutionUnits.get(1).getJdbcAndActualAddBatchCallTimesMap().get(1), is(1));
+    }
+    
+    @Test
+    public void assertCoalesceInsertValues() {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_MAX_ROWS.getKey(), "2");
+        when(getConnection().getRuntimeContext().getProperties()).thenReturn(new ConfigurationProperties(props));
+        for (int i = 0; i < 3; i++) {
+            actual.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(INSERT_SQL, Lists.newArrayList(i)))));
+        }
+        actual.coalesceInsertValues(createInsertStatementContext());
+        List<BatchExecutionUnit> batchExecutionUnits = new ArrayList<>(actual.getBatchExecutionUnits());
+        assertThat(batchExecutionUnits.size(), is(2));
+        assertThat(batchExecutionUnits.get(0).getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO table_x (id) VALUES (?), (?)"));
+        assertThat(batchExecutionUnits.get(0).getExecutionUnit().getSqlUnit().getParameters(), is(Arrays.<Object>asList(0, 1)));
+        assertThat(batchExecutionUnits.get(1).getExecutionUnit().getSqlUnit().getSql(), is(INSERT_SQL));
+        assertThat(batchExecutionUnits.get(1).getExecutionUnit().getSqlUnit().getParameters(), is(Collections.<Object>singletonList(2)));
+    }
+    
+    @Test
+    public void assertCoalesceInsertValuesWhenDisabled() {
+        for (int i = 0; i < 3; i++) {
+            actual.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(INSERT_SQL, Lists.newArrayList(i)))));
+        }
+        actual.coalesceInsertValues(createInsertStatementContext());
+        assertThat(actual.getBatchExecutionUnits().size(), is(1));
+        assertThat(actual.getBatchExecutionUnits().iterator().next().getExecutionUnit().getSqlUnit().getSql(), is(INSERT_SQL));
+    }
+    
     private void setExecuteGroups(final List<PreparedStatement> preparedStatements) {
         Collection<InputGroup<StatementExecuteUnit>> executeGroups = new LinkedList<>();
         List<StatementExecuteUnit> preparedStatementExecuteUnits = new LinkedList<>();
         executeGroups.add(new InputGroup<>(preparedStatementExecuteUnits));
-        Collection<BatchExecutionUnit> routeUnits = new LinkedList<>();
+        Map<ExecutionUnit, BatchExecutionUnit> routeUnits = new LinkedHashMap<>();
         for (PreparedStatement each : preparedStatements) {
             BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))));
             batchExecutionUnit.mapAddBatchCount(0);
             batchExecutionUnit.mapAddBatchCount(1);
-            routeUnits.add(batchExecutionUnit);
+            routeUnits.put(batchExecutionUnit.getExecutionUnit(), batchExecutionUnit);
             preparedStatementExecuteUnits.add(new StatementExecuteUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))), each, ConnectionMode.MEMORY_STRICTLY));
         }
         setFields(executeGroups, routeUnits);
     }
     
     @SneakyThrows
-    private void setFields(final Collection<InputGroup<StatementExecuteUnit>> executeGroups, final Collection<BatchExecutionUnit> routeUnits) {
+    private void setFields(final Collection<InputGroup<StatementExecuteUnit>> executeGroups, final Map<ExecutionUnit, BatchExecutionUnit> routeUnits) {
         Field field = BatchPreparedStatementExecutor.class.getDeclaredField("inputGroups");
         field.setAccessible(true);
         field.set(actual, executeGroups);
@@ -154,4 +208,19 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         field.setAccessible(true);
         field.set(actual, 2);
     }
+    
+    private ExecutionUnit createExecutionUnit(final String dataSourceName, final int parameter) {
+        return new ExecutionUnit(dataSourceName, new SQLUnit(SQL, Lists.newArrayList(parameter)));
+    }
+    
+    private InsertStatementContext createInsertStatementContext() {
+        InsertStatement insertStatement = new InsertStatement();
+        insertStatement.getValues().add(new InsertValuesSegment(0, 0, Collections.emptyList()));
+        InsertStatementContext result = mock(InsertStatementContext.class);
+        when(result.getSqlStatement()).thenReturn(insertStatement);
+        TablesContext tablesContext = mock(TablesContext.class);
+        when(tablesContext.getTableNames()).thenReturn(Collections.singleton("table_x"));
+        when(result.getTablesContext()).thenReturn(tablesContext);
+        return result;
+    }
 }
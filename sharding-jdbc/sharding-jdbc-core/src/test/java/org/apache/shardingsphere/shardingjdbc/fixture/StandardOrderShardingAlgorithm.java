@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.shardingjdbc.fixture;
 
+import org.apache.shardingsphere.api.sharding.CacheableShardingAlgorithm;
 import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.api.sharding.standard.StandardShardingAlgorithm;
@@ -25,7 +26,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Properties;
 
-public final class StandardOrderShardingAlgorithm implements StandardShardingAlgorithm<Integer> {
+public final class StandardOrderShardingAlgorithm implements StandardShardingAlgorithm<Integer>, CacheableShardingAlgorithm {
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Integer> shardingValue) {
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingjdbc.jdbc.core.context.plan;
+
+import org.apache.shardingsphere.api.hint.HintManager;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.rule.TableRule;
+import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.underlying.common.rule.ShardingSphereRule;
+import org.apache.shardingsphere.underlying.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.underlying.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.underlying.route.context.RouteContext;
+import org.apache.shardingsphere.underlying.route.context.RouteMapper;
+import org.apache.shardingsphere.underlying.route.context.RouteResult;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ExecutionPlanCacheTest {
+    
+    private static final String SELECT_SQL = "SELECT * FROM t_order WHERE order_id = ?";
+    
+    private static final String INSERT_SQL = "INSERT INTO t_order (order_id) VALUES (?)";
+    
+    @Test
+    public void assertPutWhenDisabled() {
+        ExecutionPlanCache executionPlanCache = new ExecutionPlanCache(Collections.singletonList(mockShardingRule(true)), 0);
+        executionPlanCache.put(SELECT_SQL, createRouteContext(mockSelectStatementContext(false)), createSQLRewriteResult());
+        assertFalse(executionPlanCache.findExecutionPlan(SELECT_SQL).isPresent());
+    }
+    
+    @Test
+    public void assertPutWithoutShardingRule() {
+        ExecutionPlanCache executionPlanCache = new ExecutionPlanCache(Collections.singletonList(mock(ShardingSphereRule.class)), 10);
+        executionPlanCache.put(SELECT_SQL, createRouteContext(mockSelectStatementContext(false)), createSQLRewriteResult());
+        assertFalse(executionPlanCache.findExecutionPlan(SELECT_SQL).isPresent());
+    }
+    
+    @Test
+    public void assertPutWithNonSelectStatement() {
+        ExecutionPlanCache executionPlanCache = new ExecutionPlanCache(Collections.singletonList(mockShardingRule(true)), 10);
+        executionPlanCache.put(INSERT_SQL, createRouteContext(mock(InsertStatementContext.class)), createSQLRewriteResult());
+        assertFalse(executionPlanCache.findExecutionPlan(INSERT_SQL).isPresent());
+    }
+    
+    @Test
+    public void assertPutWithPagination() {
+        ExecutionPlanCache executionPlanCache = new ExecutionPlanCache(Collections.singletonList(mockShardingRule(true)), 10);
+        executionPlanCache.put(SELECT_SQL, createRouteContext(mockSelectStatementContext(true)), createSQLRewriteResult());
+        assertFalse(executionPlanCache.findExecutionPlan(SELECT_SQL).isPresent());
+    }
+    
+    @Test
+    public void assertPutWithNonCacheableShardingStrategy() {
+        ExecutionPlanCache executionPlanCache = new ExecutionPlanCache(Collections.singletonList(mockShardingRule(false)), 10);
+        executionPlanCache.put(SELECT_SQL, createRouteContext(mockSelectStatementContext(false)), createSQLRewriteResult());
+        assertFalse(executionPlanCache.findExecutionPlan(SELECT_SQL).isPresent());
+    }
+    
+    @Test
+    public void assertPutAndFindExecutionPlan() {
+        ExecutionPlanCache executionPlanCache = new ExecutionPlanCache(Collections.singletonList(mockShardingRule(true)), 10);
+        SelectStatementContext selectStatementContext = mockSelectStatementContext(false);
+        executionPlanCache.put(SELECT_SQL, createRouteContext(selectStatementContext), createSQLRewriteResult());
+        Optional<ExecutionPlan> actual = executionPlanCache.findExecutionPlan(SELECT_SQL);
+        assertTrue(actual.isPresent());
+        assertTrue(actual.get().createExecutionContext(createRouteContext(selectStatementContext)).isPresent());
+        executionPlanCache.clear();
+        assertFalse(executionPlanCache.findExecutionPlan(SELECT_SQL).isPresent());
+    }
+    
+    @Test
+    public void assertFindExecutionPlanWithHint() {
+        ExecutionPlanCache executionPlanCache = new ExecutionPlanCache(Collections.singletonList(mockShardingRule(true)), 10);
+        executionPlanCache.put(SELECT_SQL, createRouteContext(mockSelectStatementContext(false)), createSQLRewriteResult());
+        try (HintManager ignored = HintManager.getInstance()) {
+            assertFalse(executionPlanCache.findExecutionPlan(SELECT_SQL).isPresent());
+        }
+    }
+    
+    private ShardingRule mockShardingRule(final boolean cacheable) {
+        ShardingRule result = mock(ShardingRule.class);
+        Collection<String> logicTableNames = Collections.singletonList("t_order");
+        when(result.getShardingLogicTableNames(logicTableNames)).thenReturn(logicTableNames);
+        TableRule tableRule = mock(TableRule.class);
+        when(result.getTableRule("t_order")).thenReturn(tableRule);
+        ShardingStrategy shardingStrategy = mock(ShardingStrategy.class);
+        when(shardingStrategy.isCacheable()).thenReturn(cacheable);
+        when(result.getDatabaseShardingStrategy(any())).thenReturn(shardingStrategy);
+        when(result.getTableShardingStrategy(any())).thenReturn(shardingStrategy);
+        return result;
+    }
+    
+    private SelectStatementContext mockSelectStatementContext(final boolean hasPagination) {
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getPaginationContext().isHasPagination()).thenReturn(hasPagination);
+        when(result.getTablesContext().getTableNames()).thenReturn(Collections.singletonList("t_order"));
+        return result;
+    }
+    
+    private RouteContext createRouteContext(final SQLStatementContext sqlStatementContext) {
+        RouteResult routeResult = new RouteResult();
+        routeResult.getRouteUnits().add(createRouteUnit());
+        return new RouteContext(sqlStatementContext, Collections.singletonList(1), routeResult);
+    }
+    
+    private RouteSQLRewriteResult createSQLRewriteResult() {
+        List<Object> parameters = Collections.singletonList(1);
+        return new RouteSQLRewriteResult(Collections.singletonMap(createRouteUnit(), new SQLRewriteUnit("SELECT * FROM t_order_0 WHERE order_id = ?", parameters)));
+    }
+    
+    private RouteUnit createRouteUnit() {
+        return new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_0")));
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingjdbc.jdbc.core.context.plan;
+
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.underlying.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.underlying.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.underlying.route.context.RouteContext;
+import org.apache.shardingsphere.underlying.route.context.RouteMapper;
+import org.apache.shardingsphere.underlying.route.context.RouteResult;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class ExecutionPlanTest {
+    
+    private final SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class);
+    
+    @Test
+    public void assertCreateExecutionContext() {
+        ExecutionPlan executionPlan = new ExecutionPlan();
+        List<Object> parameters = Collections.singletonList(1);
+        executionPlan.addRewrittenSQLs(createRouteContext(parameters, 0, 1), createSQLRewriteResult(parameters, 0, 1));
+        List<Object> otherParameters = Collections.singletonList(2);
+        SQLStatementContext otherSQLStatementContext = mock(SQLStatementContext.class);
+        Optional<ExecutionContext> actual = executionPlan.createExecutionContext(createRouteContext(otherSQLStatementContext, otherParameters, 0, 1));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSqlStatementContext(), is(otherSQLStatementContext));
+        assertThat(actual.get().getExecutionUnits().size(), is(2));
+        Iterator<ExecutionUnit> executionUnits = actual.get().getExecutionUnits().iterator();
+        ExecutionUnit first = executionUnits.next();
+        assertThat(first.getDataSourceName(), is("ds_0"));
+        assertThat(first.getSqlUnit().getSql(), is("SELECT * FROM t_order_0 WHERE order_id = ?"));
+        assertThat(first.getSqlUnit().getParameters(), is(otherParameters));
+        ExecutionUnit second = executionUnits.next();
+        assertThat(second.getDataSourceName(), is("ds_1"));
+        assertThat(second.getSqlUnit().getSql(), is("SELECT * FROM t_order_1 WHERE order_id = ?"));
+        assertThat(second.getSqlUnit().getParameters(), is(otherParameters));
+    }
+    
+    @Test
+    public void assertCreateExecutionContextWithoutRewrittenRouteUnit() {
+        ExecutionPlan executionPlan = new ExecutionPlan();
+        List<Object> parameters = Collections.singletonList(1);
+        executionPlan.addRewrittenSQLs(createRouteContext(parameters, 0, 1), createSQLRewriteResult(parameters, 0, 1));
+        assertFalse(executionPlan.createExecutionContext(createRouteContext(parameters, 0, 2)).isPresent());
+    }
+    
+    @Test
+    public void assertCreateExecutionContextWithSingleRouting() {
+        ExecutionPlan executionPlan = new ExecutionPlan();
+        List<Object> parameters = Collections.singletonList(1);
+        executionPlan.addRewrittenSQLs(createRouteContext(parameters, 0, 1), createSQLRewriteResult(parameters, 0, 1));
+        assertFalse(executionPlan.createExecutionContext(createRouteContext(parameters, 0)).isPresent());
+        executionPlan.addRewrittenSQLs(createRouteContext(parameters, 0), createSQLRewriteResult(parameters, 0));
+        assertTrue(executionPlan.createExecutionContext(createRouteContext(parameters, 0)).isPresent());
+    }
+    
+    @Test
+    public void assertAddRewrittenSQLsWithRewrittenParameters() {
+        ExecutionPlan executionPlan = new ExecutionPlan();
+        executionPlan.addRewrittenSQLs(createRouteContext(Collections.singletonList(1), 0, 1), createSQLRewriteResult(Collections.singletonList(2), 0, 1));
+        assertFalse(executionPlan.createExecutionContext(createRouteContext(Collections.singletonList(1), 0, 1)).isPresent());
+    }
+    
+    private RouteContext createRouteContext(final List<Object> parameters, final int... shardingItems) {
+        return createRouteContext(sqlStatementContext, parameters, shardingItems);
+    }
+    
+    private RouteContext createRouteContext(final SQLStatementContext sqlStatementContext, final List<Object> parameters, final int... shardingItems) {
+        RouteResult routeResult = new RouteResult();
+        for (int each : shardingItems) {
+            routeResult.getRouteUnits().add(createRouteUnit(each));
+        }
+        return new RouteContext(sqlStatementContext, parameters, routeResult);
+    }
+    
+    private RouteSQLRewriteResult createSQLRewriteResult(final List<Object> parameters, final int... shardingItems) {
+        Map<RouteUnit, SQLRewriteUnit> result = new LinkedHashMap<>(shardingItems.length, 1);
+        for (int each : shardingItems) {
+            result.put(createRouteUnit(each), new SQLRewriteUnit(String.format("SELECT * FROM t_order_%d WHERE order_id = ?", each), parameters));
+        }
+        return new RouteSQLRewriteResult(result);
+    }
+    
+    private RouteUnit createRouteUnit(final int shardingItem) {
+        return new RouteUnit(new RouteMapper("ds_" + shardingItem, "ds_" + shardingItem), Collections.singletonList(new RouteMapper("t_order", "t_order_" + shardingItem)));
+    }
+}
@@ -17,13 +17,24 @@
 
 package org.apache.shardingsphere.shardingjdbc.jdbc.core.resultset;
 
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.context.RuntimeContext;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.statement.ShardingStatement;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.groupby.GroupByContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderByContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.ProjectionsContext;
 import org.apache.shardingsphere.sql.parser.binder.segment.table.TablesContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
+import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
 import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.queryresult.StreamQueryResult;
 import org.apache.shardingsphere.underlying.merge.result.MergedResult;
 import org.junit.Before;
 import org.junit.Test;
@@ -42,6 +53,7 @@ import java.sql.SQLException;
 import java.sql.SQLXML;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.List;
@@ -50,9 +62,12 @@ import java.util.Properties;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class ShardingResultSetTest {
@@ -88,6 +103,12 @@ public final class ShardingResultSetTest {
         return Collections.singletonList(resultSet);
     }
     
+    private ResultSet createStreamResultSet() throws SQLException {
+        ResultSet result = getResultSets().get(0);
+        when(result.next()).thenReturn(true, true, false);
+        return result;
+    }
+    
     private ShardingStatement getShardingStatement() {
         ShardingConnection shardingConnection = mock(ShardingConnection.class);
         RuntimeContext runtimeContext = mock(RuntimeContext.class);
@@ -104,6 +125,36 @@ public final class ShardingResultSetTest {
         assertTrue(shardingResultSet.next());
     }
     
+    @Test
+    public void assertClose() throws SQLException {
+        shardingResultSet.close();
+        assertTrue(shardingResultSet.isClosed());
+        verify(mergeResultSet).close();
+    }
+    
+    @Test
+    public void assertCloseAfterEarlyTermination() throws SQLException {
+        List<ResultSet> resultSets = Arrays.asList(createStreamResultSet(), createStreamResultSet());
+        SelectStatementContext selectStatementContext = new SelectStatementContext(new SelectStatement(),
+                new GroupByContext(Collections.emptyList(), 0), new OrderByContext(Collections.emptyList(), false), new ProjectionsContext(0, 0, false, Collections.emptyList()),
+                new PaginationContext(null, new NumberLiteralLimitValueSegment(0, 0, 1), Collections.emptyList()));
+        List<QueryResult> queryResults = Arrays.asList(new StreamQueryResult(resultSets.get(0)), new StreamQueryResult(resultSets.get(1)));
+        MergedResult mergedResult = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), 0, false, true).merge(queryResults, selectStatementContext, null);
+        ShardingResultSet actual = new ShardingResultSet(resultSets, mergedResult, getShardingStatement(), createExecutionContext());
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+        for (ResultSet each : resultSets) {
+            verify(each).close();
+            when(each.getMetaData()).thenThrow(new SQLException("Operation not allowed after ResultSet closed"));
+        }
+        assertNotNull(actual.getMetaData());
+        actual.close();
+        assertTrue(actual.isClosed());
+        for (ResultSet each : resultSets) {
+            verify(each, times(2)).close();
+        }
+    }
+    
     @Test
     public void assertWasNull() throws SQLException {
         assertFalse(shardingResultSet.wasNull());
@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.shardingjdbc.jdbc.core.statement;
 
 import org.apache.shardingsphere.shardingjdbc.common.base.AbstractShardingJDBCDatabaseAndTableTest;
+import org.apache.shardingsphere.shardingjdbc.jdbc.core.context.plan.ExecutionPlan;
+import org.apache.shardingsphere.shardingjdbc.jdbc.core.context.plan.ExecutionPlanCache;
 import org.apache.shardingsphere.shardingjdbc.fixture.ResetIncrementKeyGenerateAlgorithm;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -27,6 +29,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -48,6 +51,8 @@ public final class ShardingPreparedStatementTest extends AbstractShardingJDBCDat
     
     private static final String SELECT_SQL_WITH_PARAMETER_MARKER = "SELECT item_id FROM t_order_item WHERE user_id = ? AND order_id= ? AND status = 'BATCH'";
     
+    private static final String SELECT_SQL_WITH_SHARDING_AND_STATUS_PARAMETER_MARKERS = "SELECT item_id FROM t_order_item WHERE user_id = ? AND order_id = ? AND status = ? ORDER BY item_id";
+    
     private static final String UPDATE_SQL = "UPDATE t_order SET status = ? WHERE user_id = ? AND order_id = ?";
     
     private static final String UPDATE_BATCH_SQL = "UPDATE t_order SET status=? WHERE status=?";
@@ -387,6 +392,49 @@ public final class ShardingPreparedStatementTest extends AbstractShardingJDBCDat
         }
     }
     
+    @Test
+    public void assertExecuteQueryWithCachedExecutionPlan() throws SQLException {
+        ExecutionPlanCache executionPlanCache = getShardingDataSource().getRuntimeContext().getExecutionPlanCache();
+        try (PreparedStatement preparedStatement = getShardingDataSource().getConnection().prepareStatement(SELECT_SQL_WITH_SHARDING_AND_STATUS_PARAMETER_MARKERS)) {
+            preparedStatement.setInt(1, 10);
+            preparedStatement.setInt(2, 1000);
+            preparedStatement.setString(3, "init");
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getInt(1), is(100000));
+            }
+            Optional<ExecutionPlan> executionPlan = executionPlanCache.findExecutionPlan(SELECT_SQL_WITH_SHARDING_AND_STATUS_PARAMETER_MARKERS);
+            assertTrue(executionPlan.isPresent());
+            preparedStatement.setInt(1, 10);
+            preparedStatement.setInt(2, 1000);
+            preparedStatement.setString(3, "other");
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                assertFalse(resultSet.next());
+            }
+            preparedStatement.setInt(1, 11);
+            preparedStatement.setInt(2, 1100);
+            preparedStatement.setString(3, "init");
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getInt(1), is(110000));
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getInt(1), is(110001));
+                assertFalse(resultSet.next());
+            }
+            preparedStatement.setInt(1, 10);
+            preparedStatement.setInt(2, 1000);
+            preparedStatement.setString(3, "init");
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getInt(1), is(100000));
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getInt(1), is(100001));
+                assertFalse(resultSet.next());
+            }
+            assertThat(executionPlanCache.findExecutionPlan(SELECT_SQL_WITH_SHARDING_AND_STATUS_PARAMETER_MARKERS), is(executionPlan));
+        }
+    }
+    
     @Test(expected = SQLException.class)
     public void assertQueryWithNull() throws SQLException {
         try (PreparedStatement preparedStatement = getShardingDataSource().getConnection().prepareStatement(null)) {
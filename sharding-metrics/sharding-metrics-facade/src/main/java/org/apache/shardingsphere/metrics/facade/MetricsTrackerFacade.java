@@ -95,9 +95,20 @@ public final class MetricsTrackerFacade {
      * @param labelValues  label values
      */
     public void counterInc(final String metricsLabel, final String... labelValues) {
+        counterInc(metricsLabel, 1.0, labelValues);
+    }
+    
+    /**
+     * Increment of counter metrics tracker by the given amount.
+     *
+     * @param metricsLabel metrics label
+     * @param amount amount
+     * @param labelValues  label values
+     */
+    public void counterInc(final String metricsLabel, final double amount, final String... labelValues) {
         if (enabled) {
             metricsTrackerManager.getMetricsTrackerFactory().create(MetricsTypeEnum.COUNTER.name(), metricsLabel)
-                .ifPresent(metricsTracker -> ((CounterMetricsTracker) metricsTracker).inc(1.0, labelValues));
+                .ifPresent(metricsTracker -> ((CounterMetricsTracker) metricsTracker).inc(amount, labelValues));
         }
     }
     
@@ -108,9 +119,20 @@ public final class MetricsTrackerFacade {
      * @param labelValues  label values
      */
     public void gaugeInc(final String metricsLabel, final String... labelValues) {
+        gaugeInc(metricsLabel, 1.0, labelValues);
+    }
+    
+    /**
+     * Increment of gauge metrics tracker by the given amount.
+     *
+     * @param metricsLabel metrics label
+     * @param amount amount
+     * @param labelValues  label values
+     */
+    public void gaugeInc(final String metricsLabel, final double amount, final String... labelValues) {
         if (enabled) {
             metricsTrackerManager.getMetricsTrackerFactory().create(MetricsTypeEnum.GAUGE.name(), metricsLabel)
-                .ifPresent(metricsTracker -> ((GaugeMetricsTracker) metricsTracker).inc(1.0, labelValues));
+                .ifPresent(metricsTracker -> ((GaugeMetricsTracker) metricsTracker).inc(amount, labelValues));
         }
     }
     
@@ -121,9 +143,20 @@ public final class MetricsTrackerFacade {
      * @param labelValues  label values
      */
     public void gaugeDec(final String metricsLabel, final String... labelValues) {
+        gaugeDec(metricsLabel, 1.0, labelValues);
+    }
+    
+    /**
+     * Decrement of gauge metrics tracker by the given amount.
+     *
+     * @param metricsLabel metrics label
+     * @param amount amount
+     * @param labelValues  label values
+     */
+    public void gaugeDec(final String metricsLabel, final double amount, final String... labelValues) {
         if (enabled) {
             metricsTrackerManager.getMetricsTrackerFactory().create(MetricsTypeEnum.GAUGE.name(), metricsLabel)
-                .ifPresent(metricsTracker -> ((GaugeMetricsTracker) metricsTracker).dec(1.0, labelValues));
+                .ifPresent(metricsTracker -> ((GaugeMetricsTracker) metricsTracker).dec(amount, labelValues));
         }
     }
     
@@ -135,6 +168,9 @@ public final class MetricsTrackerFacade {
      * @return histogram metrics tracker delegate
      */
     public HistogramMetricsTrackerDelegate histogramStartTimer(final String metricsLabel, final String... labelValues) {
+        if (!enabled) {
+            return new NoneHistogramMetricsTrackerDelegate();
+        }
         Optional<MetricsTracker> metricsTracker = metricsTrackerManager.getMetricsTrackerFactory().create(MetricsTypeEnum.HISTOGRAM.name(), metricsLabel);
         if (metricsTracker.isPresent()) {
             return ((HistogramMetricsTracker) metricsTracker.get()).startTimer(labelValues);
@@ -160,6 +196,9 @@ public final class MetricsTrackerFacade {
      * @return summary metrics tracker delegate
      */
     public SummaryMetricsTrackerDelegate summaryStartTimer(final String metricsLabel, final String... labelValues) {
+        if (!enabled) {
+            return new NoneSummaryMetricsTrackerDelegate();
+        }
         Optional<MetricsTracker> metricsTracker = metricsTrackerManager.getMetricsTrackerFactory().create(MetricsTypeEnum.SUMMARY.name(), metricsLabel);
         if (metricsTracker.isPresent()) {
             return ((SummaryMetricsTracker) metricsTracker.get()).startTimer(labelValues);
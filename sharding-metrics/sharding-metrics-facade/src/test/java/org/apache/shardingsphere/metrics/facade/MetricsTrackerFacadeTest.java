@@ -55,6 +55,11 @@ public final class MetricsTrackerFacadeTest {
         metricsTrackerFacade.counterInc("request_total");
     }
     
+    @Test
+    public void counterIncWithAmount() {
+        metricsTrackerFacade.counterInc("request_total", 2.0);
+    }
+    
     @Test
     public void gaugeInc() {
         metricsTrackerFacade.gaugeInc("request_total");
@@ -65,6 +70,12 @@ public final class MetricsTrackerFacadeTest {
         metricsTrackerFacade.gaugeDec("request_total");
     }
     
+    @Test
+    public void gaugeIncAndDecWithAmount() {
+        metricsTrackerFacade.gaugeInc("request_total", 2.0);
+        metricsTrackerFacade.gaugeDec("request_total", 2.0);
+    }
+    
     @Test
     public void histogram() {
         HistogramMetricsTrackerDelegate delegate = metricsTrackerFacade.histogramStartTimer("request");
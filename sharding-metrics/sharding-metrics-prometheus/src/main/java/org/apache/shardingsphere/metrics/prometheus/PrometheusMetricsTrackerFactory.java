@@ -20,8 +20,12 @@ package org.apache.shardingsphere.metrics.prometheus;
 import org.apache.shardingsphere.metrics.api.MetricsTracker;
 import org.apache.shardingsphere.metrics.api.MetricsTrackerFactory;
 import org.apache.shardingsphere.metrics.prometheus.impl.counter.RequestTotalCounterMetricsTracker;
+import org.apache.shardingsphere.metrics.prometheus.impl.counter.SQLParseCacheCounterMetricsTracker;
+import org.apache.shardingsphere.metrics.prometheus.impl.counter.SQLParseCacheLoadTimeCounterMetricsTracker;
 import org.apache.shardingsphere.metrics.prometheus.impl.counter.SQLStatementCounterMetricsTracker;
 import org.apache.shardingsphere.metrics.prometheus.impl.gauge.ChannelCountGaugeMetricsTracker;
+import org.apache.shardingsphere.metrics.prometheus.impl.gauge.SQLParseCacheSizeGaugeMetricsTracker;
+import org.apache.shardingsphere.metrics.prometheus.impl.histogram.KeySegmentAllocateLatencyHistogramMetricsTracker;
 import org.apache.shardingsphere.metrics.prometheus.impl.histogram.RequestLatencyHistogramMetricsTracker;
 import org.apache.shardingsphere.metrics.prometheus.impl.summary.RequestLatencySummaryMetricsTracker;
 
@@ -42,6 +46,10 @@ public final class PrometheusMetricsTrackerFactory implements MetricsTrackerFact
         REGISTER.add(new ChannelCountGaugeMetricsTracker());
         REGISTER.add(new RequestLatencyHistogramMetricsTracker());
         REGISTER.add(new RequestLatencySummaryMetricsTracker());
+        REGISTER.add(new SQLParseCacheCounterMetricsTracker());
+        REGISTER.add(new SQLParseCacheLoadTimeCounterMetricsTracker());
+        REGISTER.add(new SQLParseCacheSizeGaugeMetricsTracker());
+        REGISTER.add(new KeySegmentAllocateLatencyHistogramMetricsTracker());
     }
     
     @Override
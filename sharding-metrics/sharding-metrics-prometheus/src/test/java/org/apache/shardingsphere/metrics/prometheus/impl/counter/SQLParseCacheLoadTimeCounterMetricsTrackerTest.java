@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.prometheus.impl.counter;
+
+import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
+import org.apache.shardingsphere.metrics.enums.MetricsTypeEnum;
+import org.apache.shardingsphere.metrics.prometheus.impl.AbstractPrometheusCollectorRegistry;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+public final class SQLParseCacheLoadTimeCounterMetricsTrackerTest extends AbstractPrometheusCollectorRegistry {
+    
+    @Test
+    public void counterSQLParseCacheLoadTime() {
+        SQLParseCacheLoadTimeCounterMetricsTracker tracker = new SQLParseCacheLoadTimeCounterMetricsTracker();
+        assertEquals(tracker.metricsLabel(), MetricsLabelEnum.SQL_PARSE_CACHE_LOAD_TIME.getName());
+        assertEquals(tracker.metricsType(), MetricsTypeEnum.COUNTER.name());
+        tracker.inc(0.5, "MySQL");
+        tracker.inc(0.25, "MySQL");
+        assertThat(getCollectorRegistry().getSampleValue("sql_parse_cache_load_time_seconds", new String[]{"database_type"}, new String[]{"MySQL"}), is(0.75));
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.prometheus.impl.gauge;
+
+import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
+import org.apache.shardingsphere.metrics.enums.MetricsTypeEnum;
+import org.apache.shardingsphere.metrics.prometheus.impl.AbstractPrometheusCollectorRegistry;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+public final class SQLParseCacheSizeGaugeMetricsTrackerTest extends AbstractPrometheusCollectorRegistry {
+    
+    @Test
+    public void gauge() {
+        SQLParseCacheSizeGaugeMetricsTracker tracker = new SQLParseCacheSizeGaugeMetricsTracker();
+        assertEquals(tracker.metricsLabel(), MetricsLabelEnum.SQL_PARSE_CACHE_SIZE.getName());
+        assertEquals(tracker.metricsType(), MetricsTypeEnum.GAUGE.name());
+        tracker.inc(10.0, "MySQL");
+        tracker.dec(4.0, "MySQL");
+        assertThat(getCollectorRegistry().getSampleValue("sql_parse_cache_size", new String[]{"database_type"}, new String[]{"MySQL"}), is(6.0));
+    }
+}
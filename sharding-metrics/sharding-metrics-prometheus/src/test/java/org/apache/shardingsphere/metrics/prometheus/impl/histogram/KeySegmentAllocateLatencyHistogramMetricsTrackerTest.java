@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.prometheus.impl.histogram;
+
+import org.apache.shardingsphere.metrics.api.HistogramMetricsTrackerDelegate;
+import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
+import org.apache.shardingsphere.metrics.enums.MetricsTypeEnum;
+import org.apache.shardingsphere.metrics.prometheus.impl.AbstractPrometheusCollectorRegistry;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+public final class KeySegmentAllocateLatencyHistogramMetricsTrackerTest extends AbstractPrometheusCollectorRegistry {
+    
+    @Test
+    public void histogram() {
+        KeySegmentAllocateLatencyHistogramMetricsTracker tracker = new KeySegmentAllocateLatencyHistogramMetricsTracker();
+        assertEquals(tracker.metricsLabel(), MetricsLabelEnum.KEY_SEGMENT_ALLOCATE_LATENCY.getName());
+        assertEquals(tracker.metricsType(), MetricsTypeEnum.HISTOGRAM.name());
+        HistogramMetricsTrackerDelegate trackerDelegate = tracker.startTimer("order_id");
+        trackerDelegate.observeDuration();
+        String metricName = "key_segment_allocate_latency_histogram_millis";
+        String[] labelNames = {"segment_key"};
+        String[] labelValues = {"order_id"};
+        assertNotNull(getCollectorRegistry().getSampleValue(metricName + "_count", labelNames, labelValues));
+        assertNotNull(getCollectorRegistry().getSampleValue(metricName + "_sum", labelNames, labelValues));
+    }
+}
@@ -45,7 +45,27 @@ public enum MetricsLabelEnum {
     /**
      * Request latency metrics label.
      */
-    REQUEST_LATENCY("request_latency");
+    REQUEST_LATENCY("request_latency"),
+    
+    /**
+     * SQL parse cache count metrics label.
+     */
+    SQL_PARSE_CACHE_COUNT("sql_parse_cache_count"),
+    
+    /**
+     * SQL parse cache load time metrics label.
+     */
+    SQL_PARSE_CACHE_LOAD_TIME("sql_parse_cache_load_time"),
+    
+    /**
+     * SQL parse cache size metrics label.
+     */
+    SQL_PARSE_CACHE_SIZE("sql_parse_cache_size"),
+    
+    /**
+     * Key segment allocate latency metrics label.
+     */
+    KEY_SEGMENT_ALLOCATE_LATENCY("key_segment_allocate_latency");
     
     private final String name;
 }
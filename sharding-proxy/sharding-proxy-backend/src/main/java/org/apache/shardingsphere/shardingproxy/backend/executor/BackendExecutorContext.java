@@ -20,8 +20,8 @@ package org.apache.shardingsphere.shardingproxy.backend.executor;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.underlying.executor.kernel.ExecutorKernel;
+import org.apache.shardingsphere.underlying.executor.sql.group.ConnectionModePolicy;
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 
 /**
@@ -33,7 +33,9 @@ public final class BackendExecutorContext {
     
     private static final BackendExecutorContext INSTANCE = new BackendExecutorContext();
     
-    private final ExecutorKernel executorKernel = new ExecutorKernel(ShardingProxyContext.getInstance().getProperties().<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_SIZE));
+    private final ExecutorKernel executorKernel = new ExecutorKernel(ShardingProxyContext.getInstance().getProperties());
+    
+    private final ConnectionModePolicy connectionModePolicy = new ConnectionModePolicy(ShardingProxyContext.getInstance().getProperties());
     
     /**
      * Get executor context instance.
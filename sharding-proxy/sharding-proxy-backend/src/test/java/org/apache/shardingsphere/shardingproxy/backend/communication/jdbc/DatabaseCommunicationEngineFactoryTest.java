@@ -20,7 +20,9 @@ package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc;
 import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCommunicationEngine;
 import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCommunicationEngineFactory;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource.JDBCBackendDataSource;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
+import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Collections;
@@ -29,12 +31,20 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public final class DatabaseCommunicationEngineFactoryTest {
     
+    private final LogicSchema logicSchema = mock(LogicSchema.class);
+    
+    @Before
+    public void setUp() {
+        when(logicSchema.getBackendDataSource()).thenReturn(mock(JDBCBackendDataSource.class));
+    }
+    
     @Test
     public void assertNewTextProtocolInstance() {
-        DatabaseCommunicationEngine engine = DatabaseCommunicationEngineFactory.getInstance().newTextProtocolInstance(mock(LogicSchema.class), "schemaName", mock(BackendConnection.class));
+        DatabaseCommunicationEngine engine = DatabaseCommunicationEngineFactory.getInstance().newTextProtocolInstance(logicSchema, "schemaName", mock(BackendConnection.class));
         assertNotNull(engine);
         assertThat(engine, instanceOf(JDBCDatabaseCommunicationEngine.class));
     }
@@ -42,7 +52,7 @@ public final class DatabaseCommunicationEngineFactoryTest {
     @Test
     public void assertNewBinaryProtocolInstance() {
         DatabaseCommunicationEngine engine = DatabaseCommunicationEngineFactory.getInstance()
-                .newBinaryProtocolInstance(mock(LogicSchema.class), "schemaName", Collections.emptyList(), mock(BackendConnection.class));
+                .newBinaryProtocolInstance(logicSchema, "schemaName", Collections.emptyList(), mock(BackendConnection.class));
         assertNotNull(engine);
         assertThat(engine, instanceOf(JDBCDatabaseCommunicationEngine.class));
     }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.conne
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.underlying.executor.sql.ConnectionMode;
 import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+import org.apache.shardingsphere.underlying.merge.result.MergedResult;
 import org.apache.shardingsphere.shardingproxy.backend.MockLogicSchemasUtil;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource.JDBCBackendDataSource;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
@@ -157,6 +158,7 @@ public final class BackendConnectionTest {
         }
         assertThat(actual.getConnectionSize(), is(0));
         assertTrue(actual.getCachedConnections().isEmpty());
+        assertTrue(actual.getCachedMergedResults().isEmpty());
         assertTrue(actual.getCachedResultSets().isEmpty());
         assertTrue(actual.getCachedStatements().isEmpty());
         assertThat(actual.getStateHandler().getStatus(), is(ConnectionStatus.RELEASE));
@@ -176,6 +178,7 @@ public final class BackendConnectionTest {
         }
         assertThat(actual.getConnectionSize(), is(12));
         assertThat(actual.getCachedConnections().get("ds1").size(), is(12));
+        assertTrue(actual.getCachedMergedResults().isEmpty());
         assertTrue(actual.getCachedResultSets().isEmpty());
         assertTrue(actual.getCachedStatements().isEmpty());
     }
@@ -200,6 +203,7 @@ public final class BackendConnectionTest {
         assert actual != null;
         assertThat(actual.getConnectionSize(), is(0));
         assertTrue(actual.getCachedConnections().isEmpty());
+        assertTrue(actual.getCachedMergedResults().isEmpty());
         assertTrue(actual.getCachedResultSets().isEmpty());
         assertTrue(actual.getCachedStatements().isEmpty());
     }
@@ -207,6 +211,7 @@ public final class BackendConnectionTest {
     private void mockResultSetAndStatement(final BackendConnection backendConnection) {
         ResultSet resultSet = mock(ResultSet.class);
         Statement statement = mock(Statement.class);
+        backendConnection.add(mock(MergedResult.class));
         backendConnection.add(resultSet);
         backendConnection.add(statement);
     }
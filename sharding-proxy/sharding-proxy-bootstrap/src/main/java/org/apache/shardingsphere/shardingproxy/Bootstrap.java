@@ -20,6 +20,7 @@ package org.apache.shardingsphere.shardingproxy;
 import com.google.common.primitives.Ints;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shardingsphere.core.log.ConfigurationLogger;
 import org.apache.shardingsphere.core.rule.Authentication;
@@ -46,10 +47,16 @@ import org.apache.shardingsphere.shardingproxy.config.yaml.YamlProxyRuleConfigur
 import org.apache.shardingsphere.shardingproxy.config.yaml.YamlProxyServerConfiguration;
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.bootstrap.ShardingProxy;
+import org.apache.shardingsphere.shardingproxy.metrics.SQLParseResultCacheMetricsReporter;
 import org.apache.shardingsphere.shardingproxy.util.DataSourceConverter;
+import org.apache.shardingsphere.sql.parser.SQLParserEngineFactory;
+import org.apache.shardingsphere.sql.parser.warmup.WarmUpSQLLoader;
 import org.apache.shardingsphere.underlying.common.config.DataSourceConfiguration;
 import org.apache.shardingsphere.underlying.common.config.RuleConfiguration;
 import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.underlying.common.config.properties.SQLParseResultCacheOptionFactory;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
+import org.apache.shardingsphere.underlying.executor.kernel.impl.ShardingSphereThreadFactoryBuilder;
 
 import java.io.IOException;
 import java.sql.SQLException;
@@ -59,18 +66,26 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Sharding-Proxy Bootstrap.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
 public final class Bootstrap {
     
     private static final int DEFAULT_PORT = 3307;
     
     private static final String DEFAULT_CONFIG_PATH = "/conf/";
     
+    private static final long SQL_PARSE_CACHE_METRICS_REPORT_SECONDS = 10L;
+    
     /**
      * Main entrance.
      *
@@ -115,11 +130,15 @@ public final class Bootstrap {
                                                    final YamlMetricsConfiguration metricsConfiguration, final Properties properties, final int port) throws SQLException {
         Authentication authentication = new AuthenticationYamlSwapper().swap(yamlAuthenticationConfig);
         logAndInitContext(authentication, properties);
-        initMetrics(metricsConfiguration);
-        Map<String, Map<String, YamlDataSourceParameter>> schemaRules = getDataSourceParameterMap(ruleConfigs);
-        startProxy(schemaRules.keySet(), port, schemaRules, getRuleConfigurations(ruleConfigs), false);
-        Map<String, Map<String, YamlDataSourceParameter>> schemaDataSources = getDataSourceParameterMap(ruleConfigs);
-        startProxy(schemaDataSources.keySet(), port, schemaDataSources, getRuleConfigurations(ruleConfigs), false);
+        Optional<ScheduledExecutorService> metricsReportExecutor = initMetrics(metricsConfiguration);
+        try {
+            Map<String, Map<String, YamlDataSourceParameter>> schemaRules = getDataSourceParameterMap(ruleConfigs);
+            startProxy(schemaRules.keySet(), port, schemaRules, getRuleConfigurations(ruleConfigs), false);
+            Map<String, Map<String, YamlDataSourceParameter>> schemaDataSources = getDataSourceParameterMap(ruleConfigs);
+            startProxy(schemaDataSources.keySet(), port, schemaDataSources, getRuleConfigurations(ruleConfigs), false);
+        } finally {
+            metricsReportExecutor.ifPresent(ExecutorService::shutdown);
+        }
     }
     
     private static void startWithRegistryCenter(final YamlProxyServerConfiguration serverConfig, final Collection<String> shardingSchemaNames,
@@ -130,8 +149,12 @@ public final class Bootstrap {
             Authentication authentication = shardingOrchestrationFacade.getConfigCenter().loadAuthentication();
             Properties properties = shardingOrchestrationFacade.getConfigCenter().loadProperties();
             logAndInitContext(authentication, properties);
-            initMetrics(serverConfig.getMetrics());
-            startProxy(shardingSchemaNames, port, getSchemaDataSourceParameterMap(shardingOrchestrationFacade), getSchemaRules(shardingOrchestrationFacade), true);
+            Optional<ScheduledExecutorService> metricsReportExecutor = initMetrics(serverConfig.getMetrics());
+            try {
+                startProxy(shardingSchemaNames, port, getSchemaDataSourceParameterMap(shardingOrchestrationFacade), getSchemaRules(shardingOrchestrationFacade), true);
+            } finally {
+                metricsReportExecutor.ifPresent(ExecutorService::shutdown);
+            }
         }
     }
     
@@ -144,6 +167,7 @@ public final class Bootstrap {
     private static void startProxy(final Collection<String> shardingSchemaNames, final int port, final Map<String, Map<String, YamlDataSourceParameter>> schemaDataSources,
                                    final Map<String, Collection<RuleConfiguration>> schemaRules, final boolean isUsingRegistry) throws SQLException {
         LogicSchemas.getInstance().init(shardingSchemaNames, schemaDataSources, schemaRules, isUsingRegistry);
+        warmUpSQLParser();
         initOpenTracing();
         ShardingProxy.getInstance().start(port);
     }
@@ -182,16 +206,31 @@ public final class Bootstrap {
         }
     }
     
+    private static void warmUpSQLParser() {
+        String warmUpFile = ShardingProxyContext.getInstance().getProperties().getValue(ConfigurationPropertyKey.SQL_PARSER_WARM_UP_FILE);
+        if (warmUpFile.isEmpty()) {
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        int warmedCount = SQLParserEngineFactory.getSQLParserEngine(DatabaseTypes.getTrunkDatabaseTypeName(LogicSchemas.getInstance().getDatabaseType()),
+                SQLParseResultCacheOptionFactory.newInstance(ShardingProxyContext.getInstance().getProperties())).warmUp(WarmUpSQLLoader.load(warmUpFile));
+        log.info("SQL parser warm up finished with {} SQL(s), cost {} milliseconds.", warmedCount, System.currentTimeMillis() - startTime);
+    }
+    
     private static void initOpenTracing() {
         if (ShardingProxyContext.getInstance().getProperties().<Boolean>getValue(ConfigurationPropertyKey.PROXY_OPENTRACING_ENABLED)) {
             ShardingTracer.init();
         }
     }
     
-    private static void initMetrics(final YamlMetricsConfiguration metricsConfiguration) {
-        if (ShardingProxyContext.getInstance().getProperties().<Boolean>getValue(ConfigurationPropertyKey.PROXY_METRICS_ENABLED)) {
-            MetricsTrackerFacade.getInstance().init(new MetricsConfigurationYamlSwapper().swap(metricsConfiguration));
+    private static Optional<ScheduledExecutorService> initMetrics(final YamlMetricsConfiguration metricsConfiguration) {
+        if (!ShardingProxyContext.getInstance().getProperties().<Boolean>getValue(ConfigurationPropertyKey.PROXY_METRICS_ENABLED)) {
+            return Optional.empty();
         }
+        MetricsTrackerFacade.getInstance().init(new MetricsConfigurationYamlSwapper().swap(metricsConfiguration));
+        ScheduledExecutorService result = Executors.newSingleThreadScheduledExecutor(ShardingSphereThreadFactoryBuilder.build("SQL-Parse-Cache-Metrics-Reporter-%d"));
+        result.scheduleWithFixedDelay(new SQLParseResultCacheMetricsReporter(), SQL_PARSE_CACHE_METRICS_REPORT_SECONDS, SQL_PARSE_CACHE_METRICS_REPORT_SECONDS, TimeUnit.SECONDS);
+        return Optional.of(result);
     }
     
     private static Map<String, Map<String, DataSourceConfiguration>> getDataSourceConfigurationMap(final Map<String, YamlProxyRuleConfiguration> ruleConfigs) {
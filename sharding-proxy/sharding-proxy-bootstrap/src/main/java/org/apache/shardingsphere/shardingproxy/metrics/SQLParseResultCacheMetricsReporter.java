@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.metrics;
+
+import com.google.common.cache.CacheStats;
+import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
+import org.apache.shardingsphere.metrics.facade.MetricsTrackerFacade;
+import org.apache.shardingsphere.sql.parser.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.SQLParserEngineFactory;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL parse result cache metrics reporter.
+ * 
+ * <p>
+ * Report the increments of hit, miss, eviction count and load time, and the size of SQL parse result caches since last report.
+ * </p>
+ */
+public final class SQLParseResultCacheMetricsReporter implements Runnable {
+    
+    private static final CacheStats EMPTY_STATS = new CacheStats(0L, 0L, 0L, 0L, 0L, 0L);
+    
+    private final Map<SQLParserEngine, CacheStats> reportedStats = new WeakHashMap<>();
+    
+    private final Map<SQLParserEngine, Long> reportedSizes = new WeakHashMap<>();
+    
+    @Override
+    public synchronized void run() {
+        for (SQLParserEngine each : SQLParserEngineFactory.getSQLParserEngines()) {
+            report(each);
+        }
+    }
+    
+    private void report(final SQLParserEngine sqlParserEngine) {
+        String databaseType = sqlParserEngine.getDatabaseTypeName();
+        CacheStats currentStats = sqlParserEngine.getCache().getStats();
+        CacheStats increasedStats = currentStats.minus(reportedStats.getOrDefault(sqlParserEngine, EMPTY_STATS));
+        reportedStats.put(sqlParserEngine, currentStats);
+        MetricsTrackerFacade metricsTrackerFacade = MetricsTrackerFacade.getInstance();
+        metricsTrackerFacade.counterInc(MetricsLabelEnum.SQL_PARSE_CACHE_COUNT.getName(), increasedStats.hitCount(), databaseType, "hit");
+        metricsTrackerFacade.counterInc(MetricsLabelEnum.SQL_PARSE_CACHE_COUNT.getName(), increasedStats.missCount(), databaseType, "miss");
+        metricsTrackerFacade.counterInc(MetricsLabelEnum.SQL_PARSE_CACHE_COUNT.getName(), increasedStats.evictionCount(), databaseType, "eviction");
+        metricsTrackerFacade.counterInc(MetricsLabelEnum.SQL_PARSE_CACHE_LOAD_TIME.getName(), (double) increasedStats.totalLoadTime() / TimeUnit.SECONDS.toNanos(1L), databaseType);
+        long currentSize = sqlParserEngine.getCache().getSize();
+        long increasedSize = currentSize - reportedSizes.getOrDefault(sqlParserEngine, 0L);
+        reportedSizes.put(sqlParserEngine, currentSize);
+        if (increasedSize > 0) {
+            metricsTrackerFacade.gaugeInc(MetricsLabelEnum.SQL_PARSE_CACHE_SIZE.getName(), increasedSize, databaseType);
+        } else if (increasedSize < 0) {
+            metricsTrackerFacade.gaugeDec(MetricsLabelEnum.SQL_PARSE_CACHE_SIZE.getName(), -increasedSize, databaseType);
+        }
+    }
+}
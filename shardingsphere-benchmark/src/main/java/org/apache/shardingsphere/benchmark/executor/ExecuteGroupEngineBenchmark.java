@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.executor;
+
+import org.apache.shardingsphere.benchmark.fixture.PlaceholderJDBCExecutionConnection;
+import org.apache.shardingsphere.benchmark.fixture.ShardingFixture;
+import org.apache.shardingsphere.underlying.executor.kernel.InputGroup;
+import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.underlying.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.StatementExecuteUnit;
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.group.PreparedStatementExecuteGroupEngine;
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.group.StatementOption;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for execute group engine of prepared statement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExecuteGroupEngineBenchmark {
+    
+    @Param({"2", "8"})
+    private int dataSourceCount;
+    
+    @Param({"4", "32"})
+    private int tableCount;
+    
+    @Param({"1", "8"})
+    private int maxConnectionsSizePerQuery;
+    
+    private PreparedStatementExecuteGroupEngine executeGroupEngine;
+    
+    private PlaceholderJDBCExecutionConnection executionConnection;
+    
+    private StatementOption statementOption;
+    
+    private Collection<ExecutionUnit> executionUnits;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        executeGroupEngine = new PreparedStatementExecuteGroupEngine(maxConnectionsSizePerQuery, Collections.singletonList(ShardingFixture.createShardingRule(dataSourceCount, tableCount)));
+        executionConnection = new PlaceholderJDBCExecutionConnection();
+        statementOption = new StatementOption(false);
+        executionUnits = new LinkedList<>();
+        for (String each : ShardingFixture.createDataSourceNames(dataSourceCount)) {
+            for (int i = 0; i < tableCount; i++) {
+                executionUnits.add(new ExecutionUnit(each, new SQLUnit(String.format("SELECT order_id, user_id, status FROM t_order_%d WHERE status = ?", i), Collections.singletonList("init"))));
+            }
+        }
+    }
+    
+    /**
+     * Benchmark generate.
+     * 
+     * @return input groups
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public Collection<InputGroup<StatementExecuteUnit>> generate() throws SQLException {
+        return executeGroupEngine.generate(executionUnits, executionConnection, statementOption);
+    }
+}
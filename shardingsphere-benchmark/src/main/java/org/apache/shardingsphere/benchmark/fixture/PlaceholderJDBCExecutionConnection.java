@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import org.apache.shardingsphere.underlying.executor.sql.ConnectionMode;
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.connection.JDBCExecutionConnection;
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.group.StatementOption;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC execution connection for benchmarks, which hands out placeholder connections and statements without any database.
+ */
+public final class PlaceholderJDBCExecutionConnection implements JDBCExecutionConnection {
+    
+    private final Connection connection = createPlaceholder(Connection.class);
+    
+    private final PreparedStatement preparedStatement = createPlaceholder(PreparedStatement.class);
+    
+    @Override
+    public List<Connection> getConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) {
+        List<Connection> result = new ArrayList<>(connectionSize);
+        for (int i = 0; i < connectionSize; i++) {
+            result.add(connection);
+        }
+        return result;
+    }
+    
+    @Override
+    public Statement createStorageResource(final Connection connection, final ConnectionMode connectionMode, final StatementOption option) {
+        return preparedStatement;
+    }
+    
+    @Override
+    public Statement createStorageResource(final String sql, final List<Object> parameters, final Connection connection, final ConnectionMode connectionMode, final StatementOption option) {
+        return preparedStatement;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <T> T createPlaceholder(final Class<T> type) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if ("hashCode".equals(method.getName())) {
+                return System.identityHashCode(proxy);
+            }
+            if ("equals".equals(method.getName())) {
+                return proxy == args[0];
+            }
+            if ("toString".equals(method.getName())) {
+                return type.getSimpleName();
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.strategy.algorithm.sharding.inline.InlineShardingAlgorithm;
+import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+import org.apache.shardingsphere.underlying.common.config.DatabaseAccessConfiguration;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
+import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.underlying.common.metadata.datasource.DataSourceMetas;
+import org.apache.shardingsphere.underlying.common.metadata.schema.RuleSchemaMetaData;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+
+/**
+ * Sharding fixture for benchmarks, which shards {@code t_order} and {@code t_order_item} by {@code user_id} and {@code order_id}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingFixture {
+    
+    /**
+     * Create data source names.
+     * 
+     * @param dataSourceCount count of data sources
+     * @return data source names
+     */
+    public static Collection<String> createDataSourceNames(final int dataSourceCount) {
+        Collection<String> result = new LinkedList<>();
+        for (int i = 0; i < dataSourceCount; i++) {
+            result.add("ds_" + i);
+        }
+        return result;
+    }
+    
+    /**
+     * Create sharding rule.
+     * 
+     * @param dataSourceCount count of data sources
+     * @param tableCount count of actual tables per data source
+     * @return sharding rule
+     */
+    public static ShardingRule createShardingRule(final int dataSourceCount, final int tableCount) {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfiguration("t_order", dataSourceCount, tableCount));
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfiguration("t_order_item", dataSourceCount, tableCount));
+        shardingRuleConfig.getBindingTableGroups().add("t_order,t_order_item");
+        return new ShardingRule(shardingRuleConfig, createDataSourceNames(dataSourceCount));
+    }
+    
+    private static TableRuleConfiguration createTableRuleConfiguration(final String logicTable, final int dataSourceCount, final int tableCount) {
+        TableRuleConfiguration result = new TableRuleConfiguration(logicTable, String.format("ds_${0..%d}.%s_${0..%d}", dataSourceCount - 1, logicTable, tableCount - 1));
+        result.setDatabaseShardingStrategyConfig(createStandardShardingStrategyConfiguration("user_id", String.format("ds_${user_id %% %d}", dataSourceCount)));
+        result.setTableShardingStrategyConfig(createStandardShardingStrategyConfiguration("order_id", String.format("%s_${order_id %% %d}", logicTable, tableCount)));
+        return result;
+    }
+    
+    private static StandardShardingStrategyConfiguration createStandardShardingStrategyConfiguration(final String shardingColumn, final String algorithmExpression) {
+        InlineShardingAlgorithm shardingAlgorithm = new InlineShardingAlgorithm();
+        shardingAlgorithm.getProperties().setProperty("algorithm.expression", algorithmExpression);
+        return new StandardShardingStrategyConfiguration(shardingColumn, shardingAlgorithm);
+    }
+    
+    /**
+     * Create schema meta data.
+     * 
+     * @return schema meta data
+     */
+    public static SchemaMetaData createSchemaMetaData() {
+        Map<String, TableMetaData> tables = new HashMap<>(2, 1);
+        tables.put("t_order", new TableMetaData(Arrays.asList(createColumnMetaData("order_id", Types.BIGINT, "BIGINT", true), 
+                createColumnMetaData("user_id", Types.INTEGER, "INT", false), createColumnMetaData("status", Types.VARCHAR, "VARCHAR", false)), Collections.emptyList()));
+        tables.put("t_order_item", new TableMetaData(Arrays.asList(createColumnMetaData("item_id", Types.BIGINT, "BIGINT", true), createColumnMetaData("order_id", Types.BIGINT, "BIGINT", false), 
+                createColumnMetaData("user_id", Types.INTEGER, "INT", false), createColumnMetaData("status", Types.VARCHAR, "VARCHAR", false)), Collections.emptyList()));
+        return new SchemaMetaData(tables);
+    }
+    
+    private static ColumnMetaData createColumnMetaData(final String name, final int dataType, final String dataTypeName, final boolean primaryKey) {
+        return new ColumnMetaData(name, dataType, dataTypeName, primaryKey, false, false);
+    }
+    
+    /**
+     * Create ShardingSphere meta data.
+     * 
+     * @param dataSourceCount count of data sources
+     * @return ShardingSphere meta data
+     */
+    public static ShardingSphereMetaData createMetaData(final int dataSourceCount) {
+        Map<String, DatabaseAccessConfiguration> databaseAccessConfigurationMap = new LinkedHashMap<>(dataSourceCount, 1);
+        for (String each : createDataSourceNames(dataSourceCount)) {
+            databaseAccessConfigurationMap.put(each, new DatabaseAccessConfiguration(String.format("jdbc:mysql://127.0.0.1:3306/%s", each), "root", null));
+        }
+        DataSourceMetas dataSourceMetas = new DataSourceMetas(DatabaseTypes.getActualDatabaseType("MySQL"), databaseAccessConfigurationMap);
+        return new ShardingSphereMetaData(dataSourceMetas, new RuleSchemaMetaData(createSchemaMetaData(), Collections.emptyMap()));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.merge;
+
+import org.apache.shardingsphere.benchmark.fixture.ShardingFixture;
+import org.apache.shardingsphere.benchmark.fixture.SyntheticQueryResult;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.SQLParserEngineFactory;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
+import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
+import org.apache.shardingsphere.underlying.merge.result.MergedResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for sharding DQL result merger.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShardingDQLResultMergerBenchmark {
+    
+    private static final String ORDER_BY_SQL = "SELECT order_id, user_id, status FROM t_order ORDER BY order_id";
+    
+    private static final String GROUP_BY_SQL = "SELECT user_id, COUNT(*) AS cnt FROM t_order GROUP BY user_id ORDER BY cnt DESC";
+    
+    private static final int GROUP_COUNT = 100;
+    
+    @Param({"orderBy", "groupBy"})
+    private String mergeType;
+    
+    @Param({"8", "64"})
+    private int shardCount;
+    
+    @Param({"100", "10000"})
+    private int rowCountPerShard;
+    
+    private ShardingDQLResultMerger resultMerger;
+    
+    private SchemaMetaData schemaMetaData;
+    
+    private SelectStatementContext selectStatementContext;
+    
+    private List<String> columnLabels;
+    
+    private List<Object[][]> shardRows;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"));
+        schemaMetaData = ShardingFixture.createSchemaMetaData();
+        boolean orderBy = "orderBy".equals(mergeType);
+        String sql = orderBy ? ORDER_BY_SQL : GROUP_BY_SQL;
+        SelectStatement selectStatement = (SelectStatement) SQLParserEngineFactory.getSQLParserEngine("MySQL").parse(sql, false);
+        selectStatementContext = new SelectStatementContext(schemaMetaData, sql, Collections.emptyList(), selectStatement);
+        columnLabels = orderBy ? Arrays.asList("order_id", "user_id", "status") : Arrays.asList("user_id", "cnt");
+        shardRows = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shardRows.add(orderBy ? createOrderByRows(i) : createGroupByRows(i));
+        }
+    }
+    
+    private Object[][] createOrderByRows(final int shardIndex) {
+        Object[][] result = new Object[rowCountPerShard][];
+        for (int i = 0; i < rowCountPerShard; i++) {
+            result[i] = new Object[]{(long) i * shardCount + shardIndex, i % GROUP_COUNT, "init"};
+        }
+        return result;
+    }
+    
+    private Object[][] createGroupByRows(final int shardIndex) {
+        Object[][] result = new Object[rowCountPerShard][];
+        for (int i = 0; i < rowCountPerShard; i++) {
+            result[i] = new Object[]{(i + shardIndex) % GROUP_COUNT, 1L};
+        }
+        return result;
+    }
+    
+    /**
+     * Benchmark merge and iterate all merged rows.
+     * 
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(shardCount);
+        for (Object[][] each : shardRows) {
+            queryResults.add(new SyntheticQueryResult(columnLabels, each));
+        }
+        MergedResult mergedResult = resultMerger.merge(queryResults, selectStatementContext, schemaMetaData);
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+        }
+    }
+}
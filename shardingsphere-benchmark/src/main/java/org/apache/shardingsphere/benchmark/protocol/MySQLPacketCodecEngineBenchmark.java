@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.protocol;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shardingsphere.database.protocol.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for MySQL packet codec engine.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MySQLPacketCodecEngineBenchmark {
+    
+    @Param({"4", "32"})
+    private int columnCount;
+    
+    private MySQLPacketCodecEngine codecEngine;
+    
+    private EmbeddedChannel channel;
+    
+    private ChannelHandlerContext context;
+    
+    private MySQLTextResultSetRowPacket rowPacket;
+    
+    private ByteBuf encodedPacket;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        codecEngine = new MySQLPacketCodecEngine();
+        channel = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+        context = channel.pipeline().firstContext();
+        List<Object> data = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            data.add(0 == i % 2 ? "value_" + i : (long) i);
+        }
+        rowPacket = new MySQLTextResultSetRowPacket(1, data);
+        encodedPacket = context.alloc().buffer();
+        codecEngine.encode(context, rowPacket, encodedPacket);
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        encodedPacket.release();
+        channel.finishAndReleaseAll();
+    }
+    
+    /**
+     * Benchmark encode.
+     * 
+     * @return readable bytes of encoded packet
+     */
+    @Benchmark
+    public int encode() {
+        ByteBuf out = context.alloc().buffer();
+        try {
+            codecEngine.encode(context, rowPacket, out);
+            return out.readableBytes();
+        } finally {
+            out.release();
+        }
+    }
+    
+    /**
+     * Benchmark decode.
+     * 
+     * @return readable bytes of decoded payload
+     */
+    @Benchmark
+    public int decode() {
+        ByteBuf in = encodedPacket.duplicate();
+        List<Object> out = new ArrayList<>(1);
+        codecEngine.decode(context, in, out, in.readableBytes());
+        ByteBuf result = (ByteBuf) out.get(0);
+        try {
+            return result.readableBytes();
+        } finally {
+            result.release();
+        }
+    }
+}
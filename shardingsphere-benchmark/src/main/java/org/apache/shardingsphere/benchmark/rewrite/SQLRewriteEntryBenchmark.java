@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.rewrite;
+
+import org.apache.shardingsphere.benchmark.fixture.ShardingFixture;
+import org.apache.shardingsphere.sql.parser.SQLParserEngineFactory;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.underlying.common.rule.ShardingSphereRule;
+import org.apache.shardingsphere.underlying.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.underlying.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.underlying.route.DataNodeRouter;
+import org.apache.shardingsphere.underlying.route.context.RouteContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for SQL rewrite entry with sharding rule.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SQLRewriteEntryBenchmark {
+    
+    @Param({"2", "8"})
+    private int dataSourceCount;
+    
+    @Param({"4", "32"})
+    private int tableCount;
+    
+    @Param({"select", "insert"})
+    private String sqlType;
+    
+    private SQLRewriteEntry sqlRewriteEntry;
+    
+    private String sql;
+    
+    private List<Object> parameters;
+    
+    private RouteContext routeContext;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        ConfigurationProperties properties = new ConfigurationProperties(new Properties());
+        Collection<ShardingSphereRule> rules = Collections.singletonList(ShardingFixture.createShardingRule(dataSourceCount, tableCount));
+        if ("insert".equals(sqlType)) {
+            sql = createInsertSQL(dataSourceCount * tableCount);
+            parameters = createInsertParameters(dataSourceCount * tableCount);
+        } else {
+            sql = "SELECT order_id, user_id, status FROM t_order WHERE status = ? ORDER BY order_id LIMIT ?, ?";
+            parameters = new ArrayList<>(3);
+            parameters.add("init");
+            parameters.add(10);
+            parameters.add(20);
+        }
+        DataNodeRouter dataNodeRouter = new DataNodeRouter(ShardingFixture.createMetaData(dataSourceCount), properties, rules);
+        routeContext = dataNodeRouter.route(SQLParserEngineFactory.getSQLParserEngine("MySQL").parse(sql, false), sql, parameters);
+        sqlRewriteEntry = new SQLRewriteEntry(ShardingFixture.createSchemaMetaData(), properties, rules);
+    }
+    
+    private String createInsertSQL(final int rowCount) {
+        StringBuilder result = new StringBuilder("INSERT INTO t_order (order_id, user_id, status) VALUES ");
+        for (int i = 0; i < rowCount; i++) {
+            result.append(0 == i ? "" : ", ").append("(?, ?, ?)");
+        }
+        return result.toString();
+    }
+    
+    private List<Object> createInsertParameters(final int rowCount) {
+        List<Object> result = new ArrayList<>(rowCount * 3);
+        for (int i = 0; i < rowCount; i++) {
+            result.add((long) i);
+            result.add(i / tableCount);
+            result.add("init");
+        }
+        return result;
+    }
+    
+    /**
+     * Benchmark rewrite.
+     * 
+     * @return SQL rewrite result
+     */
+    @Benchmark
+    public SQLRewriteResult rewrite() {
+        return sqlRewriteEntry.rewrite(sql, parameters, routeContext);
+    }
+}
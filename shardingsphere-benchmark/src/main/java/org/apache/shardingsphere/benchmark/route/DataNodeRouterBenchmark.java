@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.route;
+
+import org.apache.shardingsphere.benchmark.fixture.ShardingFixture;
+import org.apache.shardingsphere.sql.parser.SQLParserEngineFactory;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.underlying.route.DataNodeRouter;
+import org.apache.shardingsphere.underlying.route.context.RouteContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for data node router with sharding rule.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataNodeRouterBenchmark {
+    
+    private static final String SINGLE_SHARD_SQL = "SELECT order_id, user_id, status FROM t_order WHERE user_id = ? AND order_id = ?";
+    
+    private static final String MULTIPLE_SHARDS_SQL = "SELECT order_id, user_id, status FROM t_order WHERE user_id IN (?, ?) AND order_id IN (?, ?, ?, ?)";
+    
+    private static final String FULL_ROUTE_SQL = "SELECT order_id, user_id, status FROM t_order WHERE status = ?";
+    
+    @Param({"2", "8"})
+    private int dataSourceCount;
+    
+    @Param({"4", "32"})
+    private int tableCount;
+    
+    @Param({"single", "multiple", "full"})
+    private String routeType;
+    
+    private DataNodeRouter dataNodeRouter;
+    
+    private String sql;
+    
+    private List<Object> parameters;
+    
+    private SQLStatement sqlStatement;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        dataNodeRouter = new DataNodeRouter(ShardingFixture.createMetaData(dataSourceCount), new ConfigurationProperties(new Properties()), 
+                Collections.singletonList(ShardingFixture.createShardingRule(dataSourceCount, tableCount)));
+        switch (routeType) {
+            case "single":
+                sql = SINGLE_SHARD_SQL;
+                parameters = Arrays.asList(1, 1L);
+                break;
+            case "multiple":
+                sql = MULTIPLE_SHARDS_SQL;
+                parameters = Arrays.asList(1, 2, 1L, 2L, 3L, 4L);
+                break;
+            default:
+                sql = FULL_ROUTE_SQL;
+                parameters = Collections.singletonList("init");
+                break;
+        }
+        sqlStatement = SQLParserEngineFactory.getSQLParserEngine("MySQL").parse(sql, false);
+    }
+    
+    /**
+     * Benchmark route.
+     * 
+     * @return route context
+     */
+    @Benchmark
+    public RouteContext route() {
+        return dataNodeRouter.route(sqlStatement, sql, parameters);
+    }
+}
@@ -20,13 +20,14 @@ package org.apache.shardingsphere.spi;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.spi.exception.ServiceLoaderInstantiationException;
+import org.apache.shardingsphere.spi.singleton.SingletonSPI;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 /**
@@ -35,7 +36,7 @@ import java.util.stream.Collectors;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ShardingSphereServiceLoader {
     
-    private static final Map<Class, Collection<Class<?>>> SERVICE_MAP = new HashMap<>();
+    private static final Map<Class<?>, Collection<Object>> SERVICES = new ConcurrentHashMap<>();
     
     /**
      * Register SPI service into map for new instance.
@@ -45,18 +46,27 @@ public final class ShardingSphereServiceLoader {
      */
     public static <T> void register(final Class<T> service) {
         for (T each : ServiceLoader.load(service)) {
-            registerServiceClass(service, each);
+            registerServiceInstance(service, each);
         }
     }
     
-    @SuppressWarnings("unchecked")
-    private static <T> void registerServiceClass(final Class<T> service, final T instance) {
-        Collection<Class<?>> serviceClasses = SERVICE_MAP.get(service);
-        if (null == serviceClasses) {
-            serviceClasses = new LinkedHashSet<>();
+    private static synchronized <T> void registerServiceInstance(final Class<T> service, final T instance) {
+        Collection<Object> serviceInstances = SERVICES.computeIfAbsent(service, key -> new CopyOnWriteArrayList<>());
+        if (serviceInstances.stream().noneMatch(each -> each.getClass() == instance.getClass())) {
+            serviceInstances.add(instance);
         }
-        serviceClasses.add(instance.getClass());
-        SERVICE_MAP.put(service, serviceClasses);
+    }
+    
+    /**
+     * Get singleton service instances.
+     *
+     * @param service service class
+     * @param <T> type of service
+     * @return singleton service instances
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends SingletonSPI> Collection<T> getSingletonServiceInstances(final Class<T> service) {
+        return (Collection<T>) (Collection<?>) SERVICES.getOrDefault(service, Collections.emptyList());
     }
     
     /**
@@ -68,7 +78,7 @@ public final class ShardingSphereServiceLoader {
      */
     @SuppressWarnings("unchecked")
     public static <T> Collection<T> newServiceInstances(final Class<T> service) {
-        return SERVICE_MAP.containsKey(service) ? SERVICE_MAP.get(service).stream().map(each -> (T) newServiceInstance(each)).collect(Collectors.toList()) : Collections.emptyList();
+        return SERVICES.containsKey(service) ? SERVICES.get(service).stream().map(each -> (T) newServiceInstance(each.getClass())).collect(Collectors.toList()) : Collections.emptyList();
     }
     
     private static Object newServiceInstance(final Class<?> clazz) {
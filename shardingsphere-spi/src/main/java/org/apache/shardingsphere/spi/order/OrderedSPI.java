@@ -17,12 +17,14 @@
 
 package org.apache.shardingsphere.spi.order;
 
+import org.apache.shardingsphere.spi.singleton.SingletonSPI;
+
 /**
  * Ordered SPI.
  * 
  * @param <T> type
  */
-public interface OrderedSPI<T> {
+public interface OrderedSPI<T> extends SingletonSPI {
     
     /**
      * Get order of load.
@@ -17,18 +17,25 @@
 
 package org.apache.shardingsphere.spi.order;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Ordered SPI registry.
  */
 public final class OrderedSPIRegistry {
     
+    private static final Map<Class<?>, OrderedServices> ORDERED_SERVICES = new ConcurrentHashMap<>();
+    
     /**
      * Get registered services.
      *
@@ -41,21 +48,45 @@ public final class OrderedSPIRegistry {
     public static <K, V extends OrderedSPI> Map<K, V> getRegisteredServices(final Collection<K> types, final Class<V> orderedSPIClass) {
         Map<K, V> result = new LinkedHashMap<>();
         for (V each : getRegisteredServices(orderedSPIClass)) {
-            types.stream().filter(type -> isSameTypeClass(each, type.getClass())).forEach(type -> result.put(type, each));
+            for (K type : types) {
+                if (isSameTypeClass(each, type.getClass())) {
+                    result.put(type, each);
+                }
+            }
         }
         return result;
     }
     
+    @SuppressWarnings("unchecked")
     private static <T extends OrderedSPI> Collection<T> getRegisteredServices(final Class<T> orderedSPIClass) {
+        Collection<T> singletonServices = ShardingSphereServiceLoader.getSingletonServiceInstances(orderedSPIClass);
+        OrderedServices result = ORDERED_SERVICES.get(orderedSPIClass);
+        if (null == result || result.getRegisteredCount() != singletonServices.size()) {
+            result = new OrderedServices(singletonServices.size(), sort(singletonServices));
+            ORDERED_SERVICES.put(orderedSPIClass, result);
+        }
+        return (Collection<T>) result.getServices();
+    }
+    
+    private static <T extends OrderedSPI> Collection<T> sort(final Collection<T> services) {
         Map<Integer, T> result = new TreeMap<>();
-        for (T each : ShardingSphereServiceLoader.newServiceInstances(orderedSPIClass)) {
+        for (T each : services) {
             result.put(each.getOrder(), each);
         }
-        return result.values();
+        return Collections.unmodifiableList(new ArrayList<>(result.values()));
     }
     
     private static boolean isSameTypeClass(final OrderedSPI orderedSPI, final Class typeClass) {
         // FIXME orderedSPI.getType() == ((Class) type).getSuperclass(), should decouple extend between orchestration rule and sharding rule
         return orderedSPI.getTypeClass() == typeClass || orderedSPI.getTypeClass() == typeClass.getSuperclass();
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class OrderedServices {
+        
+        private final int registeredCount;
+        
+        private final Collection<? extends OrderedSPI> services;
+    }
 }
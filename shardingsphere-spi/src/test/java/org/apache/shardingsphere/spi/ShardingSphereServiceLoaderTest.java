@@ -17,12 +17,15 @@
 
 package org.apache.shardingsphere.spi;
 
+import org.apache.shardingsphere.spi.fixture.OrderedSPIFixture;
 import org.apache.shardingsphere.spi.fixture.TypedSPIFixture;
 import org.junit.Test;
 
 import java.util.Collection;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -41,4 +44,20 @@ public final class ShardingSphereServiceLoaderTest {
         Collection collection = ShardingSphereServiceLoader.newServiceInstances(TypedSPIFixture.class);
         assertThat(collection.size(), is(1));
     }
+    
+    @Test
+    public void assertNewServiceInstancesWithDifferentInstances() {
+        ShardingSphereServiceLoader.register(TypedSPIFixture.class);
+        assertThat(ShardingSphereServiceLoader.newServiceInstances(TypedSPIFixture.class).iterator().next(),
+                not(sameInstance(ShardingSphereServiceLoader.newServiceInstances(TypedSPIFixture.class).iterator().next())));
+    }
+    
+    @Test
+    public void assertGetSingletonServiceInstances() {
+        ShardingSphereServiceLoader.register(OrderedSPIFixture.class);
+        ShardingSphereServiceLoader.register(OrderedSPIFixture.class);
+        Collection<OrderedSPIFixture> actual = ShardingSphereServiceLoader.getSingletonServiceInstances(OrderedSPIFixture.class);
+        assertThat(actual.size(), is(2));
+        assertThat(ShardingSphereServiceLoader.getSingletonServiceInstances(OrderedSPIFixture.class).iterator().next(), sameInstance(actual.iterator().next()));
+    }
 }
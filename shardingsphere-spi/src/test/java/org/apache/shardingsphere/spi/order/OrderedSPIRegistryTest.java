@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.spi.order;
+
+import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.spi.fixture.FirstOrderedSPIFixtureImpl;
+import org.apache.shardingsphere.spi.fixture.OrderedSPIFixture;
+import org.apache.shardingsphere.spi.fixture.SecondOrderedSPIFixtureImpl;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class OrderedSPIRegistryTest {
+    
+    static {
+        ShardingSphereServiceLoader.register(OrderedSPIFixture.class);
+    }
+    
+    @Test
+    public void assertGetRegisteredServices() {
+        Map<Object, OrderedSPIFixture> actual = OrderedSPIRegistry.getRegisteredServices(Arrays.asList(1, "foo"), OrderedSPIFixture.class);
+        assertThat(actual.size(), is(2));
+        Iterator<Entry<Object, OrderedSPIFixture>> iterator = actual.entrySet().iterator();
+        Entry<Object, OrderedSPIFixture> first = iterator.next();
+        assertThat(first.getKey(), is("foo"));
+        assertThat(first.getValue(), instanceOf(FirstOrderedSPIFixtureImpl.class));
+        Entry<Object, OrderedSPIFixture> second = iterator.next();
+        assertThat(second.getKey(), is(1));
+        assertThat(second.getValue(), instanceOf(SecondOrderedSPIFixtureImpl.class));
+    }
+    
+    @Test
+    public void assertGetRegisteredServicesWithSameInstances() {
+        OrderedSPIFixture expected = OrderedSPIRegistry.getRegisteredServices(Collections.singletonList("foo"), OrderedSPIFixture.class).get("foo");
+        assertThat(OrderedSPIRegistry.getRegisteredServices(Collections.singletonList("bar"), OrderedSPIFixture.class).get("bar"), sameInstance(expected));
+    }
+    
+    @Test
+    public void assertGetRegisteredServicesWithoutMatchedType() {
+        assertTrue(OrderedSPIRegistry.getRegisteredServices(Collections.singletonList(1L), OrderedSPIFixture.class).isEmpty());
+    }
+}
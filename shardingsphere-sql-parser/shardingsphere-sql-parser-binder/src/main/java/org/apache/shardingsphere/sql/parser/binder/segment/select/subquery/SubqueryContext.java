@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.binder.segment.select.subquery;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.shardingsphere.sql.parser.binder.segment.table.TablesContext;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Subquery context.
+ */
+@Getter
+@ToString
+public final class SubqueryContext {
+    
+    private final SelectStatement selectStatement;
+    
+    private final Collection<SimpleTableSegment> tables;
+    
+    private final Collection<SimpleTableSegment> allTables;
+    
+    private final TablesContext tablesContext;
+    
+    private final Collection<SubqueryContext> subqueryContexts;
+    
+    public SubqueryContext(final SelectStatement selectStatement, 
+                           final Collection<SimpleTableSegment> tables, final Collection<SimpleTableSegment> allTables, final Collection<SubqueryContext> subqueryContexts) {
+        this.selectStatement = selectStatement;
+        this.tables = tables;
+        this.allTables = allTables;
+        tablesContext = new TablesContext(tables);
+        this.subqueryContexts = subqueryContexts;
+    }
+    
+    /**
+     * Get where.
+     *
+     * @return where segment
+     */
+    public Optional<WhereSegment> getWhere() {
+        return selectStatement.getWhere();
+    }
+}
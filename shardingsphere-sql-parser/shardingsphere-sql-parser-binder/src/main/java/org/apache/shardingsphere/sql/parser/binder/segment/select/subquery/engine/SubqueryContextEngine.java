@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.binder.segment.select.subquery.engine;
+
+import org.apache.shardingsphere.sql.parser.binder.segment.select.subquery.SubqueryContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.table.TableExtractor;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.JoinedTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.TableFactorSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.TableReferenceSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.subquery.SubqueryExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.subquery.SubquerySegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.SubqueryProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateBetweenRightValue;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateCompareRightValue;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateInRightValue;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateRightValue;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.SubqueryTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Optional;
+
+/**
+ * Subquery context engine.
+ */
+public final class SubqueryContextEngine {
+    
+    /**
+     * Create subquery contexts.
+     *
+     * @param selectStatement select statement
+     * @return subquery contexts of projections, derived tables, join conditions and where clause
+     */
+    public Collection<SubqueryContext> createSubqueryContexts(final SelectStatement selectStatement) {
+        Collection<SubqueryContext> result = new LinkedList<>();
+        for (SelectStatement each : getSubqueries(selectStatement)) {
+            TableExtractor tableExtractor = new TableExtractor(each);
+            result.add(new SubqueryContext(each, tableExtractor.extractSimpleTables(), tableExtractor.extractAllTables(), createSubqueryContexts(each)));
+        }
+        return result;
+    }
+    
+    /**
+     * Find subquery of predicate right value.
+     *
+     * @param predicateRightValue predicate right value
+     * @return subquery segment
+     */
+    public static Optional<SubquerySegment> findSubquery(final PredicateRightValue predicateRightValue) {
+        if (predicateRightValue instanceof SubquerySegment) {
+            return Optional.of((SubquerySegment) predicateRightValue);
+        }
+        for (ExpressionSegment each : getExpressions(predicateRightValue)) {
+            if (each instanceof SubqueryExpressionSegment) {
+                return Optional.of(((SubqueryExpressionSegment) each).getSubquery());
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private static Collection<ExpressionSegment> getExpressions(final PredicateRightValue predicateRightValue) {
+        if (predicateRightValue instanceof PredicateCompareRightValue) {
+            return Collections.singletonList(((PredicateCompareRightValue) predicateRightValue).getExpression());
+        }
+        if (predicateRightValue instanceof PredicateInRightValue) {
+            return ((PredicateInRightValue) predicateRightValue).getSqlExpressions();
+        }
+        if (predicateRightValue instanceof PredicateBetweenRightValue) {
+            return Arrays.asList(((PredicateBetweenRightValue) predicateRightValue).getBetweenExpression(), ((PredicateBetweenRightValue) predicateRightValue).getAndExpression());
+        }
+        return Collections.emptyList();
+    }
+    
+    private Collection<SelectStatement> getSubqueries(final SelectStatement selectStatement) {
+        Collection<SelectStatement> result = new LinkedList<>();
+        if (null != selectStatement.getProjections()) {
+            for (ProjectionSegment each : selectStatement.getProjections().getProjections()) {
+                if (each instanceof SubqueryProjectionSegment) {
+                    result.add(((SubqueryProjectionSegment) each).getSubquery().getSelect());
+                }
+            }
+        }
+        for (TableReferenceSegment each : selectStatement.getTableReferences()) {
+            result.addAll(getSubqueries(each));
+        }
+        if (selectStatement.getWhere().isPresent()) {
+            result.addAll(getSubqueries(selectStatement.getWhere().get().getAndPredicates()));
+        }
+        return result;
+    }
+    
+    private Collection<SelectStatement> getSubqueries(final TableReferenceSegment tableReference) {
+        Collection<SelectStatement> result = new LinkedList<>();
+        if (null != tableReference.getTableFactor()) {
+            result.addAll(getSubqueries(tableReference.getTableFactor()));
+        }
+        for (JoinedTableSegment each : tableReference.getJoinedTables()) {
+            if (null != each.getTableFactor()) {
+                result.addAll(getSubqueries(each.getTableFactor()));
+            }
+            if (null != each.getJoinSpecification()) {
+                result.addAll(getSubqueries(each.getJoinSpecification().getAndPredicates()));
+            }
+        }
+        return result;
+    }
+    
+    private Collection<SelectStatement> getSubqueries(final TableFactorSegment tableFactor) {
+        Collection<SelectStatement> result = new LinkedList<>();
+        if (tableFactor.getTable() instanceof SubqueryTableSegment) {
+            result.add(((SubqueryTableSegment) tableFactor.getTable()).getSubquery().getSelect());
+        }
+        if (null != tableFactor.getTableReferences()) {
+            for (TableReferenceSegment each : tableFactor.getTableReferences()) {
+                result.addAll(getSubqueries(each));
+            }
+        }
+        return result;
+    }
+    
+    private Collection<SelectStatement> getSubqueries(final Collection<AndPredicate> andPredicates) {
+        Collection<SelectStatement> result = new LinkedList<>();
+        for (AndPredicate each : andPredicates) {
+            for (PredicateSegment predicate : each.getPredicates()) {
+                findSubquery(predicate.getRightValue()).ifPresent(optional -> result.add(optional.getSelect()));
+            }
+        }
+        return result;
+    }
+}
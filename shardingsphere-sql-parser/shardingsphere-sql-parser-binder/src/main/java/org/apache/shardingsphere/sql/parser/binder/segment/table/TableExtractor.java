@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.binder.segment.table;
+
+import com.google.common.base.Preconditions;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.predicate.PredicateExtractor;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.JoinSpecificationSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.JoinedTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.TableFactorSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.TableReferenceSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.OrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.OwnerAvailable;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.OwnerSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Optional;
+
+/**
+ * Table extractor.
+ */
+@RequiredArgsConstructor
+public final class TableExtractor {
+    
+    private final SelectStatement selectStatement;
+    
+    /**
+     * Extract simple tables of table references.
+     * 
+     * @return simple table segments
+     */
+    public Collection<SimpleTableSegment> extractSimpleTables() {
+        Collection<SimpleTableSegment> tables = getTables();
+        Collection<SimpleTableSegment> result = new LinkedList<>();
+        for (SimpleTableSegment each : tables) {
+            if (isTable(each, tables)) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private Collection<SimpleTableSegment> getTables() {
+        Collection<SimpleTableSegment> result = new LinkedList<>();
+        for (TableReferenceSegment each : selectStatement.getTableReferences()) {
+            result.addAll(getTablesFromTableReference(each));
+        }
+        return result;
+    }
+    
+    private Collection<SimpleTableSegment> getTablesFromTableFactor(final TableFactorSegment tableFactorSegment) {
+        Collection<SimpleTableSegment> result = new LinkedList<>();
+        if (null != tableFactorSegment.getTable() && tableFactorSegment.getTable() instanceof SimpleTableSegment) {
+            result.add((SimpleTableSegment) tableFactorSegment.getTable());
+        }
+        if (null != tableFactorSegment.getTableReferences() && !tableFactorSegment.getTableReferences().isEmpty()) {
+            for (TableReferenceSegment each: tableFactorSegment.getTableReferences()) {
+                result.addAll(getTablesFromTableReference(each));
+            }
+        }
+        return result;
+    }
+    
+    private Collection<SimpleTableSegment> getTablesFromTableReference(final TableReferenceSegment tableReferenceSegment) {
+        Collection<SimpleTableSegment> result = new LinkedList<>();
+        if (null != tableReferenceSegment.getTableFactor()) {
+            result.addAll(getTablesFromTableFactor(tableReferenceSegment.getTableFactor()));
+        }
+        if (null != tableReferenceSegment.getJoinedTables()) {
+            for (JoinedTableSegment each : tableReferenceSegment.getJoinedTables()) {
+                result.addAll(getTablesFromJoinTable(each));
+            }
+        }
+        return result;
+    }
+    
+    private Collection<SimpleTableSegment> getTablesFromJoinTable(final JoinedTableSegment joinedTableSegment) {
+        Collection<SimpleTableSegment> result = new LinkedList<>();
+        if (null != joinedTableSegment.getTableFactor()) {
+            result.addAll(getTablesFromTableFactor(joinedTableSegment.getTableFactor()));
+        }
+        if (null != joinedTableSegment.getJoinSpecification()) {
+            result.addAll(getTablesFromJoinSpecification(joinedTableSegment.getJoinSpecification()));
+        }
+        return result;
+    }
+    
+    private Collection<SimpleTableSegment> getTablesFromJoinSpecification(final JoinSpecificationSegment joinSpecificationSegment) {
+        Collection<SimpleTableSegment> result = new LinkedList<>();
+        Collection<AndPredicate> andPredicates = joinSpecificationSegment.getAndPredicates();
+        for (AndPredicate each : andPredicates) {
+            for (PredicateSegment e : each.getPredicates()) {
+                if (null != e.getColumn() && (e.getColumn().getOwner().isPresent())) {
+                    OwnerSegment ownerSegment = e.getColumn().getOwner().get();
+                    result.add(new SimpleTableSegment(ownerSegment.getStartIndex(), ownerSegment.getStopIndex(), ownerSegment.getIdentifier()));
+                }
+                if (null != e.getRightValue() && (e.getRightValue() instanceof ColumnSegment) && ((ColumnSegment) e.getRightValue()).getOwner().isPresent()) {
+                    OwnerSegment ownerSegment = ((ColumnSegment) e.getRightValue()).getOwner().get();
+                    result.add(new SimpleTableSegment(ownerSegment.getStartIndex(), ownerSegment.getStopIndex(), ownerSegment.getIdentifier()));
+                }
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Extract all tables, include owners of columns in where, projections, group by and order by.
+     * 
+     * @return all table segments
+     */
+    public Collection<SimpleTableSegment> extractAllTables() {
+        Collection<SimpleTableSegment> result = extractSimpleTables();
+        if (selectStatement.getWhere().isPresent()) {
+            result.addAll(getAllTablesFromWhere(selectStatement.getWhere().get()));
+        }
+        if (null != selectStatement.getProjections()) {
+            result.addAll(getAllTablesFromProjections(selectStatement.getProjections()));
+        }
+        if (selectStatement.getGroupBy().isPresent()) {
+            result.addAll(getAllTablesFromOrderByItems(selectStatement.getGroupBy().get().getGroupByItems()));
+        }
+        if (selectStatement.getOrderBy().isPresent()) {
+            result.addAll(getAllTablesFromOrderByItems(selectStatement.getOrderBy().get().getOrderByItems()));
+        }
+        return result;
+    }
+    
+    private Collection<SimpleTableSegment> getAllTablesFromWhere(final WhereSegment where) {
+        Collection<SimpleTableSegment> result = new LinkedList<>();
+        for (AndPredicate each : where.getAndPredicates()) {
+            for (PredicateSegment predicate : each.getPredicates()) {
+                result.addAll(new PredicateExtractor(extractSimpleTables(), predicate).extractTables());
+            }
+        }
+        return result;
+    }
+    
+    private Collection<SimpleTableSegment> getAllTablesFromProjections(final ProjectionsSegment projections) {
+        Collection<SimpleTableSegment> result = new LinkedList<>();
+        for (ProjectionSegment each : projections.getProjections()) {
+            Optional<SimpleTableSegment> table = getTableSegment(each);
+            table.ifPresent(result::add);
+        }
+        return result;
+    }
+    
+    private Optional<SimpleTableSegment> getTableSegment(final ProjectionSegment each) {
+        Optional<OwnerSegment> owner = getTableOwner(each);
+        if (owner.isPresent() && isTable(owner.get(), extractSimpleTables())) {
+            return Optional .of(new SimpleTableSegment(owner.get().getStartIndex(), owner.get().getStopIndex(), owner.get().getIdentifier()));
+        }
+        return Optional.empty();
+    }
+    
+    private Optional<OwnerSegment> getTableOwner(final ProjectionSegment each) {
+        if (each instanceof OwnerAvailable) {
+            return ((OwnerAvailable) each).getOwner();
+        }
+        if (each instanceof ColumnProjectionSegment) { 
+            return ((ColumnProjectionSegment) each).getColumn().getOwner();
+        }
+        return Optional.empty();
+    }
+    
+    private Collection<SimpleTableSegment> getAllTablesFromOrderByItems(final Collection<OrderByItemSegment> orderByItems) {
+        Collection<SimpleTableSegment> result = new LinkedList<>();
+        for (OrderByItemSegment each : orderByItems) {
+            if (each instanceof ColumnOrderByItemSegment) {
+                Optional<OwnerSegment> owner = ((ColumnOrderByItemSegment) each).getColumn().getOwner();
+                if (owner.isPresent() && isTable(owner.get(), extractSimpleTables())) {
+                    Preconditions.checkState(((ColumnOrderByItemSegment) each).getColumn().getOwner().isPresent());
+                    OwnerSegment segment = ((ColumnOrderByItemSegment) each).getColumn().getOwner().get();
+                    result.add(new SimpleTableSegment(segment.getStartIndex(), segment.getStopIndex(), segment.getIdentifier()));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private boolean isTable(final OwnerSegment owner, final Collection<SimpleTableSegment> tables) {
+        for (SimpleTableSegment each : tables) {
+            if (owner.getIdentifier().getValue().equals(each.getAlias().orElse(null))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isTable(final SimpleTableSegment owner, final Collection<SimpleTableSegment> tableSegments) {
+        for (SimpleTableSegment each : tableSegments) {
+            String tableName = owner.getTableName().getIdentifier().getValue();
+            if (tableName.equals(each.getAlias().orElse(null)) && !tableName.equals(each.getTableName().getIdentifier().getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+}
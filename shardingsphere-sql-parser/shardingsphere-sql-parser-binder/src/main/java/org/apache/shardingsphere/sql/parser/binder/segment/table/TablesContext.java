@@ -30,16 +30,26 @@ import java.util.Optional;
 
 /**
  * Tables context.
+ * 
+ * <p>
+ * Columns are only resolved with tables of current statement, tables of subqueries are only used for routing.
+ * </p>
  */
 @RequiredArgsConstructor
 public final class TablesContext {
     
     private final Collection<SimpleTableSegment> tables;
     
+    private final Collection<SimpleTableSegment> subqueryTables;
+    
     public TablesContext(final SimpleTableSegment tableSegment) {
         this(null == tableSegment ? Collections.emptyList() : Collections.singletonList(tableSegment));
     }
     
+    public TablesContext(final Collection<SimpleTableSegment> tables) {
+        this(tables, Collections.emptyList());
+    }
+    
     /**
      * Get table names.
      * 
@@ -53,6 +63,19 @@ public final class TablesContext {
         return result;
     }
     
+    /**
+     * Get table names include tables of subqueries.
+     * 
+     * @return table names include tables of subqueries
+     */
+    public Collection<String> getAllTableNames() {
+        Collection<String> result = getTableNames();
+        for (SimpleTableSegment each : subqueryTables) {
+            result.add(each.getTableName().getIdentifier().getValue());
+        }
+        return result;
+    }
+    
     /**
      * Find table name.
      *
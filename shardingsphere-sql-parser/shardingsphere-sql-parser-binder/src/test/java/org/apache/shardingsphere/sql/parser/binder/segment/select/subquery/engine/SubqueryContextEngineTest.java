@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.binder.segment.select.subquery.engine;
+
+import org.apache.shardingsphere.sql.parser.binder.segment.select.subquery.SubqueryContext;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.TableFactorSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.TableReferenceSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.subquery.SubqueryExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.subquery.SubquerySegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateCompareRightValue;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateInRightValue;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateRightValue;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.SubqueryTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.TableSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.value.identifier.IdentifierValue;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SubqueryContextEngineTest {
+    
+    @Test
+    public void assertCreateSubqueryContextsWithoutSubquery() {
+        assertTrue(new SubqueryContextEngine().createSubqueryContexts(createSelectStatement(new SimpleTableSegment(14, 20, new IdentifierValue("t_order")))).isEmpty());
+    }
+    
+    @Test
+    public void assertCreateSubqueryContextsWithWhereSubquery() {
+        SelectStatement subquery = createSelectStatement(new SimpleTableSegment(70, 81, new IdentifierValue("t_order_item")));
+        SelectStatement selectStatement = createSelectStatement(new SimpleTableSegment(14, 20, new IdentifierValue("t_order")));
+        selectStatement.setWhere(createWhereSegment(new PredicateInRightValue(null, Collections.singletonList(new SubqueryExpressionSegment(new SubquerySegment(40, 100, subquery))))));
+        Collection<SubqueryContext> actual = new SubqueryContextEngine().createSubqueryContexts(selectStatement);
+        assertThat(actual.size(), is(1));
+        SubqueryContext subqueryContext = actual.iterator().next();
+        assertThat(subqueryContext.getSelectStatement(), is(subquery));
+        assertThat(subqueryContext.getTablesContext().getTableNames(), is(Collections.singleton("t_order_item")));
+        assertTrue(subqueryContext.getSubqueryContexts().isEmpty());
+    }
+    
+    @Test
+    public void assertCreateSubqueryContextsWithNestedDerivedTable() {
+        SelectStatement innerSubquery = createSelectStatement(new SimpleTableSegment(80, 86, new IdentifierValue("t_user")));
+        SelectStatement subquery = createSelectStatement(new SimpleTableSegment(40, 46, new IdentifierValue("t_order")));
+        subquery.setWhere(createWhereSegment(new PredicateCompareRightValue("=", new SubqueryExpressionSegment(new SubquerySegment(60, 100, innerSubquery)))));
+        SelectStatement selectStatement = createSelectStatement(new SubqueryTableSegment(new SubquerySegment(14, 110, subquery)));
+        Collection<SubqueryContext> actual = new SubqueryContextEngine().createSubqueryContexts(selectStatement);
+        assertThat(actual.size(), is(1));
+        SubqueryContext subqueryContext = actual.iterator().next();
+        assertThat(subqueryContext.getTablesContext().getTableNames(), is(Collections.singleton("t_order")));
+        assertThat(subqueryContext.getSubqueryContexts().size(), is(1));
+        assertThat(subqueryContext.getSubqueryContexts().iterator().next().getTablesContext().getTableNames(), is(Collections.singleton("t_user")));
+    }
+    
+    @Test
+    public void assertFindSubquery() {
+        SubquerySegment subquery = new SubquerySegment(0, 10, new SelectStatement());
+        Optional<SubquerySegment> actual = SubqueryContextEngine.findSubquery(new PredicateInRightValue(null, Collections.singletonList(new SubqueryExpressionSegment(subquery))));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(subquery));
+    }
+    
+    @Test
+    public void assertFindSubqueryWithoutSubquery() {
+        assertFalse(SubqueryContextEngine.findSubquery(new PredicateCompareRightValue("=", new LiteralExpressionSegment(0, 0, 1))).isPresent());
+    }
+    
+    private SelectStatement createSelectStatement(final TableSegment table) {
+        SelectStatement result = new SelectStatement();
+        result.setProjections(new ProjectionsSegment(7, 7));
+        TableFactorSegment tableFactor = new TableFactorSegment();
+        tableFactor.setTable(table);
+        TableReferenceSegment tableReference = new TableReferenceSegment();
+        tableReference.setTableFactor(tableFactor);
+        result.getTableReferences().add(tableReference);
+        return result;
+    }
+    
+    private WhereSegment createWhereSegment(final PredicateRightValue rightValue) {
+        AndPredicate andPredicate = new AndPredicate();
+        andPredicate.getPredicates().add(new PredicateSegment(28, 100, new ColumnSegment(28, 34, new IdentifierValue("user_id")), rightValue));
+        WhereSegment result = new WhereSegment(22, 100);
+        result.getAndPredicates().add(andPredicate);
+        return result;
+    }
+}
@@ -28,7 +28,10 @@ import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.Pro
 import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.TableFactorSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.TableReferenceSegment;
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.subquery.SubquerySegment;
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ProjectionsSegment;
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.GroupBySegment;
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.OrderBySegment;
@@ -36,6 +39,9 @@ import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.ColumnOrd
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.OrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.segment.generic.OwnerSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.SubqueryTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.TableSegment;
 import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sql.parser.sql.value.identifier.IdentifierValue;
 import org.junit.Test;
@@ -124,6 +130,30 @@ public final class SelectStatementContextTest {
         assertFalse(selectStatementContext.isSameGroupByAndOrderByItems());
     }
     
+    @Test
+    public void assertContainsSubqueryWithDerivedTable() {
+        SelectStatement subquery = new SelectStatement();
+        subquery.setProjections(new ProjectionsSegment(22, 22));
+        subquery.getTableReferences().add(createTableReference(new SimpleTableSegment(29, 35, new IdentifierValue("t_order"))));
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(7, 7));
+        selectStatement.getTableReferences().add(createTableReference(new SubqueryTableSegment(new SubquerySegment(14, 36, subquery))));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(null, "", Collections.emptyList(), selectStatement);
+        assertTrue(selectStatementContext.isContainsSubquery());
+        assertTrue(selectStatementContext.getTablesContext().getTableNames().isEmpty());
+        assertThat(selectStatementContext.getTablesContext().getAllTableNames(), is(Collections.singleton("t_order")));
+        assertThat(selectStatementContext.getAllTables().size(), is(1));
+        assertTrue(selectStatementContext.getSimpleTableSegments().isEmpty());
+    }
+    
+    private TableReferenceSegment createTableReference(final TableSegment table) {
+        TableFactorSegment tableFactor = new TableFactorSegment();
+        tableFactor.setTable(table);
+        TableReferenceSegment result = new TableReferenceSegment();
+        result.setTableFactor(tableFactor);
+        return result;
+    }
+    
     @Test
     public void assertSetIndexWhenAggregationProjectionsPresent() {
         AggregationProjection aggregationProjection = new AggregationProjection(AggregationType.MAX, "", "id");
@@ -17,9 +17,10 @@
 
 package org.apache.shardingsphere.sql.parser;
 
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.shardingsphere.sql.parser.cache.SQLParseResultCache;
+import org.apache.shardingsphere.sql.parser.cache.SQLParseResultCacheOption;
 import org.apache.shardingsphere.sql.parser.core.parser.SQLParserExecutor;
 import org.apache.shardingsphere.sql.parser.core.visitor.ParseTreeVisitorFactory;
 import org.apache.shardingsphere.sql.parser.hook.ParsingHook;
@@ -27,17 +28,26 @@ import org.apache.shardingsphere.sql.parser.hook.SPIParsingHook;
 import org.apache.shardingsphere.sql.parser.core.visitor.VisitorRule;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 
-import java.util.Optional;
+import java.util.Collection;
 
 /**
  * SQL parser engine.
  */
-@RequiredArgsConstructor
+@Getter
 public final class SQLParserEngine {
     
     private final String databaseTypeName;
     
-    private final SQLParseResultCache cache = new SQLParseResultCache();
+    private final SQLParseResultCache cache;
+    
+    public SQLParserEngine(final String databaseTypeName) {
+        this(databaseTypeName, SQLParseResultCacheOption.DEFAULT);
+    }
+    
+    public SQLParserEngine(final String databaseTypeName, final SQLParseResultCacheOption cacheOption) {
+        this.databaseTypeName = databaseTypeName;
+        cache = new SQLParseResultCache(cacheOption);
+    }
     
     // TODO check skywalking plugin
     /*
@@ -69,18 +79,37 @@ public final class SQLParserEngine {
         }
     }
     
-    private SQLStatement parse0(final String sql, final boolean useCache) {
-        if (useCache) {
-            Optional<SQLStatement> cachedSQLStatement = cache.getSQLStatement(sql);
-            if (cachedSQLStatement.isPresent()) {
-                return cachedSQLStatement.get();
+    /**
+     * Warm up SQL parser.
+     * 
+     * <p>
+     * SQLs are parsed without cache to populate the prediction caches of ANTLR, which are shared by all threads, 
+     * so that SQLs in similar forms will not pay the cold parsing cost after startup.
+     * </p>
+     *
+     * @param sqls SQLs to warm up
+     * @return count of SQLs parsed successfully
+     */
+    public int warmUp(final Collection<String> sqls) {
+        int result = 0;
+        for (String each : sqls) {
+            try {
+                parse0(each, false);
+                result++;
+                // CHECKSTYLE:OFF
+            } catch (final Exception ignore) {
+                // CHECKSTYLE:ON
             }
         }
-        ParseTree parseTree = new SQLParserExecutor(databaseTypeName, sql).execute().getRootNode();
-        SQLStatement result = (SQLStatement) ParseTreeVisitorFactory.newInstance(databaseTypeName, VisitorRule.valueOf(parseTree.getClass())).visit(parseTree);
-        if (useCache) {
-            cache.put(sql, result);
-        }
         return result;
     }
+    
+    private SQLStatement parse0(final String sql, final boolean useCache) {
+        return useCache ? cache.getSQLStatement(sql, () -> parse0(sql)) : parse0(sql);
+    }
+    
+    private SQLStatement parse0(final String sql) {
+        ParseTree parseTree = new SQLParserExecutor(databaseTypeName, sql).execute().getRootNode();
+        return (SQLStatement) ParseTreeVisitorFactory.newInstance(databaseTypeName, VisitorRule.valueOf(parseTree.getClass())).visit(parseTree);
+    }
 }
@@ -19,9 +19,12 @@ package org.apache.shardingsphere.sql.parser;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sql.parser.cache.SQLParseResultCacheOption;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * SQL parser engine factory.
@@ -29,7 +32,7 @@ import java.util.concurrent.ConcurrentHashMap;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SQLParserEngineFactory {
     
-    private static final Map<String, SQLParserEngine> ENGINES = new ConcurrentHashMap<>();
+    private static final Map<String, Map<SQLParseResultCacheOption, SQLParserEngine>> ENGINES = new ConcurrentHashMap<>();
     
     /**
      * Get SQL parser engine.
@@ -38,16 +41,26 @@ public final class SQLParserEngineFactory {
      * @return SQL parser engine
      */
     public static SQLParserEngine getSQLParserEngine(final String databaseTypeName) {
-        if (ENGINES.containsKey(databaseTypeName)) {
-            return ENGINES.get(databaseTypeName);
-        }
-        synchronized (ENGINES) {
-            if (ENGINES.containsKey(databaseTypeName)) {
-                return ENGINES.get(databaseTypeName);
-            }
-            SQLParserEngine result = new SQLParserEngine(databaseTypeName);
-            ENGINES.put(databaseTypeName, result);
-            return result;
-        }
+        return getSQLParserEngine(databaseTypeName, SQLParseResultCacheOption.DEFAULT);
+    }
+    
+    /**
+     * Get SQL parser engine.
+     *
+     * @param databaseTypeName name of database type
+     * @param cacheOption option of SQL parse result cache
+     * @return SQL parser engine
+     */
+    public static SQLParserEngine getSQLParserEngine(final String databaseTypeName, final SQLParseResultCacheOption cacheOption) {
+        return ENGINES.computeIfAbsent(databaseTypeName, key -> new ConcurrentHashMap<>()).computeIfAbsent(cacheOption, key -> new SQLParserEngine(databaseTypeName, cacheOption));
+    }
+    
+    /**
+     * Get all created SQL parser engines.
+     *
+     * @return all created SQL parser engines
+     */
+    public static Collection<SQLParserEngine> getSQLParserEngines() {
+        return ENGINES.values().stream().flatMap(each -> each.values().stream()).collect(Collectors.toList());
     }
 }
@@ -19,16 +19,30 @@ package org.apache.shardingsphere.sql.parser.cache;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * SQL parse result cache.
  */
 public final class SQLParseResultCache {
     
-    private final Cache<String, SQLStatement> cache = CacheBuilder.newBuilder().softValues().initialCapacity(2000).maximumSize(65535).build();
+    private final Cache<String, SQLStatement> cache;
+    
+    public SQLParseResultCache() {
+        this(SQLParseResultCacheOption.DEFAULT);
+    }
+    
+    public SQLParseResultCache(final SQLParseResultCacheOption option) {
+        cache = createCache(option);
+    }
     
     /**
      * Put SQL and parse result into cache.
@@ -50,10 +64,57 @@ public final class SQLParseResultCache {
         return Optional.ofNullable(cache.getIfPresent(sql));
     }
     
+    /**
+     * Get SQL statement, or load and cache it if absent.
+     *
+     * @param sql SQL
+     * @param loader loader of SQL statement
+     * @return SQL statement
+     */
+    @SneakyThrows(ExecutionException.class)
+    public SQLStatement getSQLStatement(final String sql, final Supplier<SQLStatement> loader) {
+        try {
+            return cache.get(sql, loader::get);
+        } catch (final UncheckedExecutionException ex) {
+            throw (RuntimeException) ex.getCause();
+        }
+    }
+    
+    /**
+     * Get statistics of cache.
+     *
+     * @return statistics of cache
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+    
+    /**
+     * Get approximate size of cache.
+     *
+     * @return approximate size of cache
+     */
+    public long getSize() {
+        return cache.size();
+    }
+    
     /**
      * Clear cache.
      */
     public synchronized void clear() {
         cache.invalidateAll();
     }
+    
+    private static Cache<String, SQLStatement> createCache(final SQLParseResultCacheOption option) {
+        CacheBuilder<Object, Object> result = CacheBuilder.newBuilder().initialCapacity(option.getInitialCapacity()).maximumSize(option.getMaximumSize()).recordStats();
+        if (CacheValueReferenceType.SOFT == option.getValueReferenceType()) {
+            result.softValues();
+        } else if (CacheValueReferenceType.WEAK == option.getValueReferenceType()) {
+            result.weakValues();
+        }
+        if (option.getExpireAfterAccessSeconds() > 0) {
+            result.expireAfterAccess(option.getExpireAfterAccessSeconds(), TimeUnit.SECONDS);
+        }
+        return result.build();
+    }
 }
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Option of SQL parse result cache.
+ */
+@RequiredArgsConstructor
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class SQLParseResultCacheOption {
+    
+    public static final SQLParseResultCacheOption DEFAULT = new SQLParseResultCacheOption(2000, 65535L, CacheValueReferenceType.SOFT, 0L);
+    
+    private final int initialCapacity;
+    
+    private final long maximumSize;
+    
+    private final CacheValueReferenceType valueReferenceType;
+    
+    /**
+     * Seconds to expire after last access, no expiration if not positive.
+     */
+    private final long expireAfterAccessSeconds;
+}
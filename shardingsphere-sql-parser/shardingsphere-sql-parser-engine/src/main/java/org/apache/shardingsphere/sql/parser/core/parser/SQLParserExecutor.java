@@ -52,7 +52,7 @@ public final class SQLParserExecutor {
     }
     
     private ParseASTNode twoPhaseParse() {
-        SQLParser sqlParser = SQLParserFactory.newInstance(databaseTypeName, sql);
+        SQLParser sqlParser = SQLParserFactory.getThreadLocalInstance(databaseTypeName, sql);
         try {
             ((Parser) sqlParser).setErrorHandler(new BailErrorStrategy());
             ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.SLL);
@@ -24,17 +24,23 @@ import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.TokenStream;
 import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 import org.apache.shardingsphere.sql.parser.spi.SQLParserConfiguration;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * SQL parser factory.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SQLParserFactory {
     
+    private static final ThreadLocal<Map<String, SQLParser>> SQL_PARSERS = ThreadLocal.withInitial(HashMap::new);
+    
     static {
         ShardingSphereServiceLoader.register(SQLParserConfiguration.class);
     }
@@ -47,7 +53,7 @@ public final class SQLParserFactory {
      * @return SQL parser
      */
     public static SQLParser newInstance(final String databaseTypeName, final String sql) {
-        for (SQLParserConfiguration each : ShardingSphereServiceLoader.newServiceInstances(SQLParserConfiguration.class)) {
+        for (SQLParserConfiguration each : ShardingSphereServiceLoader.getSingletonServiceInstances(SQLParserConfiguration.class)) {
             if (each.getDatabaseTypeName().equals(databaseTypeName)) {
                 return createSQLParser(sql, each);
             }
@@ -55,6 +61,29 @@ public final class SQLParserFactory {
         throw new UnsupportedOperationException(String.format("Cannot support database type '%s'", databaseTypeName));
     }
     
+    /**
+     * Get SQL parser of current thread.
+     * 
+     * <p>SQL parser and its lexer are created once for each thread and database type, then reset with input of SQL for reuse.</p>
+     *
+     * @param databaseTypeName name of database type
+     * @param sql SQL
+     * @return SQL parser
+     */
+    public static SQLParser getThreadLocalInstance(final String databaseTypeName, final String sql) {
+        Map<String, SQLParser> sqlParsers = SQL_PARSERS.get();
+        SQLParser result = sqlParsers.get(databaseTypeName);
+        if (null == result) {
+            result = newInstance(databaseTypeName, sql);
+            sqlParsers.put(databaseTypeName, result);
+            return result;
+        }
+        Lexer lexer = (Lexer) ((Parser) result).getTokenStream().getTokenSource();
+        lexer.setInputStream(CharStreams.fromString(sql));
+        ((Parser) result).setTokenStream(new CommonTokenStream(lexer));
+        return result;
+    }
+    
     @SneakyThrows
     private static SQLParser createSQLParser(final String sql, final SQLParserConfiguration configuration) {
         Lexer lexer = (Lexer) configuration.getLexerClass().getConstructor(CharStream.class).newInstance(CharStreams.fromString(sql));
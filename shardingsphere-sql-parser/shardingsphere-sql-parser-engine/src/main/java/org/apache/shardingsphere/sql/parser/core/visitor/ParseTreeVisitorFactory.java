@@ -27,12 +27,20 @@ import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.spi.SQLParserConfiguration;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatementType;
 
+import java.lang.reflect.Constructor;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Parse tree visitor factory.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ParseTreeVisitorFactory {
     
+    private static final Map<String, SQLVisitorFacade> VISITOR_FACADES = new ConcurrentHashMap<>();
+    
+    private static final Map<Class<?>, Constructor<?>> VISITOR_CONSTRUCTORS = new ConcurrentHashMap<>();
+    
     /** 
      * New instance of SQL visitor.
      * 
@@ -41,32 +49,45 @@ public final class ParseTreeVisitorFactory {
      * @return parse tree visitor
      */
     public static ParseTreeVisitor newInstance(final String databaseTypeName, final VisitorRule visitorRule) {
-        for (SQLParserConfiguration each : ShardingSphereServiceLoader.newServiceInstances(SQLParserConfiguration.class)) {
+        return createParseTreeVisitor(VISITOR_FACADES.computeIfAbsent(databaseTypeName, ParseTreeVisitorFactory::createVisitorFacade), visitorRule.getType());
+    }
+    
+    @SneakyThrows
+    private static SQLVisitorFacade createVisitorFacade(final String databaseTypeName) {
+        for (SQLParserConfiguration each : ShardingSphereServiceLoader.getSingletonServiceInstances(SQLParserConfiguration.class)) {
             if (each.getDatabaseTypeName().equals(databaseTypeName)) {
-                return createParseTreeVisitor(each, visitorRule.getType());
+                return each.getVisitorFacadeClass().getConstructor().newInstance();
             }
         }
         throw new UnsupportedOperationException(String.format("Cannot support database type '%s'", databaseTypeName));
     }
     
-    @SneakyThrows
-    private static ParseTreeVisitor createParseTreeVisitor(final SQLParserConfiguration configuration, final SQLStatementType type) {
-        SQLVisitorFacade visitorFacade = configuration.getVisitorFacadeClass().getConstructor().newInstance();
+    private static ParseTreeVisitor createParseTreeVisitor(final SQLVisitorFacade visitorFacade, final SQLStatementType type) {
         switch (type) {
             case DML:
-                return (ParseTreeVisitor) visitorFacade.getDMLVisitorClass().getConstructor().newInstance();
+                return createParseTreeVisitor(visitorFacade.getDMLVisitorClass());
             case DDL:
-                return (ParseTreeVisitor) visitorFacade.getDDLVisitorClass().getConstructor().newInstance();
+                return createParseTreeVisitor(visitorFacade.getDDLVisitorClass());
             case TCL:
-                return (ParseTreeVisitor) visitorFacade.getTCLVisitorClass().getConstructor().newInstance();
+                return createParseTreeVisitor(visitorFacade.getTCLVisitorClass());
             case DCL:
-                return (ParseTreeVisitor) visitorFacade.getDCLVisitorClass().getConstructor().newInstance();
+                return createParseTreeVisitor(visitorFacade.getDCLVisitorClass());
             case DAL:
-                return (ParseTreeVisitor) visitorFacade.getDALVisitorClass().getConstructor().newInstance();
+                return createParseTreeVisitor(visitorFacade.getDALVisitorClass());
             case RL:
-                return (ParseTreeVisitor) visitorFacade.getRLVisitorClass().getConstructor().newInstance();
+                return createParseTreeVisitor(visitorFacade.getRLVisitorClass());
             default:
                 throw new SQLParsingException("Can not support SQL statement type: `%s`", type);
         }
     }
+    
+    @SneakyThrows
+    private static ParseTreeVisitor createParseTreeVisitor(final Class<?> visitorClass) {
+        return (ParseTreeVisitor) VISITOR_CONSTRUCTORS.computeIfAbsent(visitorClass, ParseTreeVisitorFactory::getConstructor).newInstance();
+    }
+    
+    @SneakyThrows
+    private static Constructor<?> getConstructor(final Class<?> visitorClass) {
+        return visitorClass.getConstructor();
+    }
 }
@@ -0,0 +1,295 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.normalize;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Sets;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.value.literal.impl.NumberLiteralValue;
+import org.apache.shardingsphere.sql.parser.sql.value.literal.impl.StringLiteralValue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL literal normalizer.
+ * 
+ * <p>
+ * Replace number and string literals of DML with parameter markers by a lexical scan, 
+ * so that SQLs only differ in literals share the same parsed template.
+ * Literals in projections, {@code ORDER BY} and {@code GROUP BY} are retained because they change the meaning of SQL.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLLiteralNormalizer {
+    
+    private static final char PARAMETER_MARKER = '?';
+    
+    private static final Collection<String> DML_KEYWORDS = Sets.newHashSet("SELECT", "INSERT", "UPDATE", "DELETE");
+    
+    private static final Collection<String> NORMALIZABLE_CLAUSE_KEYWORDS = Sets.newHashSet("WHERE", "SET", "VALUES", "VALUE", "ON", "HAVING", "LIMIT", "OFFSET");
+    
+    private static final Collection<String> RETAINED_CLAUSE_KEYWORDS = Sets.newHashSet("SELECT", "FROM", "UNION", "BY");
+    
+    private static final Collection<String> TYPED_LITERAL_PREFIXES = Sets.newHashSet("DATE", "TIME", "TIMESTAMP", "INTERVAL", "BINARY", "COLLATE");
+    
+    private final String sql;
+    
+    private final StringBuilder template = new StringBuilder();
+    
+    private final List<Object> parameters = new ArrayList<>();
+    
+    private final LinkedList<Boolean> outerStates = new LinkedList<>();
+    
+    private boolean normalizable;
+    
+    private String previousWord = "";
+    
+    /**
+     * Normalize SQL.
+     *
+     * @param sql SQL to be normalized
+     * @return normalized SQL, empty if SQL is not DML, already contains parameter markers or has no literal to be normalized
+     */
+    public static Optional<NormalizedSQL> normalize(final String sql) {
+        if (sql.indexOf(PARAMETER_MARKER) >= 0 || sql.indexOf('\\') >= 0 || sql.indexOf('$') >= 0 || !DML_KEYWORDS.contains(getFirstWord(sql))) {
+            return Optional.empty();
+        }
+        return new SQLLiteralNormalizer(sql).scan();
+    }
+    
+    /**
+     * Inline parameters into SQL.
+     * 
+     * <p>
+     * The SQL should be rewritten from normalized SQL, whose parameter markers are all generated by normalizing or rewriting.
+     * </p>
+     *
+     * @param sql SQL with parameter markers
+     * @param parameters parameters
+     * @return SQL with parameters inlined as literals
+     */
+    public static String inline(final String sql, final List<Object> parameters) {
+        if (parameters.isEmpty()) {
+            return sql;
+        }
+        StringBuilder result = new StringBuilder(sql.length() + parameters.size() * 8);
+        Iterator<Object> iterator = parameters.iterator();
+        for (int i = 0; i < sql.length(); i++) {
+            char each = sql.charAt(i);
+            if (PARAMETER_MARKER == each) {
+                Preconditions.checkState(iterator.hasNext(), "Parameters are less than parameter markers of SQL `%s`.", sql);
+                appendLiteral(result, iterator.next());
+            } else {
+                result.append(each);
+            }
+        }
+        Preconditions.checkState(!iterator.hasNext(), "Parameters are more than parameter markers of SQL `%s`.", sql);
+        return result.toString();
+    }
+    
+    private Optional<NormalizedSQL> scan() {
+        int index = 0;
+        while (index < sql.length()) {
+            index = scanToken(index);
+            if (index < 0) {
+                return Optional.empty();
+            }
+        }
+        return parameters.isEmpty() || !outerStates.isEmpty() ? Optional.empty() : Optional.of(new NormalizedSQL(template.toString(), parameters));
+    }
+    
+    private int scanToken(final int start) {
+        char current = sql.charAt(start);
+        if ('\'' == current) {
+            return scanStringLiteral(start);
+        }
+        if ('"' == current || '`' == current) {
+            return appendUntil(start, skipQuoted(sql, start, current));
+        }
+        if (isComment(sql, start)) {
+            return appendUntil(start, skipComment(sql, start));
+        }
+        if (isWordPart(current) && !Character.isDigit(current)) {
+            return scanWord(start);
+        }
+        if (Character.isDigit(current) || '.' == current && start + 1 < sql.length() && Character.isDigit(sql.charAt(start + 1))) {
+            return scanNumberLiteral(start);
+        }
+        return scanSymbol(start, current);
+    }
+    
+    private int scanStringLiteral(final int start) {
+        int end = skipQuoted(sql, start, '\'');
+        if (end < 0) {
+            return end;
+        }
+        String literal = sql.substring(start, end);
+        if (isNormalizable() && literal.indexOf('\'', 1) == literal.length() - 1) {
+            template.append(PARAMETER_MARKER);
+            parameters.add(new StringLiteralValue(literal).getValue());
+            return end;
+        }
+        return appendUntil(start, end);
+    }
+    
+    private int scanWord(final int start) {
+        int end = skipWord(sql, start);
+        String word = sql.substring(start, end).toUpperCase();
+        if (NORMALIZABLE_CLAUSE_KEYWORDS.contains(word)) {
+            normalizable = true;
+        } else if (RETAINED_CLAUSE_KEYWORDS.contains(word)) {
+            normalizable = false;
+        }
+        previousWord = word;
+        boolean isPrefixedStringLiteral = end < sql.length() && '\'' == sql.charAt(end);
+        return appendUntil(start, isPrefixedStringLiteral ? skipQuoted(sql, end, '\'') : end);
+    }
+    
+    private int scanNumberLiteral(final int start) {
+        int end = skipNumber(sql, start);
+        if (end < sql.length() && isWordPart(sql.charAt(end))) {
+            return appendUntil(start, skipWord(sql, end));
+        }
+        if (isNormalizable()) {
+            template.append(PARAMETER_MARKER);
+            parameters.add(new NumberLiteralValue(sql.substring(start, end)).getValue());
+            return end;
+        }
+        return appendUntil(start, end);
+    }
+    
+    private int scanSymbol(final int start, final char symbol) {
+        if ('(' == symbol) {
+            outerStates.push(normalizable);
+        } else if (')' == symbol) {
+            if (outerStates.isEmpty()) {
+                return -1;
+            }
+            normalizable = outerStates.pop();
+        }
+        if (!Character.isWhitespace(symbol)) {
+            previousWord = "";
+        }
+        template.append(symbol);
+        return start + 1;
+    }
+    
+    private boolean isNormalizable() {
+        return normalizable && !TYPED_LITERAL_PREFIXES.contains(previousWord);
+    }
+    
+    private int appendUntil(final int start, final int end) {
+        if (end >= 0) {
+            template.append(sql, start, end);
+        }
+        return end;
+    }
+    
+    private static String getFirstWord(final String sql) {
+        int start = 0;
+        while (start < sql.length() && Character.isWhitespace(sql.charAt(start))) {
+            start++;
+        }
+        return sql.substring(start, skipWord(sql, start)).toUpperCase();
+    }
+    
+    private static boolean isWordPart(final char ch) {
+        return Character.isLetterOrDigit(ch) || '_' == ch || '@' == ch;
+    }
+    
+    private static boolean isComment(final String sql, final int index) {
+        char current = sql.charAt(index);
+        if ('#' == current) {
+            return true;
+        }
+        return index + 1 < sql.length() && ('-' == current && '-' == sql.charAt(index + 1) || '/' == current && '*' == sql.charAt(index + 1));
+    }
+    
+    private static int skipQuoted(final String sql, final int start, final char quote) {
+        int index = start + 1;
+        while (index < sql.length()) {
+            if (quote == sql.charAt(index)) {
+                if (index + 1 < sql.length() && quote == sql.charAt(index + 1)) {
+                    index += 2;
+                    continue;
+                }
+                return index + 1;
+            }
+            index++;
+        }
+        return -1;
+    }
+    
+    private static int skipComment(final String sql, final int start) {
+        if ('/' == sql.charAt(start)) {
+            int end = sql.indexOf("*/", start + 2);
+            return end < 0 ? -1 : end + 2;
+        }
+        int end = sql.indexOf('\n', start);
+        return end < 0 ? sql.length() : end;
+    }
+    
+    private static int skipWord(final String sql, final int start) {
+        int result = start;
+        while (result < sql.length() && isWordPart(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static int skipNumber(final String sql, final int start) {
+        int result = skipDigits(sql, start);
+        if (result < sql.length() && '.' == sql.charAt(result)) {
+            result = skipDigits(sql, result + 1);
+        }
+        if (result + 1 < sql.length() && ('e' == sql.charAt(result) || 'E' == sql.charAt(result))) {
+            int exponentStart = '+' == sql.charAt(result + 1) || '-' == sql.charAt(result + 1) ? result + 2 : result + 1;
+            int exponentEnd = skipDigits(sql, exponentStart);
+            if (exponentEnd > exponentStart) {
+                result = exponentEnd;
+            }
+        }
+        return result;
+    }
+    
+    private static int skipDigits(final String sql, final int start) {
+        int result = start;
+        while (result < sql.length() && Character.isDigit(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static void appendLiteral(final StringBuilder sql, final Object parameter) {
+        if (null == parameter) {
+            sql.append("NULL");
+        } else if (parameter instanceof Number) {
+            sql.append(parameter);
+        } else if (parameter instanceof Boolean) {
+            sql.append((Boolean) parameter ? "TRUE" : "FALSE");
+        } else {
+            sql.append('\'').append(parameter.toString().replace("'", "''")).append('\'');
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.warmup;
+
+import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * Warm up SQL loader.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class WarmUpSQLLoader {
+    
+    /**
+     * Load SQLs to warm up SQL parser.
+     * 
+     * <p>
+     * The file contains one SQL per line, blank lines and lines start with {@code #} or {@code --} are ignored.
+     * The file is looked up from file system first, then from class path.
+     * </p>
+     *
+     * @param path path of warm up SQL file
+     * @return SQLs to warm up
+     */
+    @SneakyThrows(IOException.class)
+    public static Collection<String> load(final String path) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(openInputStream(path), StandardCharsets.UTF_8))) {
+            return reader.lines().map(String::trim).filter(each -> !each.isEmpty() && !each.startsWith("#") && !each.startsWith("--")).map(WarmUpSQLLoader::trimDelimiter).collect(Collectors.toList());
+        }
+    }
+    
+    private static InputStream openInputStream(final String path) throws IOException {
+        File file = new File(path);
+        if (file.isFile()) {
+            return new FileInputStream(file);
+        }
+        InputStream result = WarmUpSQLLoader.class.getClassLoader().getResourceAsStream(path);
+        Preconditions.checkArgument(null != result, "Can not find warm up SQL file `%s`.", path);
+        return result;
+    }
+    
+    private static String trimDelimiter(final String sql) {
+        return sql.endsWith(";") ? sql.substring(0, sql.length() - 1).trim() : sql;
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.sql.parser;
 
+import org.apache.shardingsphere.sql.parser.cache.CacheValueReferenceType;
+import org.apache.shardingsphere.sql.parser.cache.SQLParseResultCacheOption;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -25,6 +27,7 @@ import java.lang.reflect.Field;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertThat;
 
 public final class SQLParseEngineFactoryTest {
@@ -41,4 +44,13 @@ public final class SQLParseEngineFactoryTest {
     public void assertGetSQLParseEngine() {
         assertThat(SQLParserEngineFactory.getSQLParserEngine("MySQL"), is(SQLParserEngineFactory.getSQLParserEngine("MySQL")));
     }
+    
+    @Test
+    public void assertGetSQLParseEngineWithCacheOption() {
+        SQLParseResultCacheOption cacheOption = new SQLParseResultCacheOption(16, 16L, CacheValueReferenceType.STRONG, 0L);
+        SQLParserEngine actual = SQLParserEngineFactory.getSQLParserEngine("MySQL", cacheOption);
+        assertThat(SQLParserEngineFactory.getSQLParserEngine("MySQL", new SQLParseResultCacheOption(16, 16L, CacheValueReferenceType.STRONG, 0L)), is(actual));
+        assertThat(SQLParserEngineFactory.getSQLParserEngine("MySQL"), not(actual));
+        assertThat(SQLParserEngineFactory.getSQLParserEngines().size(), is(2));
+    }
 }
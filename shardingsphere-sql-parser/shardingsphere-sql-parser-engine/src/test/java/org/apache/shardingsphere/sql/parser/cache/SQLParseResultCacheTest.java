@@ -53,4 +53,34 @@ public final class SQLParseResultCacheTest {
         actual.clear();
         assertFalse(actual.getSQLStatement("SELECT 1").isPresent());
     }
+    
+    @Test
+    public void assertGetSQLStatementWithLoader() {
+        SQLParseResultCache actual = new SQLParseResultCache(new SQLParseResultCacheOption(16, 16L, CacheValueReferenceType.STRONG, 60L));
+        SQLStatement selectStatement = new SelectStatement();
+        assertThat(actual.getSQLStatement("SELECT 1", () -> selectStatement), is(selectStatement));
+        assertThat(actual.getSQLStatement("SELECT 1", SelectStatement::new), is(selectStatement));
+        assertThat(actual.getStats().hitCount(), is(1L));
+        assertThat(actual.getStats().missCount(), is(1L));
+        assertThat(actual.getStats().loadSuccessCount(), is(1L));
+        assertThat(actual.getSize(), is(1L));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGetSQLStatementWithFailedLoader() {
+        new SQLParseResultCache().getSQLStatement("SELECT 1", () -> {
+            throw new IllegalStateException("failed");
+        });
+    }
+    
+    @Test
+    public void assertEvictionWithMaximumSize() {
+        SQLParseResultCache actual = new SQLParseResultCache(new SQLParseResultCacheOption(1, 1L, CacheValueReferenceType.WEAK, 0L));
+        SQLStatement firstStatement = new SelectStatement();
+        SQLStatement secondStatement = new SelectStatement();
+        actual.put("SELECT 1", firstStatement);
+        actual.put("SELECT 2", secondStatement);
+        assertThat(actual.getStats().evictionCount(), is(1L));
+        assertThat(actual.getSize(), is(1L));
+    }
 }
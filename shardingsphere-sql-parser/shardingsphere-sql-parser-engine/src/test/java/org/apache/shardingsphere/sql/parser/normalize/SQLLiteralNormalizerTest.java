@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.normalize;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLLiteralNormalizerTest {
+    
+    @Test
+    public void assertNormalizeSelect() {
+        Optional<NormalizedSQL> actual = SQLLiteralNormalizer.normalize(
+                "SELECT COUNT(1), 'x' FROM t_order WHERE order_id = 10 AND status IN ('init', 'paid') AND price > 1.5 GROUP BY user_id ORDER BY 1 LIMIT 10");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT COUNT(1), 'x' FROM t_order WHERE order_id = ? AND status IN (?, ?) AND price > ? GROUP BY user_id ORDER BY 1 LIMIT ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(10, "init", "paid", new BigDecimal("1.5"), 10)));
+    }
+    
+    @Test
+    public void assertNormalizeInsert() {
+        Optional<NormalizedSQL> actual = SQLLiteralNormalizer.normalize("INSERT INTO t_order (order_id, user_id, status) VALUES (10000000000, 1, 'init'), (2, 1, 'init')");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?), (?, ?, ?)"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(10000000000L, 1, "init", 2, 1, "init")));
+    }
+    
+    @Test
+    public void assertNormalizeWithSubqueryAndRetainedLiterals() {
+        Optional<NormalizedSQL> actual = SQLLiteralNormalizer.normalize(
+                "UPDATE t_order SET status = 'it''s', created = DATE '2020-01-01' /* 1 */ WHERE user_id IN (SELECT 1 FROM t_user WHERE id = 2) AND order_id = 0x1F AND `t1` = 3");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(),
+                is("UPDATE t_order SET status = 'it''s', created = DATE '2020-01-01' /* 1 */ WHERE user_id IN (SELECT 1 FROM t_user WHERE id = ?) AND order_id = 0x1F AND `t1` = ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(2, 3)));
+    }
+    
+    @Test
+    public void assertNormalizeWithoutNormalizableLiteral() {
+        assertFalse(SQLLiteralNormalizer.normalize("SELECT 1 FROM t_order").isPresent());
+        assertFalse(SQLLiteralNormalizer.normalize("SELECT * FROM t_order WHERE order_id = ?").isPresent());
+        assertFalse(SQLLiteralNormalizer.normalize("SELECT * FROM t_order WHERE status = 'a\\'b'").isPresent());
+        assertFalse(SQLLiteralNormalizer.normalize("CREATE TABLE t_order (order_id DECIMAL(10, 2))").isPresent());
+        assertFalse(SQLLiteralNormalizer.normalize("SELECT * FROM t_order WHERE status = 'init").isPresent());
+    }
+    
+    @Test
+    public void assertInline() {
+        assertThat(SQLLiteralNormalizer.inline("INSERT INTO t_order_0 (order_id, status, remark, paid) VALUES (?, ?, ?, ?)", Arrays.asList(1L, "it's", null, true)),
+                is("INSERT INTO t_order_0 (order_id, status, remark, paid) VALUES (1, 'it''s', NULL, TRUE)"));
+        assertThat(SQLLiteralNormalizer.inline("SELECT * FROM t_order_0", Collections.emptyList()), is("SELECT * FROM t_order_0"));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertInlineWithLessParameters() {
+        SQLLiteralNormalizer.inline("SELECT * FROM t_order_0 WHERE order_id = ? AND user_id = ?", Collections.singletonList(1));
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.warmup;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class WarmUpSQLLoaderTest {
+    
+    @Test
+    public void assertLoadFromClassPath() {
+        assertThat(WarmUpSQLLoader.load("warmup/warm-up.sql"), is(Arrays.asList(
+                "SELECT * FROM t_order WHERE order_id = ?", "INSERT INTO t_order (order_id, user_id) VALUES (?, ?)", "UPDATE t_order SET status = ? WHERE order_id = ?")));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertLoadWithNotExistedFile() {
+        WarmUpSQLLoader.load("warmup/not-existed.sql");
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sql.parser.spi;
 
+import org.apache.shardingsphere.spi.singleton.SingletonSPI;
 import org.apache.shardingsphere.sql.parser.api.lexer.SQLLexer;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 import org.apache.shardingsphere.sql.parser.api.visitor.SQLVisitorFacade;
@@ -24,7 +25,7 @@ import org.apache.shardingsphere.sql.parser.api.visitor.SQLVisitorFacade;
 /**
  * SQL parser configuration.
  */
-public interface SQLParserConfiguration {
+public interface SQLParserConfiguration extends SingletonSPI {
     
     /**
      * Get name of database type.
@@ -72,11 +72,102 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     EXECUTOR_SIZE("executor.size", String.valueOf(0), int.class),
     
+    /**
+     * Type of executor to execute SQL.
+     *
+     * <p>
+     * THREAD_POOL:
+     * SQL will be executed by thread pool, which is cached if executor size is 0, otherwise fixed.
+     * </p>
+     *
+     * <p>
+     * VIRTUAL_THREAD:
+     * SQL will be executed by virtual threads and executor size is ignored, cached thread pool is used instead if JDK does not support virtual thread.
+     * </p>
+     *
+     * <p>
+     * Default: THREAD_POOL
+     * </p>
+     */
+    EXECUTOR_TYPE("executor.type", "THREAD_POOL", String.class),
+    
+    /**
+     * Max concurrent executions of each data source.
+     *
+     * <p>
+     * Execution of each data source waits until permitted if concurrent executions reach this limit,
+     * which can be used in place of executor size to limit concurrency when executor type is VIRTUAL_THREAD.
+     * Default: 0, means no limit.
+     * </p>
+     */
+    EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE("executor.max.concurrency.per.data.source", String.valueOf(0), int.class),
+    
+    /**
+     * Max executions waiting for permit of each data source.
+     *
+     * <p>
+     * Execution is rejected immediately if waiting executions of its data source reach this limit,
+     * so that a slow data source cannot hold up threads of executions to other data sources.
+     * It takes effect only if max concurrency of each data source is limited.
+     * Default: 0, means no limit.
+     * </p>
+     */
+    EXECUTOR_MAX_QUEUE_SIZE_PER_DATA_SOURCE("executor.max.queue.size.per.data.source", String.valueOf(0), int.class),
+    
+    /**
+     * Max milliseconds of execution waiting for permit of each data source.
+     *
+     * <p>
+     * Execution is rejected if it is not permitted within this time, so that waiting executions cannot pile up even if queue size is not limited.
+     * It takes effect only if max concurrency of each data source is limited.
+     * Default: 30000
+     * </p>
+     */
+    EXECUTOR_MAX_WAIT_MILLIS_PER_DATA_SOURCE("executor.max.wait.millis.per.data.source", String.valueOf(30000), long.class),
+    
+    /**
+     * Enable or Disable to adapt concurrency limit of each data source.
+     *
+     * <p>
+     * Concurrency limit of each data source is adapted between 1 and max concurrency of each data source by AIMD algorithm,
+     * which decreases the limit once execution fails or its latency grows far beyond the baseline latency observed.
+     * Limit starts from 100 if max concurrency of each data source is not limited.
+     * Default: false
+     * </p>
+     */
+    EXECUTOR_ADAPTIVE_CONCURRENCY_ENABLED("executor.adaptive.concurrency.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max.connections.size.per.query", String.valueOf(1), int.class),
     
+    /**
+     * Enable or Disable to adapt connection mode of each query.
+     *
+     * <p>
+     * Connection size of each query is adapted by result size of tables observed and utilization of connection pool.
+     * Results which are estimated large are streamed with more connections to avoid buffering them in memory,
+     * and connections are reduced while connection pool is busy to avoid exhausting it.
+     * Default: false
+     * </p>
+     */
+    ADAPTIVE_CONNECTION_MODE_ENABLED("adaptive.connection.mode.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max opened connection size for each query to stream large results, if connection mode is adaptive.
+     *
+     * <p>
+     * Default: 0, means same as max opened connection size for each query.
+     * </p>
+     */
+    ADAPTIVE_CONNECTION_MODE_MAX_CONNECTIONS_SIZE_PER_QUERY("adaptive.connection.mode.max.connections.size.per.query", String.valueOf(0), int.class),
+    
+    /**
+     * Estimated result rows on one data source from which results are considered large and preferred to be streamed, if connection mode is adaptive.
+     */
+    ADAPTIVE_CONNECTION_MODE_STREAMING_ROWS_THRESHOLD("adaptive.connection.mode.streaming.rows.threshold", String.valueOf(10000), int.class),
+    
     /**
      * When encrypt data, query with cipher column or not.
      * 
@@ -127,7 +218,148 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
     
     PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", String.valueOf(60), int.class),
     
-    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class);
+    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max cached execution plan size.
+     *
+     * <p>
+     * Execution plan of prepared select statement will be cached by SQL, so that the SQL rewriting can be skipped,
+     * and only SQL binding and routing are calculated with parameters.
+     * Only the statement which routed by sharding rules with cacheable sharding algorithms only can be cached.
+     * Default: 0, means disable execution plan cache.
+     * </p>
+     */
+    EXECUTION_PLAN_CACHE_SIZE("execution.plan.cache.size", String.valueOf(0), int.class),
+    
+    /**
+     * File of SQLs to warm up SQL parser.
+     *
+     * <p>
+     * The SQLs in file will be parsed at startup to avoid the latency of cold parsing for the first SQLs.
+     * The file contains one SQL per line, and will be looked up from file system first, then from class path.
+     * Default: empty, means disable warm up.
+     * </p>
+     */
+    SQL_PARSER_WARM_UP_FILE("sql.parser.warm.up.file", "", String.class),
+    
+    /**
+     * Enable or Disable to normalize literals of SQL executed by statement.
+     *
+     * <p>
+     * Number and string literals of DML executed by statement will be replaced with parameter markers before parsing,
+     * so that SQLs only differ in literals can share the cached parse result, and the literals are inlined back after rewriting.
+     * Default: false
+     * </p>
+     */
+    SQL_PARSER_LITERAL_NORMALIZATION_ENABLED("sql.parser.literal.normalization.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Initial capacity of SQL parse result cache.
+     */
+    SQL_PARSER_CACHE_INITIAL_CAPACITY("sql.parser.cache.initial.capacity", String.valueOf(2000), int.class),
+    
+    /**
+     * Maximum size of SQL parse result cache.
+     */
+    SQL_PARSER_CACHE_MAXIMUM_SIZE("sql.parser.cache.maximum.size", String.valueOf(65535), long.class),
+    
+    /**
+     * Reference type of SQL parse result cache values.
+     *
+     * <p>
+     * Options: STRONG, SOFT, WEAK.
+     * Soft and weak values can be collected under memory pressure, strong values are only evicted by size or expiration.
+     * Default: SOFT
+     * </p>
+     */
+    SQL_PARSER_CACHE_VALUE_REFERENCE_TYPE("sql.parser.cache.value.reference.type", "SOFT", String.class),
+    
+    /**
+     * Seconds of SQL parse result to expire after last access.
+     *
+     * <p>
+     * Default: 0, means never expire.
+     * </p>
+     */
+    SQL_PARSER_CACHE_EXPIRE_AFTER_ACCESS_SECONDS("sql.parser.cache.expire.after.access.seconds", String.valueOf(0), long.class),
+    
+    /**
+     * Max groups held in memory when merging group by results.
+     *
+     * <p>
+     * Once the groups in memory reach the limit, partial aggregations are spilled to local temporary files as sorted runs,
+     * and combined by external merging after all the rows are read.
+     * Default: 0, means never spill.
+     * </p>
+     */
+    GROUP_BY_MERGE_MAX_MEMORY_GROUPS("group.by.merge.max.memory.groups", String.valueOf(0), int.class),
+    
+    /**
+     * Whether approximate count distinct by HyperLogLog when merging results of shards.
+     *
+     * <p>
+     * Count distinct is exact until distinct values reach 2048 in a group, and its standard error is about 0.81% after that.
+     * It can be enabled per query by {@code HintManager} too.
+     * Default: false.
+     * </p>
+     */
+    APPROXIMATE_DISTINCT_COUNT_ENABLED("approximate.distinct.count.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Whether terminate query results of shards once the row count of pagination is reached.
+     *
+     * <p>
+     * Result sets of shards which are not iterated to the end are closed, so that cursors and buffered rows nobody reads are released.
+     * Default: false.
+     * </p>
+     */
+    PAGINATION_EARLY_TERMINATION_ENABLED("pagination.early.termination.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max cached route results size of each sharding rule.
+     *
+     * <p>
+     * Routed data nodes of precise sharding values will be cached and reused,
+     * only if database and table sharding algorithms of the table are cacheable.
+     * Default: 0, means disable route cache.
+     * </p>
+     */
+    ROUTE_CACHE_SIZE("route.cache.size", String.valueOf(0), int.class),
+    
+    /**
+     * Max rows of each coalesced insert statement when executing batch.
+     *
+     * <p>
+     * Rows of batched single row insert statement which routed to same data source and actual table
+     * will be coalesced into multiple rows insert statements, each one contains rows up to this size.
+     * Default: 0, means disable coalescing.
+     * </p>
+     */
+    BATCH_INSERT_COALESCE_MAX_ROWS("batch.insert.coalesce.max.rows", String.valueOf(0), int.class),
+    
+    /**
+     * Max route units of cartesian routing.
+     *
+     * <p>
+     * Route units of joined sharding tables which are not binding tables are estimated before cartesian product,
+     * and SQL is rejected if they exceed this limit, to avoid too many statements executed for one SQL.
+     * Default: 0, means no limit.
+     * </p>
+     */
+    MAX_CARTESIAN_ROUTE_UNITS("max.cartesian.route.units", String.valueOf(0), int.class),
+    
+    /**
+     * Enable or Disable to merge query results in the order they arrive.
+     *
+     * <p>
+     * Query of all input groups will be executed asynchronously, and results of faster data sources can be merged and consumed
+     * without waiting for slower ones, if the merging does not require all the results, such as iterator merging.
+     * It is ignored if execution is serial, such as in transaction.
+     * Default: false
+     * </p>
+     */
+    FIRST_ARRIVED_MERGE_ENABLED("first.arrived.merge.enabled", String.valueOf(Boolean.FALSE), boolean.class);
     
     private final String key;
     
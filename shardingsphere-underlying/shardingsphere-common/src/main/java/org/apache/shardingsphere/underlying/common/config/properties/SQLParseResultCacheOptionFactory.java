@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.common.config.properties;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sql.parser.cache.CacheValueReferenceType;
+import org.apache.shardingsphere.sql.parser.cache.SQLParseResultCacheOption;
+
+/**
+ * SQL parse result cache option factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLParseResultCacheOptionFactory {
+    
+    /**
+     * Create new instance of SQL parse result cache option.
+     *
+     * @param properties configuration properties
+     * @return SQL parse result cache option
+     */
+    public static SQLParseResultCacheOption newInstance(final ConfigurationProperties properties) {
+        return new SQLParseResultCacheOption(properties.<Integer>getValue(ConfigurationPropertyKey.SQL_PARSER_CACHE_INITIAL_CAPACITY),
+                properties.<Long>getValue(ConfigurationPropertyKey.SQL_PARSER_CACHE_MAXIMUM_SIZE),
+                CacheValueReferenceType.valueOf(properties.<String>getValue(ConfigurationPropertyKey.SQL_PARSER_CACHE_VALUE_REFERENCE_TYPE).toUpperCase()),
+                properties.<Long>getValue(ConfigurationPropertyKey.SQL_PARSER_CACHE_EXPIRE_AFTER_ACCESS_SECONDS));
+    }
+}
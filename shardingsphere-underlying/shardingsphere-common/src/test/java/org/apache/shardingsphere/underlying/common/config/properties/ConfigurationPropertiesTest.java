@@ -44,6 +44,28 @@ public final class ConfigurationPropertiesTest {
         props.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_MAX_CONNECTIONS.getKey(), "20");
         props.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS.getKey(), "20");
         props.setProperty(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED.getKey(), Boolean.TRUE.toString());
+        props.setProperty(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_SIZE.getKey(), "20");
+        props.setProperty(ConfigurationPropertyKey.SQL_PARSER_WARM_UP_FILE.getKey(), "warm-up.sql");
+        props.setProperty(ConfigurationPropertyKey.SQL_PARSER_LITERAL_NORMALIZATION_ENABLED.getKey(), Boolean.TRUE.toString());
+        props.setProperty(ConfigurationPropertyKey.SQL_PARSER_CACHE_INITIAL_CAPACITY.getKey(), "20");
+        props.setProperty(ConfigurationPropertyKey.SQL_PARSER_CACHE_MAXIMUM_SIZE.getKey(), "200");
+        props.setProperty(ConfigurationPropertyKey.SQL_PARSER_CACHE_VALUE_REFERENCE_TYPE.getKey(), "STRONG");
+        props.setProperty(ConfigurationPropertyKey.SQL_PARSER_CACHE_EXPIRE_AFTER_ACCESS_SECONDS.getKey(), "60");
+        props.setProperty(ConfigurationPropertyKey.GROUP_BY_MERGE_MAX_MEMORY_GROUPS.getKey(), "10000");
+        props.setProperty(ConfigurationPropertyKey.APPROXIMATE_DISTINCT_COUNT_ENABLED.getKey(), Boolean.TRUE.toString());
+        props.setProperty(ConfigurationPropertyKey.PAGINATION_EARLY_TERMINATION_ENABLED.getKey(), Boolean.TRUE.toString());
+        props.setProperty(ConfigurationPropertyKey.ROUTE_CACHE_SIZE.getKey(), "1000");
+        props.setProperty(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_MAX_ROWS.getKey(), "500");
+        props.setProperty(ConfigurationPropertyKey.MAX_CARTESIAN_ROUTE_UNITS.getKey(), "100");
+        props.setProperty(ConfigurationPropertyKey.FIRST_ARRIVED_MERGE_ENABLED.getKey(), Boolean.TRUE.toString());
+        props.setProperty(ConfigurationPropertyKey.EXECUTOR_TYPE.getKey(), "VIRTUAL_THREAD");
+        props.setProperty(ConfigurationPropertyKey.EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE.getKey(), "50");
+        props.setProperty(ConfigurationPropertyKey.EXECUTOR_MAX_QUEUE_SIZE_PER_DATA_SOURCE.getKey(), "200");
+        props.setProperty(ConfigurationPropertyKey.EXECUTOR_MAX_WAIT_MILLIS_PER_DATA_SOURCE.getKey(), "1000");
+        props.setProperty(ConfigurationPropertyKey.EXECUTOR_ADAPTIVE_CONCURRENCY_ENABLED.getKey(), Boolean.TRUE.toString());
+        props.setProperty(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED.getKey(), Boolean.TRUE.toString());
+        props.setProperty(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_MAX_CONNECTIONS_SIZE_PER_QUERY.getKey(), "50");
+        props.setProperty(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_STREAMING_ROWS_THRESHOLD.getKey(), "1000");
         ConfigurationProperties actual = new ConfigurationProperties(props);
         assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
@@ -58,6 +80,28 @@ public final class ConfigurationPropertiesTest {
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_MAX_CONNECTIONS), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS), is(20));
         assertTrue(actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_SIZE), is(20));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_PARSER_WARM_UP_FILE), is("warm-up.sql"));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_PARSER_LITERAL_NORMALIZATION_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_PARSER_CACHE_INITIAL_CAPACITY), is(20));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_PARSER_CACHE_MAXIMUM_SIZE), is(200L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_PARSER_CACHE_VALUE_REFERENCE_TYPE), is("STRONG"));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_PARSER_CACHE_EXPIRE_AFTER_ACCESS_SECONDS), is(60L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_MAX_MEMORY_GROUPS), is(10000));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.APPROXIMATE_DISTINCT_COUNT_ENABLED));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.PAGINATION_EARLY_TERMINATION_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.ROUTE_CACHE_SIZE), is(1000));
+        assertThat(actual.getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_MAX_ROWS), is(500));
+        assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CARTESIAN_ROUTE_UNITS), is(100));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.FIRST_ARRIVED_MERGE_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.EXECUTOR_TYPE), is("VIRTUAL_THREAD"));
+        assertThat(actual.getValue(ConfigurationPropertyKey.EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE), is(50));
+        assertThat(actual.getValue(ConfigurationPropertyKey.EXECUTOR_MAX_QUEUE_SIZE_PER_DATA_SOURCE), is(200));
+        assertThat(actual.getValue(ConfigurationPropertyKey.EXECUTOR_MAX_WAIT_MILLIS_PER_DATA_SOURCE), is(1000L));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.EXECUTOR_ADAPTIVE_CONCURRENCY_ENABLED));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_MAX_CONNECTIONS_SIZE_PER_QUERY), is(50));
+        assertThat(actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_STREAMING_ROWS_THRESHOLD), is(1000));
     }
     
     @Test
@@ -76,5 +120,27 @@ public final class ConfigurationPropertiesTest {
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_MAX_CONNECTIONS), is(8));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS), is(60));
         assertFalse(actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_SIZE), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_PARSER_WARM_UP_FILE), is(""));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.SQL_PARSER_LITERAL_NORMALIZATION_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_PARSER_CACHE_INITIAL_CAPACITY), is(2000));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_PARSER_CACHE_MAXIMUM_SIZE), is(65535L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_PARSER_CACHE_VALUE_REFERENCE_TYPE), is("SOFT"));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_PARSER_CACHE_EXPIRE_AFTER_ACCESS_SECONDS), is(0L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_MAX_MEMORY_GROUPS), is(0));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.APPROXIMATE_DISTINCT_COUNT_ENABLED));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.PAGINATION_EARLY_TERMINATION_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.ROUTE_CACHE_SIZE), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_MAX_ROWS), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CARTESIAN_ROUTE_UNITS), is(0));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.FIRST_ARRIVED_MERGE_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.EXECUTOR_TYPE), is("THREAD_POOL"));
+        assertThat(actual.getValue(ConfigurationPropertyKey.EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.EXECUTOR_MAX_QUEUE_SIZE_PER_DATA_SOURCE), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.EXECUTOR_MAX_WAIT_MILLIS_PER_DATA_SOURCE), is(30000L));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.EXECUTOR_ADAPTIVE_CONCURRENCY_ENABLED));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_MAX_CONNECTIONS_SIZE_PER_QUERY), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_STREAMING_ROWS_THRESHOLD), is(10000));
     }
 }
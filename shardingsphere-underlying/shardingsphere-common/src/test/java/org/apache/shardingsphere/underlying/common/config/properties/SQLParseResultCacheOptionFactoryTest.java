@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.common.config.properties;
+
+import org.apache.shardingsphere.sql.parser.cache.CacheValueReferenceType;
+import org.apache.shardingsphere.sql.parser.cache.SQLParseResultCacheOption;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SQLParseResultCacheOptionFactoryTest {
+    
+    @Test
+    public void assertNewInstanceWithDefaultProperties() {
+        assertThat(SQLParseResultCacheOptionFactory.newInstance(new ConfigurationProperties(new Properties())), is(SQLParseResultCacheOption.DEFAULT));
+    }
+    
+    @Test
+    public void assertNewInstance() {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.SQL_PARSER_CACHE_INITIAL_CAPACITY.getKey(), "16");
+        props.setProperty(ConfigurationPropertyKey.SQL_PARSER_CACHE_MAXIMUM_SIZE.getKey(), "1024");
+        props.setProperty(ConfigurationPropertyKey.SQL_PARSER_CACHE_VALUE_REFERENCE_TYPE.getKey(), "strong");
+        props.setProperty(ConfigurationPropertyKey.SQL_PARSER_CACHE_EXPIRE_AFTER_ACCESS_SECONDS.getKey(), "600");
+        assertThat(SQLParseResultCacheOptionFactory.newInstance(new ConfigurationProperties(props)), is(new SQLParseResultCacheOption(16, 1024L, CacheValueReferenceType.STRONG, 600L)));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.kernel;
+
+/**
+ * Additive increase multiplicative decrease concurrency limit.
+ *
+ * <p>
+ * Limit increases by 1 for each successful execution if at least half of it is in use,
+ * and decreases by backoff ratio if execution fails or its latency exceeds the tolerance of baseline latency.
+ * Baseline latency follows the minimum latency observed, and drifts up slowly to adapt to the change of workload.
+ * </p>
+ */
+public final class AIMDConcurrencyLimit {
+    
+    private static final double BACKOFF_RATIO = 0.9D;
+    
+    private static final double LATENCY_TOLERANCE = 2.0D;
+    
+    private static final int BASELINE_DRIFT_SAMPLES = 100;
+    
+    private final int maxLimit;
+    
+    private double limit;
+    
+    private long baselineLatencyNanos;
+    
+    public AIMDConcurrencyLimit(final int maxLimit) {
+        this.maxLimit = maxLimit;
+        limit = maxLimit;
+    }
+    
+    /**
+     * Get limit.
+     *
+     * @return limit
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+    
+    /**
+     * Update limit by observed execution.
+     *
+     * @param latencyNanos latency of execution in nanoseconds
+     * @param inflight count of inflight executions including the observed one
+     * @param succeeded execution succeeded or not
+     */
+    public void update(final long latencyNanos, final int inflight, final boolean succeeded) {
+        if (!succeeded || isCongested(latencyNanos)) {
+            limit = Math.max(1D, limit * BACKOFF_RATIO);
+        } else if (inflight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1D);
+        }
+        if (succeeded) {
+            updateBaselineLatency(latencyNanos);
+        }
+    }
+    
+    private boolean isCongested(final long latencyNanos) {
+        return baselineLatencyNanos > 0L && latencyNanos > baselineLatencyNanos * LATENCY_TOLERANCE;
+    }
+    
+    private void updateBaselineLatency(final long latencyNanos) {
+        if (0L == baselineLatencyNanos || latencyNanos < baselineLatencyNanos) {
+            baselineLatencyNanos = latencyNanos;
+        } else {
+            baselineLatencyNanos += (latencyNanos - baselineLatencyNanos) / BASELINE_DRIFT_SAMPLES;
+        }
+    }
+}
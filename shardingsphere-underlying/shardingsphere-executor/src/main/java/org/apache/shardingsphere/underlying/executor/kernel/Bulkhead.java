@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.kernel;
+
+import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bulkhead of data source, which bounds concurrent executions and executions waiting for them.
+ *
+ * <p>Waiting executions park on lock condition instead of object monitor, so that virtual threads waiting for permit do not pin their carrier threads.</p>
+ */
+public final class Bulkhead {
+    
+    private final AIMDConcurrencyLimit limit;
+    
+    private final int maxQueueSize;
+    
+    private final long maxWaitNanos;
+    
+    private final boolean adaptive;
+    
+    private final Lock lock = new ReentrantLock(true);
+    
+    private final Condition permitted = lock.newCondition();
+    
+    private int inflight;
+    
+    private int waiting;
+    
+    public Bulkhead(final int maxConcurrency, final int maxQueueSize, final long maxWaitMillis, final boolean adaptive) {
+        limit = new AIMDConcurrencyLimit(maxConcurrency);
+        this.maxQueueSize = maxQueueSize;
+        maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.adaptive = adaptive;
+    }
+    
+    /**
+     * Try to acquire permit of execution.
+     *
+     * <p>Wait until permitted if concurrency limit is reached, reject if not permitted within max wait time,
+     * and reject immediately if waiting executions reach max queue size too.</p>
+     *
+     * @return acquired or rejected
+     */
+    public boolean tryAcquire() {
+        lock.lock();
+        try {
+            if (inflight >= limit.getLimit()) {
+                if (maxQueueSize > 0 && waiting >= maxQueueSize) {
+                    return false;
+                }
+                if (!waitForPermit()) {
+                    return false;
+                }
+            }
+            inflight++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private boolean waitForPermit() {
+        waiting++;
+        try {
+            long remainingNanos = maxWaitNanos;
+            while (inflight >= limit.getLimit()) {
+                if (remainingNanos <= 0L) {
+                    return false;
+                }
+                remainingNanos = permitted.awaitNanos(remainingNanos);
+            }
+            return true;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ShardingSphereException(ex);
+        } finally {
+            waiting--;
+        }
+    }
+    
+    /**
+     * Release permit of execution.
+     *
+     * @param latencyNanos latency of execution in nanoseconds
+     * @param succeeded execution succeeded or not
+     */
+    public void release(final long latencyNanos, final boolean succeeded) {
+        lock.lock();
+        try {
+            if (adaptive) {
+                limit.update(latencyNanos, inflight, succeeded);
+            }
+            inflight--;
+            if (adaptive) {
+                permitted.signalAll();
+            } else {
+                permitted.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Get concurrency limit.
+     *
+     * @return concurrency limit
+     */
+    public int getLimit() {
+        lock.lock();
+        try {
+            return limit.getLimit();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.kernel;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Concurrency limiter, which limits concurrent executions of each data source by bulkhead.
+ *
+ * <p>Adaptive concurrency limit starts from default max concurrency if max concurrency is not set.</p>
+ */
+public final class ConcurrencyLimiter {
+    
+    private static final int DEFAULT_ADAPTIVE_MAX_CONCURRENCY = 100;
+    
+    private final int maxConcurrency;
+    
+    private final int maxQueueSize;
+    
+    private final long maxWaitMillis;
+    
+    private final boolean adaptive;
+    
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+    
+    public ConcurrencyLimiter(final int maxConcurrency, final int maxQueueSize, final long maxWaitMillis, final boolean adaptive) {
+        this.maxConcurrency = adaptive && maxConcurrency <= 0 ? DEFAULT_ADAPTIVE_MAX_CONCURRENCY : maxConcurrency;
+        this.maxQueueSize = maxQueueSize;
+        this.maxWaitMillis = maxWaitMillis;
+        this.adaptive = adaptive;
+    }
+    
+    /**
+     * Judge whether concurrency is limited or not.
+     *
+     * @return concurrency is limited or not
+     */
+    public boolean isLimited() {
+        return maxConcurrency > 0;
+    }
+    
+    /**
+     * Try to acquire permit of data source.
+     *
+     * @param dataSourceName data source name
+     * @return acquired or rejected
+     */
+    public boolean tryAcquire(final String dataSourceName) {
+        return bulkheads.computeIfAbsent(dataSourceName, key -> new Bulkhead(maxConcurrency, maxQueueSize, maxWaitMillis, adaptive)).tryAcquire();
+    }
+    
+    /**
+     * Release permit of data source.
+     *
+     * @param dataSourceName data source name
+     * @param latencyNanos latency of execution in nanoseconds
+     * @param succeeded execution succeeded or not
+     */
+    public void release(final String dataSourceName, final long latencyNanos, final boolean succeeded) {
+        bulkheads.get(dataSourceName).release(latencyNanos, succeeded);
+    }
+}
@@ -19,27 +19,56 @@ package org.apache.shardingsphere.underlying.executor.kernel;
 
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ListenableFuture;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.spi.type.TypedSPIRegistry;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+import org.apache.shardingsphere.underlying.executor.kernel.impl.ExecutorServiceFactory;
 import org.apache.shardingsphere.underlying.executor.kernel.impl.ShardingSphereExecutorService;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Executor kernel.
  */
 public final class ExecutorKernel implements AutoCloseable {
     
+    static {
+        ShardingSphereServiceLoader.register(ExecutorServiceFactory.class);
+    }
+    
     private final ShardingSphereExecutorService executorService;
     
+    @Getter
+    private final ConcurrencyLimiter concurrencyLimiter;
+    
     public ExecutorKernel(final int executorSize) {
         executorService = new ShardingSphereExecutorService(executorSize);
+        concurrencyLimiter = new ConcurrencyLimiter(0, 0, 0L, false);
+    }
+    
+    public ExecutorKernel(final ConfigurationProperties properties) {
+        executorService = new ShardingSphereExecutorService(properties.<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_SIZE),
+                TypedSPIRegistry.getRegisteredService(ExecutorServiceFactory.class, properties.getValue(ConfigurationPropertyKey.EXECUTOR_TYPE), new Properties()));
+        concurrencyLimiter = new ConcurrencyLimiter(properties.<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE),
+                properties.<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_MAX_QUEUE_SIZE_PER_DATA_SOURCE),
+                properties.<Long>getValue(ConfigurationPropertyKey.EXECUTOR_MAX_WAIT_MILLIS_PER_DATA_SOURCE),
+                properties.<Boolean>getValue(ConfigurationPropertyKey.EXECUTOR_ADAPTIVE_CONCURRENCY_ENABLED));
     }
     
     /**
@@ -76,6 +105,72 @@ public final class ExecutorKernel implements AutoCloseable {
         return serial ? serialExecute(inputGroups, firstCallback, callback) : parallelExecute(inputGroups, firstCallback, callback);
     }
     
+    /**
+     * Execute asynchronously.
+     *
+     * <p>All input groups are executed by executor service, none of them is executed in current thread.</p>
+     *
+     * @param inputGroups input groups
+     * @param callback executor callback
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return futures of execute result, one for each input group in order of input groups
+     */
+    public <I, O> List<CompletableFuture<Collection<O>>> executeAsync(final Collection<InputGroup<I>> inputGroups, final ExecutorCallback<I, O> callback) {
+        List<CompletableFuture<Collection<O>>> result = new ArrayList<>(inputGroups.size());
+        Map<String, Object> dataMap = ExecutorDataMap.getValue();
+        for (InputGroup<I> each : inputGroups) {
+            result.add(CompletableFuture.supplyAsync(() -> executeGroup(each, callback, dataMap), executorService.getExecutorService()));
+        }
+        return result;
+    }
+    
+    /**
+     * Execute asynchronously and get results in the order they arrive.
+     *
+     * <p>Callback should return one result for each input, getting result from returned list blocks until it arrives.</p>
+     *
+     * @param inputGroups input groups
+     * @param callback executor callback
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return execute result in the order they arrive
+     */
+    public <I, O> List<O> executeFirstArrived(final Collection<InputGroup<I>> inputGroups, final ExecutorCallback<I, O> callback) {
+        return executeFirstArrived(inputGroups, callback, input -> { });
+    }
+    
+    /**
+     * Execute asynchronously and get results in the order they arrive, which can be terminated without waiting for them.
+     *
+     * <p>Input groups not started are skipped once results are terminated, and inputs of executing ones are cancelled by canceller.</p>
+     *
+     * @param inputGroups input groups
+     * @param callback executor callback
+     * @param canceller canceller of executing input
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return execute result in the order they arrive
+     */
+    public <I, O> List<O> executeFirstArrived(final Collection<InputGroup<I>> inputGroups, final ExecutorCallback<I, O> callback, final Consumer<I> canceller) {
+        if (inputGroups.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int inputsCount = inputGroups.stream().mapToInt(each -> each.getInputs().size()).sum();
+        FirstArrivedResults<O> result = new FirstArrivedResults<>(inputsCount);
+        Map<String, Object> dataMap = ExecutorDataMap.getValue();
+        for (InputGroup<I> each : inputGroups) {
+            Supplier<Collection<O>> supplier = () -> result.isTerminated() ? Collections.<O>emptyList() : executeGroup(each, callback, dataMap);
+            result.add(CompletableFuture.supplyAsync(supplier, executorService.getExecutorService()), () -> each.getInputs().forEach(canceller));
+        }
+        return result;
+    }
+    
+    @SneakyThrows
+    private <I, O> Collection<O> executeGroup(final InputGroup<I> inputGroup, final ExecutorCallback<I, O> callback, final Map<String, Object> dataMap) {
+        return callback.execute(inputGroup.getInputs(), false, dataMap);
+    }
+    
     private <I, O> List<O> serialExecute(final Collection<InputGroup<I>> inputGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         Iterator<InputGroup<I>> inputGroupsIterator = inputGroups.iterator();
         InputGroup<I> firstInputs = inputGroupsIterator.next();
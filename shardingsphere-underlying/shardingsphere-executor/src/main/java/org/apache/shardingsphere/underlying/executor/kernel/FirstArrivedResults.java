@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.kernel;
+
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * Results of input groups in the order they arrive.
+ *
+ * <p>
+ * Getting result of an index blocks until results of that many inputs arrived,
+ * so that results of faster input groups can be consumed without waiting for slower ones.
+ * Once an input group failed, input groups which are not finished yet are cancelled.
+ * Once terminated, results are terminated without waiting for input groups which are not finished yet.
+ * </p>
+ *
+ * @param <O> type of result
+ */
+public final class FirstArrivedResults<O> extends AbstractList<O> implements TerminableResults<O> {
+    
+    private final Map<CompletableFuture<Collection<O>>, Runnable> futures = new LinkedHashMap<>();
+    
+    private final BlockingQueue<CompletableFuture<Collection<O>>> arrivedFutures = new LinkedBlockingQueue<>();
+    
+    private final Object arrivalLock = new Object();
+    
+    private final List<O> arrivedResults;
+    
+    private final int size;
+    
+    private int pendingFuturesCount;
+    
+    private volatile Consumer<O> terminator;
+    
+    public FirstArrivedResults(final Collection<CompletableFuture<Collection<O>>> futures, final int size) {
+        this(size);
+        for (CompletableFuture<Collection<O>> each : futures) {
+            add(each, () -> { });
+        }
+    }
+    
+    FirstArrivedResults(final int size) {
+        arrivedResults = new ArrayList<>(size);
+        this.size = size;
+    }
+    
+    void add(final CompletableFuture<Collection<O>> future, final Runnable canceller) {
+        futures.put(future, canceller);
+        pendingFuturesCount++;
+        future.whenComplete((results, ex) -> arrive(future, results));
+    }
+    
+    private void arrive(final CompletableFuture<Collection<O>> future, final Collection<O> results) {
+        synchronized (arrivalLock) {
+            if (null == terminator) {
+                arrivedFutures.add(future);
+                return;
+            }
+        }
+        if (null != results) {
+            results.stream().filter(Objects::nonNull).forEach(terminator);
+        }
+    }
+    
+    boolean isTerminated() {
+        return null != terminator;
+    }
+    
+    @Override
+    public synchronized O get(final int index) {
+        Preconditions.checkElementIndex(index, size);
+        while (arrivedResults.size() <= index) {
+            Preconditions.checkState(!isTerminated(), "Results are terminated.");
+            Preconditions.checkState(pendingFuturesCount > 0, "Only %s results arrived, but %s results expected.", arrivedResults.size(), size);
+            pendingFuturesCount--;
+            arrivedResults.addAll(takeArrivedResults());
+        }
+        return arrivedResults.get(index);
+    }
+    
+    private Collection<O> takeArrivedResults() {
+        try {
+            return arrivedFutures.take().get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            cancel();
+            throw new ShardingSphereException(ex);
+        } catch (final ExecutionException | CancellationException ex) {
+            cancel();
+            throw wrapException(ex);
+        }
+    }
+    
+    private RuntimeException wrapException(final Exception exception) {
+        Throwable cause = exception instanceof ExecutionException ? exception.getCause() : exception;
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new ShardingSphereException((Exception) cause);
+    }
+    
+    /**
+     * Cancel input groups which are not finished yet.
+     */
+    public void cancel() {
+        for (CompletableFuture<Collection<O>> each : futures.keySet()) {
+            each.cancel(true);
+        }
+    }
+    
+    @Override
+    public synchronized void terminate(final int fromIndex, final Consumer<O> terminator) {
+        Collection<O> results = new LinkedList<>(arrivedResults.subList(Math.min(fromIndex, arrivedResults.size()), arrivedResults.size()));
+        synchronized (arrivalLock) {
+            if (isTerminated()) {
+                return;
+            }
+            this.terminator = terminator;
+            for (CompletableFuture<Collection<O>> each = arrivedFutures.poll(); null != each; each = arrivedFutures.poll()) {
+                if (!each.isCompletedExceptionally()) {
+                    results.addAll(each.join());
+                }
+            }
+        }
+        results.stream().filter(Objects::nonNull).forEach(terminator);
+        for (Entry<CompletableFuture<Collection<O>>, Runnable> entry : futures.entrySet()) {
+            if (!entry.getKey().isDone()) {
+                entry.getValue().run();
+            }
+        }
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+}
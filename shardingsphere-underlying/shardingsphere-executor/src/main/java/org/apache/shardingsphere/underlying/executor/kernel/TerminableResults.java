@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.kernel;
+
+import java.util.function.Consumer;
+
+/**
+ * Results which arrive asynchronously, and can be terminated without waiting for the ones not arrived yet.
+ *
+ * @param <O> type of result
+ */
+public interface TerminableResults<O> {
+    
+    /**
+     * Terminate results from index.
+     *
+     * <p>Results arrived are terminated at once, executions not started are skipped, and executing ones are cancelled or terminated once they arrive.</p>
+     *
+     * @param fromIndex index of first result to be terminated
+     * @param terminator terminator of each result
+     */
+    void terminate(int fromIndex, Consumer<O> terminator);
+}
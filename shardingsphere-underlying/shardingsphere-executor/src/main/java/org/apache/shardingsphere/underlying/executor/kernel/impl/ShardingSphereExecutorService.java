@@ -23,7 +23,6 @@ import lombok.Getter;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -43,13 +42,16 @@ public final class ShardingSphereExecutorService {
     }
     
     public ShardingSphereExecutorService(final int executorSize, final String nameFormat) {
-        executorService = MoreExecutors.listeningDecorator(getExecutorService(executorSize, nameFormat));
-        MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
+        this(executorSize, nameFormat, new ThreadPoolExecutorServiceFactory());
+    }
+    
+    public ShardingSphereExecutorService(final int executorSize, final ExecutorServiceFactory executorServiceFactory) {
+        this(executorSize, DEFAULT_NAME_FORMAT, executorServiceFactory);
     }
     
-    private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
-        ThreadFactory threadFactory = ShardingSphereThreadFactoryBuilder.build(nameFormat);
-        return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
+    public ShardingSphereExecutorService(final int executorSize, final String nameFormat, final ExecutorServiceFactory executorServiceFactory) {
+        executorService = MoreExecutors.listeningDecorator(executorServiceFactory.newExecutorService(executorSize, nameFormat));
+        MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
     }
     
     /**
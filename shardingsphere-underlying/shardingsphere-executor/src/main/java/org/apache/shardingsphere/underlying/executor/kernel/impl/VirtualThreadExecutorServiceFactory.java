@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.kernel.impl;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Executor service factory for virtual thread.
+ * 
+ * <p>
+ * Each task runs on a new virtual thread and executor size is ignored.
+ * Virtual threads are created by reflection, and cached thread pool is used instead on JDK without virtual thread.
+ * </p>
+ */
+@Getter
+@Setter
+@Slf4j
+public final class VirtualThreadExecutorServiceFactory implements ExecutorServiceFactory {
+    
+    private static final String NAME_PREFIX = "ShardingSphere-";
+    
+    private Properties properties = new Properties();
+    
+    @Override
+    public ExecutorService newExecutorService(final int executorSize, final String nameFormat) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = builderClass.getMethod("name", String.class, long.class).invoke(Thread.class.getMethod("ofVirtual").invoke(null), NAME_PREFIX + nameFormat.replace("%d", ""), 0L);
+            ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory);
+        } catch (final ReflectiveOperationException ex) {
+            log.warn("Virtual thread is unsupported by current JDK, use cached thread pool instead.");
+            return Executors.newCachedThreadPool(ShardingSphereThreadFactoryBuilder.build(nameFormat));
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "VIRTUAL_THREAD";
+    }
+}
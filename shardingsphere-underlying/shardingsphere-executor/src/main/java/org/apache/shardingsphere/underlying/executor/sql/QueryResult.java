@@ -98,4 +98,14 @@ public interface QueryResult {
      * @throws SQLException SQL Exception
      */
     String getColumnLabel(int columnIndex) throws SQLException;
+    
+    /**
+     * Terminate query result which is no longer needed before it is iterated to the end.
+     *
+     * <p>Query results that hold no server side resources ignore termination.</p>
+     *
+     * @throws SQLException SQL Exception
+     */
+    default void terminate() throws SQLException {
+    }
 }
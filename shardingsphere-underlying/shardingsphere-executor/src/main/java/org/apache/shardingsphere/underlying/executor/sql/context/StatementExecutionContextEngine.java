@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.sql.context;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.normalize.NormalizedSQL;
+import org.apache.shardingsphere.sql.parser.normalize.SQLLiteralNormalizer;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.underlying.common.rule.ShardingSphereRule;
+import org.apache.shardingsphere.underlying.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.underlying.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.underlying.route.DataNodeRouter;
+import org.apache.shardingsphere.underlying.route.context.RouteContext;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Execution context engine for statement without parameters.
+ * 
+ * <p>
+ * If literal normalization is enabled, the normalized SQL is parsed, routed and rewritten with the extracted literals as parameters,
+ * and the parameters are inlined into the rewritten SQL again.
+ * If any step of the normalized SQL fails, the original SQL is used instead.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class StatementExecutionContextEngine {
+    
+    private final SQLParserEngine sqlParserEngine;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final ConfigurationProperties properties;
+    
+    private final Collection<ShardingSphereRule> rules;
+    
+    /**
+     * Create execution context.
+     * 
+     * @param sql SQL
+     * @return execution context
+     */
+    public ExecutionContext createExecutionContext(final String sql) {
+        Optional<ExecutionContext> result = properties.<Boolean>getValue(ConfigurationPropertyKey.SQL_PARSER_LITERAL_NORMALIZATION_ENABLED)
+                ? SQLLiteralNormalizer.normalize(sql).flatMap(this::createNormalizedExecutionContext) : Optional.empty();
+        return result.orElseGet(() -> routeAndRewrite(sqlParserEngine.parse(sql, false), sql, Collections.emptyList()));
+    }
+    
+    private Optional<ExecutionContext> createNormalizedExecutionContext(final NormalizedSQL normalizedSQL) {
+        try {
+            ExecutionContext executionContext = routeAndRewrite(sqlParserEngine.parse(normalizedSQL.getSql(), true), normalizedSQL.getSql(), normalizedSQL.getParameters());
+            Collection<ExecutionUnit> executionUnits = executionContext.getExecutionUnits().stream().map(this::inlineParameters).collect(Collectors.toCollection(LinkedHashSet::new));
+            return Optional.of(new ExecutionContext(executionContext.getSqlStatementContext(), executionUnits));
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ignore) {
+            // CHECKSTYLE:ON
+            return Optional.empty();
+        }
+    }
+    
+    private ExecutionUnit inlineParameters(final ExecutionUnit executionUnit) {
+        String sql = SQLLiteralNormalizer.inline(executionUnit.getSqlUnit().getSql(), executionUnit.getSqlUnit().getParameters());
+        return new ExecutionUnit(executionUnit.getDataSourceName(), new SQLUnit(sql, Collections.emptyList()));
+    }
+    
+    private ExecutionContext routeAndRewrite(final SQLStatement sqlStatement, final String sql, final List<Object> parameters) {
+        RouteContext routeContext = new DataNodeRouter(metaData, properties, rules).route(sqlStatement, sql, parameters);
+        SQLRewriteResult sqlRewriteResult = new SQLRewriteEntry(metaData.getSchema().getConfiguredSchemaMetaData(), properties, rules).rewrite(sql, parameters, routeContext);
+        return new ExecutionContext(routeContext.getSqlStatementContext(), ExecutionContextBuilder.build(metaData, sqlRewriteResult));
+    }
+}
@@ -33,6 +33,8 @@ public final class ExecutorExceptionHandler {
     
     private static final ThreadLocal<Boolean> IS_EXCEPTION_THROWN = ThreadLocal.withInitial(() -> true);
     
+    private static final ThreadLocal<Boolean> IS_EXCEPTION_SWALLOWED = ThreadLocal.withInitial(() -> false);
+    
     /**
      * Set throw exception if error occur or not.
      *
@@ -51,6 +53,22 @@ public final class ExecutorExceptionHandler {
         return IS_EXCEPTION_THROWN.get();
     }
     
+    /**
+     * Judge whether exception is swallowed since last reset or not.
+     *
+     * @return exception is swallowed or not
+     */
+    public static boolean isExceptionSwallowed() {
+        return IS_EXCEPTION_SWALLOWED.get();
+    }
+    
+    /**
+     * Reset exception swallowed.
+     */
+    public static void resetExceptionSwallowed() {
+        IS_EXCEPTION_SWALLOWED.remove();
+    }
+    
     /**
      * Handle exception. 
      * 
@@ -64,6 +82,7 @@ public final class ExecutorExceptionHandler {
             }
             throw new ShardingSphereException(exception);
         }
+        IS_EXCEPTION_SWALLOWED.set(true);
         log.error("exception occur: ", exception);
     }
 }
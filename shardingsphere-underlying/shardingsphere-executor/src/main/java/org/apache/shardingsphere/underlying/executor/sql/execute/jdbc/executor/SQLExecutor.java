@@ -19,6 +19,7 @@ package org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.executor;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.StatementExecuteUnit;
+import org.apache.shardingsphere.underlying.executor.kernel.ConcurrencyLimiter;
 import org.apache.shardingsphere.underlying.executor.kernel.ExecutorKernel;
 import org.apache.shardingsphere.underlying.executor.kernel.InputGroup;
 
@@ -63,10 +64,57 @@ public final class SQLExecutor {
     @SuppressWarnings("unchecked")
     public <T> List<T> execute(final Collection<InputGroup<StatementExecuteUnit>> inputGroups, final SQLExecutorCallback<T> firstCallback, final SQLExecutorCallback<T> callback) throws SQLException {
         try {
-            return executorKernel.execute((Collection) inputGroups, firstCallback, callback, serial);
+            return executorKernel.execute((Collection) inputGroups, limitConcurrency(firstCallback), limitConcurrency(callback), serial);
         } catch (final SQLException ex) {
             ExecutorExceptionHandler.handleException(ex);
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute and get results in the order they arrive.
+     *
+     * <p>Results are in order of input groups if execution is serial.
+     * Otherwise executing statements are cancelled once results are terminated before they arrive.</p>
+     *
+     * @param inputGroups input groups
+     * @param callback SQL execute callback
+     * @param <T> class type of return value
+     * @return execute result in the order they arrive
+     * @throws SQLException SQL exception
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> executeFirstArrived(final Collection<InputGroup<StatementExecuteUnit>> inputGroups, final SQLExecutorCallback<T> callback) throws SQLException {
+        return serial ? execute(inputGroups, callback) : executorKernel.executeFirstArrived((Collection) inputGroups, limitConcurrency(callback), this::cancel);
+    }
+    
+    private void cancel(final StatementExecuteUnit statementExecuteUnit) {
+        try {
+            statementExecuteUnit.getStorageResource().cancel();
+        } catch (final SQLException ignore) {
+        }
+    }
+    
+    private <T> SQLExecutorCallback<T> limitConcurrency(final SQLExecutorCallback<T> callback) {
+        ConcurrencyLimiter concurrencyLimiter = executorKernel.getConcurrencyLimiter();
+        if (null == callback || !concurrencyLimiter.isLimited()) {
+            return callback;
+        }
+        return (inputs, isTrunkThread, dataMap) -> {
+            String dataSourceName = inputs.iterator().next().getExecutionUnit().getDataSourceName();
+            if (!concurrencyLimiter.tryAcquire(dataSourceName)) {
+                throw new SQLException(String.format("Too many executions are waiting for data source `%s`, or waiting time is out.", dataSourceName));
+            }
+            ExecutorExceptionHandler.resetExceptionSwallowed();
+            long startNanos = System.nanoTime();
+            boolean succeeded = false;
+            try {
+                Collection<T> result = callback.execute(inputs, isTrunkThread, dataMap);
+                succeeded = !ExecutorExceptionHandler.isExceptionSwallowed();
+                return result;
+            } finally {
+                concurrencyLimiter.release(dataSourceName, (System.nanoTime() - startNanos) / inputs.size(), succeeded);
+            }
+        };
+    }
 }
@@ -22,13 +22,16 @@ import org.apache.shardingsphere.underlying.executor.sql.ConnectionMode;
 import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.StatementExecuteUnit;
 import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.connection.JDBCExecutionConnection;
+import org.apache.shardingsphere.underlying.executor.sql.group.ConnectionModePolicy;
 import org.apache.shardingsphere.underlying.executor.sql.group.ExecuteGroupEngine;
 
+import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Execute group engine for prepared statement.
@@ -39,6 +42,10 @@ public final class PreparedStatementExecuteGroupEngine extends ExecuteGroupEngin
         super(maxConnectionsSizePerQuery, rules);
     }
     
+    public PreparedStatementExecuteGroupEngine(final ConnectionModePolicy connectionModePolicy, final Map<String, DataSource> dataSourceMap, final Collection<ShardingSphereRule> rules) {
+        super(connectionModePolicy, dataSourceMap, rules);
+    }
+    
     @Override
     protected StatementExecuteUnit createStorageResourceExecuteUnit(final ExecutionUnit executionUnit, final JDBCExecutionConnection executionConnection, final Connection connection, 
                                                                     final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
@@ -17,8 +17,11 @@
 
 package org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.queryresult;
 
+import com.google.common.base.Preconditions;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.queryresult.column.MemoryColumn;
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.queryresult.column.MemoryColumnFactory;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -27,112 +30,74 @@ import java.io.ObjectOutputStream;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.sql.Types;
-import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * Query result for memory loading.
+ * 
+ * <p>Rows are stored by column, int, long, double and boolean values are kept in primitive arrays with null bitmaps, and strings are dictionary encoded.</p>
  */
 public final class MemoryQueryResult implements QueryResult {
     
     private final ResultSetMetaData resultSetMetaData;
     
-    private final Iterator<List<Object>> rows;
+    private final MemoryColumn[] columns;
     
-    private List<Object> currentRow;
+    private final int rowCount;
+    
+    private int currentRowIndex = -1;
     
     public MemoryQueryResult(final ResultSet resultSet) throws SQLException {
         resultSetMetaData = resultSet.getMetaData();
-        rows = getRows(resultSet);
+        columns = createColumns(resultSetMetaData);
+        rowCount = loadRows(resultSet);
     }
     
-    private Iterator<List<Object>> getRows(final ResultSet resultSet) throws SQLException {
-        Collection<List<Object>> result = new LinkedList<>();
-        while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(resultSet.getMetaData().getColumnCount());
-            for (int columnIndex = 1; columnIndex <= resultSet.getMetaData().getColumnCount(); columnIndex++) {
-                Object rowValue = getRowValue(resultSet, columnIndex);
-                rowData.add(resultSet.wasNull() ? null : rowValue);
-            }
-            result.add(rowData);
+    private MemoryColumn[] createColumns(final ResultSetMetaData metaData) throws SQLException {
+        MemoryColumn[] result = new MemoryColumn[metaData.getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = MemoryColumnFactory.newInstance(metaData, i + 1);
         }
-        return result.iterator();
+        return result;
     }
     
-    private Object getRowValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
-        ResultSetMetaData metaData = resultSet.getMetaData();
-        switch (metaData.getColumnType(columnIndex)) {
-            case Types.BOOLEAN:
-                return resultSet.getBoolean(columnIndex);
-            case Types.TINYINT:
-            case Types.SMALLINT:
-                return resultSet.getInt(columnIndex);
-            case Types.INTEGER:
-                if (metaData.isSigned(columnIndex)) {
-                    return resultSet.getInt(columnIndex);
-                }
-                return resultSet.getLong(columnIndex);
-            case Types.BIGINT:
-                if (metaData.isSigned(columnIndex)) {
-                    return resultSet.getLong(columnIndex);
-                }
-                return resultSet.getBigDecimal(columnIndex).toBigInteger();
-            case Types.NUMERIC:
-            case Types.DECIMAL:
-                return resultSet.getBigDecimal(columnIndex);
-            case Types.FLOAT:
-            case Types.DOUBLE:
-                return resultSet.getDouble(columnIndex);
-            case Types.CHAR:
-            case Types.VARCHAR:
-            case Types.LONGVARCHAR:
-                return resultSet.getString(columnIndex);
-            case Types.DATE:
-                return resultSet.getDate(columnIndex);
-            case Types.TIME:
-                return resultSet.getTime(columnIndex);
-            case Types.TIMESTAMP:
-                return resultSet.getTimestamp(columnIndex);
-            case Types.CLOB:
-                return resultSet.getClob(columnIndex);
-            case Types.BLOB:
-            case Types.BINARY:
-            case Types.VARBINARY:
-            case Types.LONGVARBINARY:
-                return resultSet.getBlob(columnIndex);
-            default:
-                return resultSet.getObject(columnIndex);
+    private int loadRows(final ResultSet resultSet) throws SQLException {
+        int result = 0;
+        while (resultSet.next()) {
+            for (int i = 0; i < columns.length; i++) {
+                columns[i].load(resultSet, i + 1);
+            }
+            result++;
         }
+        for (MemoryColumn each : columns) {
+            each.finishLoad();
+        }
+        return result;
     }
     
     @Override
     public boolean next() {
-        if (rows.hasNext()) {
-            currentRow = rows.next();
+        if (currentRowIndex + 1 < rowCount) {
+            currentRowIndex++;
             return true;
         }
-        currentRow = null;
+        currentRowIndex = rowCount;
         return false;
     }
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) {
-        return currentRow.get(columnIndex - 1);
+        return getCurrentValue(columnIndex);
     }
     
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        return currentRow.get(columnIndex - 1);
+        return getCurrentValue(columnIndex);
     }
     
     @Override
     public InputStream getInputStream(final int columnIndex, final String type) {
-        return getInputStream(currentRow.get(columnIndex - 1));
+        return getInputStream(getCurrentValue(columnIndex));
     }
     
     @SneakyThrows
@@ -145,9 +110,18 @@ public final class MemoryQueryResult implements QueryResult {
         return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
     }
     
+    private Object getCurrentValue(final int columnIndex) {
+        Preconditions.checkState(isOnRow(), "Query result is not positioned on a row.");
+        return columns[columnIndex - 1].get(currentRowIndex);
+    }
+    
+    private boolean isOnRow() {
+        return currentRowIndex >= 0 && currentRowIndex < rowCount;
+    }
+    
     @Override
     public boolean wasNull() {
-        return null == currentRow;
+        return !isOnRow();
     }
     
     @Override
@@ -27,6 +27,7 @@ import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
@@ -40,6 +41,8 @@ public final class StreamQueryResult implements QueryResult {
     
     private final ResultSet resultSet;
     
+    private boolean finished;
+    
     public StreamQueryResult(final ResultSet resultSet) throws SQLException {
         resultSetMetaData = resultSet.getMetaData();
         this.resultSet = resultSet;
@@ -47,7 +50,9 @@ public final class StreamQueryResult implements QueryResult {
     
     @Override
     public boolean next() throws SQLException {
-        return resultSet.next();
+        boolean result = resultSet.next();
+        finished = !result;
+        return result;
     }
     
     @Override
@@ -135,4 +140,23 @@ public final class StreamQueryResult implements QueryResult {
     public String getColumnLabel(final int columnIndex) throws SQLException {
         return resultSetMetaData.getColumnLabel(columnIndex);
     }
+    
+    @Override
+    public void terminate() throws SQLException {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        try {
+            Statement statement = resultSet.getStatement();
+            if (null != statement) {
+                statement.cancel();
+            }
+        } catch (final SQLException ignore) {
+        }
+        try {
+            resultSet.close();
+        } catch (final SQLException ignore) {
+        }
+    }
 }
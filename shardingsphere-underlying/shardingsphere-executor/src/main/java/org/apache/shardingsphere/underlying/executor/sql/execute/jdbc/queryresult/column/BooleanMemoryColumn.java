@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.queryresult.column;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.BitSet;
+
+/**
+ * Memory column of boolean values.
+ */
+public final class BooleanMemoryColumn implements MemoryColumn {
+    
+    private final BitSet values = new BitSet();
+    
+    private final BitSet nulls = new BitSet();
+    
+    private int size;
+    
+    @Override
+    public void load(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        values.set(size, resultSet.getBoolean(columnIndex));
+        if (resultSet.wasNull()) {
+            nulls.set(size);
+        }
+        size++;
+    }
+    
+    @Override
+    public void finishLoad() {
+    }
+    
+    @Override
+    public Object get(final int rowIndex) {
+        return nulls.get(rowIndex) ? null : values.get(rowIndex);
+    }
+}
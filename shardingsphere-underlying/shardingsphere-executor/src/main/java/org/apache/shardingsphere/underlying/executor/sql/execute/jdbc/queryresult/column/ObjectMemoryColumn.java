@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.queryresult.column;
+
+import lombok.RequiredArgsConstructor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Memory column of object values.
+ */
+@RequiredArgsConstructor
+public final class ObjectMemoryColumn implements MemoryColumn {
+    
+    private final ValueLoader valueLoader;
+    
+    private Object[] values = new Object[MemoryColumnFactory.INITIAL_CAPACITY];
+    
+    private int size;
+    
+    @Override
+    public void load(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        Object value = valueLoader.load(resultSet, columnIndex);
+        if (values.length == size) {
+            values = Arrays.copyOf(values, size << 1);
+        }
+        values[size] = resultSet.wasNull() ? null : value;
+        size++;
+    }
+    
+    @Override
+    public void finishLoad() {
+        values = Arrays.copyOf(values, size);
+    }
+    
+    @Override
+    public Object get(final int rowIndex) {
+        return values[rowIndex];
+    }
+    
+    /**
+     * Value loader.
+     */
+    public interface ValueLoader {
+        
+        /**
+         * Load value.
+         * 
+         * @param resultSet result set
+         * @param columnIndex column index
+         * @return value
+         * @throws SQLException SQL exception
+         */
+        Object load(ResultSet resultSet, int columnIndex) throws SQLException;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.queryresult.column;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Memory column of string values with dictionary encoding.
+ * 
+ * <p>Each distinct string is kept once in dictionary, rows only keep code of the string, and code {@code -1} means SQL NULL.
+ * Once dictionary reaches {@code MAX_INDEXED_SIZE}, new strings are appended without lookup to bound index memory of high cardinality columns.</p>
+ */
+public final class StringMemoryColumn implements MemoryColumn {
+    
+    private static final int NULL_CODE = -1;
+    
+    private static final int MAX_INDEXED_SIZE = 1 << 16;
+    
+    private final ArrayList<String> dictionary = new ArrayList<>();
+    
+    private Map<String, Integer> codes = new HashMap<>();
+    
+    private int[] rowCodes = new int[MemoryColumnFactory.INITIAL_CAPACITY];
+    
+    private int size;
+    
+    @Override
+    public void load(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        String value = resultSet.getString(columnIndex);
+        if (rowCodes.length == size) {
+            rowCodes = Arrays.copyOf(rowCodes, size << 1);
+        }
+        rowCodes[size] = null == value ? NULL_CODE : encode(value);
+        size++;
+    }
+    
+    private int encode(final String value) {
+        Integer result = codes.get(value);
+        if (null == result) {
+            result = dictionary.size();
+            dictionary.add(value);
+            if (codes.size() < MAX_INDEXED_SIZE) {
+                codes.put(value, result);
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public void finishLoad() {
+        rowCodes = Arrays.copyOf(rowCodes, size);
+        dictionary.trimToSize();
+        codes = null;
+    }
+    
+    @Override
+    public Object get(final int rowIndex) {
+        int code = rowCodes[rowIndex];
+        return NULL_CODE == code ? null : dictionary.get(code);
+    }
+    
+    /**
+     * Get dictionary size.
+     * 
+     * @return dictionary size
+     */
+    public int getDictionarySize() {
+        return dictionary.size();
+    }
+}
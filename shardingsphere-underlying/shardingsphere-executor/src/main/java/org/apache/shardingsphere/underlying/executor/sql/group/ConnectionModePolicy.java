@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.sql.group;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.underlying.executor.kernel.TerminableResults;
+import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
+
+import javax.sql.DataSource;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Connection mode policy, which decides connection size of SQL units on one data source, and connection mode accordingly.
+ *
+ * <p>
+ * Connection size is limited by max connections size per query. If adaptive, it is extended to stream results
+ * which are estimated large by result size statistics of tables, and shrunk while connection pool is busy
+ * only if results are estimated small enough to be held in memory by connection strictly mode.
+ * </p>
+ */
+public final class ConnectionModePolicy {
+    
+    private final int maxConnectionsSizePerQuery;
+    
+    private final boolean adaptive;
+    
+    private final int maxStreamingConnectionsSizePerQuery;
+    
+    private final long streamingRowsThreshold;
+    
+    private final ResultSizeStatistics resultSizeStatistics = new ResultSizeStatistics();
+    
+    public ConnectionModePolicy(final int maxConnectionsSizePerQuery) {
+        this(maxConnectionsSizePerQuery, false, maxConnectionsSizePerQuery, 0);
+    }
+    
+    public ConnectionModePolicy(final ConfigurationProperties properties) {
+        this(properties.<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), properties.<Boolean>getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED),
+                properties.<Integer>getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_MAX_CONNECTIONS_SIZE_PER_QUERY),
+                properties.<Integer>getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_STREAMING_ROWS_THRESHOLD));
+    }
+    
+    public ConnectionModePolicy(final int maxConnectionsSizePerQuery, final boolean adaptive, final int maxStreamingConnectionsSizePerQuery, final long streamingRowsThreshold) {
+        this.maxConnectionsSizePerQuery = maxConnectionsSizePerQuery;
+        this.adaptive = adaptive;
+        this.maxStreamingConnectionsSizePerQuery = Math.max(maxStreamingConnectionsSizePerQuery, maxConnectionsSizePerQuery);
+        this.streamingRowsThreshold = streamingRowsThreshold;
+    }
+    
+    /**
+     * Get connection size.
+     *
+     * @param sqlUnitSize size of SQL units on data source
+     * @param dataSource data source
+     * @param tableNames table names of SQL
+     * @return connection size, which is memory strictly if it is not less than size of SQL units, otherwise connection strictly
+     */
+    public int getConnectionSize(final int sqlUnitSize, final DataSource dataSource, final Collection<String> tableNames) {
+        if (!adaptive) {
+            return Math.max(Math.min(sqlUnitSize, maxConnectionsSizePerQuery), 1);
+        }
+        Optional<Long> estimatedRows = resultSizeStatistics.estimate(tableNames).map(each -> each * sqlUnitSize);
+        boolean streamingPreferred = estimatedRows.map(each -> each >= streamingRowsThreshold).orElse(false);
+        int result = Math.max(Math.min(sqlUnitSize, streamingPreferred ? maxStreamingConnectionsSizePerQuery : maxConnectionsSizePerQuery), 1);
+        return estimatedRows.isPresent() && !streamingPreferred ? Math.max((int) Math.ceil(result * (1 - DataSourcePoolUtilization.get(dataSource))), 1) : result;
+    }
+    
+    /**
+     * Track sizes of query results.
+     *
+     * @param queryResults query results
+     * @param tableNames table names of SQL
+     * @return query results which record their sizes once iterated to the end if adaptive, otherwise the original ones
+     */
+    public List<QueryResult> track(final List<QueryResult> queryResults, final Collection<String> tableNames) {
+        return adaptive && !tableNames.isEmpty() ? new TrackedQueryResults(queryResults, tableNames) : queryResults;
+    }
+    
+    /**
+     * Query results which are tracked lazily, so that query results arriving in order are not waited for all together.
+     */
+    @RequiredArgsConstructor
+    private final class TrackedQueryResults extends AbstractList<QueryResult> implements TerminableResults<QueryResult> {
+        
+        private final List<QueryResult> queryResults;
+        
+        private final Collection<String> tableNames;
+        
+        private final Map<Integer, QueryResult> trackedQueryResults = new HashMap<>();
+        
+        @Override
+        public QueryResult get(final int index) {
+            return trackedQueryResults.computeIfAbsent(index, key -> new ResultSizeRecordingQueryResult(queryResults.get(key), resultSizeStatistics, tableNames));
+        }
+        
+        @Override
+        public int size() {
+            return queryResults.size();
+        }
+        
+        @SuppressWarnings("unchecked")
+        @Override
+        public void terminate(final int fromIndex, final Consumer<QueryResult> terminator) {
+            trackedQueryResults.entrySet().stream().filter(entry -> entry.getKey() >= fromIndex).forEach(entry -> terminator.accept(entry.getValue()));
+            if (queryResults instanceof TerminableResults) {
+                ((TerminableResults<QueryResult>) queryResults).terminate(fromIndex, terminator);
+                return;
+            }
+            for (int i = fromIndex; i < size(); i++) {
+                terminator.accept(get(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.sql.group;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Data source pool utilization.
+ *
+ * <p>
+ * Utilization is read from HikariCP and DBCP pools by their management methods, to avoid depending on connection pools.
+ * Management methods are resolved once for each class of data source.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataSourcePoolUtilization {
+    
+    private static final Map<Class<?>, Optional<PoolMethods>> POOL_METHODS = new ConcurrentHashMap<>();
+    
+    /**
+     * Get utilization of data source pool.
+     *
+     * @param dataSource data source
+     * @return ratio of active connections to max connections of pool, or 0 if data source is not a supported pool
+     */
+    public static double get(final DataSource dataSource) {
+        if (null == dataSource) {
+            return 0;
+        }
+        Optional<PoolMethods> poolMethods = POOL_METHODS.computeIfAbsent(dataSource.getClass(), DataSourcePoolUtilization::findPoolMethods);
+        if (!poolMethods.isPresent()) {
+            return 0;
+        }
+        try {
+            return poolMethods.get().getUtilization(dataSource);
+        } catch (final ReflectiveOperationException ex) {
+            POOL_METHODS.put(dataSource.getClass(), Optional.empty());
+            return 0;
+        }
+    }
+    
+    private static Optional<PoolMethods> findPoolMethods(final Class<?> dataSourceClass) {
+        try {
+            Optional<Method> hikariPoolMXBeanMethod = findMethod(dataSourceClass, "getHikariPoolMXBean");
+            if (hikariPoolMXBeanMethod.isPresent()) {
+                return Optional.of(new PoolMethods(hikariPoolMXBeanMethod.get(),
+                        hikariPoolMXBeanMethod.get().getReturnType().getMethod("getActiveConnections"), dataSourceClass.getMethod("getMaximumPoolSize")));
+            }
+            return Optional.of(new PoolMethods(null, dataSourceClass.getMethod("getNumActive"), dataSourceClass.getMethod("getMaxTotal")));
+        } catch (final NoSuchMethodException ex) {
+            return Optional.empty();
+        }
+    }
+    
+    private static Optional<Method> findMethod(final Class<?> targetClass, final String methodName) {
+        try {
+            return Optional.of(targetClass.getMethod(methodName));
+        } catch (final NoSuchMethodException ex) {
+            return Optional.empty();
+        }
+    }
+    
+    private static double getUtilization(final int activeConnections, final int maxConnections) {
+        return maxConnections <= 0 ? 0 : Math.min((double) activeConnections / maxConnections, 1);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class PoolMethods {
+        
+        private final Method poolMethod;
+        
+        private final Method activeConnectionsMethod;
+        
+        private final Method maxConnectionsMethod;
+        
+        private double getUtilization(final DataSource dataSource) throws ReflectiveOperationException {
+            Object pool = null == poolMethod ? dataSource : poolMethod.invoke(dataSource);
+            return null == pool ? 0 : DataSourcePoolUtilization.getUtilization((Integer) activeConnectionsMethod.invoke(pool), (Integer) maxConnectionsMethod.invoke(dataSource));
+        }
+    }
+}
@@ -29,8 +29,10 @@ import org.apache.shardingsphere.underlying.executor.sql.StorageResourceOption;
 import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.underlying.executor.sql.context.SQLUnit;
 
+import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -51,12 +53,19 @@ public abstract class ExecuteGroupEngine<U extends StorageResourceExecuteUnit, E
         ShardingSphereServiceLoader.register(ExecuteGroupDecorator.class);
     }
     
-    private final int maxConnectionsSizePerQuery;
+    private final ConnectionModePolicy connectionModePolicy;
+    
+    private final Map<String, DataSource> dataSourceMap;
     
     private final Map<ShardingSphereRule, ExecuteGroupDecorator> decorators;
     
     public ExecuteGroupEngine(final int maxConnectionsSizePerQuery, final Collection<ShardingSphereRule> rules) {
-        this.maxConnectionsSizePerQuery = maxConnectionsSizePerQuery;
+        this(new ConnectionModePolicy(maxConnectionsSizePerQuery), Collections.emptyMap(), rules);
+    }
+    
+    public ExecuteGroupEngine(final ConnectionModePolicy connectionModePolicy, final Map<String, DataSource> dataSourceMap, final Collection<ShardingSphereRule> rules) {
+        this.connectionModePolicy = connectionModePolicy;
+        this.dataSourceMap = dataSourceMap;
         decorators = OrderedSPIRegistry.getRegisteredServices(rules, ExecuteGroupDecorator.class);
     }
     
@@ -70,9 +79,23 @@ public abstract class ExecuteGroupEngine<U extends StorageResourceExecuteUnit, E
      * @throws SQLException SQL exception
      */
     public Collection<InputGroup<U>> generate(final Collection<ExecutionUnit> executionUnits, final E executionConnection, final O option) throws SQLException {
+        return generate(executionUnits, Collections.emptyList(), executionConnection, option);
+    }
+    
+    /**
+     * Generate storage resource execute unit groups.
+     *
+     * @param executionUnits execution units
+     * @param tableNames table names of SQL
+     * @param executionConnection execution connection
+     * @param option storage resource option
+     * @return storage resource execute unit groups
+     * @throws SQLException SQL exception
+     */
+    public Collection<InputGroup<U>> generate(final Collection<ExecutionUnit> executionUnits, final Collection<String> tableNames, final E executionConnection, final O option) throws SQLException {
         Collection<InputGroup<U>> inputGroups = new LinkedList<>();
         for (Entry<String, List<SQLUnit>> entry : generateSQLUnitGroups(executionUnits).entrySet()) {
-            inputGroups.addAll(generateSQLExecuteGroups(entry.getKey(), entry.getValue(), executionConnection, option));
+            inputGroups.addAll(generateSQLExecuteGroups(entry.getKey(), entry.getValue(), tableNames, executionConnection, option));
         }
         return decorate(inputGroups);
     }
@@ -97,11 +120,13 @@ public abstract class ExecuteGroupEngine<U extends StorageResourceExecuteUnit, E
         return result;
     }
     
-    private List<InputGroup<U>> generateSQLExecuteGroups(final String dataSourceName, final List<SQLUnit> sqlUnits, final E executionConnection, final O option) throws SQLException {
+    private List<InputGroup<U>> generateSQLExecuteGroups(final String dataSourceName, final List<SQLUnit> sqlUnits, 
+                                                        final Collection<String> tableNames, final E executionConnection, final O option) throws SQLException {
         List<InputGroup<U>> result = new LinkedList<>();
-        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % maxConnectionsSizePerQuery ? sqlUnits.size() / maxConnectionsSizePerQuery : sqlUnits.size() / maxConnectionsSizePerQuery + 1, 1);
+        int connectionSize = connectionModePolicy.getConnectionSize(sqlUnits.size(), dataSourceMap.get(dataSourceName), tableNames);
+        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % connectionSize ? sqlUnits.size() / connectionSize : sqlUnits.size() / connectionSize + 1, 1);
         List<List<SQLUnit>> sqlUnitPartitions = Lists.partition(sqlUnits, desiredPartitionSize);
-        ConnectionMode connectionMode = maxConnectionsSizePerQuery < sqlUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
+        ConnectionMode connectionMode = connectionSize < sqlUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
         List<C> connections = executionConnection.getConnections(dataSourceName, sqlUnitPartitions.size(), connectionMode);
         int count = 0;
         for (List<SQLUnit> each : sqlUnitPartitions) {
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.sql.group;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.Calendar;
+import java.util.Collection;
+
+/**
+ * Query result which records its size into result size statistics once iterated to the end.
+ */
+@RequiredArgsConstructor
+final class ResultSizeRecordingQueryResult implements QueryResult {
+    
+    private final QueryResult queryResult;
+    
+    private final ResultSizeStatistics resultSizeStatistics;
+    
+    private final Collection<String> tableNames;
+    
+    private long rows;
+    
+    private boolean recorded;
+    
+    @Override
+    public boolean next() throws SQLException {
+        boolean result = queryResult.next();
+        if (result) {
+            rows++;
+        } else if (!recorded) {
+            resultSizeStatistics.record(tableNames, rows);
+            recorded = true;
+        }
+        return result;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        return queryResult.getValue(columnIndex, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return queryResult.getCalendarValue(columnIndex, type, calendar);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        return queryResult.getInputStream(columnIndex, type);
+    }
+    
+    @Override
+    public boolean wasNull() throws SQLException {
+        return queryResult.wasNull();
+    }
+    
+    @Override
+    public int getColumnCount() throws SQLException {
+        return queryResult.getColumnCount();
+    }
+    
+    @Override
+    public String getColumnName(final int columnIndex) throws SQLException {
+        return queryResult.getColumnName(columnIndex);
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) throws SQLException {
+        return queryResult.getColumnLabel(columnIndex);
+    }
+    
+    @Override
+    public void terminate() throws SQLException {
+        recorded = true;
+        queryResult.terminate();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.sql.group;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Result size statistics, which estimates rows returned by each SQL unit of tables.
+ */
+public final class ResultSizeStatistics {
+    
+    private static final double SMOOTHING_FACTOR = 0.2;
+    
+    private final Map<String, Double> averageRows = new ConcurrentHashMap<>();
+    
+    /**
+     * Record rows returned by one SQL unit.
+     *
+     * @param tableNames table names of SQL
+     * @param rows rows returned
+     */
+    public void record(final Collection<String> tableNames, final long rows) {
+        for (String each : tableNames) {
+            averageRows.merge(each.toLowerCase(), (double) rows, (oldValue, newValue) -> oldValue + SMOOTHING_FACTOR * (newValue - oldValue));
+        }
+    }
+    
+    /**
+     * Estimate rows returned by one SQL unit.
+     *
+     * @param tableNames table names of SQL
+     * @return estimated rows, which is the largest of tables, or empty if none of tables is observed
+     */
+    public Optional<Long> estimate(final Collection<String> tableNames) {
+        return tableNames.stream().map(each -> averageRows.get(each.toLowerCase())).filter(Objects::nonNull).max(Double::compare).map(Math::round);
+    }
+}
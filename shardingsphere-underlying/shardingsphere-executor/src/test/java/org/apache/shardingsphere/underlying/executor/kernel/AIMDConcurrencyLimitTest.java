@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.kernel;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class AIMDConcurrencyLimitTest {
+    
+    @Test
+    public void assertGetInitialLimit() {
+        assertThat(new AIMDConcurrencyLimit(10).getLimit(), is(10));
+    }
+    
+    @Test
+    public void assertUpdateWithFailure() {
+        AIMDConcurrencyLimit actual = new AIMDConcurrencyLimit(10);
+        actual.update(1L, 10, false);
+        assertThat(actual.getLimit(), is(9));
+        for (int i = 0; i < 100; i++) {
+            actual.update(1L, 1, false);
+        }
+        assertThat(actual.getLimit(), is(1));
+    }
+    
+    @Test
+    public void assertUpdateWithHighLatency() {
+        AIMDConcurrencyLimit actual = new AIMDConcurrencyLimit(10);
+        actual.update(1000L, 10, true);
+        assertThat(actual.getLimit(), is(10));
+        actual.update(1500L, 10, true);
+        assertThat(actual.getLimit(), is(10));
+        actual.update(3000L, 10, true);
+        assertThat(actual.getLimit(), is(9));
+    }
+    
+    @Test
+    public void assertUpdateWithSuccess() {
+        AIMDConcurrencyLimit actual = new AIMDConcurrencyLimit(10);
+        actual.update(1000L, 10, false);
+        actual.update(1000L, 10, false);
+        assertThat(actual.getLimit(), is(8));
+        actual.update(1000L, 2, true);
+        assertThat(actual.getLimit(), is(8));
+        actual.update(1000L, 5, true);
+        assertThat(actual.getLimit(), is(9));
+        actual.update(1000L, 9, true);
+        actual.update(1000L, 9, true);
+        assertThat(actual.getLimit(), is(10));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.kernel;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class BulkheadTest {
+    
+    @Test
+    public void assertTryAcquireWithinLimit() {
+        Bulkhead bulkhead = new Bulkhead(2, 1, 10000L, false);
+        assertTrue(bulkhead.tryAcquire());
+        assertTrue(bulkhead.tryAcquire());
+    }
+    
+    @Test
+    public void assertTryAcquireWhenQueueIsFull() throws InterruptedException {
+        Bulkhead bulkhead = new Bulkhead(1, 1, 10000L, false);
+        assertTrue(bulkhead.tryAcquire());
+        CountDownLatch acquiredLatch = new CountDownLatch(1);
+        Thread waitingThread = new Thread(() -> {
+            if (bulkhead.tryAcquire()) {
+                acquiredLatch.countDown();
+            }
+        });
+        waitingThread.start();
+        while (Thread.State.TIMED_WAITING != waitingThread.getState()) {
+            Thread.sleep(1L);
+        }
+        assertFalse(bulkhead.tryAcquire());
+        bulkhead.release(1L, true);
+        assertTrue(acquiredLatch.await(10, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    public void assertTryAcquireWhenWaitingTimeOut() {
+        Bulkhead bulkhead = new Bulkhead(1, 0, 10L, false);
+        assertTrue(bulkhead.tryAcquire());
+        assertFalse(bulkhead.tryAcquire());
+        bulkhead.release(1L, true);
+        assertTrue(bulkhead.tryAcquire());
+    }
+    
+    @Test
+    public void assertReleaseWithoutAdaptive() {
+        Bulkhead bulkhead = new Bulkhead(10, 0, 10000L, false);
+        assertTrue(bulkhead.tryAcquire());
+        bulkhead.release(1L, false);
+        assertThat(bulkhead.getLimit(), is(10));
+    }
+    
+    @Test
+    public void assertReleaseWithAdaptive() {
+        Bulkhead bulkhead = new Bulkhead(10, 0, 10000L, true);
+        assertTrue(bulkhead.tryAcquire());
+        bulkhead.release(1L, false);
+        assertThat(bulkhead.getLimit(), is(9));
+    }
+}
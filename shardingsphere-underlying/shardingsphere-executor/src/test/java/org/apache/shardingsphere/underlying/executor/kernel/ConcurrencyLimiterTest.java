@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.kernel;
+
+import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class ConcurrencyLimiterTest {
+    
+    @Test
+    public void assertIsLimited() {
+        assertTrue(new ConcurrencyLimiter(1, 0, 10000L, false).isLimited());
+        assertFalse(new ConcurrencyLimiter(0, 0, 10000L, false).isLimited());
+    }
+    
+    @Test
+    public void assertIsLimitedWithAdaptiveOnly() {
+        ConcurrencyLimiter concurrencyLimiter = new ConcurrencyLimiter(0, 0, 10000L, true);
+        assertTrue(concurrencyLimiter.isLimited());
+        assertTrue(concurrencyLimiter.tryAcquire("ds_0"));
+        concurrencyLimiter.release("ds_0", 1L, true);
+    }
+    
+    @Test
+    public void assertTryAcquireAndRelease() throws InterruptedException {
+        ConcurrencyLimiter concurrencyLimiter = new ConcurrencyLimiter(2, 0, 10000L, false);
+        AtomicInteger concurrency = new AtomicInteger();
+        AtomicInteger maxConcurrency = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(10);
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+        for (int i = 0; i < 10; i++) {
+            executorService.execute(() -> {
+                assertTrue(concurrencyLimiter.tryAcquire("ds_0"));
+                try {
+                    maxConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+                    sleep();
+                    concurrency.decrementAndGet();
+                } finally {
+                    concurrencyLimiter.release("ds_0", 10000000L, true);
+                    latch.countDown();
+                }
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executorService.shutdown();
+        assertTrue(maxConcurrency.get() <= 2);
+    }
+    
+    @Test
+    public void assertTryAcquireForDifferentDataSources() {
+        ConcurrencyLimiter concurrencyLimiter = new ConcurrencyLimiter(1, 1, 10000L, false);
+        assertTrue(concurrencyLimiter.tryAcquire("ds_0"));
+        assertTrue(concurrencyLimiter.tryAcquire("ds_1"));
+        concurrencyLimiter.release("ds_0", 1L, true);
+        assertTrue(concurrencyLimiter.tryAcquire("ds_0"));
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertTryAcquireWhenInterrupted() {
+        ConcurrencyLimiter concurrencyLimiter = new ConcurrencyLimiter(1, 0, 10000L, false);
+        assertTrue(concurrencyLimiter.tryAcquire("ds_0"));
+        Thread.currentThread().interrupt();
+        try {
+            concurrencyLimiter.tryAcquire("ds_0");
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+    }
+    
+    private void sleep() {
+        try {
+            Thread.sleep(10L);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
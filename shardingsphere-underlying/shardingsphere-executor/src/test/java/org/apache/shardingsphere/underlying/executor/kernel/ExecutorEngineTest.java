@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.underlying.executor.kernel;
 
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.underlying.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.junit.After;
 import org.junit.Before;
@@ -26,10 +28,13 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
 public final class ExecutorEngineTest {
@@ -93,6 +98,41 @@ public final class ExecutorEngineTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test
+    public void assertExecuteAsync() throws InterruptedException {
+        List<CompletableFuture<Collection<String>>> actual = executorEngine.executeAsync(inputGroups, callback);
+        latch.await();
+        assertThat(actual.size(), is(2));
+        for (CompletableFuture<Collection<String>> each : actual) {
+            assertThat(each.join().size(), is(2));
+        }
+    }
+    
+    @Test
+    public void assertExecuteFirstArrived() throws InterruptedException {
+        List<String> actual = executorEngine.executeFirstArrived(inputGroups, callback);
+        latch.await();
+        assertThat(actual.size(), is(4));
+        assertThat(actual.get(3), is("succeed"));
+    }
+    
+    @Test
+    public void assertExecuteFirstArrivedWithEmptyInputGroup() {
+        assertTrue(executorEngine.executeFirstArrived(new LinkedList<>(), callback).isEmpty());
+    }
+    
+    @Test
+    public void assertParallelExecuteWithVirtualThread() throws SQLException, InterruptedException {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.EXECUTOR_TYPE.getKey(), "VIRTUAL_THREAD");
+        props.setProperty(ConfigurationPropertyKey.EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE.getKey(), "1");
+        try (ExecutorKernel executorKernel = new ExecutorKernel(new ConfigurationProperties(props))) {
+            List<String> actual = executorKernel.execute(inputGroups, callback);
+            latch.await();
+            assertThat(actual.size(), is(4));
+        }
+    }
+    
     @Test
     public void assertInputGroupIsEmpty() throws SQLException {
         CountDownLatch latch = new CountDownLatch(1);
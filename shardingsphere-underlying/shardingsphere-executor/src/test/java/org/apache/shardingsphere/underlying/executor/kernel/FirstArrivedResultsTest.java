@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.kernel;
+
+import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class FirstArrivedResultsTest {
+    
+    @Test
+    public void assertGetInArrivedOrder() {
+        CompletableFuture<Collection<String>> slowFuture = new CompletableFuture<>();
+        CompletableFuture<Collection<String>> fastFuture = new CompletableFuture<>();
+        FirstArrivedResults<String> actual = new FirstArrivedResults<>(Arrays.asList(slowFuture, fastFuture), 3);
+        assertThat(actual.size(), is(3));
+        fastFuture.complete(Arrays.asList("fast_0", "fast_1"));
+        assertThat(actual.get(0), is("fast_0"));
+        assertThat(actual.get(1), is("fast_1"));
+        slowFuture.complete(Collections.singletonList("slow_0"));
+        assertThat(actual.get(2), is("slow_0"));
+        assertThat(actual.get(0), is("fast_0"));
+    }
+    
+    @Test
+    public void assertIterateInArrivedOrder() {
+        CompletableFuture<Collection<String>> slowFuture = new CompletableFuture<>();
+        CompletableFuture<Collection<String>> fastFuture = new CompletableFuture<>();
+        FirstArrivedResults<String> actual = new FirstArrivedResults<>(Arrays.asList(slowFuture, fastFuture), 2);
+        fastFuture.complete(Collections.singletonList("fast"));
+        slowFuture.complete(Collections.singletonList("slow"));
+        assertThat(actual, is(Arrays.asList("fast", "slow")));
+    }
+    
+    @Test
+    public void assertGetWithFailedFuture() {
+        SQLException expected = new SQLException("test");
+        CompletableFuture<Collection<String>> failedFuture = new CompletableFuture<>();
+        CompletableFuture<Collection<String>> pendingFuture = new CompletableFuture<>();
+        failedFuture.completeExceptionally(expected);
+        try {
+            new FirstArrivedResults<>(Arrays.asList(failedFuture, pendingFuture), 2).get(0);
+        } catch (final ShardingSphereException ex) {
+            assertThat(ex.getCause(), is((Throwable) expected));
+        }
+        assertTrue(pendingFuture.isCancelled());
+    }
+    
+    @Test
+    public void assertCancel() {
+        CompletableFuture<Collection<String>> finishedFuture = CompletableFuture.completedFuture(Collections.singletonList("test"));
+        CompletableFuture<Collection<String>> pendingFuture = new CompletableFuture<>();
+        new FirstArrivedResults<>(Arrays.asList(finishedFuture, pendingFuture), 2).cancel();
+        assertFalse(finishedFuture.isCancelled());
+        assertTrue(pendingFuture.isCancelled());
+    }
+    
+    @Test
+    public void assertTerminate() {
+        CompletableFuture<Collection<String>> arrivedFuture = CompletableFuture.completedFuture(Arrays.asList("arrived_0", "arrived_1"));
+        CompletableFuture<Collection<String>> pendingFuture = new CompletableFuture<>();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        FirstArrivedResults<String> actual = new FirstArrivedResults<>(3);
+        actual.add(arrivedFuture, () -> { });
+        actual.add(pendingFuture, () -> cancelled.set(true));
+        assertThat(actual.get(0), is("arrived_0"));
+        List<String> terminatedResults = new LinkedList<>();
+        actual.terminate(1, terminatedResults::add);
+        assertTrue(actual.isTerminated());
+        assertTrue(cancelled.get());
+        assertThat(terminatedResults, is(Collections.singletonList("arrived_1")));
+        pendingFuture.complete(Collections.singletonList("pending"));
+        assertThat(terminatedResults, is(Arrays.asList("arrived_1", "pending")));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGetWithLessResultsArrived() {
+        CompletableFuture<Collection<String>> future = CompletableFuture.completedFuture(Collections.singletonList("test"));
+        new FirstArrivedResults<>(Collections.singletonList(future), 2).get(1);
+    }
+    
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void assertGetWithIndexOutOfBounds() {
+        new FirstArrivedResults<>(Collections.<CompletableFuture<Collection<String>>>emptyList(), 0).get(0);
+    }
+}
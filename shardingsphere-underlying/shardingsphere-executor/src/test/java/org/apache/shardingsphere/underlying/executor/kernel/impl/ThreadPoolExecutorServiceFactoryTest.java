@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.kernel.impl;
+
+import org.junit.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ThreadPoolExecutorServiceFactoryTest {
+    
+    @Test
+    public void assertNewCachedExecutorService() throws ExecutionException, InterruptedException {
+        ExecutorService actual = new ThreadPoolExecutorServiceFactory().newExecutorService(0, "%d");
+        assertThat(actual, instanceOf(ThreadPoolExecutor.class));
+        assertThat(((ThreadPoolExecutor) actual).getMaximumPoolSize(), is(Integer.MAX_VALUE));
+        assertThat(actual.submit(() -> Thread.currentThread().getName()).get(), is("ShardingSphere-0"));
+        actual.shutdown();
+    }
+    
+    @Test
+    public void assertNewFixedExecutorService() {
+        ExecutorService actual = new ThreadPoolExecutorServiceFactory().newExecutorService(10, "%d");
+        assertThat(((ThreadPoolExecutor) actual).getMaximumPoolSize(), is(10));
+        actual.shutdown();
+    }
+    
+    @Test
+    public void assertGetType() {
+        assertThat(new ThreadPoolExecutorServiceFactory().getType(), is("THREAD_POOL"));
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.sql.context;
+
+import org.apache.shardingsphere.sql.parser.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class StatementExecutionContextEngineTest {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE order_id = 1";
+    
+    private static final String NORMALIZED_SQL = "SELECT * FROM t_order WHERE order_id = ?";
+    
+    private final SQLParserEngine sqlParserEngine = mock(SQLParserEngine.class);
+    
+    private final ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class, RETURNS_DEEP_STUBS);
+    
+    @Before
+    public void setUp() {
+        when(metaData.getDataSources().getAllInstanceDataSourceNames()).thenReturn(Collections.singletonList("ds"));
+    }
+    
+    @Test
+    public void assertCreateExecutionContextWithoutNormalization() {
+        when(sqlParserEngine.parse(SQL, false)).thenReturn(mock(SQLStatement.class));
+        ExecutionContext actual = createEngine(false).createExecutionContext(SQL);
+        assertExecutionUnit(actual, SQL);
+        verify(sqlParserEngine, never()).parse(NORMALIZED_SQL, true);
+    }
+    
+    @Test
+    public void assertCreateExecutionContextWithNormalization() {
+        when(sqlParserEngine.parse(NORMALIZED_SQL, true)).thenReturn(mock(SQLStatement.class));
+        ExecutionContext actual = createEngine(true).createExecutionContext(SQL);
+        assertExecutionUnit(actual, SQL);
+        verify(sqlParserEngine, never()).parse(SQL, false);
+    }
+    
+    @Test
+    public void assertCreateExecutionContextWhenNormalizedSQLFailed() {
+        when(sqlParserEngine.parse(NORMALIZED_SQL, true)).thenThrow(new IllegalStateException("normalized SQL failed"));
+        when(sqlParserEngine.parse(SQL, false)).thenReturn(mock(SQLStatement.class));
+        ExecutionContext actual = createEngine(true).createExecutionContext(SQL);
+        assertExecutionUnit(actual, SQL);
+        verify(sqlParserEngine).parse(SQL, false);
+    }
+    
+    private StatementExecutionContextEngine createEngine(final boolean normalizationEnabled) {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.SQL_PARSER_LITERAL_NORMALIZATION_ENABLED.getKey(), String.valueOf(normalizationEnabled));
+        return new StatementExecutionContextEngine(sqlParserEngine, metaData, new ConfigurationProperties(props), Collections.emptyList());
+    }
+    
+    private void assertExecutionUnit(final ExecutionContext actual, final String expectedSQL) {
+        assertThat(actual.getExecutionUnits().size(), is(1));
+        ExecutionUnit executionUnit = actual.getExecutionUnits().iterator().next();
+        assertThat(executionUnit.getDataSourceName(), is("ds"));
+        assertThat(executionUnit.getSqlUnit().getSql(), is(expectedSQL));
+        assertThat(executionUnit.getSqlUnit().getParameters(), is(Collections.emptyList()));
+    }
+}
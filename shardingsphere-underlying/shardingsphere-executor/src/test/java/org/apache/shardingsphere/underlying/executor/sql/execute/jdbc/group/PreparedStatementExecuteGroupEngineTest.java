@@ -20,10 +20,13 @@ package org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.group;
 import org.apache.shardingsphere.underlying.common.rule.ShardingSphereRule;
 import org.apache.shardingsphere.underlying.executor.kernel.InputGroup;
 import org.apache.shardingsphere.underlying.executor.sql.ConnectionMode;
+import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
 import org.apache.shardingsphere.underlying.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.underlying.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.StatementExecuteUnit;
 import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.connection.JDBCExecutionConnection;
+import org.apache.shardingsphere.underlying.executor.sql.group.ConnectionModePolicy;
+import org.apache.shardingsphere.underlying.executor.sql.group.fixture.DBCPDataSourceFixture;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -69,6 +72,26 @@ public final class PreparedStatementExecuteGroupEngineTest {
         }
     }
     
+    @Test
+    public void assertGetExecuteUnitGroupForBusyPoolConnectionStrictly() throws SQLException {
+        ConnectionModePolicy connectionModePolicy = new ConnectionModePolicy(4, true, 4, 1000);
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.next()).thenReturn(true, false);
+        for (QueryResult each : connectionModePolicy.track(Collections.singletonList(queryResult), Collections.singletonList("t_order"))) {
+            while (each.next()) {
+                continue;
+            }
+        }
+        preparedStatementExecuteGroupEngine = new PreparedStatementExecuteGroupEngine(
+                connectionModePolicy, Collections.singletonMap("ds_0", new DBCPDataSourceFixture(8, 8)), Collections.singletonList(mock(ShardingSphereRule.class)));
+        Collection<InputGroup<StatementExecuteUnit>> actual = preparedStatementExecuteGroupEngine.generate(
+                mockShardRouteUnit(1, 4), Collections.singletonList("t_order"), mockExecutionConnection(1, ConnectionMode.CONNECTION_STRICTLY), new StatementOption(true));
+        assertThat(actual.size(), is(1));
+        for (InputGroup<StatementExecuteUnit> each : actual) {
+            assertThat(each.getInputs().size(), is(4));
+        }
+    }
+    
     private JDBCExecutionConnection mockExecutionConnection(final int size, final ConnectionMode connectionMode) throws SQLException {
         List<Connection> connections = new ArrayList<>(size);
         for (int i = 0; i < size; i++) {
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.sql.group;
+
+import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
+import org.apache.shardingsphere.underlying.executor.sql.group.fixture.DBCPDataSourceFixture;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class ConnectionModePolicyTest {
+    
+    @Test
+    public void assertGetConnectionSizeWithoutAdaptive() {
+        ConnectionModePolicy policy = new ConnectionModePolicy(4);
+        assertThat(policy.getConnectionSize(10, new DBCPDataSourceFixture(8, 8), Collections.singletonList("t_order")), is(4));
+        assertThat(policy.getConnectionSize(2, null, Collections.singletonList("t_order")), is(2));
+    }
+    
+    @Test
+    public void assertGetConnectionSizeWithUnknownResultSize() {
+        assertThat(new ConnectionModePolicy(4, true, 10, 1000).getConnectionSize(10, null, Collections.singletonList("t_order")), is(4));
+    }
+    
+    @Test
+    public void assertGetConnectionSizeWithLargeResultSize() throws SQLException {
+        ConnectionModePolicy policy = new ConnectionModePolicy(4, true, 10, 1000);
+        iterate(policy.track(Collections.singletonList(mockQueryResult(200)), Collections.singletonList("t_order")));
+        assertThat(policy.getConnectionSize(10, null, Collections.singletonList("t_order")), is(10));
+        assertThat(policy.getConnectionSize(2, null, Collections.singletonList("t_order")), is(2));
+    }
+    
+    @Test
+    public void assertGetConnectionSizeWithSmallResultSize() throws SQLException {
+        ConnectionModePolicy policy = new ConnectionModePolicy(4, true, 10, 1000);
+        iterate(policy.track(Collections.singletonList(mockQueryResult(10)), Collections.singletonList("t_order")));
+        assertThat(policy.getConnectionSize(10, null, Collections.singletonList("t_order")), is(4));
+    }
+    
+    @Test
+    public void assertGetConnectionSizeWithBusyPool() throws SQLException {
+        ConnectionModePolicy policy = new ConnectionModePolicy(4, true, 10, 1000);
+        iterate(policy.track(Collections.singletonList(mockQueryResult(10)), Collections.singletonList("t_order")));
+        assertThat(policy.getConnectionSize(10, new DBCPDataSourceFixture(6, 8), Collections.singletonList("t_order")), is(1));
+        assertThat(policy.getConnectionSize(10, new DBCPDataSourceFixture(8, 8), Collections.singletonList("t_order")), is(1));
+        assertThat(policy.getConnectionSize(10, new DBCPDataSourceFixture(2, 8), Collections.singletonList("t_order")), is(3));
+    }
+    
+    @Test
+    public void assertGetConnectionSizeWithBusyPoolAndUnknownResultSize() {
+        assertThat(new ConnectionModePolicy(4, true, 10, 1000).getConnectionSize(10, new DBCPDataSourceFixture(8, 8), Collections.singletonList("t_order")), is(4));
+    }
+    
+    @Test
+    public void assertGetConnectionSizeWithBusyPoolAndLargeResultSize() throws SQLException {
+        ConnectionModePolicy policy = new ConnectionModePolicy(4, true, 10, 1000);
+        iterate(policy.track(Collections.singletonList(mockQueryResult(200)), Collections.singletonList("t_order")));
+        assertThat(policy.getConnectionSize(10, new DBCPDataSourceFixture(8, 8), Collections.singletonList("t_order")), is(10));
+    }
+    
+    @Test
+    public void assertTrackWithoutAdaptive() {
+        List<QueryResult> queryResults = Collections.singletonList(mock(QueryResult.class));
+        assertThat(new ConnectionModePolicy(4).track(queryResults, Collections.singletonList("t_order")), is(queryResults));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertTrackWithAdaptive() {
+        List<QueryResult> queryResults = mock(List.class);
+        when(queryResults.size()).thenReturn(2);
+        when(queryResults.get(0)).thenReturn(mock(QueryResult.class));
+        List<QueryResult> actual = new ConnectionModePolicy(4, true, 10, 1000).track(queryResults, Collections.singletonList("t_order"));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), instanceOf(ResultSizeRecordingQueryResult.class));
+        assertThat(actual.get(0), is(actual.get(0)));
+        verify(queryResults).get(0);
+        verify(queryResults, never()).get(1);
+    }
+    
+    private QueryResult mockQueryResult(final int rows) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        Boolean[] nextResults = new Boolean[rows];
+        for (int i = 0; i < rows - 1; i++) {
+            nextResults[i] = true;
+        }
+        nextResults[rows - 1] = false;
+        when(result.next()).thenReturn(true, nextResults);
+        return result;
+    }
+    
+    private void iterate(final List<QueryResult> queryResults) throws SQLException {
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                continue;
+            }
+        }
+    }
+}
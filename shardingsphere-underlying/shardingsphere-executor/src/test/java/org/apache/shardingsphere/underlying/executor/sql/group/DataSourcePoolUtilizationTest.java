@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.sql.group;
+
+import org.apache.shardingsphere.underlying.executor.sql.group.fixture.DBCPDataSourceFixture;
+import org.apache.shardingsphere.underlying.executor.sql.group.fixture.HikariDataSourceFixture;
+import org.apache.shardingsphere.underlying.executor.sql.group.fixture.HikariPoolMXBeanFixture;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class DataSourcePoolUtilizationTest {
+    
+    @Test
+    public void assertGetWithHikariDataSource() {
+        assertThat(DataSourcePoolUtilization.get(new HikariDataSourceFixture(new HikariPoolMXBeanFixture(5), 10)), is(0.5d));
+    }
+    
+    @Test
+    public void assertGetWithHikariDataSourceNotStarted() {
+        assertThat(DataSourcePoolUtilization.get(new HikariDataSourceFixture(null, 10)), is(0d));
+    }
+    
+    @Test
+    public void assertGetWithDBCPDataSource() {
+        assertThat(DataSourcePoolUtilization.get(new DBCPDataSourceFixture(8, 8)), is(1d));
+    }
+    
+    @Test
+    public void assertGetWithUnsupportedDataSource() {
+        assertThat(DataSourcePoolUtilization.get(mock(DataSource.class)), is(0d));
+    }
+    
+    @Test
+    public void assertGetWithoutDataSource() {
+        assertThat(DataSourcePoolUtilization.get(null), is(0d));
+    }
+}
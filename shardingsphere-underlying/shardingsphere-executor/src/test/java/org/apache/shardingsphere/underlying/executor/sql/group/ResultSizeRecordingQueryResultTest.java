@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.sql.group;
+
+import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class ResultSizeRecordingQueryResultTest {
+    
+    @Test
+    public void assertNextRecordsOnceIteratedToEnd() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.next()).thenReturn(true, true, false);
+        ResultSizeStatistics statistics = new ResultSizeStatistics();
+        ResultSizeRecordingQueryResult actual = new ResultSizeRecordingQueryResult(queryResult, statistics, Collections.singletonList("t_order"));
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        assertFalse(statistics.estimate(Collections.singletonList("t_order")).isPresent());
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+        assertThat(statistics.estimate(Collections.singletonList("t_order")), is(Optional.of(2L)));
+    }
+    
+    @Test
+    public void assertGetValue() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getValue(1, Object.class)).thenReturn("value");
+        assertThat(new ResultSizeRecordingQueryResult(queryResult, new ResultSizeStatistics(), Collections.singletonList("t_order")).getValue(1, Object.class), is((Object) "value"));
+        verify(queryResult).getValue(1, Object.class);
+    }
+    
+    @Test
+    public void assertTerminateWithoutRecording() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.next()).thenReturn(true, false);
+        ResultSizeStatistics statistics = new ResultSizeStatistics();
+        ResultSizeRecordingQueryResult actual = new ResultSizeRecordingQueryResult(queryResult, statistics, Collections.singletonList("t_order"));
+        assertTrue(actual.next());
+        actual.terminate();
+        assertFalse(actual.next());
+        assertFalse(statistics.estimate(Collections.singletonList("t_order")).isPresent());
+        verify(queryResult).terminate();
+    }
+}
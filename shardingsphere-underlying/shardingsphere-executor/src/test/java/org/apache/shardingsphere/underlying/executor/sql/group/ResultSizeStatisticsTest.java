@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.sql.group;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class ResultSizeStatisticsTest {
+    
+    @Test
+    public void assertEstimateWithoutRecord() {
+        assertFalse(new ResultSizeStatistics().estimate(Collections.singletonList("t_order")).isPresent());
+    }
+    
+    @Test
+    public void assertEstimateWithFirstRecord() {
+        ResultSizeStatistics statistics = new ResultSizeStatistics();
+        statistics.record(Collections.singletonList("t_order"), 100);
+        assertThat(statistics.estimate(Collections.singletonList("T_ORDER")), is(Optional.of(100L)));
+    }
+    
+    @Test
+    public void assertEstimateWithSmoothedRecords() {
+        ResultSizeStatistics statistics = new ResultSizeStatistics();
+        statistics.record(Collections.singletonList("t_order"), 100);
+        statistics.record(Collections.singletonList("t_order"), 200);
+        assertThat(statistics.estimate(Collections.singletonList("t_order")), is(Optional.of(120L)));
+    }
+    
+    @Test
+    public void assertEstimateWithLargestTable() {
+        ResultSizeStatistics statistics = new ResultSizeStatistics();
+        statistics.record(Collections.singletonList("t_order"), 100);
+        statistics.record(Collections.singletonList("t_order_item"), 300);
+        assertThat(statistics.estimate(Arrays.asList("t_order", "t_order_item", "t_user")), is(Optional.of(300L)));
+    }
+}
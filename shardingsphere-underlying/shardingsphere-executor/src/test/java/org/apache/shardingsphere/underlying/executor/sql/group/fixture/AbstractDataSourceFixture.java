@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.sql.group.fixture;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.util.logging.Logger;
+
+public abstract class AbstractDataSourceFixture implements DataSource {
+    
+    @Override
+    public final Connection getConnection() {
+        return null;
+    }
+    
+    @Override
+    public final Connection getConnection(final String username, final String password) {
+        return null;
+    }
+    
+    @Override
+    public final <T> T unwrap(final Class<T> iface) {
+        return null;
+    }
+    
+    @Override
+    public final boolean isWrapperFor(final Class<?> iface) {
+        return false;
+    }
+    
+    @Override
+    public final PrintWriter getLogWriter() {
+        return null;
+    }
+    
+    @Override
+    public final void setLogWriter(final PrintWriter out) {
+    }
+    
+    @Override
+    public final void setLoginTimeout(final int seconds) {
+    }
+    
+    @Override
+    public final int getLoginTimeout() {
+        return 0;
+    }
+    
+    @Override
+    public final Logger getParentLogger() {
+        return null;
+    }
+}
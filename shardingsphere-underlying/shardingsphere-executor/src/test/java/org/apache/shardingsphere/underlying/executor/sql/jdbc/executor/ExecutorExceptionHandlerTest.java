@@ -36,6 +36,7 @@ public final class ExecutorExceptionHandlerTest {
         Field field = ExecutorExceptionHandler.class.getDeclaredField("IS_EXCEPTION_THROWN");
         field.setAccessible(true);
         ((ThreadLocal) field.get(ExecutorExceptionHandler.class)).remove();
+        ExecutorExceptionHandler.resetExceptionSwallowed();
     }
     
     @Test(expected = SQLException.class)
@@ -55,6 +56,16 @@ public final class ExecutorExceptionHandlerTest {
     public void assertHandleExceptionWhenExceptionThrownIsFalse() throws SQLException {
         ExecutorExceptionHandler.setExceptionThrown(false);
         assertFalse(ExecutorExceptionHandler.isExceptionThrown());
+        assertFalse(ExecutorExceptionHandler.isExceptionSwallowed());
         ExecutorExceptionHandler.handleException(new SQLException(""));
+        assertTrue(ExecutorExceptionHandler.isExceptionSwallowed());
+    }
+    
+    @Test
+    public void assertResetExceptionSwallowed() throws SQLException {
+        ExecutorExceptionHandler.setExceptionThrown(false);
+        ExecutorExceptionHandler.handleException(new SQLException(""));
+        ExecutorExceptionHandler.resetExceptionSwallowed();
+        assertFalse(ExecutorExceptionHandler.isExceptionSwallowed());
     }
 }
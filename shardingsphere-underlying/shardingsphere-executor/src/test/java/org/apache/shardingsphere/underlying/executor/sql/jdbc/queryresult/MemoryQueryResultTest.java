@@ -64,6 +64,31 @@ public final class MemoryQueryResultTest {
         assertFalse(queryResult.next());
     }
     
+    @Test
+    public void assertNextWithMultipleRowsAndColumns() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getInt(1)).thenReturn(1, 2, 3);
+        when(resultSet.getString(2)).thenReturn("foo", null, "foo");
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(2);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(resultSetMetaData.isSigned(1)).thenReturn(true);
+        when(resultSetMetaData.getColumnType(2)).thenReturn(Types.VARCHAR);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        MemoryQueryResult actual = new MemoryQueryResult(resultSet);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 1));
+        assertThat(actual.getValue(2, Object.class), is((Object) "foo"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 2));
+        assertNull(actual.getValue(2, Object.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 3));
+        assertThat(actual.getValue(2, Object.class), is((Object) "foo"));
+        assertFalse(actual.next());
+    }
+    
     @Test
     public void assertGetValueByNull() throws SQLException {
         ResultSet resultSet = mock(ResultSet.class);
@@ -36,7 +36,10 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -250,6 +253,36 @@ public final class StreamQueryResultTest {
         assertThat(queryResult.getColumnLabel(1), is("order_id"));
     }
     
+    @Test
+    public void assertTerminateBeforeIteratedToTheEnd() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        StreamQueryResult queryResult = new StreamQueryResult(resultSet);
+        assertTrue(queryResult.next());
+        queryResult.terminate();
+        queryResult.terminate();
+        verify(resultSet, times(1)).close();
+    }
+    
+    @Test
+    public void assertTerminateWhenCloseFailed() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        doThrow(new SQLException("Statement cancelled")).when(resultSet).close();
+        StreamQueryResult queryResult = new StreamQueryResult(resultSet);
+        assertTrue(queryResult.next());
+        queryResult.terminate();
+        verify(resultSet).close();
+    }
+    
+    @Test
+    public void assertTerminateAfterIteratedToTheEnd() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        StreamQueryResult queryResult = new StreamQueryResult(resultSet);
+        assertTrue(queryResult.next());
+        assertFalse(queryResult.next());
+        queryResult.terminate();
+        verify(resultSet, never()).close();
+    }
+    
     private ResultSet getResultSet() throws SQLException {
         ResultSet resultSet = mock(ResultSet.class);
         when(resultSet.next()).thenReturn(true).thenReturn(false);
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.sql.jdbc.queryresult.column;
+
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.queryresult.column.BooleanMemoryColumn;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class BooleanMemoryColumnTest {
+    
+    @Test
+    public void assertLoad() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getBoolean(1)).thenReturn(true, false, false);
+        when(resultSet.wasNull()).thenReturn(false, false, true);
+        BooleanMemoryColumn actual = new BooleanMemoryColumn();
+        actual.load(resultSet, 1);
+        actual.load(resultSet, 1);
+        actual.load(resultSet, 1);
+        actual.finishLoad();
+        assertThat(actual.get(0), is((Object) true));
+        assertThat(actual.get(1), is((Object) false));
+        assertNull(actual.get(2));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.sql.jdbc.queryresult.column;
+
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.queryresult.column.BooleanMemoryColumn;
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.queryresult.column.DoubleMemoryColumn;
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.queryresult.column.IntMemoryColumn;
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.queryresult.column.LongMemoryColumn;
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.queryresult.column.MemoryColumn;
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.queryresult.column.MemoryColumnFactory;
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.queryresult.column.ObjectMemoryColumn;
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.queryresult.column.StringMemoryColumn;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MemoryColumnFactoryTest {
+    
+    @Test
+    public void assertNewInstanceWithPrimitiveTypes() throws SQLException {
+        assertThat(MemoryColumnFactory.newInstance(getMetaData(Types.BOOLEAN, true), 1), instanceOf(BooleanMemoryColumn.class));
+        assertThat(MemoryColumnFactory.newInstance(getMetaData(Types.SMALLINT, true), 1), instanceOf(IntMemoryColumn.class));
+        assertThat(MemoryColumnFactory.newInstance(getMetaData(Types.INTEGER, true), 1), instanceOf(IntMemoryColumn.class));
+        assertThat(MemoryColumnFactory.newInstance(getMetaData(Types.INTEGER, false), 1), instanceOf(LongMemoryColumn.class));
+        assertThat(MemoryColumnFactory.newInstance(getMetaData(Types.BIGINT, true), 1), instanceOf(LongMemoryColumn.class));
+        assertThat(MemoryColumnFactory.newInstance(getMetaData(Types.DOUBLE, true), 1), instanceOf(DoubleMemoryColumn.class));
+        assertThat(MemoryColumnFactory.newInstance(getMetaData(Types.VARCHAR, true), 1), instanceOf(StringMemoryColumn.class));
+    }
+    
+    @Test
+    public void assertNewInstanceWithObjectTypes() throws SQLException {
+        assertThat(MemoryColumnFactory.newInstance(getMetaData(Types.DECIMAL, true), 1), instanceOf(ObjectMemoryColumn.class));
+        assertThat(MemoryColumnFactory.newInstance(getMetaData(Types.TIMESTAMP, true), 1), instanceOf(ObjectMemoryColumn.class));
+        assertThat(MemoryColumnFactory.newInstance(getMetaData(Types.OTHER, true), 1), instanceOf(ObjectMemoryColumn.class));
+    }
+    
+    @Test
+    public void assertNewInstanceWithUnsignedBigInt() throws SQLException {
+        MemoryColumn actual = MemoryColumnFactory.newInstance(getMetaData(Types.BIGINT, false), 1);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getBigDecimal(1)).thenReturn(new BigDecimal("18446744073709551615"), null);
+        when(resultSet.wasNull()).thenReturn(false, true);
+        actual.load(resultSet, 1);
+        actual.load(resultSet, 1);
+        actual.finishLoad();
+        assertThat(actual.get(0), is((Object) new BigInteger("18446744073709551615")));
+        assertNull(actual.get(1));
+    }
+    
+    private ResultSetMetaData getMetaData(final int columnType, final boolean signed) throws SQLException {
+        ResultSetMetaData result = mock(ResultSetMetaData.class);
+        when(result.getColumnType(1)).thenReturn(columnType);
+        when(result.isSigned(1)).thenReturn(signed);
+        return result;
+    }
+}
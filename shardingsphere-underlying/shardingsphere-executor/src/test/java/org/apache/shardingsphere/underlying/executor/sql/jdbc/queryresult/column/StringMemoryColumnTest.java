@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.sql.jdbc.queryresult.column;
+
+import org.apache.shardingsphere.underlying.executor.sql.execute.jdbc.queryresult.column.StringMemoryColumn;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class StringMemoryColumnTest {
+    
+    @Test
+    public void assertLoadWithDictionary() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getString(1)).thenReturn("foo", new String("foo"), null, "bar", "foo");
+        StringMemoryColumn actual = new StringMemoryColumn();
+        for (int i = 0; i < 5; i++) {
+            actual.load(resultSet, 1);
+        }
+        actual.finishLoad();
+        assertThat(actual.getDictionarySize(), is(2));
+        assertThat(actual.get(0), is((Object) "foo"));
+        assertSame(actual.get(0), actual.get(1));
+        assertNull(actual.get(2));
+        assertThat(actual.get(3), is((Object) "bar"));
+        assertThat(actual.get(4), is((Object) "foo"));
+    }
+    
+    @Test
+    public void assertLoadBeyondInitialCapacity() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getString(1)).thenReturn("a", "b", "c");
+        StringMemoryColumn actual = new StringMemoryColumn();
+        for (int i = 0; i < 100; i++) {
+            actual.load(resultSet, 1);
+        }
+        actual.finishLoad();
+        assertThat(actual.getDictionarySize(), is(3));
+        assertThat(actual.get(99), is((Object) "c"));
+    }
+}
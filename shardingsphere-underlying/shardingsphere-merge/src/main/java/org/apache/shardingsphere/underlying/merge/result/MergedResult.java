@@ -72,4 +72,28 @@ public interface MergedResult {
      * @throws SQLException SQL Exception
      */
     boolean wasNull() throws SQLException;
+    
+    /**
+     * Terminate query results which are no longer needed for merging.
+     *
+     * @throws SQLException SQL Exception
+     */
+    default void terminate() throws SQLException {
+    }
+    
+    /**
+     * Terminate query results which are no longer needed for merging except the one of current row, so that current row is still readable.
+     *
+     * @throws SQLException SQL Exception
+     */
+    default void terminateRemaining() throws SQLException {
+    }
+    
+    /**
+     * Close merged result to release resources held for merging.
+     *
+     * @throws SQLException SQL Exception
+     */
+    default void close() throws SQLException {
+    }
 }
@@ -53,4 +53,19 @@ public abstract class DecoratorMergedResult implements MergedResult {
     public final boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public final void terminate() throws SQLException {
+        mergedResult.terminate();
+    }
+    
+    @Override
+    public final void terminateRemaining() throws SQLException {
+        mergedResult.terminateRemaining();
+    }
+    
+    @Override
+    public final void close() throws SQLException {
+        mergedResult.close();
+    }
 }
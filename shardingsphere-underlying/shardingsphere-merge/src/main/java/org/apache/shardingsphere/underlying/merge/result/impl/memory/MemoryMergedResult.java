@@ -17,7 +17,8 @@
 
 package org.apache.shardingsphere.underlying.merge.result.impl.memory;
 
-import lombok.RequiredArgsConstructor;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
 import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.underlying.common.rule.ShardingSphereRule;
@@ -40,7 +41,6 @@ import java.util.List;
  *
  * @param <T> type of rule
  */
-@RequiredArgsConstructor
 public abstract class MemoryMergedResult<T extends ShardingSphereRule> implements MergedResult {
     
     private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
@@ -49,6 +49,14 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
     
     private boolean wasNull;
     
+    protected MemoryMergedResult(final Iterator<MemoryQueryResultRow> memoryResultSetRows) {
+        PeekingIterator<MemoryQueryResultRow> peekingMemoryResultSetRows = Iterators.peekingIterator(memoryResultSetRows);
+        this.memoryResultSetRows = peekingMemoryResultSetRows;
+        if (peekingMemoryResultSetRows.hasNext()) {
+            currentResultSetRow = peekingMemoryResultSetRows.peek();
+        }
+    }
+    
     protected MemoryMergedResult(final T rule, final SchemaMetaData schemaMetaData, final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
         List<MemoryQueryResultRow> memoryQueryResultRowList = init(rule, schemaMetaData, sqlStatementContext, queryResults);
         memoryResultSetRows = memoryQueryResultRowList.iterator();
@@ -20,12 +20,15 @@ package org.apache.shardingsphere.underlying.merge.result.impl.memory;
 import com.google.common.base.Preconditions;
 import org.apache.shardingsphere.underlying.executor.sql.QueryResult;
 
+import java.io.Serializable;
 import java.sql.SQLException;
 
 /**
  * Memory query result row.
  */
-public final class MemoryQueryResultRow {
+public final class MemoryQueryResultRow implements Serializable {
+    
+    private static final long serialVersionUID = 2914232185213522547L;
     
     private final Object[] data;
     
@@ -63,4 +66,18 @@ public final class MemoryQueryResultRow {
         Preconditions.checkArgument(columnIndex > 0 && columnIndex < data.length + 1);
         data[columnIndex - 1] = value;
     }
+    
+    /**
+     * Judge whether all data of cells are serializable.
+     *
+     * @return all data of cells are serializable or not
+     */
+    public boolean isSerializable() {
+        for (Object each : data) {
+            if (null != each && !(each instanceof Serializable)) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -33,6 +33,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -72,4 +73,10 @@ public final class DecoratorMergedResultTest {
         when(mergedResult.wasNull()).thenReturn(true);
         assertTrue(decoratorMergedResult.wasNull());
     }
+    
+    @Test
+    public void assertTerminate() throws SQLException {
+        decoratorMergedResult.terminate();
+        verify(mergedResult).terminate();
+    }
 }
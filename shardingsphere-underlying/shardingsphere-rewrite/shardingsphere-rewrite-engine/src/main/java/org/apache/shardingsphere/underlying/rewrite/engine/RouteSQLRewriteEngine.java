@@ -24,15 +24,19 @@ import org.apache.shardingsphere.underlying.rewrite.engine.result.SQLRewriteUnit
 import org.apache.shardingsphere.underlying.rewrite.parameter.builder.ParameterBuilder;
 import org.apache.shardingsphere.underlying.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.underlying.rewrite.parameter.builder.impl.StandardParameterBuilder;
-import org.apache.shardingsphere.underlying.rewrite.sql.impl.RouteSQLBuilder;
+import org.apache.shardingsphere.underlying.rewrite.sql.impl.RouteSQLTemplate;
+import org.apache.shardingsphere.underlying.route.context.RouteMapper;
 import org.apache.shardingsphere.underlying.route.context.RouteResult;
 import org.apache.shardingsphere.underlying.route.context.RouteUnit;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeSet;
 
 /**
  * Route SQL rewrite engine.
@@ -48,36 +52,54 @@ public final class RouteSQLRewriteEngine {
      */
     public RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteResult routeResult) {
         Map<RouteUnit, SQLRewriteUnit> result = new LinkedHashMap<>(routeResult.getRouteUnits().size(), 1);
-        for (RouteUnit each : routeResult.getRouteUnits()) {
-            result.put(each, new SQLRewriteUnit(new RouteSQLBuilder(sqlRewriteContext, each).toSQL(), getParameters(sqlRewriteContext.getParameterBuilder(), routeResult, each)));
+        RouteSQLTemplate routeSQLTemplate = new RouteSQLTemplate(sqlRewriteContext);
+        ParameterBuilder parameterBuilder = sqlRewriteContext.getParameterBuilder();
+        List<Object> parameters = parameterBuilder.getParameters();
+        if (parameterBuilder instanceof StandardParameterBuilder || routeResult.getOriginalDataNodes().isEmpty() || parameters.isEmpty()) {
+            for (RouteUnit each : routeResult.getRouteUnits()) {
+                result.put(each, new SQLRewriteUnit(routeSQLTemplate.toSQL(each), new ArrayList<>(parameters)));
+            }
+        } else {
+            ParameterGroupIndexes parameterGroupIndexes = new ParameterGroupIndexes(routeResult.getOriginalDataNodes());
+            for (RouteUnit each : routeResult.getRouteUnits()) {
+                result.put(each, new SQLRewriteUnit(routeSQLTemplate.toSQL(each), ((GroupedParameterBuilder) parameterBuilder).getParameters(parameterGroupIndexes.getIndexes(each))));
+            }
         }
         return new RouteSQLRewriteResult(result);
     }
     
-    private List<Object> getParameters(final ParameterBuilder parameterBuilder, final RouteResult routeResult, final RouteUnit routeUnit) {
-        if (parameterBuilder instanceof StandardParameterBuilder || routeResult.getOriginalDataNodes().isEmpty() || parameterBuilder.getParameters().isEmpty()) {
-            return parameterBuilder.getParameters();
-        }
-        List<Object> result = new LinkedList<>();
-        int count = 0;
-        for (Collection<DataNode> each : routeResult.getOriginalDataNodes()) {
-            if (isInSameDataNode(each, routeUnit)) {
-                result.addAll(((GroupedParameterBuilder) parameterBuilder).getParameters(count));
+    private static final class ParameterGroupIndexes {
+        
+        private final Map<DataNode, List<Integer>> dataNodeIndexes = new HashMap<>();
+        
+        private final List<Integer> routeUnitUnawareIndexes = new ArrayList<>();
+        
+        ParameterGroupIndexes(final Collection<Collection<DataNode>> originalDataNodes) {
+            int count = 0;
+            for (Collection<DataNode> each : originalDataNodes) {
+                if (each.isEmpty()) {
+                    routeUnitUnawareIndexes.add(count);
+                }
+                for (DataNode dataNode : each) {
+                    List<Integer> indexes = dataNodeIndexes.computeIfAbsent(dataNode, key -> new ArrayList<>());
+                    if (indexes.isEmpty() || count != indexes.get(indexes.size() - 1)) {
+                        indexes.add(count);
+                    }
+                }
+                count++;
             }
-            count++;
         }
-        return result;
-    }
-    
-    private boolean isInSameDataNode(final Collection<DataNode> dataNodes, final RouteUnit routeUnit) {
-        if (dataNodes.isEmpty()) {
-            return true;
-        }
-        for (DataNode each : dataNodes) {
-            if (routeUnit.findTableMapper(each.getDataSourceName(), each.getTableName()).isPresent()) {
-                return true;
+        
+        Collection<Integer> getIndexes(final RouteUnit routeUnit) {
+            String dataSourceName = routeUnit.getDataSourceMapper().getLogicName();
+            if (1 == routeUnit.getTableMappers().size() && routeUnitUnawareIndexes.isEmpty()) {
+                return dataNodeIndexes.getOrDefault(new DataNode(dataSourceName, routeUnit.getTableMappers().iterator().next().getActualName()), Collections.emptyList());
+            }
+            Collection<Integer> result = new TreeSet<>(routeUnitUnawareIndexes);
+            for (RouteMapper each : routeUnit.getTableMappers()) {
+                result.addAll(dataNodeIndexes.getOrDefault(new DataNode(dataSourceName, each.getActualName()), Collections.emptyList()));
             }
+            return result;
         }
-        return false;
     }
 }
@@ -22,6 +22,7 @@ import lombok.Setter;
 import org.apache.shardingsphere.underlying.rewrite.parameter.builder.ParameterBuilder;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
@@ -49,7 +50,7 @@ public final class GroupedParameterBuilder implements ParameterBuilder {
     
     @Override
     public List<Object> getParameters() {
-        List<Object> result = new LinkedList<>();
+        List<Object> result = new ArrayList<>();
         for (int i = 0; i < parameterBuilders.size(); i++) {
             result.addAll(getParameters(i));
         }
@@ -69,6 +70,20 @@ public final class GroupedParameterBuilder implements ParameterBuilder {
         return parameterBuilders.get(count).getParameters();
     }
     
+    /**
+     * Get parameters of parameters groups.
+     * 
+     * @param counts parameters group counts
+     * @return parameters
+     */
+    public List<Object> getParameters(final Collection<Integer> counts) {
+        List<Object> result = new ArrayList<>();
+        for (int each : counts) {
+            result.addAll(getParameters(each));
+        }
+        return result;
+    }
+    
     /**
      * Get derived column name.
      * 
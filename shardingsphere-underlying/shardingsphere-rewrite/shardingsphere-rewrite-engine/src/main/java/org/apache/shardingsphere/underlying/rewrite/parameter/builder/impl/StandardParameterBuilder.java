@@ -24,7 +24,6 @@ import org.apache.shardingsphere.underlying.rewrite.parameter.builder.ParameterB
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -76,7 +75,8 @@ public final class StandardParameterBuilder implements ParameterBuilder {
     
     @Override
     public List<Object> getParameters() {
-        List<Object> result = new LinkedList<>(originalParameters);
+        List<Object> result = new ArrayList<>(originalParameters.size() + addedIndexAndParameters.size());
+        result.addAll(originalParameters);
         for (Entry<Integer, Object> entry : replacedIndexAndParameters.entrySet()) {
             result.set(entry.getKey(), entry.getValue());
         }
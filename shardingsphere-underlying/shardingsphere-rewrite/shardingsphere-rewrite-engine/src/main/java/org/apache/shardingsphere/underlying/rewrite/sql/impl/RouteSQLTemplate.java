@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.rewrite.sql.impl;
+
+import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.RouteUnitAware;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SQL template for route units.
+ * 
+ * <p>
+ * SQL tokens are sorted once, and texts between route unit aware SQL tokens are rendered once,
+ * so that SQL of each route unit is built by filling texts of route unit aware SQL tokens only.
+ * </p>
+ */
+public final class RouteSQLTemplate {
+    
+    private final List<String> staticTexts = new ArrayList<>();
+    
+    private final List<RouteUnitAware> routeUnitAwareSQLTokens = new ArrayList<>();
+    
+    private final int staticLength;
+    
+    private int lastRenderedLength;
+    
+    public RouteSQLTemplate(final SQLRewriteContext context) {
+        String sql = context.getSql();
+        List<SQLToken> sqlTokens = context.getSqlTokens();
+        Collections.sort(sqlTokens);
+        StringBuilder staticText = new StringBuilder(sql.length());
+        staticText.append(sql, 0, sqlTokens.isEmpty() ? sql.length() : sqlTokens.get(0).getStartIndex());
+        for (int i = 0; i < sqlTokens.size(); i++) {
+            SQLToken each = sqlTokens.get(i);
+            if (each instanceof RouteUnitAware) {
+                staticTexts.add(staticText.toString());
+                routeUnitAwareSQLTokens.add((RouteUnitAware) each);
+                staticText.setLength(0);
+            } else {
+                staticText.append(each.toString());
+            }
+            AbstractSQLBuilder.appendConjunctionText(staticText, sql, sqlTokens, i);
+        }
+        staticTexts.add(staticText.toString());
+        staticLength = staticTexts.stream().mapToInt(String::length).sum();
+    }
+    
+    /**
+     * Convert to SQL of route unit.
+     * 
+     * @param routeUnit route unit
+     * @return SQL of route unit
+     */
+    public String toSQL(final RouteUnit routeUnit) {
+        if (routeUnitAwareSQLTokens.isEmpty()) {
+            return staticTexts.get(0);
+        }
+        StringBuilder result = new StringBuilder(Math.max(staticLength, lastRenderedLength));
+        for (int i = 0; i < routeUnitAwareSQLTokens.size(); i++) {
+            result.append(staticTexts.get(i)).append(routeUnitAwareSQLTokens.get(i).toString(routeUnit));
+        }
+        result.append(staticTexts.get(staticTexts.size() - 1));
+        lastRenderedLength = result.length();
+        return result.toString();
+    }
+}
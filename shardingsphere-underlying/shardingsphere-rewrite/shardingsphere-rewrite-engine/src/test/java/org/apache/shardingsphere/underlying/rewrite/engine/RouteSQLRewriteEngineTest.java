@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.rewrite.engine;
+
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.underlying.common.datanode.DataNode;
+import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.underlying.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.underlying.route.context.RouteMapper;
+import org.apache.shardingsphere.underlying.route.context.RouteResult;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class RouteSQLRewriteEngineTest {
+    
+    @Test
+    public void assertRewriteWithStandardParameterBuilder() {
+        SQLRewriteContext sqlRewriteContext = new SQLRewriteContext(mock(SchemaMetaData.class), mock(SQLStatementContext.class), "SELECT ?", Collections.singletonList(1));
+        RouteResult routeResult = new RouteResult();
+        RouteUnit routeUnit0 = createRouteUnit("ds_0", "t_order");
+        RouteUnit routeUnit1 = createRouteUnit("ds_1", "t_order");
+        routeResult.getRouteUnits().addAll(Arrays.asList(routeUnit0, routeUnit1));
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine().rewrite(sqlRewriteContext, routeResult);
+        assertThat(actual.getSqlRewriteUnits().get(routeUnit0).getSql(), is("SELECT ?"));
+        assertThat(actual.getSqlRewriteUnits().get(routeUnit0).getParameters(), is(Collections.<Object>singletonList(1)));
+        assertThat(actual.getSqlRewriteUnits().get(routeUnit1).getParameters(), is(Collections.<Object>singletonList(1)));
+    }
+    
+    @Test
+    public void assertRewriteWithGroupedParameterBuilder() {
+        List<Object> parameters = Arrays.asList(1, 2, 3, 4);
+        SQLRewriteContext sqlRewriteContext = new SQLRewriteContext(
+                mock(SchemaMetaData.class), createInsertStatementContext(parameters), "INSERT INTO t_order (order_id) VALUES (?), (?), (?), (?)", parameters);
+        RouteResult routeResult = new RouteResult();
+        RouteUnit routeUnit0 = createRouteUnit("ds_0", "t_order_0");
+        RouteUnit routeUnit1 = createRouteUnit("ds_1", "t_order_1");
+        routeResult.getRouteUnits().addAll(Arrays.asList(routeUnit0, routeUnit1));
+        routeResult.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds_1", "t_order_1")));
+        routeResult.getOriginalDataNodes().add(Collections.singletonList(new DataNode("DS_0", "T_ORDER_0")));
+        routeResult.getOriginalDataNodes().add(Collections.emptyList());
+        routeResult.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds_1", "t_order_1")));
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine().rewrite(sqlRewriteContext, routeResult);
+        assertThat(actual.getSqlRewriteUnits().get(routeUnit0).getParameters(), is(Arrays.<Object>asList(2, 3)));
+        assertThat(actual.getSqlRewriteUnits().get(routeUnit1).getParameters(), is(Arrays.<Object>asList(1, 3, 4)));
+    }
+    
+    @Test
+    public void assertRewriteWithGroupedParameterBuilderAndMultipleTableMappers() {
+        List<Object> parameters = Arrays.asList(1, 2);
+        SQLRewriteContext sqlRewriteContext = new SQLRewriteContext(mock(SchemaMetaData.class), createInsertStatementContext(parameters), "INSERT INTO t_order (order_id) VALUES (?), (?)", parameters);
+        RouteResult routeResult = new RouteResult();
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds_0", "ds_0"), Arrays.asList(new RouteMapper("t_order", "t_order_0"), new RouteMapper("t_order", "t_order_1")));
+        routeResult.getRouteUnits().add(routeUnit);
+        routeResult.getOriginalDataNodes().add(Arrays.asList(new DataNode("ds_0", "t_order_1"), new DataNode("ds_0", "t_order_0")));
+        routeResult.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds_0", "t_order_0")));
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine().rewrite(sqlRewriteContext, routeResult);
+        assertThat(actual.getSqlRewriteUnits().get(routeUnit).getParameters(), is(Arrays.<Object>asList(1, 2)));
+    }
+    
+    private InsertStatementContext createInsertStatementContext(final List<Object> parameters) {
+        InsertStatement insertStatement = new InsertStatement();
+        insertStatement.setTable(new SimpleTableSegment(12, 18, new IdentifierValue("t_order")));
+        insertStatement.setInsertColumns(new InsertColumnsSegment(20, 29, Collections.singletonList(new ColumnSegment(21, 28, new IdentifierValue("order_id")))));
+        for (int i = 0; i < parameters.size(); i++) {
+            insertStatement.getValues().add(new InsertValuesSegment(0, 0, Collections.singletonList(new ParameterMarkerExpressionSegment(0, 0, i))));
+        }
+        return new InsertStatementContext(mock(SchemaMetaData.class), parameters, insertStatement);
+    }
+    
+    private RouteUnit createRouteUnit(final String dataSourceName, final String actualTableName) {
+        return new RouteUnit(new RouteMapper(dataSourceName, dataSourceName), Collections.singletonList(new RouteMapper("t_order", actualTableName)));
+    }
+}
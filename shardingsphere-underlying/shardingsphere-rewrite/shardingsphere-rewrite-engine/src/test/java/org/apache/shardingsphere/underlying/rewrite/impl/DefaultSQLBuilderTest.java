@@ -22,6 +22,7 @@ import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext
 import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.underlying.rewrite.sql.SQLBuilder;
 import org.apache.shardingsphere.underlying.rewrite.sql.impl.DefaultSQLBuilder;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.generic.RemoveToken;
 import org.junit.Test;
 
 import java.util.Collections;
@@ -38,4 +39,12 @@ public final class DefaultSQLBuilderTest {
         SQLBuilder sqlBuilderWithoutTokens = new DefaultSQLBuilder(context);
         assertThat(sqlBuilderWithoutTokens.toSQL(), is("SELECT * FROM t_config"));
     }
+    
+    @Test
+    public void assertToSQLWithSQLTokens() {
+        SQLRewriteContext context = new SQLRewriteContext(mock(SchemaMetaData.class), mock(SQLStatementContext.class), "SELECT * FROM t_config WHERE id = ? AND status = ?", Collections.emptyList());
+        context.getSqlTokens().add(new RemoveToken(34, 49));
+        context.getSqlTokens().add(new RemoveToken(22, 33));
+        assertThat(new DefaultSQLBuilder(context).toSQL(), is("SELECT * FROM t_config"));
+    }
 }
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.underlying.rewrite.parameter.builder.impl.Group
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -35,6 +36,13 @@ public final class GroupedParameterBuilderTest {
         assertThat(actual.getParameters(), is(Arrays.<Object>asList(3, 4, 5, 6)));
     }
     
+    @Test
+    public void assertGetParametersWithCounts() {
+        GroupedParameterBuilder actual = new GroupedParameterBuilder(createGroupedParameters());
+        assertThat(actual.getParameters(Collections.singletonList(1)), is(Arrays.<Object>asList(5, 6)));
+        assertThat(actual.getParameters(Arrays.asList(0, 1)), is(Arrays.<Object>asList(3, 4, 5, 6)));
+    }
+    
     private List<List<Object>> createGroupedParameters() {
         List<List<Object>> result = new LinkedList<>();
         result.add(Arrays.asList(3, 4));
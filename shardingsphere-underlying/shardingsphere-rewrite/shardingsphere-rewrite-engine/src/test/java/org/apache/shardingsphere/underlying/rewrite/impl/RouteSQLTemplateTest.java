@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.rewrite.impl;
+
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.underlying.rewrite.fixture.RouteUnitAwareSQLTokenFixture;
+import org.apache.shardingsphere.underlying.rewrite.sql.impl.RouteSQLBuilder;
+import org.apache.shardingsphere.underlying.rewrite.sql.impl.RouteSQLTemplate;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.generic.RemoveToken;
+import org.apache.shardingsphere.underlying.route.context.RouteMapper;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class RouteSQLTemplateTest {
+    
+    private static final String SQL = "SELECT * FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id WHERE o.order_id = ?";
+    
+    @Test
+    public void assertToSQLWithoutSQLTokens() {
+        SQLRewriteContext context = new SQLRewriteContext(mock(SchemaMetaData.class), mock(SQLStatementContext.class), SQL, Collections.emptyList());
+        assertThat(new RouteSQLTemplate(context).toSQL(createRouteUnit("t_order_0")), is(SQL));
+    }
+    
+    @Test
+    public void assertToSQLWithRouteUnitUnawareSQLTokensOnly() {
+        SQLRewriteContext context = new SQLRewriteContext(mock(SchemaMetaData.class), mock(SQLStatementContext.class), SQL, Collections.emptyList());
+        context.getSqlTokens().add(new RemoveToken(70, 90));
+        assertThat(new RouteSQLTemplate(context).toSQL(createRouteUnit("t_order_0")), is("SELECT * FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id"));
+    }
+    
+    @Test
+    public void assertToSQLWithRouteUnitAwareSQLTokens() {
+        SQLRewriteContext context = new SQLRewriteContext(mock(SchemaMetaData.class), mock(SQLStatementContext.class), SQL, Collections.emptyList());
+        context.getSqlTokens().add(new RemoveToken(70, 90));
+        context.getSqlTokens().add(new RouteUnitAwareSQLTokenFixture(14, 20));
+        RouteSQLTemplate routeSQLTemplate = new RouteSQLTemplate(context);
+        for (String each : new String[] {"t_order_0", "t_order_1"}) {
+            RouteUnit routeUnit = createRouteUnit(each);
+            String expected = String.format("SELECT * FROM %s o JOIN t_order_item i ON o.order_id = i.order_id", each);
+            assertThat(routeSQLTemplate.toSQL(routeUnit), is(expected));
+            assertThat(new RouteSQLBuilder(context, routeUnit).toSQL(), is(expected));
+        }
+    }
+    
+    private RouteUnit createRouteUnit(final String actualTableName) {
+        return new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("t_order", actualTableName)));
+    }
+}